@@ -0,0 +1,93 @@
+package com.hrpayroll.application.dto;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import. {@code errors} lists rejected rows in row order,
+ * up to the configured cap; {@code rejected} is always the full count.
+ */
+public class EmployeeImportReport {
+
+    private final long rowsRead;
+    private final long imported;
+    private final long rejected;
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+    private final Duration elapsed;
+
+    public EmployeeImportReport(long rowsRead, long imported, long rejected, List<RowError> errors,
+                                boolean errorsTruncated, Duration elapsed) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = List.copyOf(errors);
+        this.errorsTruncated = errorsTruncated;
+        this.elapsed = elapsed;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Rows read per second.
+     */
+    public double getThroughputPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return rowsRead * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeImportReport{rowsRead=" + rowsRead + ", imported=" + imported
+            + ", rejected=" + rejected + ", elapsed=" + elapsed + "}";
+    }
+
+    /**
+     * Why a single row was rejected.
+     */
+    public static class RowError {
+
+        private final long rowNumber;
+        private final String message;
+
+        public RowError(long rowNumber, String message) {
+            this.rowNumber = rowNumber;
+            this.message = message;
+        }
+
+        public long getRowNumber() {
+            return rowNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "row " + rowNumber + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hrpayroll.application.dto;
+
+/**
+ * One raw row of a bulk employee import, as read from the file and not yet validated.
+ * Blank values are {@code null}. A row the reader could not split into fields carries
+ * a {@link #getError() parse error} instead of values.
+ */
+public class EmployeeImportRow {
+
+    private final long rowNumber;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String jobTitle;
+    private final String salary;
+    private final String currency;
+    private final String dateOfBirth;
+    private final String hireDate;
+    private final String departmentId;
+    private final String error;
+
+    public EmployeeImportRow(long rowNumber, String firstName, String lastName, String email, String jobTitle,
+                             String salary, String currency, String dateOfBirth, String hireDate,
+                             String departmentId) {
+        this(rowNumber, firstName, lastName, email, jobTitle, salary, currency, dateOfBirth, hireDate,
+            departmentId, null);
+    }
+
+    private EmployeeImportRow(long rowNumber, String firstName, String lastName, String email, String jobTitle,
+                              String salary, String currency, String dateOfBirth, String hireDate,
+                              String departmentId, String error) {
+        this.rowNumber = rowNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.jobTitle = jobTitle;
+        this.salary = salary;
+        this.currency = currency;
+        this.dateOfBirth = dateOfBirth;
+        this.hireDate = hireDate;
+        this.departmentId = departmentId;
+        this.error = error;
+    }
+
+    public static EmployeeImportRow malformed(long rowNumber, String error) {
+        return new EmployeeImportRow(rowNumber, null, null, null, null, null, null, null, null, null, error);
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public String getSalary() {
+        return salary;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public String getHireDate() {
+        return hireDate;
+    }
+
+    public String getDepartmentId() {
+        return departmentId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hrpayroll.application.dto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * Outcome of a month-end payroll run.
+ */
+public class PayrollRunReport {
+
+    private final YearMonth payPeriod;
+    private final long employeesConsidered;
+    private final long created;
+    private final long skipped;
+    private final long failed;
+    private final Duration elapsed;
+
+    public PayrollRunReport(YearMonth payPeriod, long employeesConsidered, long created,
+                            long skipped, long failed, Duration elapsed) {
+        this.payPeriod = payPeriod;
+        this.employeesConsidered = employeesConsidered;
+        this.created = created;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.elapsed = elapsed;
+    }
+
+    public YearMonth getPayPeriod() {
+        return payPeriod;
+    }
+
+    public long getEmployeesConsidered() {
+        return employeesConsidered;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Employees handled per second, including skipped ones.
+     */
+    public double getThroughputPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return employeesConsidered * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollRunReport{payPeriod=" + payPeriod + ", considered=" + employeesConsidered
+            + ", created=" + created + ", skipped=" + skipped + ", failed=" + failed
+            + ", elapsed=" + elapsed + "}";
+    }
+}
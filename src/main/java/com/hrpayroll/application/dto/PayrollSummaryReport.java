@@ -0,0 +1,127 @@
+package com.hrpayroll.application.dto;
+
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Payroll totals for one pay period. {@code lines} has one entry per department, status and currency;
+ * {@code totals} sums them per currency, with department and status left empty.
+ */
+public class PayrollSummaryReport {
+
+    private final YearMonth payPeriod;
+    private final List<Line> lines;
+    private final List<Line> totals;
+    private final Duration elapsed;
+
+    public PayrollSummaryReport(YearMonth payPeriod, List<Line> lines, List<Line> totals, Duration elapsed) {
+        this.payPeriod = payPeriod;
+        this.lines = List.copyOf(lines);
+        this.totals = List.copyOf(totals);
+        this.elapsed = elapsed;
+    }
+
+    public YearMonth getPayPeriod() {
+        return payPeriod;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public List<Line> getTotals() {
+        return totals;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollSummaryReport{payPeriod=" + payPeriod + ", lines=" + lines.size() + ", elapsed=" + elapsed + "}";
+    }
+
+    /**
+     * Summed amounts of one group of payrolls.
+     */
+    public static class Line {
+
+        private final String departmentId;
+        private final String status;
+        private final String currency;
+        private final long payrollCount;
+        private final BigDecimal baseSalary;
+        private final BigDecimal bonus;
+        private final BigDecimal grossPay;
+        private final BigDecimal deductions;
+        private final BigDecimal netPay;
+
+        public Line(String departmentId, String status, String currency, long payrollCount, BigDecimal baseSalary,
+                    BigDecimal bonus, BigDecimal grossPay, BigDecimal deductions, BigDecimal netPay) {
+            this.departmentId = departmentId;
+            this.status = status;
+            this.currency = currency;
+            this.payrollCount = payrollCount;
+            this.baseSalary = baseSalary;
+            this.bonus = bonus;
+            this.grossPay = grossPay;
+            this.deductions = deductions;
+            this.netPay = netPay;
+        }
+
+        public static Line from(PayrollTotals totals) {
+            return new Line(
+                totals.getDepartmentId() != null ? totals.getDepartmentId().toString() : null,
+                totals.getStatus().name(),
+                totals.getCurrency().getCurrencyCode(),
+                totals.getPayrollCount(),
+                totals.getBaseSalary().getAmount(),
+                totals.getBonus().getAmount(),
+                totals.getGrossPay().getAmount(),
+                totals.getDeductions().getAmount(),
+                totals.getNetPay().getAmount()
+            );
+        }
+
+        public String getDepartmentId() {
+            return departmentId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public long getPayrollCount() {
+            return payrollCount;
+        }
+
+        public BigDecimal getBaseSalary() {
+            return baseSalary;
+        }
+
+        public BigDecimal getBonus() {
+            return bonus;
+        }
+
+        public BigDecimal getGrossPay() {
+            return grossPay;
+        }
+
+        public BigDecimal getDeductions() {
+            return deductions;
+        }
+
+        public BigDecimal getNetPay() {
+            return netPay;
+        }
+    }
+}
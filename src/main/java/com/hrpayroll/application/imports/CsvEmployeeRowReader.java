@@ -0,0 +1,162 @@
+package com.hrpayroll.application.imports;
+
+import com.hrpayroll.application.dto.EmployeeImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads employee import rows from CSV one line at a time, so only the current line is held in memory.
+ * The first line is a header naming the columns (see {@link ImportColumn}) in any order; unknown columns
+ * are ignored. Fields may be double-quoted, with {@code ""} for a literal quote, but may not span lines.
+ * Row numbers are file line numbers, so they match what an editor shows.
+ */
+public class CsvEmployeeRowReader implements Iterator<EmployeeImportRow> {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private final Map<ImportColumn, Integer> columnIndexes = new EnumMap<>(ImportColumn.class);
+    private final int columnCount;
+    private long lineNumber;
+    private EmployeeImportRow next;
+    private boolean finished;
+
+    public CsvEmployeeRowReader(Reader source) {
+        this.reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source, 64 * 1024);
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input is empty");
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            for (ImportColumn column : ImportColumn.values()) {
+                if (column.fieldName().equalsIgnoreCase(name)) {
+                    columnIndexes.putIfAbsent(column, i);
+                }
+            }
+        }
+        for (ImportColumn column : ImportColumn.values()) {
+            if (column.isRequired() && !columnIndexes.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column.fieldName());
+            }
+        }
+        this.columnCount = names.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = advance();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public EmployeeImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        EmployeeImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private EmployeeImportRow advance() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        List<String> fields;
+        try {
+            fields = split(line);
+        } catch (IllegalArgumentException e) {
+            return EmployeeImportRow.malformed(lineNumber, e.getMessage());
+        }
+        if (fields.size() != columnCount) {
+            return EmployeeImportRow.malformed(lineNumber,
+                "Expected " + columnCount + " fields but found " + fields.size());
+        }
+        return new EmployeeImportRow(
+            lineNumber,
+            value(fields, ImportColumn.FIRST_NAME),
+            value(fields, ImportColumn.LAST_NAME),
+            value(fields, ImportColumn.EMAIL),
+            value(fields, ImportColumn.JOB_TITLE),
+            value(fields, ImportColumn.SALARY),
+            value(fields, ImportColumn.CURRENCY),
+            value(fields, ImportColumn.DATE_OF_BIRTH),
+            value(fields, ImportColumn.HIRE_DATE),
+            value(fields, ImportColumn.DEPARTMENT_ID)
+        );
+    }
+
+    private String value(List<String> fields, ImportColumn column) {
+        Integer index = columnIndexes.get(column);
+        return index != null ? ImportColumn.blankToNull(fields.get(index)) : null;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV input at line " + (lineNumber + 1), e);
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE) {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hrpayroll.application.imports;
+
+/**
+ * Fields recognised in employee import files: CSV header names and JSON property names,
+ * matched case-insensitively for CSV.
+ */
+enum ImportColumn {
+    FIRST_NAME("firstName", true),
+    LAST_NAME("lastName", true),
+    EMAIL("email", true),
+    JOB_TITLE("jobTitle", true),
+    SALARY("salary", true),
+    CURRENCY("currency", false),
+    DATE_OF_BIRTH("dateOfBirth", true),
+    HIRE_DATE("hireDate", false),
+    DEPARTMENT_ID("departmentId", false);
+
+    private final String fieldName;
+    private final boolean required;
+
+    ImportColumn(String fieldName, boolean required) {
+        this.fieldName = fieldName;
+        this.required = required;
+    }
+
+    String fieldName() {
+        return fieldName;
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
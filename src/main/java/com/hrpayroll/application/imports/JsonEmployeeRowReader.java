@@ -0,0 +1,101 @@
+package com.hrpayroll.application.imports;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrpayroll.application.dto.EmployeeImportRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads employee import rows from JSON with a streaming parser, one object at a time.
+ * Accepts either a top-level array of objects or newline-delimited objects (NDJSON);
+ * property names are those of {@link ImportColumn}. Row numbers count objects from 1.
+ * Syntax errors cannot be skipped past and surface as {@link UncheckedIOException}.
+ */
+public class JsonEmployeeRowReader implements Iterator<EmployeeImportRow> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private final boolean array;
+    private boolean firstTokenPending;
+    private long rowNumber;
+    private EmployeeImportRow next;
+    private boolean finished;
+
+    public JsonEmployeeRowReader(InputStream source) {
+        try {
+            this.parser = MAPPER.createParser(source);
+            JsonToken first = parser.nextToken();
+            this.array = first == JsonToken.START_ARRAY;
+            this.firstTokenPending = !array;
+            this.finished = first == null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON input", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = advance();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public EmployeeImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        EmployeeImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private EmployeeImportRow advance() {
+        try {
+            JsonToken token = firstTokenPending ? parser.currentToken() : parser.nextToken();
+            firstTokenPending = false;
+            if (token == null || (array && token == JsonToken.END_ARRAY)) {
+                return null;
+            }
+
+            rowNumber++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return EmployeeImportRow.malformed(rowNumber, "Expected a JSON object");
+            }
+            JsonNode node = parser.readValueAsTree();
+            return new EmployeeImportRow(
+                rowNumber,
+                text(node, ImportColumn.FIRST_NAME),
+                text(node, ImportColumn.LAST_NAME),
+                text(node, ImportColumn.EMAIL),
+                text(node, ImportColumn.JOB_TITLE),
+                text(node, ImportColumn.SALARY),
+                text(node, ImportColumn.CURRENCY),
+                text(node, ImportColumn.DATE_OF_BIRTH),
+                text(node, ImportColumn.HIRE_DATE),
+                text(node, ImportColumn.DEPARTMENT_ID)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON after row " + rowNumber + ": " + e.getMessage(), e);
+        }
+    }
+
+    private String text(JsonNode node, ImportColumn column) {
+        JsonNode value = node.get(column.fieldName());
+        if (value == null || value.isNull() || value.isContainerNode()) {
+            return null;
+        }
+        return ImportColumn.blankToNull(value.asText());
+    }
+}
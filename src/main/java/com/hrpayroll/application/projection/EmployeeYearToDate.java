@@ -0,0 +1,21 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+
+import java.util.Currency;
+
+/**
+ * What an employee has been paid for the pay periods of one year, in one currency.
+ * Gross pay is base salary plus bonus.
+ */
+public record EmployeeYearToDate(
+    EmployeeId employeeId,
+    int year,
+    Currency currency,
+    long payrollsPaid,
+    Money grossPay,
+    Money deductions,
+    Money netPay
+) {
+}
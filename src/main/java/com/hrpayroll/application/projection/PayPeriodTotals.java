@@ -0,0 +1,22 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.employee.Money;
+
+import java.time.YearMonth;
+import java.util.Currency;
+
+/**
+ * Running totals of the payrolls of one pay period in one currency, cancelled payrolls excluded.
+ * {@code paidNetPay} is the part of {@code netPay} already paid out.
+ */
+public record PayPeriodTotals(
+    YearMonth payPeriod,
+    Currency currency,
+    long payrollCount,
+    Money baseSalary,
+    Money bonus,
+    Money deductions,
+    Money netPay,
+    Money paidNetPay
+) {
+}
@@ -0,0 +1,357 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.MoneyAccumulator;
+import com.hrpayroll.domain.model.payroll.BonusAddedEvent;
+import com.hrpayroll.domain.model.payroll.DeductionAddedEvent;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollCancelledEvent;
+import com.hrpayroll.domain.model.payroll.PayrollCreatedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollPaidEvent;
+import com.hrpayroll.domain.model.payroll.PayrollProcessedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Payroll read models kept up to date from payroll domain events:
+ * running totals per pay period and currency, the outstanding (pending or processed but unpaid)
+ * net pay per currency, and each employee's paid year to date.
+ * Every event moves one payroll from its previous state to its next; the previous state's
+ * contribution is taken out of the totals and the next state's put in, so each event costs O(1)
+ * regardless of how many payrolls exist. {@link #rebuild} recomputes everything from the aggregates
+ * through the same contributions, so incremental and rebuilt results are equal by construction;
+ * {@link #startRebuild} does the same from payrolls supplied a page at a time.
+ * Safe for one writer and any number of readers.
+ */
+public class PayrollProjection {
+
+    private static final Comparator<PayPeriodTotals> PERIOD_ORDER = Comparator
+        .comparing(PayPeriodTotals::payPeriod)
+        .thenComparing(totals -> totals.currency().getCurrencyCode());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    /**
+     * Applies one payroll event.
+     *
+     * @return {@code false} if the event concerns a payroll this projection has not seen created,
+     *         e.g. one created before it started; a {@link #rebuild} picks such payrolls up
+     */
+    public boolean apply(PayrollDomainEvent event) {
+        lock.writeLock().lock();
+        try {
+            return state.apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces all read models with ones computed from the given aggregates.
+     */
+    public void rebuild(Collection<Payroll> payrolls) {
+        Rebuild rebuild = startRebuild();
+        rebuild.addAll(payrolls);
+        rebuild.complete();
+    }
+
+    /**
+     * Starts computing replacement read models; the current ones keep serving reads and events
+     * until {@link Rebuild#complete} swaps them in.
+     */
+    public Rebuild startRebuild() {
+        return new Rebuild();
+    }
+
+    /**
+     * Read models being recomputed from payrolls added in any number of steps.
+     */
+    public final class Rebuild {
+        private final State rebuilt = new State();
+
+        private Rebuild() {
+        }
+
+        public void addAll(Collection<Payroll> payrolls) {
+            for (Payroll payroll : payrolls) {
+                rebuilt.transition(payroll.getId(), PayrollState.of(payroll));
+            }
+        }
+
+        public void complete() {
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Totals for a pay period, one entry per currency.
+     */
+    public List<PayPeriodTotals> getPeriodTotals(YearMonth payPeriod) {
+        lock.readLock().lock();
+        try {
+            List<PayPeriodTotals> totals = new ArrayList<>();
+            state.periods.forEach((key, accumulator) -> {
+                if (key.payPeriod().equals(payPeriod) && accumulator.count > 0) {
+                    totals.add(accumulator.toTotals(key));
+                }
+            });
+            totals.sort(PERIOD_ORDER);
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Totals for every pay period, ordered by period and currency.
+     */
+    public List<PayPeriodTotals> getAllPeriodTotals() {
+        lock.readLock().lock();
+        try {
+            List<PayPeriodTotals> totals = new ArrayList<>();
+            state.periods.forEach((key, accumulator) -> {
+                if (accumulator.count > 0) {
+                    totals.add(accumulator.toTotals(key));
+                }
+            });
+            totals.sort(PERIOD_ORDER);
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Net pay of pending and processed payrolls, per currency.
+     */
+    public Map<Currency, Money> getOutstanding() {
+        lock.readLock().lock();
+        try {
+            Map<Currency, Money> outstanding = new HashMap<>();
+            state.outstanding.forEach((currency, accumulator) -> {
+                if (accumulator.totalMinorUnits() != 0) {
+                    outstanding.put(currency, accumulator.total());
+                }
+            });
+            return outstanding;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * What the employee has been paid for pay periods in the given year, one entry per currency.
+     */
+    public List<EmployeeYearToDate> getYearToDate(EmployeeId employeeId, int year) {
+        lock.readLock().lock();
+        try {
+            List<EmployeeYearToDate> yearToDate = new ArrayList<>();
+            state.yearToDate.getOrDefault(employeeId, Map.of()).forEach((key, accumulator) -> {
+                if (key.year() == year && accumulator.count > 0) {
+                    yearToDate.add(accumulator.toYearToDate(employeeId, key));
+                }
+            });
+            yearToDate.sort(Comparator.comparing(entry -> entry.currency().getCurrencyCode()));
+            return yearToDate;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTrackedPayrollCount() {
+        lock.readLock().lock();
+        try {
+            return state.payrolls.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The read models of one projection generation, replaced wholesale by a rebuild.
+     */
+    private static final class State {
+        private final Map<PayrollId, PayrollState> payrolls = new HashMap<>();
+        private final Map<PeriodKey, PeriodAccumulator> periods = new HashMap<>();
+        private final Map<Currency, MoneyAccumulator> outstanding = new HashMap<>();
+        private final Map<EmployeeId, Map<YearKey, YearToDateAccumulator>> yearToDate = new HashMap<>();
+
+        boolean apply(PayrollDomainEvent event) {
+            PayrollId id = event.getPayrollId();
+            if (event instanceof PayrollCreatedEvent created) {
+                transition(id, PayrollState.created(created));
+                return true;
+            }
+            PayrollState current = payrolls.get(id);
+            if (current == null) {
+                return false;
+            }
+            PayrollState next = switch (event) {
+                case BonusAddedEvent bonus -> current.withBonus(bonus.getBonusAmount());
+                case DeductionAddedEvent deduction -> current.withDeduction(deduction.getDeductionAmount());
+                case PayrollProcessedEvent processed -> current.withStatus(PayrollStatus.PROCESSED, processed.getNetPay());
+                case PayrollPaidEvent paid -> current.withStatus(PayrollStatus.PAID, paid.getAmount());
+                case PayrollCancelledEvent cancelled -> current.withStatus(PayrollStatus.CANCELLED, current.netPay());
+                default -> current;
+            };
+            transition(id, next);
+            return true;
+        }
+
+        void transition(PayrollId id, PayrollState next) {
+            PayrollState previous = payrolls.put(id, next);
+            if (previous != null) {
+                contribute(previous, -1);
+            }
+            contribute(next, 1);
+        }
+
+        private void contribute(PayrollState payroll, int sign) {
+            Currency currency = payroll.currency();
+            if (payroll.status() != PayrollStatus.CANCELLED) {
+                periods.computeIfAbsent(new PeriodKey(payroll.payPeriod(), currency), key -> new PeriodAccumulator(currency))
+                    .add(payroll, sign);
+            }
+            if (payroll.status() == PayrollStatus.PENDING || payroll.status() == PayrollStatus.PROCESSED) {
+                add(outstanding.computeIfAbsent(currency, MoneyAccumulator::of), payroll.netPay(), sign);
+            }
+            if (payroll.status() == PayrollStatus.PAID) {
+                yearToDate.computeIfAbsent(payroll.employeeId(), key -> new HashMap<>())
+                    .computeIfAbsent(new YearKey(payroll.payPeriod().getYear(), currency), key -> new YearToDateAccumulator(currency))
+                    .add(payroll, sign);
+            }
+        }
+    }
+
+    private static void add(MoneyAccumulator accumulator, Money amount, int sign) {
+        if (sign > 0) {
+            accumulator.add(amount);
+        } else {
+            accumulator.subtract(amount);
+        }
+    }
+
+    /**
+     * What the projection knows about one payroll.
+     */
+    private record PayrollState(EmployeeId employeeId, YearMonth payPeriod, Money baseSalary, Money bonus,
+                                Money deductions, Money netPay, PayrollStatus status) {
+
+        static PayrollState created(PayrollCreatedEvent event) {
+            Money zero = Money.zero(event.getBaseSalary().getCurrency());
+            return new PayrollState(event.getEmployeeId(), event.getPayPeriod(), event.getBaseSalary(),
+                zero, zero, event.getBaseSalary(), PayrollStatus.PENDING);
+        }
+
+        static PayrollState of(Payroll payroll) {
+            return new PayrollState(payroll.getEmployeeId(), payroll.getPayPeriod(), payroll.getBaseSalary(),
+                payroll.getBonus(), payroll.getDeductions(), payroll.getNetPay(), payroll.getStatus());
+        }
+
+        Currency currency() {
+            return baseSalary.getCurrency();
+        }
+
+        PayrollState withBonus(Money amount) {
+            Money total = bonus.add(amount);
+            return new PayrollState(employeeId, payPeriod, baseSalary, total, deductions, net(total, deductions), status);
+        }
+
+        PayrollState withDeduction(Money amount) {
+            Money total = deductions.add(amount);
+            return new PayrollState(employeeId, payPeriod, baseSalary, bonus, total, net(bonus, total), status);
+        }
+
+        PayrollState withStatus(PayrollStatus nextStatus, Money nextNetPay) {
+            return new PayrollState(employeeId, payPeriod, baseSalary, bonus, deductions, nextNetPay, nextStatus);
+        }
+
+        private Money net(Money totalBonus, Money totalDeductions) {
+            return MoneyAccumulator.of(currency()).add(baseSalary).add(totalBonus).subtract(totalDeductions).total();
+        }
+    }
+
+    private record PeriodKey(YearMonth payPeriod, Currency currency) {
+    }
+
+    private record YearKey(int year, Currency currency) {
+    }
+
+    private static final class PeriodAccumulator {
+        private long count;
+        private final MoneyAccumulator baseSalary;
+        private final MoneyAccumulator bonus;
+        private final MoneyAccumulator deductions;
+        private final MoneyAccumulator netPay;
+        private final MoneyAccumulator paidNetPay;
+
+        PeriodAccumulator(Currency currency) {
+            this.baseSalary = MoneyAccumulator.of(currency);
+            this.bonus = MoneyAccumulator.of(currency);
+            this.deductions = MoneyAccumulator.of(currency);
+            this.netPay = MoneyAccumulator.of(currency);
+            this.paidNetPay = MoneyAccumulator.of(currency);
+        }
+
+        void add(PayrollState payroll, int sign) {
+            count += sign;
+            PayrollProjection.add(baseSalary, payroll.baseSalary(), sign);
+            PayrollProjection.add(bonus, payroll.bonus(), sign);
+            PayrollProjection.add(deductions, payroll.deductions(), sign);
+            PayrollProjection.add(netPay, payroll.netPay(), sign);
+            if (payroll.status() == PayrollStatus.PAID) {
+                PayrollProjection.add(paidNetPay, payroll.netPay(), sign);
+            }
+        }
+
+        PayPeriodTotals toTotals(PeriodKey key) {
+            return new PayPeriodTotals(key.payPeriod(), key.currency(), count, baseSalary.total(), bonus.total(),
+                deductions.total(), netPay.total(), paidNetPay.total());
+        }
+    }
+
+    private static final class YearToDateAccumulator {
+        private long count;
+        private final MoneyAccumulator grossPay;
+        private final MoneyAccumulator deductions;
+        private final MoneyAccumulator netPay;
+
+        YearToDateAccumulator(Currency currency) {
+            this.grossPay = MoneyAccumulator.of(currency);
+            this.deductions = MoneyAccumulator.of(currency);
+            this.netPay = MoneyAccumulator.of(currency);
+        }
+
+        void add(PayrollState payroll, int sign) {
+            count += sign;
+            PayrollProjection.add(grossPay, payroll.baseSalary(), sign);
+            PayrollProjection.add(grossPay, payroll.bonus(), sign);
+            PayrollProjection.add(deductions, payroll.deductions(), sign);
+            PayrollProjection.add(netPay, payroll.netPay(), sign);
+        }
+
+        EmployeeYearToDate toYearToDate(EmployeeId employeeId, YearKey key) {
+            return new EmployeeYearToDate(employeeId, key.year(), key.currency(), count, grossPay.total(),
+                deductions.total(), netPay.total());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.hrpayroll.application.projection;
+
+/**
+ * Where the {@link PayrollProjectionUpdater} takes payroll events from.
+ */
+public enum PayrollProjectionSource {
+
+    /**
+     * Events committed by this instance. Only complete when a single instance writes payrolls.
+     */
+    LOCAL,
+
+    /**
+     * Events of every instance, consumed from the payroll Kafka topic; for deployments with several replicas.
+     */
+    KAFKA
+}
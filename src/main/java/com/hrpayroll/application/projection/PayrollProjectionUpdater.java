@@ -0,0 +1,207 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Feeds committed payroll events into the {@link PayrollProjection} on a single background thread,
+ * so saving a payroll never waits for the read models. With {@link PayrollProjectionSource#LOCAL} the
+ * events committed by this instance are queued after their transaction commits (immediately when there
+ * is none) and applied in commit order. Each instance keeps its own projection, so with several replicas
+ * use {@link PayrollProjectionSource#KAFKA}: every instance is then fed all payroll events, through
+ * {@link #enqueue}, from Kafka, and ignores its local ones.
+ * Lag is published as the {@code payroll.projection.lag} timer (event occurrence to application)
+ * and the {@code payroll.projection.backlog} gauge (events queued but not yet applied).
+ * A rebuild runs on the same thread, after everything queued before it, reading the stored payrolls
+ * {@code rebuildPageSize} at a time; payrolls written while it reads them may be counted twice until
+ * the next rebuild, so rebuild when payroll is quiet.
+ */
+@Component
+public class PayrollProjectionUpdater implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollProjectionUpdater.class);
+
+    private final PayrollProjection projection = new PayrollProjection();
+    private final PayrollRepository payrollRepository;
+    private final boolean rebuildOnStartup;
+    private final PayrollProjectionSource source;
+    private final int rebuildPageSize;
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final Timer lag;
+    private final Counter applied;
+    private final Counter skipped;
+    private Thread worker;
+
+    public PayrollProjectionUpdater(PayrollRepository payrollRepository, MeterRegistry meterRegistry,
+                                    @Value("${app.payroll.projection.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                                    @Value("${app.payroll.projection.source:local}") PayrollProjectionSource source,
+                                    @Value("${app.payroll.projection.rebuild-page-size:1000}") int rebuildPageSize) {
+        if (rebuildPageSize < 1) {
+            throw new IllegalArgumentException("Rebuild page size must be positive");
+        }
+        this.payrollRepository = payrollRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.source = source;
+        this.rebuildPageSize = rebuildPageSize;
+        this.lag = Timer.builder("payroll.projection.lag")
+            .description("Time from a payroll event occurring to the projection reflecting it")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.applied = Counter.builder("payroll.projection.events")
+            .description("Payroll events applied to the projection")
+            .tag("result", "applied")
+            .register(meterRegistry);
+        this.skipped = Counter.builder("payroll.projection.events")
+            .description("Payroll events applied to the projection")
+            .tag("result", "skipped")
+            .register(meterRegistry);
+        Gauge.builder("payroll.projection.backlog", tasks, BlockingQueue::size)
+            .description("Payroll events and rebuilds waiting to be applied")
+            .register(meterRegistry);
+    }
+
+    public PayrollProjection getProjection() {
+        return projection;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(PayrollDomainEvent event) {
+        if (source == PayrollProjectionSource.LOCAL) {
+            enqueue(event);
+        }
+    }
+
+    /**
+     * Queues a committed payroll event for the projection, whichever instance committed it.
+     */
+    public void enqueue(PayrollDomainEvent event) {
+        tasks.add(() -> apply(event));
+    }
+
+    /**
+     * Rebuilds the read models from the stored payrolls and waits for it to finish.
+     */
+    public void rebuild() {
+        await(submit(this::rebuildNow), "rebuild");
+    }
+
+    /**
+     * Waits until everything queued so far has been applied.
+     */
+    public void awaitApplied(Duration timeout) throws TimeoutException {
+        try {
+            submit(() -> { }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the payroll projection", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Payroll projection failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (rebuildOnStartup) {
+            tasks.add(this::rebuildNow);
+        }
+        worker = Thread.ofPlatform().name("payroll-projection").daemon().start(this::run);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Runnable task;
+            try {
+                task = tasks.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Payroll projection update failed; run a rebuild to resynchronize", e);
+            }
+        }
+    }
+
+    private void apply(PayrollDomainEvent event) {
+        if (projection.apply(event)) {
+            applied.increment();
+        } else {
+            skipped.increment();
+            log.debug("Skipped {} for untracked payroll {}", event.getEventType(), event.getPayrollId());
+        }
+        lag.record(Duration.between(event.getOccurredOn(), Instant.now()));
+    }
+
+    private void rebuildNow() {
+        long started = System.nanoTime();
+        PayrollProjection.Rebuild rebuild = projection.startRebuild();
+        PayrollId after = null;
+        List<Payroll> page;
+        do {
+            page = payrollRepository.findPage(after, rebuildPageSize);
+            rebuild.addAll(page);
+            if (!page.isEmpty()) {
+                after = page.getLast().getId();
+            }
+        } while (page.size() == rebuildPageSize);
+        rebuild.complete();
+        log.info("Rebuilt payroll projection from {} payrolls in {} ms", projection.getTrackedPayrollCount(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private CompletableFuture<Void> submit(Runnable task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        tasks.add(() -> {
+            try {
+                task.run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        return done;
+    }
+
+    private void await(CompletableFuture<Void> done, String action) {
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for payroll projection " + action, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Payroll projection " + action + " failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeCreatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDepartmentChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmployeeUpdatedEvent;
+import com.hrpayroll.domain.shared.DomainEventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Keeps each department's members, and the status and salary recorded for them, in step with the employees.
+ * For every employee in a batch of committed events that can change membership, status or salary, the
+ * employee is reloaded and refreshed in their current department and removed from any other department
+ * the events name; each department touched is then saved once. Saves of one department are serialized
+ * per instance using striped locks, and retried from a fresh load when another instance saved it first.
+ * Departments that do not exist are skipped.
+ */
+@Component
+public class DepartmentMembershipUpdater implements DomainEventSubscriber<EmployeeDomainEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentMembershipUpdater.class);
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public DepartmentMembershipUpdater(EmployeeRepository employeeRepository,
+                                       DepartmentRepository departmentRepository) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Class<EmployeeDomainEvent> getEventType() {
+        return EmployeeDomainEvent.class;
+    }
+
+    @Override
+    public void handle(List<EmployeeDomainEvent> events) {
+        Map<EmployeeId, Set<DepartmentId>> namedDepartments = new LinkedHashMap<>();
+        for (EmployeeDomainEvent event : events) {
+            if (event instanceof EmployeeUpdatedEvent) {
+                continue; // names and contact details only
+            }
+            Set<DepartmentId> departments = namedDepartments.computeIfAbsent(event.getEmployeeId(),
+                id -> new LinkedHashSet<>());
+            if (event instanceof EmployeeCreatedEvent created && created.getDepartmentId() != null) {
+                departments.add(created.getDepartmentId());
+            } else if (event instanceof EmployeeDepartmentChangedEvent changed) {
+                if (changed.getOldDepartmentId() != null) {
+                    departments.add(changed.getOldDepartmentId());
+                }
+                if (changed.getNewDepartmentId() != null) {
+                    departments.add(changed.getNewDepartmentId());
+                }
+            }
+        }
+
+        Map<DepartmentId, List<Consumer<Department>>> changes = new LinkedHashMap<>();
+        namedDepartments.forEach((employeeId, departments) -> {
+            Optional<Employee> employee = employeeRepository.findById(employeeId);
+            DepartmentId current = employee.map(Employee::getDepartmentId).orElse(null);
+            if (current != null) {
+                changes.computeIfAbsent(current, id -> new ArrayList<>())
+                    .add(department -> department.addEmployee(employee.get()));
+            }
+            for (DepartmentId departmentId : departments) {
+                if (!departmentId.equals(current)) {
+                    changes.computeIfAbsent(departmentId, id -> new ArrayList<>())
+                        .add(department -> department.removeEmployee(employeeId));
+                }
+            }
+        });
+        changes.forEach(this::update);
+    }
+
+    private void update(DepartmentId departmentId, List<Consumer<Department>> changes) {
+        ReentrantLock lock = lockFor(departmentId);
+        lock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                Optional<Department> department = departmentRepository.findById(departmentId);
+                if (department.isEmpty()) {
+                    return;
+                }
+                changes.forEach(change -> change.accept(department.get()));
+                try {
+                    departmentRepository.save(department.get());
+                    return;
+                } catch (OptimisticLockingFailureException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        log.warn("Gave up updating the members of department {} after {} concurrent changes",
+                            departmentId, attempt, e);
+                        return;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(DepartmentId id) {
+        int hash = id.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+}
@@ -0,0 +1,253 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.application.dto.EmployeeImportReport;
+import com.hrpayroll.application.dto.EmployeeImportReport.RowError;
+import com.hrpayroll.application.dto.EmployeeImportRow;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.shared.DomainClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-creates employees from a stream of raw import rows.
+ * The caller's thread pulls rows from the source; batches are validated, checked for duplicate emails
+ * within the batch and against existing employees, and persisted with {@link EmployeeRepository#saveAll}
+ * on virtual threads while the next batch is being read. Duplicates in batches saved concurrently are left
+ * to the repository's unique email. A semaphore caps how many batches are in flight, so memory stays
+ * bounded by {@code parallelism * batchSize} rows however large the input is.
+ * A batch that fails to save is saved again row by row, so each row is counted as imported or rejected
+ * whether or not the repository saved part of the batch. Rejected rows are reported individually,
+ * up to a configurable number of errors.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    private final EmployeeRepository employeeRepository;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxErrors;
+
+    public EmployeeImportService(EmployeeRepository employeeRepository,
+                                 @Value("${app.employees.import.batch-size:1000}") int batchSize,
+                                 @Value("${app.employees.import.parallelism:4}") int parallelism,
+                                 @Value("${app.employees.import.max-errors:1000}") int maxErrors) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Max errors cannot be negative");
+        }
+        this.employeeRepository = employeeRepository;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxErrors = maxErrors;
+    }
+
+    public EmployeeImportReport importEmployees(Iterator<EmployeeImportRow> rows) {
+        long started = System.nanoTime();
+        LocalDate today = DomainClock.today();
+        ImportCounters counters = new ImportCounters(maxErrors);
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<EmployeeImportRow> batch = new ArrayList<>(batchSize);
+            while (rows.hasNext()) {
+                EmployeeImportRow row = rows.next();
+                counters.rowsRead++;
+                if (row.isMalformed()) {
+                    counters.reject(row, row.getError());
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    submit(executor, inFlight, futures, batch, today, counters);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, inFlight, futures, batch, today, counters);
+            }
+            awaitAll(futures);
+        }
+
+        EmployeeImportReport report = counters.toReport(Duration.ofNanos(System.nanoTime() - started));
+        log.info("Finished employee import: {} ({} rows/s)", report, Math.round(report.getThroughputPerSecond()));
+        return report;
+    }
+
+    private void submit(ExecutorService executor, Semaphore inFlight, List<Future<?>> futures,
+                        List<EmployeeImportRow> batch, LocalDate today, ImportCounters counters) {
+        inFlight.acquireUninterruptibly();
+        futures.add(executor.submit(() -> {
+            try {
+                importBatch(batch, today, counters);
+            } finally {
+                inFlight.release();
+            }
+        }));
+    }
+
+    private void importBatch(List<EmployeeImportRow> batch, LocalDate today, ImportCounters counters) {
+        List<EmployeeImportRow> validRows = new ArrayList<>(batch.size());
+        List<Employee> employees = new ArrayList<>(batch.size());
+        Set<Email> emails = new HashSet<>();
+        for (EmployeeImportRow row : batch) {
+            Employee employee;
+            try {
+                employee = toEmployee(row, today);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                counters.reject(row, e.getMessage());
+                continue;
+            }
+            if (!emails.add(employee.getEmail())) {
+                counters.reject(row, "Duplicate email in import: " + row.getEmail());
+                continue;
+            }
+            employees.add(employee);
+            validRows.add(row);
+        }
+
+        // One lookup per batch instead of one per row; the unique email constraint remains the backstop
+        Set<Email> existing = employeeRepository.findExistingEmails(employees.stream().map(Employee::getEmail).toList());
+        List<Employee> toSave = new ArrayList<>(employees.size());
+        List<EmployeeImportRow> toSaveRows = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (existing.contains(employee.getEmail())) {
+                counters.reject(validRows.get(i), "Employee with email already exists: " + employee.getEmail());
+            } else {
+                toSave.add(employee);
+                toSaveRows.add(validRows.get(i));
+            }
+        }
+
+        try {
+            employeeRepository.saveAll(toSave);
+            counters.imported.addAndGet(toSave.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist import batch of {} employees, saving them one by one", toSave.size(), e);
+            saveEach(toSave, toSaveRows, counters);
+        }
+    }
+
+    // saveAll may have stored part of the batch before failing; saving a stored employee again is a no-op
+    private void saveEach(List<Employee> employees, List<EmployeeImportRow> rows, ImportCounters counters) {
+        for (int i = 0; i < employees.size(); i++) {
+            try {
+                employeeRepository.save(employees.get(i));
+                counters.imported.incrementAndGet();
+            } catch (RuntimeException e) {
+                counters.reject(rows.get(i), "Could not be saved: " + e.getMessage());
+            }
+        }
+    }
+
+    private Employee toEmployee(EmployeeImportRow row, LocalDate today) {
+        Email email = Email.of(required(row.getEmail(), "email"));
+        Currency currency = Currency.getInstance(row.getCurrency() != null ? row.getCurrency() : DEFAULT_CURRENCY);
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(required(row.getSalary(), "salary"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid salary: " + row.getSalary());
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("Salary must be positive");
+        }
+        LocalDate dateOfBirth = LocalDate.parse(required(row.getDateOfBirth(), "dateOfBirth"));
+        LocalDate hireDate = row.getHireDate() != null ? LocalDate.parse(row.getHireDate()) : today;
+        DepartmentId departmentId = row.getDepartmentId() != null ? DepartmentId.fromString(row.getDepartmentId()) : null;
+
+        return Employee.create(
+            required(row.getFirstName(), "firstName"),
+            required(row.getLastName(), "lastName"),
+            email,
+            null,
+            dateOfBirth,
+            hireDate,
+            departmentId,
+            required(row.getJobTitle(), "jobTitle"),
+            Money.of(amount, currency)
+        );
+    }
+
+    private static String required(String value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Employee import interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Employee import batch failed", e.getCause());
+            }
+        }
+    }
+
+    private static final class ImportCounters {
+        private final int maxErrors;
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicInteger errorSlots = new AtomicInteger();
+        private final ConcurrentLinkedQueue<RowError> errors = new ConcurrentLinkedQueue<>();
+        private long rowsRead;
+
+        private ImportCounters(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(EmployeeImportRow row, String message) {
+            rejected.incrementAndGet();
+            if (errorSlots.getAndIncrement() < maxErrors) {
+                errors.add(new RowError(row.getRowNumber(), message));
+            }
+        }
+
+        private EmployeeImportReport toReport(Duration elapsed) {
+            List<RowError> sorted = new ArrayList<>(errors);
+            sorted.sort(Comparator.comparingLong(RowError::getRowNumber));
+            return new EmployeeImportReport(rowsRead, imported.get(), rejected.get(), sorted,
+                rejected.get() > sorted.size(), elapsed);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Application service for Employee use cases.
+ * Mutations of an existing employee are serialized per aggregate using striped locks,
+ * so concurrent requests against different employees never block each other.
+ */
+@Service
+public class EmployeeService {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final EmployeeRepository employeeRepository;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public EmployeeService(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Saves a new employee, rejecting one whose email already belongs to another employee.
+     * Two creates racing past this check are still caught by the repository's unique email.
+     */
+    public Employee createEmployee(Employee employee) {
+        if (employeeRepository.existsByEmail(employee.getEmail())) {
+            throw new IllegalStateException("Employee with email already exists: " + employee.getEmail());
+        }
+        return employeeRepository.save(employee);
+    }
+
+    public Optional<Employee> findById(EmployeeId id) {
+        return employeeRepository.findById(id);
+    }
+
+    public List<Employee> findAll() {
+        return employeeRepository.findAll();
+    }
+
+    /**
+     * One keyset page of employees ordered by id; pass the last id of the previous page as {@code after}.
+     */
+    public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        return employeeRepository.findPage(after, status, departmentId, limit);
+    }
+
+    public Optional<Employee> promote(EmployeeId id, String newJobTitle, Money newSalary) {
+        return update(id, employee -> employee.promote(newJobTitle, newSalary));
+    }
+
+    public Optional<Employee> adjustSalary(EmployeeId id, Money newSalary) {
+        return update(id, employee -> employee.adjustSalary(newSalary));
+    }
+
+    public Optional<Employee> changeDepartment(EmployeeId id, DepartmentId departmentId) {
+        return update(id, employee -> employee.changeDepartment(departmentId));
+    }
+
+    public Optional<Employee> suspend(EmployeeId id) {
+        return update(id, Employee::suspend);
+    }
+
+    public Optional<Employee> reactivate(EmployeeId id) {
+        return update(id, Employee::reactivate);
+    }
+
+    public Optional<Employee> terminate(EmployeeId id, String reason) {
+        return update(id, employee -> employee.terminate(reason));
+    }
+
+    /**
+     * Loads, mutates and saves an employee while holding the lock stripe for its id.
+     * Returns empty when the employee does not exist; domain exceptions propagate.
+     */
+    private Optional<Employee> update(EmployeeId id, Consumer<Employee> mutation) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Optional<Employee> employee = employeeRepository.findById(id);
+            employee.ifPresent(found -> {
+                mutation.accept(found);
+                employeeRepository.save(found);
+            });
+            return employee;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(EmployeeId id) {
+        int hash = id.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+}
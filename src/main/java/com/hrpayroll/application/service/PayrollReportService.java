@@ -0,0 +1,94 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.application.dto.PayrollSummaryReport;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.PayrollSummaryQuery;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Payroll reporting for finance. Totals are computed by the {@link PayrollSummaryQuery} where the
+ * payrolls are stored; this service only orders the groups and adds the per-currency grand totals.
+ */
+@Service
+public class PayrollReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollReportService.class);
+
+    private static final Comparator<PayrollTotals> LINE_ORDER = Comparator
+        .comparing(PayrollTotals::getDepartmentId,
+            Comparator.nullsLast(Comparator.comparing(DepartmentId::getValue)))
+        .thenComparing(PayrollTotals::getStatus)
+        .thenComparing(totals -> totals.getCurrency().getCurrencyCode());
+
+    private final PayrollSummaryQuery summaryQuery;
+
+    public PayrollReportService(PayrollSummaryQuery summaryQuery) {
+        this.summaryQuery = summaryQuery;
+    }
+
+    public PayrollSummaryReport summarize(YearMonth payPeriod) {
+        if (payPeriod == null) {
+            throw new IllegalArgumentException("Pay period cannot be null");
+        }
+        long started = System.nanoTime();
+
+        List<PayrollTotals> groups = new ArrayList<>(summaryQuery.summarize(payPeriod));
+        groups.sort(LINE_ORDER);
+
+        List<PayrollSummaryReport.Line> lines = new ArrayList<>(groups.size());
+        Map<String, CurrencyTotals> byCurrency = new TreeMap<>();
+        for (PayrollTotals group : groups) {
+            lines.add(PayrollSummaryReport.Line.from(group));
+            byCurrency.computeIfAbsent(group.getCurrency().getCurrencyCode(), code -> new CurrencyTotals(group.getCurrency()))
+                .add(group);
+        }
+        List<PayrollSummaryReport.Line> totals = byCurrency.values().stream().map(CurrencyTotals::toLine).toList();
+
+        PayrollSummaryReport report = new PayrollSummaryReport(payPeriod, lines, totals,
+            Duration.ofNanos(System.nanoTime() - started));
+        log.debug("Summarized payroll: {}", report);
+        return report;
+    }
+
+    private static final class CurrencyTotals {
+        private long payrollCount;
+        private Money baseSalary;
+        private Money bonus;
+        private Money deductions;
+        private Money netPay;
+
+        CurrencyTotals(Currency currency) {
+            this.baseSalary = Money.zero(currency);
+            this.bonus = Money.zero(currency);
+            this.deductions = Money.zero(currency);
+            this.netPay = Money.zero(currency);
+        }
+
+        void add(PayrollTotals group) {
+            payrollCount += group.getPayrollCount();
+            baseSalary = baseSalary.add(group.getBaseSalary());
+            bonus = bonus.add(group.getBonus());
+            deductions = deductions.add(group.getDeductions());
+            netPay = netPay.add(group.getNetPay());
+        }
+
+        PayrollSummaryReport.Line toLine() {
+            return new PayrollSummaryReport.Line(null, null, baseSalary.getCurrency().getCurrencyCode(), payrollCount,
+                baseSalary.getAmount(), bonus.getAmount(), baseSalary.add(bonus).getAmount(),
+                deductions.getAmount(), netPay.getAmount());
+        }
+    }
+}
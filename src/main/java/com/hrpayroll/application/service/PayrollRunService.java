@@ -0,0 +1,178 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.application.dto.PayrollRunReport;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs month-end payroll for every active employee.
+ * Active employees are read a chunk at a time by keyset pagination, and each chunk is turned into
+ * processed {@link Payroll} aggregates and persisted with {@link PayrollRepository#saveAll} on a virtual
+ * thread; a semaphore caps how many chunks are in flight, which also bounds how many employees are in
+ * memory and keeps the connection pool from being exhausted.
+ * Runs are idempotent: employees of a chunk that already have a payroll for the period are skipped,
+ * and only one run per period may be in progress at a time.
+ */
+@Service
+public class PayrollRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunService.class);
+    private static final int PROGRESS_INTERVAL_CHUNKS = 10;
+
+    private final EmployeeRepository employeeRepository;
+    private final PayrollRepository payrollRepository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Set<YearMonth> runsInProgress = ConcurrentHashMap.newKeySet();
+
+    public PayrollRunService(EmployeeRepository employeeRepository,
+                             PayrollRepository payrollRepository,
+                             @Value("${app.payroll.run.chunk-size:1000}") int chunkSize,
+                             @Value("${app.payroll.run.parallelism:8}") int parallelism) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.employeeRepository = employeeRepository;
+        this.payrollRepository = payrollRepository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    public PayrollRunReport run(YearMonth payPeriod) {
+        if (payPeriod == null) {
+            throw new IllegalArgumentException("Pay period cannot be null");
+        }
+        if (!runsInProgress.add(payPeriod)) {
+            throw new IllegalStateException("Payroll run for " + payPeriod + " is already in progress");
+        }
+        try {
+            return execute(payPeriod);
+        } finally {
+            runsInProgress.remove(payPeriod);
+        }
+    }
+
+    private PayrollRunReport execute(YearMonth payPeriod) {
+        long started = System.nanoTime();
+
+        log.info("Starting payroll run for {} in chunks of {} active employees", payPeriod, chunkSize);
+
+        RunCounters counters = new RunCounters();
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        long employees = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            EmployeeId after = null;
+            List<Employee> chunk;
+            do {
+                inFlight.acquireUninterruptibly();
+                chunk = employeeRepository.findPage(after, EmploymentStatus.ACTIVE, null, chunkSize);
+                if (chunk.isEmpty()) {
+                    inFlight.release();
+                    break;
+                }
+                employees += chunk.size();
+                after = chunk.getLast().getId();
+                List<Employee> submitted = chunk;
+                futures.add(executor.submit(() -> {
+                    try {
+                        runChunk(submitted, payPeriod, counters);
+                        logProgress(payPeriod, counters, started);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } while (chunk.size() == chunkSize);
+            awaitAll(futures);
+        }
+
+        PayrollRunReport report = new PayrollRunReport(payPeriod, employees, counters.created.get(),
+            counters.skipped.get(), counters.failed.get(), Duration.ofNanos(System.nanoTime() - started));
+        log.info("Finished payroll run: {} ({} employees/s)", report, Math.round(report.getThroughputPerSecond()));
+        return report;
+    }
+
+    private void runChunk(List<Employee> chunk, YearMonth payPeriod, RunCounters counters) {
+        // One query per chunk instead of one per employee; the unique (employee, period) constraint is the backstop
+        Set<EmployeeId> alreadyPaid = payrollRepository.findEmployeesWithPayroll(payPeriod,
+            chunk.stream().map(Employee::getId).toList());
+        List<Payroll> payrolls = new ArrayList<>(chunk.size());
+        for (Employee employee : chunk) {
+            if (alreadyPaid.contains(employee.getId())) {
+                counters.skipped.incrementAndGet();
+                continue;
+            }
+            try {
+                Payroll payroll = Payroll.create(employee.getId(), payPeriod, employee.getSalary());
+                payroll.process();
+                payrolls.add(payroll);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                counters.failed.incrementAndGet();
+                log.warn("Could not create payroll for employee {} in {}: {}", employee.getId(), payPeriod, e.getMessage());
+            }
+        }
+
+        try {
+            payrollRepository.saveAll(payrolls);
+            counters.created.addAndGet(payrolls.size());
+        } catch (RuntimeException e) {
+            counters.failed.addAndGet(payrolls.size());
+            log.error("Failed to persist payroll chunk of {} for {}", payrolls.size(), payPeriod, e);
+        }
+        counters.completedChunks.incrementAndGet();
+    }
+
+    private void logProgress(YearMonth payPeriod, RunCounters counters, long started) {
+        long completed = counters.completedChunks.get();
+        if (completed % PROGRESS_INTERVAL_CHUNKS == 0) {
+            double seconds = Math.max(1, System.nanoTime() - started) / 1_000_000_000.0;
+            long handled = counters.created.get() + counters.skipped.get() + counters.failed.get();
+            log.info("Payroll run {}: {} chunks, {} employees handled ({} employees/s)",
+                payPeriod, completed, handled, Math.round(handled / seconds));
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Payroll run interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Payroll run chunk failed", e.getCause());
+            }
+        }
+    }
+
+    private static final class RunCounters {
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong completedChunks = new AtomicLong();
+    }
+}
@@ -1,16 +1,35 @@
 package com.hrpayroll.domain.model.department;
 
+import com.hrpayroll.domain.model.employee.Employee;
 import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
 import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.MoneyAccumulator;
 import com.hrpayroll.domain.shared.AggregateRoot;
+import com.hrpayroll.domain.shared.DomainClock;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Department aggregate root.
+ * Members are kept in insertion order in a hash map, so adding, removing and checking membership are O(1).
+ * Members added with their {@link Employee} details also feed a headcount per {@link EmploymentStatus}
+ * and a salary cost per currency, both maintained incrementally so budget queries never scan the members.
+ * Members known only by id count towards {@link #getEmployeeCount()} but not the per-status headcount or
+ * the salary cost until their details are recorded with {@link #addEmployee(Employee)}.
+ * The recorded details are part of the aggregate's state: {@link #getMembers()} exposes them for storage
+ * and {@link #reconstitute} restores them, so a reloaded department reports the same headcount and cost.
  */
 public class Department extends AggregateRoot<DepartmentId> {
     private DepartmentId id;
@@ -19,10 +38,11 @@ public class Department extends AggregateRoot<DepartmentId> {
     private EmployeeId managerId;
     private Money budget;
     private LocalDate createdDate;
-    private List<EmployeeId> employeeIds;
+    private final Map<EmployeeId, DepartmentMember> members = new LinkedHashMap<>();
+    private final int[] headcountByStatus = new int[EmploymentStatus.values().length];
+    private final Map<Currency, MoneyAccumulator> salaryCosts = new HashMap<>();
 
     protected Department() {
-        this.employeeIds = new ArrayList<>();
     }
 
     private Department(DepartmentId id, String name, String description, Money budget) {
@@ -32,8 +52,7 @@ public class Department extends AggregateRoot<DepartmentId> {
         this.name = name;
         this.description = description;
         this.budget = budget;
-        this.createdDate = LocalDate.now();
-        this.employeeIds = new ArrayList<>();
+        this.createdDate = DomainClock.today();
 
         registerEvent(new DepartmentCreatedEvent(id, name));
     }
@@ -42,6 +61,36 @@ public class Department extends AggregateRoot<DepartmentId> {
         return new Department(DepartmentId.generate(), name, description, budget);
     }
 
+    public static Department reconstitute(DepartmentId id, String name, String description,
+                                          EmployeeId managerId, Money budget, LocalDate createdDate,
+                                          Collection<DepartmentMember> members) {
+        Department department = new Department(id, name, description, budget);
+        department.managerId = managerId;
+        department.createdDate = createdDate;
+        for (DepartmentMember member : members) {
+            department.putMember(member);
+        }
+        department.clearDomainEvents(); // Don't fire events when reconstituting
+        return department;
+    }
+
+    /**
+     * Returns a copy of this department's current state without its pending events, so a store can keep
+     * or hand out an instance that changes made to this one (and later rolled back) never reach.
+     */
+    public Department copy() {
+        Department copy = new Department();
+        copy.id = id;
+        copy.name = name;
+        copy.description = description;
+        copy.managerId = managerId;
+        copy.budget = budget;
+        copy.createdDate = createdDate;
+        members.values().forEach(copy::putMember);
+        copy.setVersion(getVersion());
+        return copy;
+    }
+
     // Getters
     public DepartmentId getId() {
         return id;
@@ -88,21 +137,130 @@ public class Department extends AggregateRoot<DepartmentId> {
         if (employeeId == null) {
             throw new IllegalArgumentException("Employee ID cannot be null");
         }
-        if (!employeeIds.contains(employeeId)) {
-            employeeIds.add(employeeId);
+        members.putIfAbsent(employeeId, DepartmentMember.unknown(employeeId));
+    }
+
+    /**
+     * Adds an employee with their current status and salary, or refreshes them if already a member.
+     */
+    public void addEmployee(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        putMember(new DepartmentMember(employee.getId(), employee.getStatus(), employee.getSalary()));
+    }
+
+    /**
+     * Refreshes the status and salary of an employee who is already a member.
+     *
+     * @return {@code false} if the employee is not a member of this department
+     */
+    public boolean updateEmployee(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        if (!members.containsKey(employee.getId())) {
+            return false;
         }
+        addEmployee(employee);
+        return true;
     }
 
     public void removeEmployee(EmployeeId employeeId) {
-        employeeIds.remove(employeeId);
+        unrecord(members.remove(employeeId));
+    }
+
+    public boolean hasEmployee(EmployeeId employeeId) {
+        return members.containsKey(employeeId);
+    }
+
+    public Set<EmployeeId> getEmployeeIds() {
+        return Collections.unmodifiableSet(members.keySet());
     }
 
-    public List<EmployeeId> getEmployeeIds() {
-        return Collections.unmodifiableList(employeeIds);
+    /**
+     * Returns the members in insertion order with the details recorded for them.
+     */
+    public Collection<DepartmentMember> getMembers() {
+        return Collections.unmodifiableCollection(members.values());
     }
 
     public int getEmployeeCount() {
-        return employeeIds.size();
+        return members.size();
+    }
+
+    public int getHeadcount(EmploymentStatus status) {
+        return headcountByStatus[status.ordinal()];
+    }
+
+    public Map<EmploymentStatus, Integer> getHeadcountByStatus() {
+        Map<EmploymentStatus, Integer> headcount = new EnumMap<>(EmploymentStatus.class);
+        for (EmploymentStatus status : EmploymentStatus.values()) {
+            headcount.put(status, headcountByStatus[status.ordinal()]);
+        }
+        return headcount;
+    }
+
+    /**
+     * Returns the combined salary of members still on the payroll (neither terminated nor resigned)
+     * who are paid in the budget's currency.
+     */
+    public Money getSalaryCost() {
+        MoneyAccumulator cost = salaryCosts.get(budget.getCurrency());
+        return cost != null ? cost.total() : Money.zero(budget.getCurrency());
+    }
+
+    /**
+     * Returns the combined salary of members still on the payroll for every currency they are paid in.
+     */
+    public Map<Currency, Money> getSalaryCosts() {
+        Map<Currency, Money> costs = new HashMap<>();
+        salaryCosts.forEach((currency, cost) -> {
+            if (cost.totalMinorUnits() != 0) {
+                costs.put(currency, cost.total());
+            }
+        });
+        return costs;
+    }
+
+    /**
+     * Returns {@link #getSalaryCost()} as a fraction of the budget, to four decimal places.
+     * Empty when the budget is zero.
+     */
+    public Optional<BigDecimal> getBudgetUtilization() {
+        if (budget.getAmount().signum() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(getSalaryCost().getAmount().divide(budget.getAmount(), 4, RoundingMode.HALF_UP));
+    }
+
+    public boolean isOverBudget() {
+        return getSalaryCost().isGreaterThan(budget);
+    }
+
+    private void putMember(DepartmentMember member) {
+        unrecord(members.put(member.employeeId(), member));
+        record(member);
+    }
+
+    private void record(DepartmentMember member) {
+        if (!member.isKnown()) {
+            return;
+        }
+        headcountByStatus[member.status().ordinal()]++;
+        if (member.isOnPayroll()) {
+            salaryCosts.computeIfAbsent(member.salary().getCurrency(), MoneyAccumulator::of).add(member.salary());
+        }
+    }
+
+    private void unrecord(DepartmentMember member) {
+        if (member == null || !member.isKnown()) {
+            return;
+        }
+        headcountByStatus[member.status().ordinal()]--;
+        if (member.isOnPayroll()) {
+            salaryCosts.get(member.salary().getCurrency()).subtract(member.salary());
+        }
     }
 
     private void validateDepartment(String name, Money budget) {
@@ -1,12 +1,13 @@
 package com.hrpayroll.domain.model.department;
 
 import com.hrpayroll.domain.model.employee.Money;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class DepartmentBudgetUpdatedEvent implements DomainEvent {
+public class DepartmentBudgetUpdatedEvent implements DepartmentDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final DepartmentId departmentId;
@@ -14,8 +15,12 @@ public class DepartmentBudgetUpdatedEvent implements DomainEvent {
     private final Money newBudget;
 
     public DepartmentBudgetUpdatedEvent(DepartmentId departmentId, Money oldBudget, Money newBudget) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), departmentId, oldBudget, newBudget);
+    }
+
+    public DepartmentBudgetUpdatedEvent(UUID eventId, Instant occurredOn, DepartmentId departmentId, Money oldBudget, Money newBudget) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.departmentId = departmentId;
         this.oldBudget = oldBudget;
         this.newBudget = newBudget;
@@ -36,4 +41,16 @@ public class DepartmentBudgetUpdatedEvent implements DomainEvent {
     public String getEventType() {
         return "DepartmentBudgetUpdated";
     }
+
+    public DepartmentId getDepartmentId() {
+        return departmentId;
+    }
+
+    public Money getOldBudget() {
+        return oldBudget;
+    }
+
+    public Money getNewBudget() {
+        return newBudget;
+    }
 }
@@ -1,19 +1,24 @@
 package com.hrpayroll.domain.model.department;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class DepartmentCreatedEvent implements DomainEvent {
+public class DepartmentCreatedEvent implements DepartmentDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final DepartmentId departmentId;
     private final String departmentName;
 
     public DepartmentCreatedEvent(DepartmentId departmentId, String departmentName) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), departmentId, departmentName);
+    }
+
+    public DepartmentCreatedEvent(UUID eventId, Instant occurredOn, DepartmentId departmentId, String departmentName) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.departmentId = departmentId;
         this.departmentName = departmentName;
     }
@@ -33,4 +38,12 @@ public class DepartmentCreatedEvent implements DomainEvent {
     public String getEventType() {
         return "DepartmentCreated";
     }
+
+    public DepartmentId getDepartmentId() {
+        return departmentId;
+    }
+
+    public String getDepartmentName() {
+        return departmentName;
+    }
 }
@@ -0,0 +1,10 @@
+package com.hrpayroll.domain.model.department;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+
+/**
+ * Domain event raised by the Department aggregate, identifying the department it concerns.
+ */
+public interface DepartmentDomainEvent extends DomainEvent {
+    DepartmentId getDepartmentId();
+}
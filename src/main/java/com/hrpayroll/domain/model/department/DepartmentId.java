@@ -1,5 +1,6 @@
 package com.hrpayroll.domain.model.department;
 
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 import com.hrpayroll.domain.shared.ValueObject;
 
 import java.util.Objects;
@@ -24,7 +25,7 @@ public class DepartmentId implements ValueObject {
     }
 
     public static DepartmentId generate() {
-        return new DepartmentId(UUID.randomUUID());
+        return new DepartmentId(TimeOrderedUuid.next());
     }
 
     public static DepartmentId fromString(String value) {
@@ -1,20 +1,25 @@
 package com.hrpayroll.domain.model.department;
 
 import com.hrpayroll.domain.model.employee.EmployeeId;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class DepartmentManagerAssignedEvent implements DomainEvent {
+public class DepartmentManagerAssignedEvent implements DepartmentDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final DepartmentId departmentId;
     private final EmployeeId managerId;
 
     public DepartmentManagerAssignedEvent(DepartmentId departmentId, EmployeeId managerId) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), departmentId, managerId);
+    }
+
+    public DepartmentManagerAssignedEvent(UUID eventId, Instant occurredOn, DepartmentId departmentId, EmployeeId managerId) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.departmentId = departmentId;
         this.managerId = managerId;
     }
@@ -34,4 +39,12 @@ public class DepartmentManagerAssignedEvent implements DomainEvent {
     public String getEventType() {
         return "DepartmentManagerAssigned";
     }
+
+    public DepartmentId getDepartmentId() {
+        return departmentId;
+    }
+
+    public EmployeeId getManagerId() {
+        return managerId;
+    }
 }
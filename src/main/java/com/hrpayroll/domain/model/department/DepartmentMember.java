@@ -0,0 +1,33 @@
+package com.hrpayroll.domain.model.department;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+
+/**
+ * A member of a department with the status and salary they were last recorded with;
+ * both are null for members known only by id.
+ */
+public record DepartmentMember(EmployeeId employeeId, EmploymentStatus status, Money salary) {
+
+    public DepartmentMember {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        if ((status == null) != (salary == null)) {
+            throw new IllegalArgumentException("Member status and salary must both be known or both be unknown");
+        }
+    }
+
+    static DepartmentMember unknown(EmployeeId employeeId) {
+        return new DepartmentMember(employeeId, null, null);
+    }
+
+    public boolean isKnown() {
+        return status != null;
+    }
+
+    boolean isOnPayroll() {
+        return status != EmploymentStatus.TERMINATED && status != EmploymentStatus.RESIGNED;
+    }
+}
@@ -1,5 +1,6 @@
 package com.hrpayroll.domain.model.department;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,13 @@ public interface DepartmentRepository {
 
     Department save(Department department);
 
+    /**
+     * Saves many aggregates at once. Implementations backed by a database write them in batches.
+     */
+    default List<Department> saveAll(Collection<Department> departments) {
+        return departments.stream().map(this::save).toList();
+    }
+
     Optional<Department> findById(DepartmentId id);
 
     Optional<Department> findByName(String name);
@@ -3,14 +3,15 @@ package com.hrpayroll.domain.model.employee;
 import com.hrpayroll.domain.shared.ValueObject;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value object representing an email address with validation.
+ * An address is valid when it matches {@code ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}:
+ * a non-empty local part, one {@code @}, and a domain whose last dot has at least one character before it
+ * and at least two letters after it. It is checked in a single pass without a regex, since {@link #of}
+ * runs on every create, import row and lookup by email, and stored in lower case.
  */
 public class Email implements ValueObject {
-    private static final Pattern EMAIL_PATTERN =
-        Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
 
     private final String value;
 
@@ -18,10 +19,11 @@ public class Email implements ValueObject {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        if (!EMAIL_PATTERN.matcher(value).matches()) {
+        String normalized = normalize(value);
+        if (normalized == null) {
             throw new IllegalArgumentException("Invalid email format: " + value);
         }
-        this.value = value.toLowerCase();
+        this.value = normalized;
     }
 
     public String getValue() {
@@ -32,6 +34,53 @@ public class Email implements ValueObject {
         return new Email(value);
     }
 
+    /**
+     * The address in lower case if it is valid, otherwise {@code null}.
+     * Returns the given string itself when it is already lower case.
+     */
+    static String normalize(String value) {
+        int length = value.length();
+        int at = -1;
+        int lastDot = -1;
+        boolean nonLetterAfterDot = false;
+        boolean upperCase = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                upperCase = true;
+            } else if (c == '.') {
+                if (at >= 0) {
+                    lastDot = i;
+                    nonLetterAfterDot = false;
+                }
+            } else if ((c >= '0' && c <= '9') || c == '-') {
+                nonLetterAfterDot = true;
+            } else if (c == '@' && at < 0) {
+                at = i;
+            } else if ((c == '+' || c == '_') && at < 0) {
+                continue;
+            } else {
+                return null;
+            }
+        }
+        if (at < 1 || lastDot < at + 2 || length - lastDot < 3 || nonLetterAfterDot) {
+            return null;
+        }
+        return upperCase ? toLowerCase(value) : value;
+    }
+
+    private static String toLowerCase(String value) {
+        char[] chars = new char[value.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = value.charAt(i);
+            chars[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -2,8 +2,10 @@ package com.hrpayroll.domain.model.employee;
 
 import com.hrpayroll.domain.model.department.DepartmentId;
 import com.hrpayroll.domain.shared.AggregateRoot;
+import com.hrpayroll.domain.shared.DomainClock;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Employee aggregate root - represents an employee in the HR system.
@@ -44,10 +46,11 @@ public class Employee extends AggregateRoot<EmployeeId> {
         this.jobTitle = jobTitle;
         this.salary = salary;
         this.status = EmploymentStatus.ACTIVE;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         // Register domain event
-        registerEvent(new EmployeeCreatedEvent(id, email, firstName + " " + lastName));
+        registerEvent(new EmployeeCreatedEvent(id, firstName, lastName, email, phoneNumber,
+                                               dateOfBirth, hireDate, departmentId, jobTitle, salary));
     }
 
     public static Employee create(String firstName, String lastName, Email email,
@@ -68,6 +71,90 @@ public class Employee extends AggregateRoot<EmployeeId> {
         return employee;
     }
 
+    /**
+     * Reconstitutes a stored employee together with the date it was last modified.
+     */
+    public static Employee reconstitute(EmployeeId id, String firstName, String lastName, Email email,
+                                       String phoneNumber, LocalDate dateOfBirth, LocalDate hireDate,
+                                       DepartmentId departmentId, String jobTitle, Money salary,
+                                       EmploymentStatus status, LocalDate lastModifiedDate) {
+        Employee employee = reconstitute(id, firstName, lastName, email, phoneNumber,
+                                         dateOfBirth, hireDate, departmentId, jobTitle, salary, status);
+        if (lastModifiedDate != null) {
+            employee.lastModifiedDate = lastModifiedDate;
+        }
+        return employee;
+    }
+
+    /**
+     * Rebuilds an employee from its stored history: the state captured in a snapshot, or {@code null}
+     * to start from the {@link EmployeeCreatedEvent}, followed by the events recorded after it, oldest first.
+     * Events are facts that were validated when they happened, so they are applied without re-checking
+     * the rules, and no new events are registered.
+     */
+    public static Employee replay(Employee snapshot, List<? extends EmployeeDomainEvent> events) {
+        Employee employee = snapshot;
+        for (EmployeeDomainEvent event : events) {
+            if (employee == null) {
+                if (!(event instanceof EmployeeCreatedEvent created)) {
+                    throw new IllegalArgumentException("Employee history must start with EmployeeCreated, not "
+                        + event.getEventType());
+                }
+                employee = reconstitute(created.getEmployeeId(), created.getFirstName(), created.getLastName(),
+                    created.getEmail(), created.getPhoneNumber(), created.getDateOfBirth(), created.getHireDate(),
+                    created.getDepartmentId(), created.getJobTitle(), created.getSalary(), EmploymentStatus.ACTIVE);
+            } else {
+                employee.apply(event);
+            }
+            employee.lastModifiedDate = LocalDate.ofInstant(event.getOccurredOn(), DomainClock.get().getZone());
+        }
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee history is empty");
+        }
+        return employee;
+    }
+
+    /**
+     * Returns a copy of this employee's current state without its pending events, so a store can keep
+     * or hand out an instance that changes made to this one (and later rolled back) never reach.
+     */
+    public Employee copy() {
+        Employee copy = new Employee();
+        copy.id = id;
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+        copy.email = email;
+        copy.phoneNumber = phoneNumber;
+        copy.dateOfBirth = dateOfBirth;
+        copy.hireDate = hireDate;
+        copy.departmentId = departmentId;
+        copy.jobTitle = jobTitle;
+        copy.salary = salary;
+        copy.status = status;
+        copy.lastModifiedDate = lastModifiedDate;
+        copy.setVersion(getVersion());
+        return copy;
+    }
+
+    private void apply(EmployeeDomainEvent event) {
+        switch (event) {
+            case EmployeeUpdatedEvent updated -> {
+                this.firstName = updated.getFirstName();
+                this.lastName = updated.getLastName();
+                this.phoneNumber = updated.getPhoneNumber();
+            }
+            case EmployeeDepartmentChangedEvent changed -> this.departmentId = changed.getNewDepartmentId();
+            case EmployeePromotedEvent promoted -> {
+                this.jobTitle = promoted.getNewJobTitle();
+                this.salary = promoted.getNewSalary();
+            }
+            case SalaryAdjustedEvent adjusted -> this.salary = adjusted.getNewSalary();
+            case EmployeeStatusChangedEvent changed -> this.status = changed.getNewStatus();
+            case EmployeeTerminatedEvent terminated -> this.status = EmploymentStatus.TERMINATED;
+            default -> throw new IllegalArgumentException("Cannot apply " + event.getEventType() + " to an existing employee");
+        }
+    }
+
     // Getters
     public EmployeeId getId() {
         return id;
@@ -128,9 +215,9 @@ public class Employee extends AggregateRoot<EmployeeId> {
         this.firstName = firstName;
         this.lastName = lastName;
         this.phoneNumber = phoneNumber;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
-        registerEvent(new EmployeeUpdatedEvent(this.id));
+        registerEvent(new EmployeeUpdatedEvent(this.id, firstName, lastName, phoneNumber));
     }
 
     public void changeDepartment(DepartmentId newDepartmentId) {
@@ -143,7 +230,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
 
         DepartmentId oldDepartmentId = this.departmentId;
         this.departmentId = newDepartmentId;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         registerEvent(new EmployeeDepartmentChangedEvent(this.id, oldDepartmentId, newDepartmentId));
     }
@@ -157,7 +244,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
         Money oldSalary = this.salary;
         this.jobTitle = newJobTitle;
         this.salary = newSalary;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         registerEvent(new EmployeePromotedEvent(this.id, newJobTitle, oldSalary, newSalary));
     }
@@ -169,7 +256,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
 
         Money oldSalary = this.salary;
         this.salary = newSalary;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         registerEvent(new SalaryAdjustedEvent(this.id, oldSalary, newSalary));
     }
@@ -180,9 +267,9 @@ public class Employee extends AggregateRoot<EmployeeId> {
         }
 
         this.status = EmploymentStatus.TERMINATED;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
-        registerEvent(new EmployeeTerminatedEvent(this.id, reason, LocalDate.now()));
+        registerEvent(new EmployeeTerminatedEvent(this.id, reason, DomainClock.today()));
     }
 
     public void suspend() {
@@ -191,7 +278,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
         }
 
         this.status = EmploymentStatus.SUSPENDED;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         registerEvent(new EmployeeStatusChangedEvent(this.id, EmploymentStatus.ACTIVE, EmploymentStatus.SUSPENDED));
     }
@@ -203,7 +290,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
 
         EmploymentStatus oldStatus = this.status;
         this.status = EmploymentStatus.ACTIVE;
-        this.lastModifiedDate = LocalDate.now();
+        this.lastModifiedDate = DomainClock.today();
 
         registerEvent(new EmployeeStatusChangedEvent(this.id, oldStatus, EmploymentStatus.ACTIVE));
     }
@@ -213,7 +300,7 @@ public class Employee extends AggregateRoot<EmployeeId> {
     }
 
     public int getYearsOfService() {
-        return LocalDate.now().getYear() - hireDate.getYear();
+        return DomainClock.today().getYear() - hireDate.getYear();
     }
 
     public boolean isActive() {
@@ -244,10 +331,10 @@ public class Employee extends AggregateRoot<EmployeeId> {
         if (hireDate == null) {
             throw new IllegalArgumentException("Hire date cannot be null");
         }
-        if (dateOfBirth.isAfter(LocalDate.now())) {
+        if (dateOfBirth.isAfter(DomainClock.today())) {
             throw new IllegalArgumentException("Date of birth cannot be in the future");
         }
-        if (hireDate.isAfter(LocalDate.now())) {
+        if (hireDate.isAfter(DomainClock.today())) {
             throw new IllegalArgumentException("Hire date cannot be in the future");
         }
         if (dateOfBirth.plusYears(18).isAfter(hireDate)) {
@@ -1,26 +1,53 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
  * Domain event fired when a new employee is created.
+ * Carries the complete initial state, so the employee can be rebuilt from its events alone.
  */
-public class EmployeeCreatedEvent implements DomainEvent {
+public class EmployeeCreatedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
+    private final String firstName;
+    private final String lastName;
     private final Email email;
-    private final String fullName;
+    private final String phoneNumber;
+    private final LocalDate dateOfBirth;
+    private final LocalDate hireDate;
+    private final DepartmentId departmentId;
+    private final String jobTitle;
+    private final Money salary;
 
-    public EmployeeCreatedEvent(EmployeeId employeeId, Email email, String fullName) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+    public EmployeeCreatedEvent(EmployeeId employeeId, String firstName, String lastName, Email email,
+                                String phoneNumber, LocalDate dateOfBirth, LocalDate hireDate,
+                                DepartmentId departmentId, String jobTitle, Money salary) {
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, firstName, lastName, email, phoneNumber,
+             dateOfBirth, hireDate, departmentId, jobTitle, salary);
+    }
+
+    public EmployeeCreatedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, String firstName,
+                                String lastName, Email email, String phoneNumber, LocalDate dateOfBirth,
+                                LocalDate hireDate, DepartmentId departmentId, String jobTitle, Money salary) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
         this.email = email;
-        this.fullName = fullName;
+        this.phoneNumber = phoneNumber;
+        this.dateOfBirth = dateOfBirth;
+        this.hireDate = hireDate;
+        this.departmentId = departmentId;
+        this.jobTitle = jobTitle;
+        this.salary = salary;
     }
 
     @Override
@@ -42,11 +69,43 @@ public class EmployeeCreatedEvent implements DomainEvent {
         return employeeId;
     }
 
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
     public Email getEmail() {
         return email;
     }
 
     public String getFullName() {
-        return fullName;
+        return firstName + " " + lastName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public LocalDate getHireDate() {
+        return hireDate;
+    }
+
+    public DepartmentId getDepartmentId() {
+        return departmentId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public Money getSalary() {
+        return salary;
     }
 }
@@ -1,12 +1,13 @@
 package com.hrpayroll.domain.model.employee;
 
 import com.hrpayroll.domain.model.department.DepartmentId;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class EmployeeDepartmentChangedEvent implements DomainEvent {
+public class EmployeeDepartmentChangedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
@@ -14,8 +15,12 @@ public class EmployeeDepartmentChangedEvent implements DomainEvent {
     private final DepartmentId newDepartmentId;
 
     public EmployeeDepartmentChangedEvent(EmployeeId employeeId, DepartmentId oldDepartmentId, DepartmentId newDepartmentId) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, oldDepartmentId, newDepartmentId);
+    }
+
+    public EmployeeDepartmentChangedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, DepartmentId oldDepartmentId, DepartmentId newDepartmentId) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
         this.oldDepartmentId = oldDepartmentId;
         this.newDepartmentId = newDepartmentId;
@@ -36,4 +41,16 @@ public class EmployeeDepartmentChangedEvent implements DomainEvent {
     public String getEventType() {
         return "EmployeeDepartmentChanged";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public DepartmentId getOldDepartmentId() {
+        return oldDepartmentId;
+    }
+
+    public DepartmentId getNewDepartmentId() {
+        return newDepartmentId;
+    }
 }
@@ -0,0 +1,10 @@
+package com.hrpayroll.domain.model.employee;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+
+/**
+ * Domain event raised by the Employee aggregate, identifying the employee it concerns.
+ */
+public interface EmployeeDomainEvent extends DomainEvent {
+    EmployeeId getEmployeeId();
+}
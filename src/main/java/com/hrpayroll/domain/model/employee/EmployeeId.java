@@ -1,5 +1,6 @@
 package com.hrpayroll.domain.model.employee;
 
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 import com.hrpayroll.domain.shared.ValueObject;
 
 import java.util.Objects;
@@ -7,8 +8,9 @@ import java.util.UUID;
 
 /**
  * Value object representing a unique employee identifier.
+ * Generated ids are time-ordered ({@link TimeOrderedUuid}), so they sort by creation time.
  */
-public class EmployeeId implements ValueObject {
+public class EmployeeId implements ValueObject, Comparable<EmployeeId> {
     private final UUID value;
 
     private EmployeeId(UUID value) {
@@ -27,13 +29,18 @@ public class EmployeeId implements ValueObject {
     }
 
     public static EmployeeId generate() {
-        return new EmployeeId(UUID.randomUUID());
+        return new EmployeeId(TimeOrderedUuid.next());
     }
 
     public static EmployeeId fromString(String value) {
         return new EmployeeId(UUID.fromString(value));
     }
 
+    @Override
+    public int compareTo(EmployeeId other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
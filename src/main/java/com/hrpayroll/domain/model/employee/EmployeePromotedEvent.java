@@ -1,11 +1,12 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class EmployeePromotedEvent implements DomainEvent {
+public class EmployeePromotedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
@@ -14,8 +15,12 @@ public class EmployeePromotedEvent implements DomainEvent {
     private final Money newSalary;
 
     public EmployeePromotedEvent(EmployeeId employeeId, String newJobTitle, Money oldSalary, Money newSalary) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, newJobTitle, oldSalary, newSalary);
+    }
+
+    public EmployeePromotedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, String newJobTitle, Money oldSalary, Money newSalary) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
         this.newJobTitle = newJobTitle;
         this.oldSalary = oldSalary;
@@ -37,4 +42,20 @@ public class EmployeePromotedEvent implements DomainEvent {
     public String getEventType() {
         return "EmployeePromoted";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getNewJobTitle() {
+        return newJobTitle;
+    }
+
+    public Money getOldSalary() {
+        return oldSalary;
+    }
+
+    public Money getNewSalary() {
+        return newSalary;
+    }
 }
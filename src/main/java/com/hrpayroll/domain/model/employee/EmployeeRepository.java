@@ -2,8 +2,11 @@ package com.hrpayroll.domain.model.employee;
 
 import com.hrpayroll.domain.model.department.DepartmentId;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Employee aggregate (Domain layer).
@@ -13,6 +16,14 @@ public interface EmployeeRepository {
 
     Employee save(Employee employee);
 
+    /**
+     * Saves many aggregates at once. Implementations backed by a database write them in batches, in one
+     * transaction; others save them one by one, so when they fail some of the aggregates may be saved.
+     */
+    default List<Employee> saveAll(Collection<Employee> employees) {
+        return employees.stream().map(this::save).toList();
+    }
+
     Optional<Employee> findById(EmployeeId id);
 
     Optional<Employee> findByEmail(Email email);
@@ -23,7 +34,28 @@ public interface EmployeeRepository {
 
     List<Employee> findByStatus(EmploymentStatus status);
 
+    /**
+     * Keyset pagination: returns up to {@code limit} employees ordered by id, strictly after {@code after}
+     * ({@code null} for the first page), optionally filtered by status and department ({@code null} for any).
+     * The cost of a page does not depend on how far into the listing it is.
+     */
+    List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit);
+
     void delete(EmployeeId id);
 
     boolean existsByEmail(Email email);
+
+    /**
+     * Bulk form of {@link #existsByEmail}: returns the given emails that already belong to an employee.
+     * Implementations backed by a database answer with a single query.
+     */
+    default Set<Email> findExistingEmails(Collection<Email> emails) {
+        Set<Email> existing = new HashSet<>();
+        for (Email email : emails) {
+            if (existsByEmail(email)) {
+                existing.add(email);
+            }
+        }
+        return existing;
+    }
 }
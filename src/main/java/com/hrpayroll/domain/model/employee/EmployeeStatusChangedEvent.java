@@ -1,11 +1,12 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class EmployeeStatusChangedEvent implements DomainEvent {
+public class EmployeeStatusChangedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
@@ -13,8 +14,12 @@ public class EmployeeStatusChangedEvent implements DomainEvent {
     private final EmploymentStatus newStatus;
 
     public EmployeeStatusChangedEvent(EmployeeId employeeId, EmploymentStatus oldStatus, EmploymentStatus newStatus) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, oldStatus, newStatus);
+    }
+
+    public EmployeeStatusChangedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, EmploymentStatus oldStatus, EmploymentStatus newStatus) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
         this.oldStatus = oldStatus;
         this.newStatus = newStatus;
@@ -35,4 +40,16 @@ public class EmployeeStatusChangedEvent implements DomainEvent {
     public String getEventType() {
         return "EmployeeStatusChanged";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public EmploymentStatus getOldStatus() {
+        return oldStatus;
+    }
+
+    public EmploymentStatus getNewStatus() {
+        return newStatus;
+    }
 }
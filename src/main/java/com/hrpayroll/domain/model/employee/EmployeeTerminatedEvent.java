@@ -1,12 +1,13 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
-public class EmployeeTerminatedEvent implements DomainEvent {
+public class EmployeeTerminatedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
@@ -14,8 +15,12 @@ public class EmployeeTerminatedEvent implements DomainEvent {
     private final LocalDate terminationDate;
 
     public EmployeeTerminatedEvent(EmployeeId employeeId, String reason, LocalDate terminationDate) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, reason, terminationDate);
+    }
+
+    public EmployeeTerminatedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, String reason, LocalDate terminationDate) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
         this.reason = reason;
         this.terminationDate = terminationDate;
@@ -36,4 +41,16 @@ public class EmployeeTerminatedEvent implements DomainEvent {
     public String getEventType() {
         return "EmployeeTerminated";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDate getTerminationDate() {
+        return terminationDate;
+    }
 }
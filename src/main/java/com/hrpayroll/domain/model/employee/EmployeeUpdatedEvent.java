@@ -1,19 +1,31 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class EmployeeUpdatedEvent implements DomainEvent {
+public class EmployeeUpdatedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final String phoneNumber;
 
-    public EmployeeUpdatedEvent(EmployeeId employeeId) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+    public EmployeeUpdatedEvent(EmployeeId employeeId, String firstName, String lastName, String phoneNumber) {
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, firstName, lastName, phoneNumber);
+    }
+
+    public EmployeeUpdatedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId,
+                                String firstName, String lastName, String phoneNumber) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
     }
 
 
@@ -31,4 +43,20 @@ public class EmployeeUpdatedEvent implements DomainEvent {
     public String getEventType() {
         return "EmployeeUpdated";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
 }
@@ -3,16 +3,25 @@ package com.hrpayroll.domain.model.employee;
 import com.hrpayroll.domain.shared.ValueObject;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Currency;
 import java.util.Objects;
 
 /**
  * Value object representing monetary amount with currency.
+ * Amounts are held at a fixed scale of 2. Any amount whose minor units fit in a {@code long}
+ * is stored compactly and added, subtracted and compared with primitive arithmetic;
+ * the {@link BigDecimal} view is only materialised when asked for. Larger amounts fall back
+ * to {@link BigDecimal} transparently, so both representations are equal for equal amounts.
  */
 public class Money implements ValueObject, Comparable<Money> {
-    private final BigDecimal amount;
+    static final int SCALE = 2;
+
     private final Currency currency;
+    private final boolean compact;
+    private final long minorUnits;
+    private BigDecimal amount;
 
     private Money(BigDecimal amount, Currency currency) {
         if (amount == null) {
@@ -21,11 +30,27 @@ public class Money implements ValueObject, Comparable<Money> {
         if (currency == null) {
             throw new IllegalArgumentException("Currency cannot be null");
         }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        BigDecimal scaled = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        BigInteger unscaled = scaled.unscaledValue();
+        this.amount = scaled;
+        this.currency = currency;
+        this.compact = unscaled.bitLength() < Long.SIZE;
+        this.minorUnits = compact ? unscaled.longValue() : 0L;
+    }
+
+    private Money(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        if (minorUnits < 0) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
         this.currency = currency;
+        this.compact = true;
+        this.minorUnits = minorUnits;
     }
 
     public static Money of(BigDecimal amount, Currency currency) {
@@ -36,44 +61,80 @@ public class Money implements ValueObject, Comparable<Money> {
         return new Money(BigDecimal.valueOf(amount), Currency.getInstance(currencyCode));
     }
 
+    /**
+     * Creates money from an amount in minor units (hundredths), e.g. {@code ofMinor(1050, USD)} is 10.50 USD.
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
     public static Money zero(Currency currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return new Money(0L, currency);
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal result = amount;
+        if (result == null) {
+            result = BigDecimal.valueOf(minorUnits, SCALE);
+            amount = result;
+        }
+        return result;
     }
 
     public Currency getCurrency() {
         return currency;
     }
 
+    /**
+     * Returns the amount in minor units (hundredths).
+     *
+     * @throws ArithmeticException if the amount does not fit in a {@code long}
+     */
+    public long toMinorUnits() {
+        if (!compact) {
+            throw new ArithmeticException("Amount " + amount + " does not fit in minor units");
+        }
+        return minorUnits;
+    }
+
+    boolean isCompact() {
+        return compact;
+    }
+
     public Money add(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot add money with different currencies");
         }
-        return new Money(this.amount.add(other.amount), this.currency);
+        if (this.compact && other.compact) {
+            long sum = this.minorUnits + other.minorUnits;
+            // Both operands are non-negative, so overflow shows up as a negative sum
+            if (sum >= 0) {
+                return new Money(sum, this.currency);
+            }
+        }
+        return new Money(this.getAmount().add(other.getAmount()), this.currency);
     }
 
     public Money subtract(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot subtract money with different currencies");
         }
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        if (this.compact && other.compact) {
+            return new Money(this.minorUnits - other.minorUnits, this.currency);
+        }
+        return new Money(this.getAmount().subtract(other.getAmount()), this.currency);
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier), this.currency);
+        return new Money(this.getAmount().multiply(multiplier), this.currency);
     }
 
     public boolean isGreaterThan(Money other) {
-        ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     public boolean isLessThan(Money other) {
-        ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return compareTo(other) < 0;
     }
 
     private void ensureSameCurrency(Money other) {
@@ -85,7 +146,10 @@ public class Money implements ValueObject, Comparable<Money> {
     @Override
     public int compareTo(Money other) {
         ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount);
+        if (this.compact && other.compact) {
+            return Long.compare(this.minorUnits, other.minorUnits);
+        }
+        return this.getAmount().compareTo(other.getAmount());
     }
 
     @Override
@@ -93,16 +157,20 @@ public class Money implements ValueObject, Comparable<Money> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount) && Objects.equals(currency, money.currency);
+        if (compact != money.compact || !Objects.equals(currency, money.currency)) {
+            return false;
+        }
+        return compact ? minorUnits == money.minorUnits : amount.equals(money.amount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        int amountHash = compact ? Long.hashCode(minorUnits) : amount.hashCode();
+        return 31 * amountHash + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency.getCurrencyCode();
+        return getAmount() + " " + currency.getCurrencyCode();
     }
 }
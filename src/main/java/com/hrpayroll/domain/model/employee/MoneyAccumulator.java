@@ -0,0 +1,105 @@
+package com.hrpayroll.domain.model.employee;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Mutable running total of {@link Money} amounts in a single currency.
+ * Sums in {@code long} minor units without allocating intermediate {@link Money} objects,
+ * and switches to {@link BigDecimal} if the running total would overflow.
+ * The running total may go negative; {@link #total()} rejects a negative result like {@link Money} does.
+ * Not thread-safe: use one accumulator per thread and {@link #merge} them.
+ */
+public final class MoneyAccumulator {
+    private final Currency currency;
+    private long minorUnits;
+    private BigDecimal overflow;
+
+    private MoneyAccumulator(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        this.currency = currency;
+    }
+
+    public static MoneyAccumulator of(Currency currency) {
+        return new MoneyAccumulator(currency);
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public MoneyAccumulator add(Money money) {
+        ensureSameCurrency(money.getCurrency());
+        if (money.isCompact()) {
+            return addMinorUnits(money.toMinorUnits());
+        }
+        overflow = runningTotal().add(money.getAmount());
+        return this;
+    }
+
+    public MoneyAccumulator subtract(Money money) {
+        ensureSameCurrency(money.getCurrency());
+        if (money.isCompact()) {
+            return addMinorUnits(-money.toMinorUnits());
+        }
+        overflow = runningTotal().subtract(money.getAmount());
+        return this;
+    }
+
+    public MoneyAccumulator addMinorUnits(long amount) {
+        if (overflow != null) {
+            overflow = overflow.add(BigDecimal.valueOf(amount, Money.SCALE));
+            return this;
+        }
+        long sum = minorUnits + amount;
+        // Overflow iff both operands have the same sign and the result's sign differs
+        if (((minorUnits ^ sum) & (amount ^ sum)) < 0) {
+            overflow = BigDecimal.valueOf(minorUnits, Money.SCALE).add(BigDecimal.valueOf(amount, Money.SCALE));
+        } else {
+            minorUnits = sum;
+        }
+        return this;
+    }
+
+    public MoneyAccumulator merge(MoneyAccumulator other) {
+        ensureSameCurrency(other.currency);
+        if (other.overflow == null) {
+            return addMinorUnits(other.minorUnits);
+        }
+        overflow = runningTotal().add(other.overflow);
+        return this;
+    }
+
+    /**
+     * Returns the running total in minor units.
+     *
+     * @throws ArithmeticException if the total does not fit in a {@code long}
+     */
+    public long totalMinorUnits() {
+        if (overflow != null) {
+            return overflow.unscaledValue().longValueExact();
+        }
+        return minorUnits;
+    }
+
+    public Money total() {
+        return overflow != null ? Money.of(overflow, currency) : Money.ofMinor(minorUnits, currency);
+    }
+
+    public void reset() {
+        minorUnits = 0;
+        overflow = null;
+    }
+
+    private BigDecimal runningTotal() {
+        return overflow != null ? overflow : BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+
+    private void ensureSameCurrency(Currency other) {
+        if (!currency.equals(other)) {
+            throw new IllegalArgumentException("Cannot accumulate money with different currencies");
+        }
+    }
+}
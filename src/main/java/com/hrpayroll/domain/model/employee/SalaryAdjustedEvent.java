@@ -1,11 +1,12 @@
 package com.hrpayroll.domain.model.employee;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class SalaryAdjustedEvent implements DomainEvent {
+public class SalaryAdjustedEvent implements EmployeeDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final EmployeeId employeeId;
@@ -13,8 +14,12 @@ public class SalaryAdjustedEvent implements DomainEvent {
     private final Money newSalary;
 
     public SalaryAdjustedEvent(EmployeeId employeeId, Money oldSalary, Money newSalary) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), employeeId, oldSalary, newSalary);
+    }
+
+    public SalaryAdjustedEvent(UUID eventId, Instant occurredOn, EmployeeId employeeId, Money oldSalary, Money newSalary) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.employeeId = employeeId;
         this.oldSalary = oldSalary;
         this.newSalary = newSalary;
@@ -35,4 +40,16 @@ public class SalaryAdjustedEvent implements DomainEvent {
     public String getEventType() {
         return "SalaryAdjusted";
     }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public Money getOldSalary() {
+        return oldSalary;
+    }
+
+    public Money getNewSalary() {
+        return newSalary;
+    }
 }
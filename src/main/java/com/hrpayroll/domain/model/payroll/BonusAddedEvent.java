@@ -1,20 +1,25 @@
 package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.Money;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class BonusAddedEvent implements DomainEvent {
+public class BonusAddedEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
     private final Money bonusAmount;
 
     public BonusAddedEvent(PayrollId payrollId, Money bonusAmount) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, bonusAmount);
+    }
+
+    public BonusAddedEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, Money bonusAmount) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.bonusAmount = bonusAmount;
     }
@@ -34,4 +39,12 @@ public class BonusAddedEvent implements DomainEvent {
     public String getEventType() {
         return "BonusAdded";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public Money getBonusAmount() {
+        return bonusAmount;
+    }
 }
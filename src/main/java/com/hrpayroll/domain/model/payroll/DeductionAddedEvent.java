@@ -1,12 +1,13 @@
 package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.Money;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class DeductionAddedEvent implements DomainEvent {
+public class DeductionAddedEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
@@ -14,8 +15,12 @@ public class DeductionAddedEvent implements DomainEvent {
     private final String reason;
 
     public DeductionAddedEvent(PayrollId payrollId, Money deductionAmount, String reason) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, deductionAmount, reason);
+    }
+
+    public DeductionAddedEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, Money deductionAmount, String reason) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.deductionAmount = deductionAmount;
         this.reason = reason;
@@ -36,4 +41,16 @@ public class DeductionAddedEvent implements DomainEvent {
     public String getEventType() {
         return "DeductionAdded";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public Money getDeductionAmount() {
+        return deductionAmount;
+    }
+
+    public String getReason() {
+        return reason;
+    }
 }
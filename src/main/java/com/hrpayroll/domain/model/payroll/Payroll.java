@@ -2,7 +2,9 @@ package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.EmployeeId;
 import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.MoneyAccumulator;
 import com.hrpayroll.domain.shared.AggregateRoot;
+import com.hrpayroll.domain.shared.DomainClock;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -37,13 +39,27 @@ public class Payroll extends AggregateRoot<PayrollId> {
         this.netPay = baseSalary;
         this.status = PayrollStatus.PENDING;
 
-        registerEvent(new PayrollCreatedEvent(id, employeeId, payPeriod));
+        registerEvent(new PayrollCreatedEvent(id, employeeId, payPeriod, baseSalary));
     }
 
     public static Payroll create(EmployeeId employeeId, YearMonth payPeriod, Money baseSalary) {
         return new Payroll(PayrollId.generate(), employeeId, payPeriod, baseSalary);
     }
 
+    public static Payroll reconstitute(PayrollId id, EmployeeId employeeId, YearMonth payPeriod,
+                                       Money baseSalary, Money bonus, Money deductions, Money netPay,
+                                       PayrollStatus status, LocalDate processedDate, LocalDate paidDate) {
+        Payroll payroll = new Payroll(id, employeeId, payPeriod, baseSalary);
+        payroll.bonus = bonus;
+        payroll.deductions = deductions;
+        payroll.netPay = netPay;
+        payroll.status = status;
+        payroll.processedDate = processedDate;
+        payroll.paidDate = paidDate;
+        payroll.clearDomainEvents(); // Don't fire events when reconstituting
+        return payroll;
+    }
+
     // Getters
     public PayrollId getId() {
         return id;
@@ -111,7 +127,7 @@ public class Payroll extends AggregateRoot<PayrollId> {
         }
 
         this.status = PayrollStatus.PROCESSED;
-        this.processedDate = LocalDate.now();
+        this.processedDate = DomainClock.today();
 
         registerEvent(new PayrollProcessedEvent(this.id, this.employeeId, this.netPay));
     }
@@ -122,7 +138,7 @@ public class Payroll extends AggregateRoot<PayrollId> {
         }
 
         this.status = PayrollStatus.PAID;
-        this.paidDate = LocalDate.now();
+        this.paidDate = DomainClock.today();
 
         registerEvent(new PayrollPaidEvent(this.id, this.employeeId, this.netPay, this.paidDate));
     }
@@ -138,9 +154,11 @@ public class Payroll extends AggregateRoot<PayrollId> {
     }
 
     private void recalculateNetPay() {
-        this.netPay = this.baseSalary
+        this.netPay = MoneyAccumulator.of(this.baseSalary.getCurrency())
+                .add(this.baseSalary)
                 .add(this.bonus)
-                .subtract(this.deductions);
+                .subtract(this.deductions)
+                .total();
     }
 
     private void ensureNotFinalized() {
@@ -1,19 +1,25 @@
 package com.hrpayroll.domain.model.payroll;
 
-import com.hrpayroll.domain.shared.DomainEvent;
+
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class PayrollCancelledEvent implements DomainEvent {
+public class PayrollCancelledEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
     private final String reason;
 
     public PayrollCancelledEvent(PayrollId payrollId, String reason) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, reason);
+    }
+
+    public PayrollCancelledEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, String reason) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.reason = reason;
     }
@@ -33,4 +39,12 @@ public class PayrollCancelledEvent implements DomainEvent {
     public String getEventType() {
         return "PayrollCancelled";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
 }
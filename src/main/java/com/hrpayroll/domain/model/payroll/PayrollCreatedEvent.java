@@ -1,25 +1,33 @@
 package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.EmployeeId;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.time.YearMonth;
 import java.util.UUID;
 
-public class PayrollCreatedEvent implements DomainEvent {
+public class PayrollCreatedEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
     private final EmployeeId employeeId;
     private final YearMonth payPeriod;
+    private final Money baseSalary;
 
-    public PayrollCreatedEvent(PayrollId payrollId, EmployeeId employeeId, YearMonth payPeriod) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+    public PayrollCreatedEvent(PayrollId payrollId, EmployeeId employeeId, YearMonth payPeriod, Money baseSalary) {
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, employeeId, payPeriod, baseSalary);
+    }
+
+    public PayrollCreatedEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, EmployeeId employeeId, YearMonth payPeriod, Money baseSalary) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.employeeId = employeeId;
         this.payPeriod = payPeriod;
+        this.baseSalary = baseSalary;
     }
 
 
@@ -37,4 +45,20 @@ public class PayrollCreatedEvent implements DomainEvent {
     public String getEventType() {
         return "PayrollCreated";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public YearMonth getPayPeriod() {
+        return payPeriod;
+    }
+
+    public Money getBaseSalary() {
+        return baseSalary;
+    }
 }
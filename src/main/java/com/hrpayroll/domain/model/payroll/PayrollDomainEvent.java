@@ -0,0 +1,10 @@
+package com.hrpayroll.domain.model.payroll;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+
+/**
+ * Domain event raised by the Payroll aggregate, identifying the payroll it concerns.
+ */
+public interface PayrollDomainEvent extends DomainEvent {
+    PayrollId getPayrollId();
+}
@@ -1,11 +1,12 @@
 package com.hrpayroll.domain.model.payroll;
 
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 import com.hrpayroll.domain.shared.ValueObject;
 
 import java.util.Objects;
 import java.util.UUID;
 
-public class PayrollId implements ValueObject {
+public class PayrollId implements ValueObject, Comparable<PayrollId> {
     private final UUID value;
 
     private PayrollId(UUID value) {
@@ -24,13 +25,18 @@ public class PayrollId implements ValueObject {
     }
 
     public static PayrollId generate() {
-        return new PayrollId(UUID.randomUUID());
+        return new PayrollId(TimeOrderedUuid.next());
     }
 
     public static PayrollId fromString(String value) {
         return new PayrollId(UUID.fromString(value));
     }
 
+    @Override
+    public int compareTo(PayrollId other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
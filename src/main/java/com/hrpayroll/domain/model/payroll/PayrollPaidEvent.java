@@ -2,13 +2,14 @@ package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.EmployeeId;
 import com.hrpayroll.domain.model.employee.Money;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
-public class PayrollPaidEvent implements DomainEvent {
+public class PayrollPaidEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
@@ -17,8 +18,12 @@ public class PayrollPaidEvent implements DomainEvent {
     private final LocalDate paidDate;
 
     public PayrollPaidEvent(PayrollId payrollId, EmployeeId employeeId, Money amount, LocalDate paidDate) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, employeeId, amount, paidDate);
+    }
+
+    public PayrollPaidEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, EmployeeId employeeId, Money amount, LocalDate paidDate) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.employeeId = employeeId;
         this.amount = amount;
@@ -40,4 +45,20 @@ public class PayrollPaidEvent implements DomainEvent {
     public String getEventType() {
         return "PayrollPaid";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public LocalDate getPaidDate() {
+        return paidDate;
+    }
 }
@@ -2,12 +2,13 @@ package com.hrpayroll.domain.model.payroll;
 
 import com.hrpayroll.domain.model.employee.EmployeeId;
 import com.hrpayroll.domain.model.employee.Money;
-import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public class PayrollProcessedEvent implements DomainEvent {
+public class PayrollProcessedEvent implements PayrollDomainEvent {
     private final UUID eventId;
     private final Instant occurredOn;
     private final PayrollId payrollId;
@@ -15,8 +16,12 @@ public class PayrollProcessedEvent implements DomainEvent {
     private final Money netPay;
 
     public PayrollProcessedEvent(PayrollId payrollId, EmployeeId employeeId, Money netPay) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        this(TimeOrderedUuid.next(), DomainClock.now(), payrollId, employeeId, netPay);
+    }
+
+    public PayrollProcessedEvent(UUID eventId, Instant occurredOn, PayrollId payrollId, EmployeeId employeeId, Money netPay) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.payrollId = payrollId;
         this.employeeId = employeeId;
         this.netPay = netPay;
@@ -37,4 +42,16 @@ public class PayrollProcessedEvent implements DomainEvent {
     public String getEventType() {
         return "PayrollProcessed";
     }
+
+    public PayrollId getPayrollId() {
+        return payrollId;
+    }
+
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
+    public Money getNetPay() {
+        return netPay;
+    }
 }
@@ -3,8 +3,11 @@ package com.hrpayroll.domain.model.payroll;
 import com.hrpayroll.domain.model.employee.EmployeeId;
 
 import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Payroll aggregate (Domain layer).
@@ -13,17 +16,44 @@ public interface PayrollRepository {
 
     Payroll save(Payroll payroll);
 
+    /**
+     * Saves many aggregates at once. Implementations backed by a database write them in batches.
+     */
+    default List<Payroll> saveAll(Collection<Payroll> payrolls) {
+        return payrolls.stream().map(this::save).toList();
+    }
+
     Optional<Payroll> findById(PayrollId id);
 
     List<Payroll> findByEmployeeId(EmployeeId employeeId);
 
     Optional<Payroll> findByEmployeeIdAndPayPeriod(EmployeeId employeeId, YearMonth payPeriod);
 
+    /**
+     * Bulk form of {@link #findByEmployeeIdAndPayPeriod}: returns the given employees that already have a
+     * payroll for the period. Implementations backed by a database answer with a single query.
+     */
+    default Set<EmployeeId> findEmployeesWithPayroll(YearMonth payPeriod, Collection<EmployeeId> employeeIds) {
+        Set<EmployeeId> existing = new HashSet<>();
+        for (EmployeeId employeeId : employeeIds) {
+            if (findByEmployeeIdAndPayPeriod(employeeId, payPeriod).isPresent()) {
+                existing.add(employeeId);
+            }
+        }
+        return existing;
+    }
+
     List<Payroll> findByStatus(PayrollStatus status);
 
     List<Payroll> findByPayPeriod(YearMonth payPeriod);
 
     List<Payroll> findAll();
 
+    /**
+     * Keyset pagination: returns up to {@code limit} payrolls ordered by id, strictly after {@code after}
+     * ({@code null} for the first page), so every payroll can be read without loading them all at once.
+     */
+    List<Payroll> findPage(PayrollId after, int limit);
+
     void delete(PayrollId id);
 }
@@ -0,0 +1,17 @@
+package com.hrpayroll.domain.model.payroll;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Read-side port for payroll reporting (Domain layer).
+ * Implementations compute the totals where the payrolls are stored instead of loading {@link Payroll} aggregates.
+ */
+public interface PayrollSummaryQuery {
+
+    /**
+     * Totals of every payroll in the pay period, grouped by the employee's current department,
+     * payroll status and currency, in no particular order.
+     */
+    List<PayrollTotals> summarize(YearMonth payPeriod);
+}
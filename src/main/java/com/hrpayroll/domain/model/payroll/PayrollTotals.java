@@ -0,0 +1,107 @@
+package com.hrpayroll.domain.model.payroll;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Money;
+
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Summed amounts of the payrolls in one pay period that share a department, status and currency.
+ * Gross pay is base salary plus bonus; net pay is gross pay less deductions.
+ * The department is null for payrolls of employees without one.
+ */
+public final class PayrollTotals {
+    private final DepartmentId departmentId;
+    private final PayrollStatus status;
+    private final Currency currency;
+    private final long payrollCount;
+    private final Money baseSalary;
+    private final Money bonus;
+    private final Money deductions;
+    private final Money netPay;
+
+    public PayrollTotals(DepartmentId departmentId, PayrollStatus status, long payrollCount,
+                         Money baseSalary, Money bonus, Money deductions, Money netPay) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (baseSalary == null || bonus == null || deductions == null || netPay == null) {
+            throw new IllegalArgumentException("Amounts cannot be null");
+        }
+        Currency currency = baseSalary.getCurrency();
+        if (!currency.equals(bonus.getCurrency()) || !currency.equals(deductions.getCurrency())
+                || !currency.equals(netPay.getCurrency())) {
+            throw new IllegalArgumentException("All amounts must share the base salary currency");
+        }
+        this.departmentId = departmentId;
+        this.status = status;
+        this.currency = currency;
+        this.payrollCount = payrollCount;
+        this.baseSalary = baseSalary;
+        this.bonus = bonus;
+        this.deductions = deductions;
+        this.netPay = netPay;
+    }
+
+    public DepartmentId getDepartmentId() {
+        return departmentId;
+    }
+
+    public PayrollStatus getStatus() {
+        return status;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public long getPayrollCount() {
+        return payrollCount;
+    }
+
+    public Money getBaseSalary() {
+        return baseSalary;
+    }
+
+    public Money getBonus() {
+        return bonus;
+    }
+
+    public Money getGrossPay() {
+        return baseSalary.add(bonus);
+    }
+
+    public Money getDeductions() {
+        return deductions;
+    }
+
+    public Money getNetPay() {
+        return netPay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PayrollTotals that = (PayrollTotals) o;
+        return payrollCount == that.payrollCount
+            && Objects.equals(departmentId, that.departmentId)
+            && status == that.status
+            && baseSalary.equals(that.baseSalary)
+            && bonus.equals(that.bonus)
+            && deductions.equals(that.deductions)
+            && netPay.equals(that.netPay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(departmentId, status, payrollCount, baseSalary, bonus, deductions, netPay);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollTotals{departmentId=" + departmentId + ", status=" + status + ", payrollCount=" + payrollCount
+            + ", baseSalary=" + baseSalary + ", bonus=" + bonus + ", deductions=" + deductions + ", netPay=" + netPay + "}";
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
  */
 public abstract class AggregateRoot<ID> {
     private final List<DomainEvent> domainEvents = new ArrayList<>();
+    private long version;
 
     protected void registerEvent(DomainEvent event) {
         domainEvents.add(event);
@@ -24,4 +25,16 @@ public abstract class AggregateRoot<ID> {
     }
 
     public abstract ID getId();
+
+    /**
+     * Version of the stored aggregate this instance was loaded from or last saved as, {@code 0} if never
+     * stored. Repositories set it, and reject saving an instance whose stored copy has moved on since.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,46 @@
+package com.hrpayroll.domain.shared;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The clock domain objects read the current time from: event timestamps and the dates aggregates record
+ * on creation and state changes. It is the system clock in the default time zone unless replaced,
+ * e.g. by a test that needs fixed or advancing time; replacing it affects every thread.
+ */
+public final class DomainClock {
+
+    private static final Clock SYSTEM = Clock.systemDefaultZone();
+
+    private static volatile Clock clock = SYSTEM;
+
+    private DomainClock() {
+    }
+
+    public static Instant now() {
+        return clock.instant();
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public static Clock get() {
+        return clock;
+    }
+
+    public static void set(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        DomainClock.clock = clock;
+    }
+
+    /**
+     * Restores the system clock.
+     */
+    public static void reset() {
+        clock = SYSTEM;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hrpayroll.domain.shared;
+
+import java.util.List;
+
+/**
+ * Reacts to committed domain events of one type, outside the request that raised them.
+ * Events arrive in batches, in the order they were raised for any one aggregate;
+ * events of different aggregates may be handled concurrently by separate calls.
+ * A handler that throws loses the batch, so it should retry or tolerate gaps itself.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * The events delivered to this subscriber, including their subtypes.
+     */
+    Class<E> getEventType();
+
+    void handle(List<E> events);
+}
@@ -0,0 +1,66 @@
+package com.hrpayroll.domain.shared;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates version 7 UUIDs (RFC 9562): 48 bits of Unix epoch milliseconds, then the version, a 22-bit
+ * sequence (the 12 bits after the version and the first 10 after the variant) and 52 random bits.
+ * Ids generated later sort after earlier ones, as UUIDs and byte-wise as database {@code uuid} columns,
+ * so new keys land at the right edge of a B-tree index instead of on random pages across it.
+ * Each thread keeps its own last timestamp and sequence and draws from {@link ThreadLocalRandom},
+ * so generation neither locks nor contends on a shared {@code SecureRandom}. Within a thread ids are
+ * strictly increasing: the sequence is seeded randomly each millisecond and counts up, leaving room for
+ * at least two million ids per millisecond; past that the timestamp is advanced ahead of the clock until
+ * the clock catches up. Across threads, ids from the same millisecond are told apart by their random bits.
+ * The random bits are not cryptographically strong, so these ids identify records but must not be used
+ * as secrets.
+ */
+public final class TimeOrderedUuid {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final int SEQUENCE_BITS_AFTER_VARIANT = 10;
+    private static final int SEQUENCE_MASK = 0x3F_FFFF;
+    private static final int SEQUENCE_SEED_MASK = 0x1F_FFFF;
+    private static final long RANDOM_MASK = 0x000F_FFFF_FFFF_FFFFL;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.millis) {
+            state.millis = now;
+            // Seeded in the lower half so a busy millisecond has room to count up
+            state.sequence = ThreadLocalRandom.current().nextInt() & SEQUENCE_SEED_MASK;
+        } else if (++state.sequence > SEQUENCE_MASK) {
+            state.millis++;
+            state.sequence = 0;
+        }
+        long sequence = state.sequence;
+        long mostSignificant = state.millis << 16 | VERSION | sequence >>> SEQUENCE_BITS_AFTER_VARIANT;
+        long leastSignificant = VARIANT
+            | (sequence & (1 << SEQUENCE_BITS_AFTER_VARIANT) - 1) << 52
+            | ThreadLocalRandom.current().nextLong() & RANDOM_MASK;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * The Unix epoch milliseconds a version 7 UUID was generated at.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private int sequence;
+    }
+}
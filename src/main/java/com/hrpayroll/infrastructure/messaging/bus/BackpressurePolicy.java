@@ -0,0 +1,25 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+/**
+ * What the {@link DomainEventBus} does with an event whose subscriber lane is full.
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Wait for the subscriber to make room, slowing down the thread that committed the event.
+     * A publisher still waiting when the bus closes gives up and the event is counted as dropped.
+     */
+    BLOCK,
+
+    /**
+     * Discard the event and count it as dropped; for subscribers that tolerate gaps, such as notifications.
+     */
+    DROP,
+
+    /**
+     * Write the event, and every later one until the subscriber catches up, to a local spill file
+     * that the subscriber reads back in order. Spilled events do not survive a restart. An event that
+     * cannot be written, e.g. because the disk is full, is dropped and counted like with {@link #DROP}.
+     */
+    SPILL
+}
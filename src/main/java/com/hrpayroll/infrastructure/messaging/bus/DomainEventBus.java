@@ -0,0 +1,373 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+import com.hrpayroll.domain.model.department.DepartmentDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainEventSubscriber;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ClassUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers committed domain events to every {@link DomainEventSubscriber} on background threads, so
+ * subscribers such as cache invalidation, notifications or projections never run inside the request
+ * that raised the events. Each subscriber has its own lanes: bounded queues, each drained in batches
+ * by one worker thread. An event goes to the lane picked by its aggregate id, so a subscriber sees the
+ * events of one aggregate in the order they were raised while different aggregates are handled in parallel.
+ * When a lane is full its {@link BackpressurePolicy} blocks the publisher, drops the event or spills it to disk.
+ * <p>
+ * Delivery is at most once: a handler that throws loses its batch, events published once the bus is
+ * closing are dropped, also from publishers waiting on a full lane, and events still queued when the
+ * shutdown grace period ends are lost. The outbox remains the durable path for events.
+ * Metrics are tagged by subscriber: {@code events.bus.queue.depth} (queued and spilled events),
+ * {@code events.bus.handler.duration} (per batch), {@code events.bus.lag} (event occurrence to handling)
+ * and {@code events.bus.events} (by result: handled, failed or dropped).
+ */
+public class DomainEventBus implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_GRACE_MILLIS = 5_000;
+
+    private final List<Subscription<?>> subscriptions;
+
+    public DomainEventBus(List<? extends DomainEventSubscriber<?>> subscribers, EventBusSettings settings,
+                          MeterRegistry meterRegistry) {
+        BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+        List<Subscription<?>> created = new ArrayList<>(subscribers.size());
+        for (DomainEventSubscriber<?> subscriber : subscribers) {
+            created.add(new Subscription<>(subscriber, settings, codec, meterRegistry));
+        }
+        this.subscriptions = List.copyOf(created);
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.start();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DomainEvent event) {
+        publish(event);
+    }
+
+    /**
+     * Queues the event for every subscriber of its type.
+     */
+    public void publish(DomainEvent event) {
+        Object aggregateId = aggregateIdOf(event);
+        for (Subscription<?> subscription : subscriptions) {
+            if (subscription.accepts(event)) {
+                subscription.enqueue(aggregateId, event);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting work and waits, up to a grace period, for queued events to be delivered.
+     */
+    @Override
+    public void close() {
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.stop();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_GRACE_MILLIS);
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.awaitStopped(deadline);
+        }
+    }
+
+    static Object aggregateIdOf(DomainEvent event) {
+        return switch (event) {
+            case EmployeeDomainEvent employeeEvent -> employeeEvent.getEmployeeId();
+            case PayrollDomainEvent payrollEvent -> payrollEvent.getPayrollId();
+            case DepartmentDomainEvent departmentEvent -> departmentEvent.getDepartmentId();
+            default -> event.getEventId();
+        };
+    }
+
+    private static final class Subscription<E extends DomainEvent> {
+
+        private final DomainEventSubscriber<E> subscriber;
+        private final String name;
+        private final Lane[] lanes;
+        private final Timer handlerDuration;
+        private final Timer lag;
+        private final Counter handled;
+        private final Counter failed;
+        private final Counter dropped;
+
+        Subscription(DomainEventSubscriber<E> subscriber, EventBusSettings settings, BinaryDomainEventCodec codec,
+                     MeterRegistry meterRegistry) {
+            this.subscriber = subscriber;
+            this.name = ClassUtils.getUserClass(subscriber).getSimpleName();
+            this.lanes = new Lane[settings.lanes()];
+            for (int i = 0; i < lanes.length; i++) {
+                SpillFile spill = settings.backpressure() == BackpressurePolicy.SPILL
+                    ? new SpillFile(settings.spillDirectory().resolve(name + "-" + i + ".spill"), codec)
+                    : null;
+                lanes[i] = new Lane(this, i, settings, spill);
+            }
+            this.handlerDuration = Timer.builder("events.bus.handler.duration")
+                .description("Time a subscriber took to handle one batch of domain events")
+                .tag("subscriber", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            this.lag = Timer.builder("events.bus.lag")
+                .description("Time from a domain event occurring to a subscriber handling it")
+                .tag("subscriber", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            this.handled = eventCounter(meterRegistry, "handled");
+            this.failed = eventCounter(meterRegistry, "failed");
+            this.dropped = eventCounter(meterRegistry, "dropped");
+            Gauge.builder("events.bus.queue.depth", this, Subscription::depth)
+                .description("Domain events queued or spilled for a subscriber")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+        }
+
+        private Counter eventCounter(MeterRegistry meterRegistry, String result) {
+            return Counter.builder("events.bus.events")
+                .description("Domain events delivered to a subscriber, by result")
+                .tag("subscriber", name)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+
+        void start() {
+            for (Lane lane : lanes) {
+                lane.start();
+            }
+        }
+
+        boolean accepts(DomainEvent event) {
+            return subscriber.getEventType().isInstance(event);
+        }
+
+        void enqueue(Object aggregateId, DomainEvent event) {
+            lanes[Math.floorMod(aggregateId.hashCode(), lanes.length)].enqueue(event);
+        }
+
+        @SuppressWarnings("unchecked")
+        void deliver(List<DomainEvent> batch) {
+            long started = System.nanoTime();
+            try {
+                subscriber.handle((List<E>) batch);
+                handled.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.error("{} failed to handle {} domain events, the first being {} {}", name, batch.size(),
+                    batch.getFirst().getEventType(), batch.getFirst().getEventId(), e);
+            }
+            handlerDuration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            Instant now = Instant.now();
+            for (DomainEvent event : batch) {
+                lag.record(Duration.between(event.getOccurredOn(), now));
+            }
+        }
+
+        void drop(DomainEvent event, String reason) {
+            dropped.increment();
+            log.debug("Dropped {} event {} for {}: {}", event.getEventType(), event.getEventId(), name, reason);
+        }
+
+        double depth() {
+            long depth = 0;
+            for (Lane lane : lanes) {
+                depth += lane.depth();
+            }
+            return depth;
+        }
+
+        void stop() {
+            for (Lane lane : lanes) {
+                lane.stopping = true;
+            }
+        }
+
+        void awaitStopped(long deadline) {
+            for (Lane lane : lanes) {
+                lane.awaitStopped(deadline);
+            }
+        }
+    }
+
+    private static final class Lane implements Runnable {
+
+        private final Subscription<?> subscription;
+        private final String threadName;
+        private final BlockingQueue<DomainEvent> queue;
+        private final BackpressurePolicy backpressure;
+        private final int batchSize;
+        private final long maxBatchDelayNanos;
+        // guarded by this
+        private final SpillFile spill;
+        private Thread worker;
+        private volatile boolean stopping;
+
+        Lane(Subscription<?> subscription, int index, EventBusSettings settings, SpillFile spill) {
+            this.subscription = subscription;
+            this.threadName = "event-bus-" + subscription.name + "-" + index;
+            this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+            this.backpressure = settings.backpressure();
+            this.batchSize = settings.batchSize();
+            this.maxBatchDelayNanos = settings.maxBatchDelay().toNanos();
+            this.spill = spill;
+        }
+
+        void start() {
+            worker = Thread.ofPlatform().name(threadName).daemon().start(this);
+        }
+
+        void enqueue(DomainEvent event) {
+            if (stopping) {
+                subscription.drop(event, "bus closing");
+                return;
+            }
+            switch (backpressure) {
+                case BLOCK -> {
+                    try {
+                        // Wait in slices so a publisher is not left waiting on a lane that stopped draining
+                        while (!queue.offer(event, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                            if (stopping) {
+                                subscription.drop(event, "bus closing");
+                                return;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        subscription.drop(event, "publisher interrupted");
+                    }
+                }
+                case DROP -> {
+                    if (!queue.offer(event)) {
+                        subscription.drop(event, "queue full");
+                    }
+                }
+                case SPILL -> {
+                    synchronized (this) {
+                        // Once anything is spilled, later events follow it to keep the lane in order
+                        if (spill.size() > 0 || !queue.offer(event)) {
+                            spill(event);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Runs after the publisher's transaction committed, so a failure must not reach the publisher
+        private void spill(DomainEvent event) {
+            try {
+                spill.write(event);
+            } catch (RuntimeException e) {
+                log.warn("Event bus lane {} could not spill {} event {}", threadName, event.getEventType(),
+                    event.getEventId(), e);
+                subscription.drop(event, "spill failed");
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                List<DomainEvent> batch = new ArrayList<>(batchSize);
+                try {
+                    if (!fill(batch)) {
+                        if (stopping && depth() == 0) {
+                            return;
+                        }
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Event bus lane {} could not read its queued events", threadName, e);
+                    continue;
+                }
+                subscription.deliver(batch);
+            }
+        }
+
+        /**
+         * Collects the next batch: everything queued up to the batch size, or the oldest spilled events,
+         * then waits up to the batch delay for it to fill. Returns false if nothing arrived while idle.
+         */
+        private boolean fill(List<DomainEvent> batch) throws InterruptedException {
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty() && spill != null) {
+                synchronized (this) {
+                    // Publishers may have refilled the queue and spilled since it was drained;
+                    // the spill only holds events newer than the queue, so it waits until that is empty
+                    if (queue.isEmpty()) {
+                        spill.read(batch, batchSize);
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                DomainEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    return false;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            }
+            long deadline = System.nanoTime() + maxBatchDelayNanos;
+            while (batch.size() < batchSize && maxBatchDelayNanos > 0) {
+                DomainEvent next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            return true;
+        }
+
+        long depth() {
+            if (spill == null) {
+                return queue.size();
+            }
+            synchronized (this) {
+                return queue.size() + spill.size();
+            }
+        }
+
+        void awaitStopped(long deadline) {
+            try {
+                worker.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+                if (worker.isAlive()) {
+                    log.warn("Event bus lane {} did not finish within the shutdown grace period; "
+                        + "discarding {} queued events", threadName, depth());
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.interrupt();
+            }
+            if (spill != null) {
+                synchronized (this) {
+                    try {
+                        spill.close();
+                    } catch (IOException e) {
+                        log.warn("Could not remove event bus spill file of lane {}", threadName, e);
+                    }
+                }
+            }
+        }
+    }
+}
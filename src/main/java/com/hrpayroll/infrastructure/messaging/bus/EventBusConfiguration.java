@@ -0,0 +1,35 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+import com.hrpayroll.domain.shared.DomainEventSubscriber;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * In-process delivery of committed domain events to the {@link DomainEventSubscriber} beans,
+ * on by default ({@code app.events.bus.enabled=false} turns it off). The bus is closed when the
+ * context shuts down, after delivering what is queued.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.events.bus.enabled", havingValue = "true", matchIfMissing = true)
+public class EventBusConfiguration {
+
+    @Bean
+    DomainEventBus domainEventBus(ObjectProvider<DomainEventSubscriber<?>> subscribers, MeterRegistry meterRegistry,
+                                  @Value("${app.events.bus.lanes:4}") int lanes,
+                                  @Value("${app.events.bus.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.events.bus.batch-size:100}") int batchSize,
+                                  @Value("${app.events.bus.max-batch-delay:0ms}") Duration maxBatchDelay,
+                                  @Value("${app.events.bus.backpressure:block}") BackpressurePolicy backpressure,
+                                  @Value("${app.events.bus.spill-directory:data/event-bus-spill}") Path spillDirectory) {
+        return new DomainEventBus(subscribers.orderedStream().toList(),
+            new EventBusSettings(lanes, queueCapacity, batchSize, maxBatchDelay, backpressure, spillDirectory),
+            meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Delivery settings of the {@link DomainEventBus}, applied to each subscriber.
+ *
+ * @param lanes          queues and worker threads per subscriber; an aggregate's events always share one lane
+ * @param queueCapacity  events each lane holds before the backpressure policy applies
+ * @param batchSize      most events handed to the subscriber in one call
+ * @param maxBatchDelay  how long a worker waits for a batch to fill once it has an event; zero delivers what is queued
+ * @param backpressure   what to do when a lane is full
+ * @param spillDirectory where {@link BackpressurePolicy#SPILL} writes overflowing events
+ */
+public record EventBusSettings(
+    int lanes,
+    int queueCapacity,
+    int batchSize,
+    Duration maxBatchDelay,
+    BackpressurePolicy backpressure,
+    Path spillDirectory
+) {
+
+    public EventBusSettings {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Event bus lanes must be positive");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Event bus queue capacity must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Event bus batch size must be positive");
+        }
+        if (maxBatchDelay.isNegative()) {
+            throw new IllegalArgumentException("Event bus batch delay cannot be negative");
+        }
+        if (backpressure == BackpressurePolicy.SPILL && spillDirectory == null) {
+            throw new IllegalArgumentException("Spilling requires a spill directory");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * First-in first-out overflow of one subscriber lane on disk, as length-prefixed binary events.
+ * The file is emptied whenever everything written has been read back, so it only grows
+ * while the subscriber is behind. Not thread-safe; the owning lane serializes access.
+ */
+final class SpillFile implements Closeable {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BinaryDomainEventCodec codec;
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(LENGTH_BYTES);
+    private long writePosition;
+    private long readPosition;
+    private int pending;
+
+    SpillFile(Path file, BinaryDomainEventCodec codec) {
+        this.file = file;
+        this.codec = codec;
+        try {
+            Files.createDirectories(file.getParent());
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open event spill file " + file, e);
+        }
+    }
+
+    void write(DomainEvent event) {
+        byte[] encoded = codec.encode(event);
+        ByteBuffer record = ByteBuffer.allocate(LENGTH_BYTES + encoded.length).putInt(encoded.length).put(encoded);
+        record.flip();
+        // A failed write leaves writePosition alone, so the next record overwrites the partial one
+        long position = writePosition;
+        try {
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill " + event.getEventType() + " event to " + file, e);
+        }
+        writePosition = position;
+        pending++;
+    }
+
+    /**
+     * Reads up to {@code max} of the oldest spilled events into {@code target}, returning how many.
+     */
+    int read(List<DomainEvent> target, int max) {
+        int count = 0;
+        try {
+            while (count < max && pending > 0) {
+                lengthBuffer.clear();
+                readFully(lengthBuffer, readPosition);
+                ByteBuffer encoded = ByteBuffer.allocate(lengthBuffer.flip().getInt());
+                readFully(encoded, readPosition + LENGTH_BYTES);
+                target.add(codec.decode(encoded.flip()));
+                readPosition += LENGTH_BYTES + encoded.capacity();
+                pending--;
+                count++;
+            }
+            if (pending == 0 && writePosition > 0) {
+                channel.truncate(0);
+                writePosition = 0;
+                readPosition = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled events from " + file, e);
+        }
+        return count;
+    }
+
+    int size() {
+        return pending;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Spill file " + file + " ends before position " + position);
+            }
+        }
+    }
+}
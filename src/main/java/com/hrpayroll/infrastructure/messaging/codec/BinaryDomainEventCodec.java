@@ -0,0 +1,388 @@
+package com.hrpayroll.infrastructure.messaging.codec;
+
+import com.hrpayroll.domain.model.department.DepartmentBudgetUpdatedEvent;
+import com.hrpayroll.domain.model.department.DepartmentCreatedEvent;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentManagerAssignedEvent;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.EmployeeCreatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDepartmentChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeePromotedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeStatusChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeTerminatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeUpdatedEvent;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.model.payroll.BonusAddedEvent;
+import com.hrpayroll.domain.model.payroll.DeductionAddedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollCancelledEvent;
+import com.hrpayroll.domain.model.payroll.PayrollCreatedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollPaidEvent;
+import com.hrpayroll.domain.model.payroll.PayrollProcessedEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compact binary encoding of every domain event, written field by field without reflection.
+ * An event starts with a one-byte format version and a one-byte type tag, its id as two longs and
+ * its timestamp as epoch seconds and nanos, followed by its own fields in declaration order:
+ * ids as two longs, money as a three-letter currency code and a long of minor units
+ * (with a fallback for amounts that do not fit), dates as epoch days, pay periods as months since year 0,
+ * strings as a length-prefixed UTF-8 and employment statuses by ordinal.
+ * Nullable fields are preceded by a presence byte; strings encode {@code null} in their length.
+ * Tags and enum ordinals are part of the format: new ones may be added, existing ones never reused.
+ * Any other change to the layout of an existing event raises {@link #FORMAT_VERSION}, and decoding keeps
+ * reading every earlier version, so events stored or in flight before an upgrade stay readable;
+ * events written by a newer version are rejected rather than misread.
+ */
+public class BinaryDomainEventCodec {
+
+    /**
+     * Version of the layout written by {@link #encode(DomainEvent)}.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte EMPLOYEE_CREATED = 1;
+    private static final byte EMPLOYEE_UPDATED = 2;
+    private static final byte EMPLOYEE_PROMOTED = 3;
+    private static final byte SALARY_ADJUSTED = 4;
+    private static final byte EMPLOYEE_DEPARTMENT_CHANGED = 5;
+    private static final byte EMPLOYEE_STATUS_CHANGED = 6;
+    private static final byte EMPLOYEE_TERMINATED = 7;
+    private static final byte DEPARTMENT_CREATED = 16;
+    private static final byte DEPARTMENT_BUDGET_UPDATED = 17;
+    private static final byte DEPARTMENT_MANAGER_ASSIGNED = 18;
+    private static final byte PAYROLL_CREATED = 32;
+    private static final byte BONUS_ADDED = 33;
+    private static final byte DEDUCTION_ADDED = 34;
+    private static final byte PAYROLL_PROCESSED = 35;
+    private static final byte PAYROLL_PAID = 36;
+    private static final byte PAYROLL_CANCELLED = 37;
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte MONEY_MINOR_UNITS = 1;
+    private static final byte MONEY_UNSCALED = 2;
+    private static final int MONEY_SCALE = 2;
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+
+    private static final ConcurrentMap<Integer, Currency> CURRENCIES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ByteBuffer> SCRATCH = ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024));
+
+    /**
+     * Encodes the event into a new array sized to fit it.
+     */
+    public byte[] encode(DomainEvent event) {
+        ByteBuffer scratch = SCRATCH.get();
+        while (true) {
+            scratch.clear();
+            try {
+                encode(event, scratch);
+                return Arrays.copyOf(scratch.array(), scratch.position());
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+                SCRATCH.set(scratch);
+            }
+        }
+    }
+
+    /**
+     * Encodes the event at the target's position, advancing it past the encoded bytes.
+     *
+     * @throws BufferOverflowException if the event does not fit in the remaining space;
+     *                                 the target's position is then unspecified
+     */
+    public void encode(DomainEvent event, ByteBuffer target) {
+        target.put(FORMAT_VERSION).put(tagOf(event));
+        putUuid(target, event.getEventId());
+        target.putLong(event.getOccurredOn().getEpochSecond()).putInt(event.getOccurredOn().getNano());
+        switch (event) {
+            case EmployeeCreatedEvent created -> {
+                putUuid(target, created.getEmployeeId().getValue());
+                putString(target, created.getFirstName());
+                putString(target, created.getLastName());
+                putString(target, created.getEmail().getValue());
+                putString(target, created.getPhoneNumber());
+                target.putInt((int) created.getDateOfBirth().toEpochDay());
+                target.putInt((int) created.getHireDate().toEpochDay());
+                putDepartmentId(target, created.getDepartmentId());
+                putString(target, created.getJobTitle());
+                putMoney(target, created.getSalary());
+            }
+            case EmployeeUpdatedEvent updated -> {
+                putUuid(target, updated.getEmployeeId().getValue());
+                putString(target, updated.getFirstName());
+                putString(target, updated.getLastName());
+                putString(target, updated.getPhoneNumber());
+            }
+            case EmployeePromotedEvent promoted -> {
+                putUuid(target, promoted.getEmployeeId().getValue());
+                putString(target, promoted.getNewJobTitle());
+                putMoney(target, promoted.getOldSalary());
+                putMoney(target, promoted.getNewSalary());
+            }
+            case SalaryAdjustedEvent adjusted -> {
+                putUuid(target, adjusted.getEmployeeId().getValue());
+                putMoney(target, adjusted.getOldSalary());
+                putMoney(target, adjusted.getNewSalary());
+            }
+            case EmployeeDepartmentChangedEvent changed -> {
+                putUuid(target, changed.getEmployeeId().getValue());
+                putDepartmentId(target, changed.getOldDepartmentId());
+                putDepartmentId(target, changed.getNewDepartmentId());
+            }
+            case EmployeeStatusChangedEvent changed -> {
+                putUuid(target, changed.getEmployeeId().getValue());
+                target.put((byte) changed.getOldStatus().ordinal());
+                target.put((byte) changed.getNewStatus().ordinal());
+            }
+            case EmployeeTerminatedEvent terminated -> {
+                putUuid(target, terminated.getEmployeeId().getValue());
+                putString(target, terminated.getReason());
+                target.putInt((int) terminated.getTerminationDate().toEpochDay());
+            }
+            case DepartmentCreatedEvent created -> {
+                putUuid(target, created.getDepartmentId().getValue());
+                putString(target, created.getDepartmentName());
+            }
+            case DepartmentBudgetUpdatedEvent updated -> {
+                putUuid(target, updated.getDepartmentId().getValue());
+                putMoney(target, updated.getOldBudget());
+                putMoney(target, updated.getNewBudget());
+            }
+            case DepartmentManagerAssignedEvent assigned -> {
+                putUuid(target, assigned.getDepartmentId().getValue());
+                putUuid(target, assigned.getManagerId().getValue());
+            }
+            case PayrollCreatedEvent created -> {
+                putUuid(target, created.getPayrollId().getValue());
+                putUuid(target, created.getEmployeeId().getValue());
+                target.putInt(created.getPayPeriod().getYear() * 12 + created.getPayPeriod().getMonthValue() - 1);
+                putMoney(target, created.getBaseSalary());
+            }
+            case BonusAddedEvent added -> {
+                putUuid(target, added.getPayrollId().getValue());
+                putMoney(target, added.getBonusAmount());
+            }
+            case DeductionAddedEvent added -> {
+                putUuid(target, added.getPayrollId().getValue());
+                putMoney(target, added.getDeductionAmount());
+                putString(target, added.getReason());
+            }
+            case PayrollProcessedEvent processed -> {
+                putUuid(target, processed.getPayrollId().getValue());
+                putUuid(target, processed.getEmployeeId().getValue());
+                putMoney(target, processed.getNetPay());
+            }
+            case PayrollPaidEvent paid -> {
+                putUuid(target, paid.getPayrollId().getValue());
+                putUuid(target, paid.getEmployeeId().getValue());
+                putMoney(target, paid.getAmount());
+                target.putInt((int) paid.getPaidDate().toEpochDay());
+            }
+            case PayrollCancelledEvent cancelled -> {
+                putUuid(target, cancelled.getPayrollId().getValue());
+                putString(target, cancelled.getReason());
+            }
+            default -> throw new IllegalArgumentException("Unsupported domain event " + event.getEventType());
+        }
+    }
+
+    public DomainEvent decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes one event from the source's position, advancing it past the event.
+     *
+     * @throws IllegalArgumentException if the event was written in a newer format version or has an unknown tag
+     */
+    public DomainEvent decode(ByteBuffer source) {
+        byte version = source.get();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported domain event format version " + version
+                + "; this codec reads versions 1 to " + FORMAT_VERSION);
+        }
+        byte tag = source.get();
+        UUID eventId = getUuid(source);
+        Instant occurredOn = Instant.ofEpochSecond(source.getLong(), source.getInt());
+        return switch (tag) {
+            case EMPLOYEE_CREATED -> new EmployeeCreatedEvent(eventId, occurredOn, employeeId(source),
+                getString(source), getString(source), Email.of(getString(source)), getString(source),
+                LocalDate.ofEpochDay(source.getInt()), LocalDate.ofEpochDay(source.getInt()),
+                getDepartmentId(source), getString(source), getMoney(source));
+            case EMPLOYEE_UPDATED -> new EmployeeUpdatedEvent(eventId, occurredOn, employeeId(source),
+                getString(source), getString(source), getString(source));
+            case EMPLOYEE_PROMOTED -> new EmployeePromotedEvent(eventId, occurredOn, employeeId(source),
+                getString(source), getMoney(source), getMoney(source));
+            case SALARY_ADJUSTED -> new SalaryAdjustedEvent(eventId, occurredOn, employeeId(source),
+                getMoney(source), getMoney(source));
+            case EMPLOYEE_DEPARTMENT_CHANGED -> new EmployeeDepartmentChangedEvent(eventId, occurredOn,
+                employeeId(source), getDepartmentId(source), getDepartmentId(source));
+            case EMPLOYEE_STATUS_CHANGED -> new EmployeeStatusChangedEvent(eventId, occurredOn, employeeId(source),
+                STATUSES[source.get()], STATUSES[source.get()]);
+            case EMPLOYEE_TERMINATED -> new EmployeeTerminatedEvent(eventId, occurredOn, employeeId(source),
+                getString(source), LocalDate.ofEpochDay(source.getInt()));
+            case DEPARTMENT_CREATED -> new DepartmentCreatedEvent(eventId, occurredOn,
+                DepartmentId.of(getUuid(source)), getString(source));
+            case DEPARTMENT_BUDGET_UPDATED -> new DepartmentBudgetUpdatedEvent(eventId, occurredOn,
+                DepartmentId.of(getUuid(source)), getMoney(source), getMoney(source));
+            case DEPARTMENT_MANAGER_ASSIGNED -> new DepartmentManagerAssignedEvent(eventId, occurredOn,
+                DepartmentId.of(getUuid(source)), employeeId(source));
+            case PAYROLL_CREATED -> new PayrollCreatedEvent(eventId, occurredOn, payrollId(source),
+                employeeId(source), payPeriod(source.getInt()), getMoney(source));
+            case BONUS_ADDED -> new BonusAddedEvent(eventId, occurredOn, payrollId(source), getMoney(source));
+            case DEDUCTION_ADDED -> new DeductionAddedEvent(eventId, occurredOn, payrollId(source),
+                getMoney(source), getString(source));
+            case PAYROLL_PROCESSED -> new PayrollProcessedEvent(eventId, occurredOn, payrollId(source),
+                employeeId(source), getMoney(source));
+            case PAYROLL_PAID -> new PayrollPaidEvent(eventId, occurredOn, payrollId(source),
+                employeeId(source), getMoney(source), LocalDate.ofEpochDay(source.getInt()));
+            case PAYROLL_CANCELLED -> new PayrollCancelledEvent(eventId, occurredOn, payrollId(source),
+                getString(source));
+            default -> throw new IllegalArgumentException("Unknown domain event tag " + tag);
+        };
+    }
+
+    private static byte tagOf(DomainEvent event) {
+        return switch (event) {
+            case EmployeeCreatedEvent e -> EMPLOYEE_CREATED;
+            case EmployeeUpdatedEvent e -> EMPLOYEE_UPDATED;
+            case EmployeePromotedEvent e -> EMPLOYEE_PROMOTED;
+            case SalaryAdjustedEvent e -> SALARY_ADJUSTED;
+            case EmployeeDepartmentChangedEvent e -> EMPLOYEE_DEPARTMENT_CHANGED;
+            case EmployeeStatusChangedEvent e -> EMPLOYEE_STATUS_CHANGED;
+            case EmployeeTerminatedEvent e -> EMPLOYEE_TERMINATED;
+            case DepartmentCreatedEvent e -> DEPARTMENT_CREATED;
+            case DepartmentBudgetUpdatedEvent e -> DEPARTMENT_BUDGET_UPDATED;
+            case DepartmentManagerAssignedEvent e -> DEPARTMENT_MANAGER_ASSIGNED;
+            case PayrollCreatedEvent e -> PAYROLL_CREATED;
+            case BonusAddedEvent e -> BONUS_ADDED;
+            case DeductionAddedEvent e -> DEDUCTION_ADDED;
+            case PayrollProcessedEvent e -> PAYROLL_PROCESSED;
+            case PayrollPaidEvent e -> PAYROLL_PAID;
+            case PayrollCancelledEvent e -> PAYROLL_CANCELLED;
+            default -> throw new IllegalArgumentException("Unsupported domain event " + event.getEventType());
+        };
+    }
+
+    private static void putUuid(ByteBuffer target, UUID value) {
+        target.putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer source) {
+        return new UUID(source.getLong(), source.getLong());
+    }
+
+    private static EmployeeId employeeId(ByteBuffer source) {
+        return EmployeeId.of(getUuid(source));
+    }
+
+    private static PayrollId payrollId(ByteBuffer source) {
+        return PayrollId.of(getUuid(source));
+    }
+
+    private static YearMonth payPeriod(int months) {
+        return YearMonth.of(months / 12, months % 12 + 1);
+    }
+
+    private static void putDepartmentId(ByteBuffer target, DepartmentId value) {
+        if (value == null) {
+            target.put(ABSENT);
+        } else {
+            target.put(PRESENT);
+            putUuid(target, value.getValue());
+        }
+    }
+
+    private static DepartmentId getDepartmentId(ByteBuffer source) {
+        return source.get() == ABSENT ? null : DepartmentId.of(getUuid(source));
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            target.putInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        target.putInt(bytes.length + 1).put(bytes);
+    }
+
+    private static String getString(ByteBuffer source) {
+        int length = source.getInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+            source.position(source.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static void putMoney(ByteBuffer target, Money money) {
+        if (money == null) {
+            target.put(ABSENT);
+            return;
+        }
+        String code = money.getCurrency().getCurrencyCode();
+        long minorUnits;
+        try {
+            minorUnits = money.toMinorUnits();
+        } catch (ArithmeticException e) {
+            byte[] unscaled = money.getAmount().unscaledValue().toByteArray();
+            target.put(MONEY_UNSCALED);
+            putCurrency(target, code);
+            target.putInt(unscaled.length).put(unscaled);
+            return;
+        }
+        target.put(MONEY_MINOR_UNITS);
+        putCurrency(target, code);
+        target.putLong(minorUnits);
+    }
+
+    private static Money getMoney(ByteBuffer source) {
+        byte kind = source.get();
+        if (kind == ABSENT) {
+            return null;
+        }
+        Currency currency = getCurrency(source);
+        if (kind == MONEY_MINOR_UNITS) {
+            return Money.ofMinor(source.getLong(), currency);
+        }
+        byte[] unscaled = new byte[source.getInt()];
+        source.get(unscaled);
+        return Money.of(new BigDecimal(new BigInteger(unscaled), MONEY_SCALE), currency);
+    }
+
+    private static void putCurrency(ByteBuffer target, String code) {
+        target.put((byte) code.charAt(0)).put((byte) code.charAt(1)).put((byte) code.charAt(2));
+    }
+
+    private static Currency getCurrency(ByteBuffer source) {
+        int packed = (source.get() & 0xFF) << 16 | (source.get() & 0xFF) << 8 | source.get() & 0xFF;
+        return CURRENCIES.computeIfAbsent(packed, key -> Currency.getInstance(new String(
+            new char[]{(char) (key >>> 16), (char) (key >>> 8 & 0xFF), (char) (key & 0xFF)})));
+    }
+}
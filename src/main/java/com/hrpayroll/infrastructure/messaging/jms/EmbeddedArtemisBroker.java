@@ -0,0 +1,46 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Artemis broker running in this JVM, reachable only through its in-VM acceptor.
+ * Every instance gets its own server id, so several application contexts (as in tests) can each run one.
+ */
+public class EmbeddedArtemisBroker implements InitializingBean, DisposableBean {
+
+    private static final AtomicInteger SERVER_IDS = new AtomicInteger();
+
+    private final int serverId = SERVER_IDS.getAndIncrement();
+    private final boolean persistent;
+    private EmbeddedActiveMQ server;
+
+    public EmbeddedArtemisBroker(boolean persistent) {
+        this.persistent = persistent;
+    }
+
+    public String getBrokerUrl() {
+        return "vm://" + serverId;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Configuration configuration = new ConfigurationImpl()
+            .setPersistenceEnabled(persistent)
+            .setSecurityEnabled(false)
+            .addAcceptorConfiguration("in-vm", getBrokerUrl());
+        server = new EmbeddedActiveMQ().setConfiguration(configuration).start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
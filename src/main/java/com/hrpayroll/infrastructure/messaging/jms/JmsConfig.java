@@ -0,0 +1,83 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadSerializer;
+import jakarta.jms.ConnectionFactory;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.time.Duration;
+
+/**
+ * JMS publishing of domain events to Artemis, enabled with {@code app.events.jms.enabled=true}.
+ * Artemis auto-configuration is excluded, so the broker connection is configured here: by default it connects to
+ * {@code spring.artemis.broker-url}; {@code spring.artemis.mode=embedded} starts an in-VM broker instead, which
+ * nothing outside this process can consume from, so it is only for tests and local runs. One connection is shared and its sessions and producers are
+ * pooled ({@code app.events.jms.session-cache-size}, one per event bus lane is enough), so a batch
+ * never pays for opening them. Batches the broker rejects are resent as configured under
+ * {@code app.events.jms.retry}. The publisher is a domain event subscriber and receives its batches from the
+ * {@code DomainEventBus}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.events.jms.enabled", havingValue = "true")
+public class JmsConfig {
+
+    private static final int CONFIRMATION_WINDOW_BYTES = 1024 * 1024;
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.artemis.mode", havingValue = "embedded")
+    EmbeddedArtemisBroker embeddedArtemisBroker(@Value("${spring.artemis.embedded.persistent:false}") boolean persistent) {
+        return new EmbeddedArtemisBroker(persistent);
+    }
+
+    @Bean
+    CachingConnectionFactory domainEventConnectionFactory(
+        ObjectProvider<EmbeddedArtemisBroker> embeddedBroker,
+        @Value("${spring.artemis.broker-url:tcp://localhost:61616}") String brokerUrl,
+        @Value("${spring.artemis.user:#{null}}") String user,
+        @Value("${spring.artemis.password:#{null}}") String password,
+        @Value("${app.events.jms.session-cache-size:4}") int sessionCacheSize,
+        @Value("${app.events.jms.send-mode:transacted}") JmsSendMode sendMode) {
+        EmbeddedArtemisBroker broker = embeddedBroker.getIfAvailable();
+        ActiveMQConnectionFactory artemis = broker != null
+            ? new ActiveMQConnectionFactory(broker.getBrokerUrl())
+            : new ActiveMQConnectionFactory(brokerUrl, user, password);
+        if (sendMode == JmsSendMode.ASYNC) {
+            // Artemis only reports send completions to a CompletionListener with a confirmation window
+            artemis.setConfirmationWindowSize(CONFIRMATION_WINDOW_BYTES);
+        }
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory(artemis);
+        connectionFactory.setSessionCacheSize(sessionCacheSize);
+        connectionFactory.setCacheProducers(true);
+        return connectionFactory;
+    }
+
+    @Bean
+    JmsTemplate domainEventJmsTemplate(ConnectionFactory domainEventConnectionFactory,
+                                       @Value("${app.events.jms.send-mode:transacted}") JmsSendMode sendMode) {
+        JmsTemplate jmsTemplate = new JmsTemplate(domainEventConnectionFactory);
+        jmsTemplate.setSessionTransacted(sendMode == JmsSendMode.TRANSACTED);
+        return jmsTemplate;
+    }
+
+    @Bean
+    JmsDomainEventPublisher jmsDomainEventPublisher(JmsTemplate domainEventJmsTemplate,
+                                                    @Value("${app.events.jms.queue-prefix}") String queuePrefix,
+                                                    @Value("${app.events.payload-format:binary}") EventPayloadFormat payloadFormat,
+                                                    @Value("${app.events.jms.send-mode:transacted}") JmsSendMode sendMode,
+                                                    @Value("${app.events.jms.send-timeout-ms:30000}") long sendTimeoutMillis,
+                                                    @Value("${app.events.jms.retry.max-attempts:10}") int maxAttempts,
+                                                    @Value("${app.events.jms.retry.initial-backoff:200ms}") Duration initialBackoff,
+                                                    @Value("${app.events.jms.retry.max-backoff:10s}") Duration maxBackoff,
+                                                    DomainEventMetrics domainEventMetrics) {
+        return new JmsDomainEventPublisher(domainEventJmsTemplate, queuePrefix, new EventPayloadSerializer(payloadFormat),
+            sendMode, sendTimeoutMillis, new JmsSendRetry(maxAttempts, initialBackoff, maxBackoff), domainEventMetrics);
+    }
+}
@@ -0,0 +1,230 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import com.hrpayroll.domain.model.department.DepartmentDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.domain.shared.DomainEventSubscriber;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadSerializer;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes committed domain events to JMS queues, one per aggregate type ({@code <prefix>.<aggregate>}),
+ * as it receives them from the domain event bus. Each batch is sent on one pooled session, either in a
+ * single local transaction or with asynchronous acknowledgements that are awaited together
+ * ({@link JmsSendMode}), so the broker round trip is paid once per batch rather than once per event.
+ * Messages are bytes messages carrying the serialized event, with its id, type, time, content type and
+ * aggregate id as properties; {@code JMSXGroupID} is the aggregate id, so the broker hands each
+ * aggregate's events to one consumer at a time, in order.
+ * A batch the broker does not accept is resent as a whole, with backoff, up to {@link JmsSendRetry#maxAttempts()}
+ * times; the lane waits meanwhile, so a broker outage backs up into the bus and its backpressure policy rather than
+ * losing events. A resend can repeat events the broker already has, in either mode: an async batch may fail after
+ * some of its events were acknowledged, and a transacted commit may succeed while its reply is lost. Every message
+ * therefore carries the event id as Artemis' duplicate detection id ({@code _AMQ_DUPL_ID}), and the broker drops
+ * a message whose id it has already seen on that address, within its duplicate id cache ({@code id-cache-size}).
+ * A batch that still fails is reported to the bus as failed. When given {@link DomainEventMetrics}, sent events
+ * are timed from occurring to acknowledgement on the {@code jms} channel.
+ */
+public class JmsDomainEventPublisher implements DomainEventSubscriber<DomainEvent> {
+
+    static final String EVENT_ID_PROPERTY = "eventId";
+    static final String EVENT_TYPE_PROPERTY = "eventType";
+    static final String OCCURRED_ON_PROPERTY = "occurredOn";
+    static final String CONTENT_TYPE_PROPERTY = "contentType";
+    static final String AGGREGATE_ID_PROPERTY = "aggregateId";
+    static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+    static final String DUPLICATE_ID_PROPERTY = "_AMQ_DUPL_ID";
+
+    private static final Logger log = LoggerFactory.getLogger(JmsDomainEventPublisher.class);
+
+    private final JmsTemplate jmsTemplate;
+    private final String queuePrefix;
+    private final EventPayloadSerializer serializer;
+    private final JmsSendMode sendMode;
+    private final long sendTimeoutMillis;
+    private final JmsSendRetry retry;
+    private final DomainEventMetrics metrics;
+
+    public JmsDomainEventPublisher(JmsTemplate jmsTemplate, String queuePrefix, EventPayloadSerializer serializer,
+                                   JmsSendMode sendMode, long sendTimeoutMillis) {
+        this(jmsTemplate, queuePrefix, serializer, sendMode, sendTimeoutMillis, JmsSendRetry.NONE, null);
+    }
+
+    public JmsDomainEventPublisher(JmsTemplate jmsTemplate, String queuePrefix, EventPayloadSerializer serializer,
+                                   JmsSendMode sendMode, long sendTimeoutMillis, JmsSendRetry retry,
+                                   DomainEventMetrics metrics) {
+        this.jmsTemplate = jmsTemplate;
+        this.queuePrefix = queuePrefix;
+        this.serializer = serializer;
+        this.sendMode = sendMode;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.retry = retry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Class<DomainEvent> getEventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                send(events);
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw e;
+                }
+                Duration backoff = retry.backoffAfter(attempt);
+                log.warn("Sending {} domain events to JMS failed (attempt {} of {}), retrying in {} ms: {}",
+                    events.size(), attempt, retry.maxAttempts(), backoff.toMillis(), e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+        measure(events);
+    }
+
+    private void send(List<DomainEvent> events) {
+        jmsTemplate.execute(session -> {
+            Map<String, MessageProducer> producers = new HashMap<>();
+            try {
+                if (sendMode == JmsSendMode.TRANSACTED) {
+                    sendTransacted(session, producers, events);
+                } else {
+                    sendAsync(session, producers, events);
+                }
+            } finally {
+                producers.values().forEach(JmsUtils::closeMessageProducer);
+            }
+            return null;
+        }, true);
+    }
+
+    private void sendTransacted(Session session, Map<String, MessageProducer> producers, List<DomainEvent> events)
+        throws JMSException {
+        for (DomainEvent event : events) {
+            producerFor(session, producers, aggregateTypeOf(event)).send(toMessage(session, event));
+        }
+        session.commit();
+    }
+
+    private void sendAsync(Session session, Map<String, MessageProducer> producers, List<DomainEvent> events)
+        throws JMSException {
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+            producerFor(session, producers, aggregateTypeOf(event)).send(toMessage(session, event),
+                new CompletionListener() {
+                    @Override
+                    public void onCompletion(Message message) {
+                        acknowledged.complete(null);
+                    }
+
+                    @Override
+                    public void onException(Message message, Exception exception) {
+                        acknowledged.completeExceptionally(exception);
+                    }
+                });
+            acknowledgements.add(acknowledged);
+        }
+        try {
+            CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+                .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted awaiting JMS acknowledgements", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("JMS broker rejected a domain event", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("JMS acknowledgements not received within " + sendTimeoutMillis + " ms", e);
+        }
+    }
+
+    private void measure(List<DomainEvent> sent) {
+        if (metrics == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (DomainEvent event : sent) {
+            metrics.published("jms", aggregateTypeOf(event), event.getEventType(), event.getOccurredOn(), now);
+        }
+    }
+
+    private MessageProducer producerFor(Session session, Map<String, MessageProducer> producers, String aggregateType)
+        throws JMSException {
+        MessageProducer producer = producers.get(aggregateType);
+        if (producer == null) {
+            producer = session.createProducer(session.createQueue(queueFor(aggregateType)));
+            producers.put(aggregateType, producer);
+        }
+        return producer;
+    }
+
+    private Message toMessage(Session session, DomainEvent event) throws JMSException {
+        BytesMessage message = session.createBytesMessage();
+        message.writeBytes(serializer.serialize(event));
+        String aggregateId = aggregateIdOf(event);
+        message.setStringProperty(EVENT_ID_PROPERTY, event.getEventId().toString());
+        message.setStringProperty(EVENT_TYPE_PROPERTY, event.getEventType());
+        message.setStringProperty(OCCURRED_ON_PROPERTY, event.getOccurredOn().toString());
+        message.setStringProperty(CONTENT_TYPE_PROPERTY, serializer.getContentType());
+        message.setStringProperty(AGGREGATE_ID_PROPERTY, aggregateId);
+        message.setStringProperty(GROUP_ID_PROPERTY, aggregateId);
+        message.setStringProperty(DUPLICATE_ID_PROPERTY, event.getEventId().toString());
+        return message;
+    }
+
+    String queueFor(String aggregateType) {
+        return queuePrefix + "." + aggregateType.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The aggregate's simple class name, the same {@code aggregate} tag the recorder and the Kafka relay use.
+     */
+    private static String aggregateTypeOf(DomainEvent event) {
+        return switch (event) {
+            case EmployeeDomainEvent e -> "Employee";
+            case PayrollDomainEvent e -> "Payroll";
+            case DepartmentDomainEvent e -> "Department";
+            default -> "Event";
+        };
+    }
+
+    private static String aggregateIdOf(DomainEvent event) {
+        return switch (event) {
+            case EmployeeDomainEvent employeeEvent -> employeeEvent.getEmployeeId().toString();
+            case PayrollDomainEvent payrollEvent -> payrollEvent.getPayrollId().toString();
+            case DepartmentDomainEvent departmentEvent -> departmentEvent.getDepartmentId().toString();
+            default -> event.getEventId().toString();
+        };
+    }
+}
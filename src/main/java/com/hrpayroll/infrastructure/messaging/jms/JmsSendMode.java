@@ -0,0 +1,19 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+/**
+ * How the {@link JmsDomainEventPublisher} makes a batch of events durable on the broker.
+ */
+public enum JmsSendMode {
+
+    /**
+     * Send the batch in one local transaction: the broker acknowledges the commit, not each message,
+     * and either all events of the batch are delivered or none.
+     */
+    TRANSACTED,
+
+    /**
+     * Send every message without waiting and collect the broker's acknowledgements asynchronously,
+     * then wait for all of them; a failure leaves the events acknowledged so far delivered.
+     */
+    ASYNC
+}
@@ -0,0 +1,36 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import java.time.Duration;
+
+/**
+ * How often the {@link JmsDomainEventPublisher} resends a batch the broker did not accept,
+ * waiting an exponentially growing backoff between attempts.
+ *
+ * @param maxAttempts    sends of one batch before it is given up, including the first
+ * @param initialBackoff wait before the second attempt; doubled after every further failure
+ * @param maxBackoff     longest wait between two attempts
+ */
+public record JmsSendRetry(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    /**
+     * Sends each batch once.
+     */
+    public static final JmsSendRetry NONE = new JmsSendRetry(1, Duration.ZERO, Duration.ZERO);
+
+    public JmsSendRetry {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("JMS send attempts must be positive");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("JMS send backoff must be non-negative and at most the maximum backoff");
+        }
+    }
+
+    Duration backoffAfter(int failedAttempts) {
+        Duration backoff = initialBackoff;
+        for (int i = 1; i < failedAttempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,419 @@
+package com.hrpayroll.infrastructure.messaging.journal;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable, append-only local log of domain events, independent of Kafka and the database.
+ * <p>
+ * Events are numbered by a sequence starting at 0 and written, in the compact
+ * {@link BinaryDomainEventCodec} encoding, to fixed-size segment files named after the sequence of
+ * their first event. The active segment is memory-mapped, so an append is a copy into memory
+ * under a lock; each record is {@code [length][CRC32C][event]} and a zero length marks the end
+ * of the written part of a segment.
+ * <p>
+ * Appends are not forced to disk one by one. A flusher thread forces the active segment every
+ * {@code flushInterval}, or as soon as a caller of {@link #awaitDurable} is waiting, so the
+ * appends of concurrent writers share one fsync; a segment is also forced when it fills up.
+ * <p>
+ * On opening, every record is checked against its CRC. A torn or corrupt record at the end of
+ * the last segment is where a crash interrupted writing: it and everything after it are zeroed
+ * and appends resume in its place. A last segment shorter than the segment size, left by a crash
+ * between creating its file and mapping it, is extended with zeroes. Corruption anywhere else cannot
+ * come from a crash and fails the open rather than silently dropping events.
+ */
+public class DomainEventJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventJournal.class);
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final byte[] ZEROES = new byte[8192];
+
+    private final Path directory;
+    private final BinaryDomainEventCodec codec;
+    private final int segmentSize;
+    private final long flushIntervalMillis;
+    private final CRC32C crc = new CRC32C();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Object flushMonitor = new Object();
+    private final Thread flusher;
+
+    // guarded by this
+    private Segment active;
+    private long nextSequence;
+    private boolean closed;
+
+    // guarded by flushMonitor
+    private long durableSequence = -1;
+    private boolean flushRequested;
+
+    public DomainEventJournal(Path directory, BinaryDomainEventCodec codec, int segmentSize, Duration flushInterval) {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than " + HEADER_BYTES + " bytes");
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open event journal in " + directory, e);
+        }
+        this.durableSequence = nextSequence - 1;
+        this.flusher = Thread.ofPlatform().name("event-journal-flusher").daemon().start(this::runFlusher);
+    }
+
+    /**
+     * Appends the event and returns its sequence. The event is durable once
+     * {@link #awaitDurable} returns for that sequence.
+     */
+    public synchronized long append(DomainEvent event) {
+        if (closed) {
+            throw new IllegalStateException("Event journal is closed");
+        }
+        while (!tryWrite(event, active)) {
+            if (active.position == 0) {
+                throw new IllegalArgumentException(event.getEventType() + " event does not fit in a journal segment of "
+                    + segmentSize + " bytes");
+            }
+            roll();
+        }
+        return nextSequence++;
+    }
+
+    /**
+     * Appends the events in order and returns the sequence of the last one,
+     * or {@code -1} if there were none.
+     */
+    public synchronized long appendAll(List<? extends DomainEvent> events) {
+        long last = -1;
+        for (DomainEvent event : events) {
+            last = append(event);
+        }
+        return last;
+    }
+
+    /**
+     * Blocks until every event up to and including {@code sequence} has been forced to disk.
+     */
+    public void awaitDurable(long sequence) throws InterruptedException {
+        synchronized (flushMonitor) {
+            while (durableSequence < sequence) {
+                if (!flusher.isAlive()) {
+                    throw new IllegalStateException("Event journal is closed");
+                }
+                // Only the first waiter wakes the flusher; waiters waking each other would keep it off the monitor
+                if (!flushRequested) {
+                    flushRequested = true;
+                    flushMonitor.notifyAll();
+                }
+                flushMonitor.wait(flushIntervalMillis);
+            }
+        }
+    }
+
+    /**
+     * Forces everything appended so far to disk.
+     */
+    public void flush() {
+        Segment segment;
+        long appended;
+        synchronized (this) {
+            segment = active;
+            appended = nextSequence - 1;
+        }
+        synchronized (flushMonitor) {
+            if (appended <= durableSequence) {
+                return;
+            }
+        }
+        // Segments before the active one were forced when they filled up
+        segment.buffer.force();
+        synchronized (flushMonitor) {
+            durableSequence = Math.max(durableSequence, appended);
+            flushMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Reads the events from {@code fromSequence} up to the last one appended before the call, in order,
+     * and returns the sequence to resume from next time.
+     */
+    public long replay(long fromSequence, Consumer<? super DomainEvent> consumer) {
+        List<Segment> snapshot;
+        long end;
+        ByteBuffer activeView;
+        synchronized (this) {
+            snapshot = List.copyOf(segments);
+            end = nextSequence;
+            activeView = active.buffer.duplicate();
+        }
+        CRC32C replayCrc = new CRC32C();
+        long sequence = Math.max(fromSequence, 0);
+        for (int i = 0; i < snapshot.size() && sequence < end; i++) {
+            Segment segment = snapshot.get(i);
+            long segmentEnd = i + 1 < snapshot.size() ? snapshot.get(i + 1).firstSequence : end;
+            if (segmentEnd <= sequence) {
+                continue;
+            }
+            ByteBuffer records = i + 1 < snapshot.size() ? mapReadOnly(segment.file) : activeView;
+            records.position(0);
+            for (long current = segment.firstSequence; current < segmentEnd; current++) {
+                int length = records.getInt();
+                int checksum = records.getInt();
+                ByteBuffer payload = records.slice(records.position(), length);
+                records.position(records.position() + length);
+                if (current < sequence) {
+                    continue;
+                }
+                if (checksum(replayCrc, payload) != checksum) {
+                    throw new IllegalStateException("Corrupt event " + current + " in " + segment.file);
+                }
+                consumer.accept(codec.decode(payload));
+            }
+            sequence = segmentEnd;
+        }
+        return sequence;
+    }
+
+    /**
+     * Sequence the next appended event will get, which is also the number of events in the journal.
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    synchronized long getMappedSegmentCount() {
+        return segments.stream().filter(segment -> segment.buffer != null).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        active.channel.close();
+    }
+
+    private void runFlusher() {
+        while (true) {
+            synchronized (flushMonitor) {
+                if (!flushRequested) {
+                    try {
+                        flushMonitor.wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                flushRequested = false;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Could not force event journal in {} to disk", directory, e);
+            }
+        }
+    }
+
+    private boolean tryWrite(DomainEvent event, Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int start = segment.position;
+        if (buffer.capacity() - start <= HEADER_BYTES) {
+            return false;
+        }
+        buffer.limit(buffer.capacity()).position(start + HEADER_BYTES);
+        try {
+            codec.encode(event, buffer);
+        } catch (BufferOverflowException e) {
+            // the length at start was never written, so the partial event is invisible; zero it for tidiness
+            clear(buffer, start + HEADER_BYTES, buffer.capacity());
+            return false;
+        }
+        int length = buffer.position() - start - HEADER_BYTES;
+        buffer.putInt(start + Integer.BYTES, checksum(crc, buffer.slice(start + HEADER_BYTES, length)));
+        // the length goes in last: until then the record reads as the end of the segment
+        buffer.putInt(start, length);
+        segment.position = start + HEADER_BYTES + length;
+        return true;
+    }
+
+    private void roll() {
+        active.buffer.force();
+        synchronized (flushMonitor) {
+            durableSequence = Math.max(durableSequence, nextSequence - 1);
+            flushMonitor.notifyAll();
+        }
+        try {
+            active.channel.close();
+            // Keep only the file of the full segment, like recover() does, so its mapping can be released
+            segments.set(segments.size() - 1, new Segment(active.firstSequence, active.file, null, null));
+            active = openSegment(nextSequence, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create event journal segment in " + directory, e);
+        }
+        segments.add(active);
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        if (files.isEmpty()) {
+            active = openSegment(0, true);
+            segments.add(active);
+            return;
+        }
+        long expectedFirst = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            long first = firstSequenceOf(file);
+            if (first != expectedFirst) {
+                throw new IllegalStateException("Event journal segment " + file + " starts at event " + first
+                    + " but the previous segments end at " + expectedFirst);
+            }
+            boolean last = i == files.size() - 1;
+            if (last && Files.size(file) < segmentSize) {
+                log.warn("Extending event journal segment {} of {} bytes to {} bytes", file, Files.size(file), segmentSize);
+            }
+            Segment segment = last ? openSegment(first, false) : new Segment(first, file, null, null);
+            ByteBuffer records = last ? segment.buffer.duplicate() : mapReadOnly(file);
+            int count = 0;
+            int position = 0;
+            while (true) {
+                int end = validRecordEnd(records, position);
+                if (end < 0) {
+                    break;
+                }
+                position = end;
+                count++;
+            }
+            if (position + HEADER_BYTES <= records.capacity() && records.getInt(position) != 0) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt record for event " + (first + count)
+                        + " at offset " + position + " of " + file);
+                }
+                log.warn("Discarding torn record for event {} at offset {} of {}", first + count, position, file);
+                clear(segment.buffer, position, segment.buffer.capacity());
+                segment.buffer.force();
+            }
+            segment.position = position;
+            segments.add(segment);
+            expectedFirst = first + count;
+            if (last) {
+                active = segment;
+            }
+        }
+        nextSequence = expectedFirst;
+    }
+
+    /**
+     * Offset just past the complete, intact record at {@code position}, or {@code -1} if there is none.
+     */
+    private int validRecordEnd(ByteBuffer records, int position) {
+        if (records.capacity() - position <= HEADER_BYTES) {
+            return -1;
+        }
+        int length = records.getInt(position);
+        if (length <= 0 || length > records.capacity() - position - HEADER_BYTES) {
+            return -1;
+        }
+        int checksum = records.getInt(position + Integer.BYTES);
+        if (checksum(crc, records.slice(position + HEADER_BYTES, length)) != checksum) {
+            return -1;
+        }
+        return position + HEADER_BYTES + length;
+    }
+
+    private static int checksum(CRC32C crc, ByteBuffer payload) {
+        int position = payload.position();
+        crc.reset();
+        crc.update(payload);
+        payload.position(position);
+        return (int) crc.getValue();
+    }
+
+    private Segment openSegment(long firstSequence, boolean create) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        FileChannel channel = create
+            ? FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // mapping past the end of the file extends it with zeroes, which read as the end of the records
+        long size = Math.max(channel.size(), segmentSize);
+        return new Segment(firstSequence, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    private static ByteBuffer mapReadOnly(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read event journal segment " + file, e);
+        }
+    }
+
+    private static long firstSequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void clear(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i += ZEROES.length) {
+            buffer.put(i, ZEROES, 0, Math.min(ZEROES.length, to - i));
+        }
+    }
+
+    private static final class Segment {
+        private final long firstSequence;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(long firstSequence, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.firstSequence = firstSequence;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hrpayroll.infrastructure.messaging.journal;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends every domain event published by the {@code DomainEventRecorder} to the {@link DomainEventJournal}
+ * once its transaction has committed, so the journal only ever holds events whose changes were stored.
+ * It does not wait for the append to be forced to disk: a power failure can lose up to one flush interval
+ * of events from the journal, which the outbox still holds.
+ */
+public class DomainEventJournalWriter {
+
+    private final DomainEventJournal journal;
+
+    public DomainEventJournalWriter(DomainEventJournal journal) {
+        this.journal = journal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DomainEvent event) {
+        journal.append(event);
+    }
+}
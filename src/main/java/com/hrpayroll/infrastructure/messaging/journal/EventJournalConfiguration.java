@@ -0,0 +1,33 @@
+package com.hrpayroll.infrastructure.messaging.journal;
+
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Local journal of committed domain events, enabled with {@code app.events.journal.enabled=true}.
+ * The journal is closed, with a final flush, when the context shuts down.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.events.journal.enabled", havingValue = "true")
+public class EventJournalConfiguration {
+
+    @Bean
+    DomainEventJournal domainEventJournal(@Value("${app.events.journal.directory:data/event-journal}") Path directory,
+                                          @Value("${app.events.journal.segment-size:64MB}") DataSize segmentSize,
+                                          @Value("${app.events.journal.flush-interval:10ms}") Duration flushInterval) {
+        return new DomainEventJournal(directory, new BinaryDomainEventCodec(),
+            Math.toIntExact(segmentSize.toBytes()), flushInterval);
+    }
+
+    @Bean
+    DomainEventJournalWriter domainEventJournalWriter(DomainEventJournal domainEventJournal) {
+        return new DomainEventJournalWriter(domainEventJournal);
+    }
+}
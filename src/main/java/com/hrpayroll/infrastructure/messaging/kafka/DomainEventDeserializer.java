@@ -0,0 +1,31 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.BufferUnderflowException;
+
+/**
+ * Kafka deserializer for domain events published in the binary encoding of {@link BinaryDomainEventCodec},
+ * i.e. with the {@code contentType} header {@code application/vnd.hrpayroll.domain-event}.
+ * Payloads it cannot read, including events written by a newer format version, fail with a
+ * {@link SerializationException} so the consumer's error handler decides whether to skip them.
+ */
+public class DomainEventDeserializer implements Deserializer<DomainEvent> {
+
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+
+    @Override
+    public DomainEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return codec.decode(data);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new SerializationException("Could not decode domain event from topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka serializer writing domain events in the binary encoding of {@link BinaryDomainEventCodec},
+ * for producers that publish events directly rather than through the outbox.
+ */
+public class DomainEventSerializer implements Serializer<DomainEvent> {
+
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+
+    @Override
+    public byte[] serialize(String topic, DomainEvent event) {
+        return event == null ? null : codec.encode(event);
+    }
+}
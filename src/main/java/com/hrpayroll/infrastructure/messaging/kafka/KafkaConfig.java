@@ -0,0 +1,109 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.application.projection.PayrollProjectionUpdater;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.EventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka producer and outbox relay for domain events.
+ * Kafka auto-configuration is excluded, so the producer is configured here: idempotent with
+ * {@code acks=all} (no duplicates or reordering from producer retries), and tuned for throughput
+ * with a short linger, large batches and lz4 compression. Payloads are already serialized by the outbox.
+ * Each instance gets a relay; the relay lease ({@code app.events.outbox.relay-lease}) lets one publish at a time.
+ * With {@code app.payroll.projection.source=kafka}, each instance also consumes the payroll topic to feed
+ * its payroll projection.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.events.kafka.enabled", havingValue = "true")
+public class KafkaConfig {
+
+    @Bean
+    ProducerFactory<String, byte[]> domainEventProducerFactory(
+        @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+        @Value("${app.events.kafka.producer.linger-ms:20}") int lingerMs,
+        @Value("${app.events.kafka.producer.batch-size:131072}") int batchSize,
+        @Value("${app.events.kafka.producer.compression-type:lz4}") String compressionType) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 10_000);
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    @Bean
+    KafkaTemplate<String, byte[]> domainEventKafkaTemplate(ProducerFactory<String, byte[]> domainEventProducerFactory) {
+        return new KafkaTemplate<>(domainEventProducerFactory);
+    }
+
+    @Bean
+    KafkaOutboxRelay kafkaOutboxRelay(EventOutbox eventOutbox,
+                                      KafkaTemplate<String, byte[]> domainEventKafkaTemplate,
+                                      @Value("${app.events.kafka.topic-prefix}") String topicPrefix,
+                                      @Value("${app.events.outbox.batch-size:500}") int batchSize,
+                                      @Value("${app.events.outbox.send-timeout-ms:30000}") long sendTimeoutMillis,
+                                      @Value("${app.events.outbox.relay-lease:60s}") Duration lease,
+                                      DomainEventMetrics domainEventMetrics) {
+        return new KafkaOutboxRelay(eventOutbox, domainEventKafkaTemplate, topicPrefix, batchSize, sendTimeoutMillis,
+            lease, domainEventMetrics);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "app.payroll.projection.source", havingValue = "kafka")
+    static class PayrollProjectionFeedConfiguration {
+
+        @Bean
+        KafkaMessageListenerContainer<String, byte[]> payrollProjectionListenerContainer(
+            PayrollProjectionUpdater payrollProjectionUpdater,
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.events.kafka.topic-prefix}") String topicPrefix,
+            @Value("${app.events.payload-format:binary}") EventPayloadFormat payloadFormat,
+            @Value("${app.payroll.projection.kafka.deduplication-window:100000}") int deduplicationWindow) {
+            if (payloadFormat != EventPayloadFormat.BINARY) {
+                throw new IllegalStateException("app.payroll.projection.source=kafka needs app.events.payload-format=binary");
+            }
+            Map<String, Object> config = new HashMap<>();
+            config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            // A group per instance, so every instance receives every event
+            config.put(ConsumerConfig.GROUP_ID_CONFIG, topicPrefix + ".payroll-projection." + UUID.randomUUID());
+            config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+            config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+            config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+            ContainerProperties properties = new ContainerProperties(
+                KafkaOutboxRelay.topic(topicPrefix, Payroll.class.getSimpleName()));
+            properties.setMessageListener(new KafkaPayrollProjectionFeed(payrollProjectionUpdater, deduplicationWindow));
+            return new KafkaMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(config), properties);
+        }
+    }
+}
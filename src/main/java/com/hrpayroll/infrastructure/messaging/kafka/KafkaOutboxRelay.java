@@ -0,0 +1,180 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.EventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.OutboxEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes outbox events to Kafka, one topic per aggregate type ({@code <prefix>.<aggregate>}),
+ * keyed by aggregate id so each aggregate's events stay in order on one partition.
+ * A batch is sent asynchronously and then awaited; only the leading run of acknowledged events
+ * is removed from the outbox, so a failed send is retried from that point on the next poll.
+ * Delivery is at-least-once: consumers should de-duplicate on the {@code eventId} header.
+ * Payloads are sent as stored; the {@code contentType} header says whether they are JSON or binary
+ * (readable with {@link DomainEventDeserializer}).
+ * Every instance runs a relay, but only the one holding the outbox's relay lease publishes; the lease is
+ * renewed before each batch and outlives the send timeout, so two relays never publish concurrently and
+ * a standby takes over once the lease of a stopped relay expires. When given {@link DomainEventMetrics},
+ * acknowledged events are timed from occurring to acknowledgement on the {@code kafka} channel.
+ */
+public class KafkaOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaOutboxRelay.class);
+
+    static final String EVENT_ID_HEADER = "eventId";
+    static final String EVENT_TYPE_HEADER = "eventType";
+    static final String OCCURRED_ON_HEADER = "occurredOn";
+    static final String CONTENT_TYPE_HEADER = "contentType";
+    static final Duration DEFAULT_LEASE = Duration.ofSeconds(60);
+
+    private final EventOutbox outbox;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final String topicPrefix;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final Duration lease;
+    private final DomainEventMetrics metrics;
+    private final String relayId = UUID.randomUUID().toString();
+    private volatile boolean leading;
+
+    public KafkaOutboxRelay(EventOutbox outbox, KafkaTemplate<String, byte[]> kafkaTemplate,
+                            String topicPrefix, int batchSize, long sendTimeoutMillis) {
+        this(outbox, kafkaTemplate, topicPrefix, batchSize, sendTimeoutMillis, DEFAULT_LEASE, null);
+    }
+
+    public KafkaOutboxRelay(EventOutbox outbox, KafkaTemplate<String, byte[]> kafkaTemplate,
+                            String topicPrefix, int batchSize, long sendTimeoutMillis, Duration lease,
+                            DomainEventMetrics metrics) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (lease.toMillis() <= sendTimeoutMillis) {
+            throw new IllegalArgumentException("Relay lease must be longer than the send timeout");
+        }
+        this.outbox = outbox;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicPrefix = topicPrefix;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.lease = lease;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.outbox.poll-interval-ms:100}")
+    public void relay() {
+        int published;
+        do {
+            published = publishBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Publishes the oldest unpublished events and returns how many were acknowledged;
+     * publishes nothing while another relay holds the lease.
+     */
+    public int publishBatch() {
+        if (!holdsLease()) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outbox.fetchUnpublished(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            sends.add(kafkaTemplate.send(toRecord(event)));
+        }
+        // Don't wait out linger.ms for the tail of the batch
+        kafkaTemplate.flush();
+
+        int acknowledged = awaitAcknowledged(batch, sends);
+        outbox.markPublished(batch.subList(0, acknowledged));
+        measure(batch.subList(0, acknowledged));
+        if (acknowledged < batch.size()) {
+            log.warn("Published {} of {} outbox events; retrying from sequence {} on the next poll",
+                acknowledged, batch.size(), batch.get(acknowledged).sequence());
+        }
+        return acknowledged;
+    }
+
+    private boolean holdsLease() {
+        boolean held = outbox.acquireRelayLease(relayId, lease);
+        if (held != leading) {
+            log.info(held ? "Relay {} took the outbox lease" : "Relay {} lost the outbox lease", relayId);
+            leading = held;
+        }
+        return held;
+    }
+
+    boolean isLeading() {
+        return leading;
+    }
+
+    private int awaitAcknowledged(List<OutboxEvent> batch, List<CompletableFuture<SendResult<String, byte[]>>> sends) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        for (int i = 0; i < sends.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to publish {} event {}: {}", batch.get(i).eventType(), batch.get(i).eventId(),
+                    e instanceof ExecutionException ? e.getCause().getMessage() : "timed out");
+                return i;
+            }
+        }
+        return sends.size();
+    }
+
+    private void measure(List<OutboxEvent> acknowledged) {
+        if (metrics == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (OutboxEvent event : acknowledged) {
+            metrics.published("kafka", event.aggregateType(), event.eventType(), event.occurredOn(), now);
+        }
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxEvent event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topicFor(event.aggregateType()),
+            event.aggregateId(), event.payload());
+        record.headers()
+            .add(EVENT_ID_HEADER, event.eventId().toString().getBytes(StandardCharsets.UTF_8))
+            .add(EVENT_TYPE_HEADER, event.eventType().getBytes(StandardCharsets.UTF_8))
+            .add(OCCURRED_ON_HEADER, event.occurredOn().toString().getBytes(StandardCharsets.UTF_8))
+            .add(CONTENT_TYPE_HEADER, event.contentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    String topicFor(String aggregateType) {
+        return topic(topicPrefix, aggregateType);
+    }
+
+    /**
+     * Topic the events of an aggregate type are published to.
+     */
+    static String topic(String topicPrefix, String aggregateType) {
+        return topicPrefix + "." + aggregateType.toLowerCase(Locale.ROOT);
+    }
+}
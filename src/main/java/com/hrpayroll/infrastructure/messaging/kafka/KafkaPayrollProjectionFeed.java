@@ -0,0 +1,63 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.application.projection.PayrollProjectionUpdater;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Feeds the payroll events of every instance, as published by the {@link KafkaOutboxRelay}, into this
+ * instance's {@link PayrollProjectionUpdater}. Each instance consumes the payroll topic in a consumer group
+ * of its own, so it receives every event, starting from the latest ones; the updater's rebuild covers
+ * earlier payrolls. Delivery is at-least-once, so events are de-duplicated on their id over the last
+ * {@code deduplicationWindow} received. Only {@link EventPayloadFormat#BINARY} payloads can be read.
+ * Called on the listener container's single consumer thread.
+ */
+public class KafkaPayrollProjectionFeed implements MessageListener<String, byte[]> {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaPayrollProjectionFeed.class);
+
+    private final PayrollProjectionUpdater updater;
+    private final DomainEventDeserializer deserializer = new DomainEventDeserializer();
+    private final Set<UUID> recentEventIds;
+
+    public KafkaPayrollProjectionFeed(PayrollProjectionUpdater updater, int deduplicationWindow) {
+        if (deduplicationWindow < 1) {
+            throw new IllegalArgumentException("Deduplication window must be positive");
+        }
+        this.updater = updater;
+        this.recentEventIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > deduplicationWindow;
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(ConsumerRecord<String, byte[]> record) {
+        Header contentType = record.headers().lastHeader(KafkaOutboxRelay.CONTENT_TYPE_HEADER);
+        if (contentType == null || !EventPayloadFormat.BINARY.getContentType()
+                .equals(new String(contentType.value(), StandardCharsets.UTF_8))) {
+            log.warn("Skipped record {} of {}-{}: payroll projection reads only binary payloads",
+                record.offset(), record.topic(), record.partition());
+            return;
+        }
+        DomainEvent event = deserializer.deserialize(record.topic(), record.value());
+        if (event instanceof PayrollDomainEvent payrollEvent && recentEventIds.add(event.getEventId())) {
+            updater.enqueue(payrollEvent);
+        }
+    }
+}
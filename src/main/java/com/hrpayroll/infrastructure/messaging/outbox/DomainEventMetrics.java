@@ -0,0 +1,94 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import com.hrpayroll.domain.shared.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Volume and latency of domain events on their way from an aggregate to the message brokers:
+ * {@code events.produced} counts recorded events by aggregate and event type, for the production rate;
+ * {@code events.pending} times how long an event waited on its aggregate, from occurring to being recorded
+ * when the aggregate was saved; {@code events.published.lag} times it from occurring to being acknowledged
+ * by a broker, tagged by channel. Per-subscriber handling time and lag are recorded by the
+ * {@code DomainEventBus} as {@code events.bus.*}.
+ * Meters are registered once per event type and channel and reused, so recording does not look up tags.
+ */
+public class DomainEventMetrics {
+
+    private static final Duration MINIMUM_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofHours(1);
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Class<?>, Produced> produced = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> published = new ConcurrentHashMap<>();
+
+    public DomainEventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Counts an event recorded from an aggregate of the given type and times how long it was pending.
+     */
+    public void recorded(String aggregateType, DomainEvent event, Instant now) {
+        Produced meters = produced.get(event.getClass());
+        if (meters == null) {
+            meters = produced.computeIfAbsent(event.getClass(), type -> new Produced(aggregateType, event.getEventType()));
+        }
+        meters.count.increment();
+        meters.pending.record(sinceOccurred(event.getOccurredOn(), now), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Times an event from occurring to its acknowledgement by the broker behind the given channel.
+     */
+    public void published(String channel, String aggregateType, String eventType, Instant occurredOn, Instant now) {
+        String key = channel + '/' + eventType;
+        Timer lag = published.get(key);
+        if (lag == null) {
+            lag = published.computeIfAbsent(key, k -> histogram(Timer.builder("events.published.lag")
+                .description("Time from a domain event occurring to a broker acknowledging it")
+                .tag("channel", channel)
+                .tag("aggregate", aggregateType)
+                .tag("type", eventType)));
+        }
+        lag.record(sinceOccurred(occurredOn, now), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer histogram(Timer.Builder builder) {
+        return builder
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MINIMUM_EXPECTED)
+            .maximumExpectedValue(MAXIMUM_EXPECTED)
+            .register(meterRegistry);
+    }
+
+    private static long sinceOccurred(Instant occurredOn, Instant now) {
+        // Clamped, as occurredOn may come from another node's clock
+        return Math.max(0, Duration.between(occurredOn, now).toNanos());
+    }
+
+    private final class Produced {
+
+        private final Counter count;
+        private final Timer pending;
+
+        Produced(String aggregateType, String eventType) {
+            this.count = Counter.builder("events.produced")
+                .description("Domain events recorded from saved aggregates")
+                .tag("aggregate", aggregateType)
+                .tag("type", eventType)
+                .register(meterRegistry);
+            this.pending = histogram(Timer.builder("events.pending")
+                .description("Time from a domain event occurring to its aggregate being saved")
+                .tag("aggregate", aggregateType)
+                .tag("type", eventType));
+        }
+    }
+}
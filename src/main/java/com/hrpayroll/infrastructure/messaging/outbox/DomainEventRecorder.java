@@ -0,0 +1,123 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import com.hrpayroll.domain.shared.AggregateRoot;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Drains the pending domain events of saved aggregates into the {@link EventOutbox}.
+ * Repositories call it from the same transaction that writes the aggregate, after the write,
+ * so events are stored if and only if the state change they describe is. Without an outbox (no relay
+ * would ever drain it) events are not stored, but are still counted, published in process and cleared.
+ * Events are serialized here, once, rather than by every consumer: as JSON by default, or in the
+ * compact binary encoding of {@link BinaryDomainEventCodec} with {@link EventPayloadFormat#BINARY}.
+ * When given an {@link ApplicationEventPublisher}, the recorded events are also published in process,
+ * so listeners can react to them ({@code @TransactionalEventListener} to see only committed ones).
+ * When given {@link DomainEventMetrics}, every recorded event is counted and timed from occurring to being recorded.
+ */
+public class DomainEventRecorder {
+
+    private static final DomainEventRecorder DISABLED = new DomainEventRecorder(null);
+
+    private final EventOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventPayloadSerializer serializer;
+    private final DomainEventMetrics metrics;
+
+    public DomainEventRecorder(EventOutbox outbox) {
+        this(outbox, null);
+    }
+
+    public DomainEventRecorder(EventOutbox outbox, ApplicationEventPublisher eventPublisher) {
+        this(outbox, eventPublisher, EventPayloadFormat.JSON);
+    }
+
+    public DomainEventRecorder(EventOutbox outbox, ApplicationEventPublisher eventPublisher,
+                               EventPayloadFormat payloadFormat) {
+        this(outbox, eventPublisher, payloadFormat, null);
+    }
+
+    public DomainEventRecorder(EventOutbox outbox, ApplicationEventPublisher eventPublisher,
+                               EventPayloadFormat payloadFormat, DomainEventMetrics metrics) {
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.serializer = new EventPayloadSerializer(payloadFormat);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Recorder that leaves events on the aggregates, for repositories used without an outbox.
+     */
+    public static DomainEventRecorder disabled() {
+        return DISABLED;
+    }
+
+    public void record(AggregateRoot<?> aggregate) {
+        if (this == DISABLED || aggregate.getDomainEvents().isEmpty()) {
+            return;
+        }
+        if (outbox != null) {
+            List<OutboxEvent> pending = new ArrayList<>(aggregate.getDomainEvents().size());
+            collect(aggregate, pending);
+            outbox.append(pending);
+        }
+        measure(aggregate, Instant.now());
+        publish(aggregate);
+        aggregate.clearDomainEvents();
+    }
+
+    public void recordAll(Collection<? extends AggregateRoot<?>> aggregates) {
+        if (this == DISABLED) {
+            return;
+        }
+        if (outbox != null) {
+            List<OutboxEvent> pending = new ArrayList<>();
+            for (AggregateRoot<?> aggregate : aggregates) {
+                collect(aggregate, pending);
+            }
+            if (!pending.isEmpty()) {
+                outbox.append(pending);
+            }
+        }
+        Instant now = Instant.now();
+        for (AggregateRoot<?> aggregate : aggregates) {
+            measure(aggregate, now);
+            publish(aggregate);
+            aggregate.clearDomainEvents();
+        }
+    }
+
+    private void collect(AggregateRoot<?> aggregate, List<OutboxEvent> pending) {
+        String aggregateType = aggregate.getClass().getSimpleName();
+        String aggregateId = String.valueOf(aggregate.getId());
+        for (DomainEvent event : aggregate.getDomainEvents()) {
+            pending.add(OutboxEvent.pending(event.getEventId(), aggregateType, aggregateId,
+                event.getEventType(), event.getOccurredOn(), serializer.getContentType(), serializer.serialize(event)));
+        }
+    }
+
+    private void measure(AggregateRoot<?> aggregate, Instant now) {
+        if (metrics == null) {
+            return;
+        }
+        String aggregateType = aggregate.getClass().getSimpleName();
+        for (DomainEvent event : aggregate.getDomainEvents()) {
+            metrics.recorded(aggregateType, event, now);
+        }
+    }
+
+    private void publish(AggregateRoot<?> aggregate) {
+        if (eventPublisher == null) {
+            return;
+        }
+        for (DomainEvent event : aggregate.getDomainEvents()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
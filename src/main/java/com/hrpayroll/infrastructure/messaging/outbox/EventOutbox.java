@@ -0,0 +1,35 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable hand-off point between aggregate persistence and event publication.
+ * Events are appended in the transaction that saves their aggregate and removed
+ * once a relay has published them, so delivery is at-least-once. Several application instances may share
+ * one outbox; a relay lease lets only one of them publish at a time, which keeps each aggregate's events in order.
+ */
+public interface EventOutbox {
+
+    /**
+     * Appends events in the given order, assigning increasing sequences.
+     */
+    void append(List<OutboxEvent> events);
+
+    /**
+     * Returns up to {@code limit} unpublished events, oldest sequence first.
+     */
+    List<OutboxEvent> fetchUnpublished(int limit);
+
+    /**
+     * Removes published events from the outbox.
+     */
+    void markPublished(Collection<OutboxEvent> events);
+
+    /**
+     * Takes or renews the relay lease for {@code relayId}, valid for {@code lease} from now, and returns whether
+     * that relay holds it. Returns false while another relay holds an unexpired lease.
+     */
+    boolean acquireRelayLease(String relayId, Duration lease);
+}
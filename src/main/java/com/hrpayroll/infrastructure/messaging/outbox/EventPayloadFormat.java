@@ -0,0 +1,23 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+/**
+ * Encoding of the domain event payloads written to the outbox and published from it.
+ * {@link #JSON} is self-describing and readable by any consumer; {@link #BINARY} is the
+ * schema-versioned encoding of {@link com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec},
+ * several times smaller and cheaper to produce and parse.
+ */
+public enum EventPayloadFormat {
+
+    JSON("application/json"),
+    BINARY("application/vnd.hrpayroll.domain-event");
+
+    private final String contentType;
+
+    EventPayloadFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
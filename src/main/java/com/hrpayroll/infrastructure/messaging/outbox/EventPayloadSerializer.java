@@ -0,0 +1,43 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+
+/**
+ * Serializes domain events for publication in one {@link EventPayloadFormat}: as JSON, or in the
+ * compact binary encoding of {@link BinaryDomainEventCodec}. Shared by every publishing path so that
+ * consumers see the same payloads whichever broker delivered them. Thread-safe.
+ */
+public class EventPayloadSerializer {
+
+    private final EventPayloadFormat format;
+    private final BinaryDomainEventCodec binaryCodec = new BinaryDomainEventCodec();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    public EventPayloadSerializer(EventPayloadFormat format) {
+        this.format = format;
+    }
+
+    public String getContentType() {
+        return format.getContentType();
+    }
+
+    public byte[] serialize(DomainEvent event) {
+        if (format == EventPayloadFormat.BINARY) {
+            return binaryCodec.encode(event);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getEventType() + " event", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link EventOutbox} used with the in-memory repositories.
+ * Not durable across restarts, matching the repositories it sits next to.
+ */
+public class InMemoryEventOutbox implements EventOutbox {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, OutboxEvent> events = new ConcurrentSkipListMap<>();
+
+    // guarded by this
+    private String leaseOwner;
+    private Instant leaseExpiry = Instant.MIN;
+
+    @Override
+    public void append(List<OutboxEvent> pending) {
+        for (OutboxEvent event : pending) {
+            long next = sequence.incrementAndGet();
+            events.put(next, event.withSequence(next));
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> fetchUnpublished(int limit) {
+        List<OutboxEvent> batch = new ArrayList<>(Math.min(limit, 1024));
+        for (OutboxEvent event : events.values()) {
+            if (batch.size() == limit) {
+                break;
+            }
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    @Override
+    public void markPublished(Collection<OutboxEvent> published) {
+        for (OutboxEvent event : published) {
+            events.remove(event.sequence());
+        }
+    }
+
+    @Override
+    public synchronized boolean acquireRelayLease(String relayId, Duration lease) {
+        Instant now = Instant.now();
+        if (!relayId.equals(leaseOwner) && now.isBefore(leaseExpiry)) {
+            return false;
+        }
+        leaseOwner = relayId;
+        leaseExpiry = now.plus(lease);
+        return true;
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
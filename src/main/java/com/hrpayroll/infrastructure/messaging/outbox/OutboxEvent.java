@@ -0,0 +1,31 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A domain event serialized for publication, as stored in the {@link EventOutbox}.
+ * The sequence is assigned by the outbox when the event is appended and orders
+ * events of the same aggregate. The content type tells consumers how the payload is encoded
+ * (see {@link EventPayloadFormat}).
+ */
+public record OutboxEvent(
+    long sequence,
+    UUID eventId,
+    String aggregateType,
+    String aggregateId,
+    String eventType,
+    Instant occurredOn,
+    String contentType,
+    byte[] payload
+) {
+
+    static OutboxEvent pending(UUID eventId, String aggregateType, String aggregateId,
+                               String eventType, Instant occurredOn, String contentType, byte[] payload) {
+        return new OutboxEvent(0L, eventId, aggregateType, aggregateId, eventType, occurredOn, contentType, payload);
+    }
+
+    OutboxEvent withSequence(long sequence) {
+        return new OutboxEvent(sequence, eventId, aggregateType, aggregateId, eventType, occurredOn, contentType, payload);
+    }
+}
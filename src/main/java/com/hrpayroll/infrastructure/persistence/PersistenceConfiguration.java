@@ -0,0 +1,172 @@
+package com.hrpayroll.infrastructure.persistence;
+
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import com.hrpayroll.domain.model.payroll.PayrollSummaryQuery;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.messaging.outbox.EventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import com.hrpayroll.infrastructure.messaging.outbox.InMemoryEventOutbox;
+import com.hrpayroll.infrastructure.persistence.eventstore.EmployeeEventCodec;
+import com.hrpayroll.infrastructure.persistence.eventstore.FileEmployeeEventStore;
+import com.hrpayroll.infrastructure.persistence.jpa.DepartmentJpaRepository;
+import com.hrpayroll.infrastructure.persistence.jpa.EmployeeJpaRepository;
+import com.hrpayroll.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import com.hrpayroll.infrastructure.persistence.jpa.PayrollJpaRepository;
+import com.hrpayroll.infrastructure.persistence.repository.CachingEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.DepartmentRepositoryImpl;
+import com.hrpayroll.infrastructure.persistence.repository.EmployeeRepositoryImpl;
+import com.hrpayroll.infrastructure.persistence.repository.EventSourcedEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryDepartmentRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollSummaryQuery;
+import com.hrpayroll.infrastructure.persistence.repository.JpaEventOutbox;
+import com.hrpayroll.infrastructure.persistence.repository.JpaPayrollSummaryQuery;
+import com.hrpayroll.infrastructure.persistence.repository.PayrollRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Selects the repository implementations for the domain aggregates.
+ * {@code app.persistence.type=memory} (default) keeps aggregates in process,
+ * {@code app.persistence.type=jpa} stores them through JPA with batched writes.
+ * Each choice comes with a matching {@link EventOutbox} that saved aggregates drain their events into,
+ * serialized as {@code app.events.payload-format} ({@code binary} by default, or {@code json}),
+ * and a {@link PayrollSummaryQuery} that aggregates payrolls where they are stored.
+ * Events are only stored while {@code app.events.outbox.enabled} (by default, while the Kafka relay is),
+ * since nothing else removes them from the outbox.
+ * With JPA, employee lookups by id go through a {@link CachingEmployeeRepository} unless
+ * {@code app.employees.cache.enabled=false}; the in-memory store is already a map lookup.
+ * In memory mode, {@code app.employees.event-store.enabled=true} keeps employees as event streams in an
+ * append-only file instead ({@link EventSourcedEmployeeRepository}), so they survive restarts.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PersistenceConfiguration {
+
+    @Bean
+    DomainEventMetrics domainEventMetrics(MeterRegistry meterRegistry) {
+        return new DomainEventMetrics(meterRegistry);
+    }
+
+    @Bean
+    DomainEventRecorder domainEventRecorder(EventOutbox eventOutbox, ApplicationEventPublisher eventPublisher,
+                                            @Value("${app.events.outbox.enabled:${app.events.kafka.enabled:false}}") boolean outboxEnabled,
+                                            @Value("${app.events.payload-format:binary}") EventPayloadFormat payloadFormat,
+                                            DomainEventMetrics domainEventMetrics) {
+        return new DomainEventRecorder(outboxEnabled ? eventOutbox : null, eventPublisher, payloadFormat,
+            domainEventMetrics);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "app.persistence.type", havingValue = "memory", matchIfMissing = true)
+    static class InMemoryPersistenceConfiguration {
+
+        @Bean
+        EventOutbox eventOutbox() {
+            return new InMemoryEventOutbox();
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "app.employees.event-store.enabled", havingValue = "false", matchIfMissing = true)
+        EmployeeRepository employeeRepository(DomainEventRecorder eventRecorder) {
+            return new InMemoryEmployeeRepository(eventRecorder);
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "app.employees.event-store.enabled", havingValue = "true")
+        FileEmployeeEventStore employeeEventStore(@Value("${app.employees.event-store.directory:data/employee-events}") Path directory,
+                                                  @Value("${app.employees.event-store.snapshot-interval:100}") int snapshotInterval,
+                                                  @Value("${app.employees.event-store.sync-on-write:true}") boolean syncOnWrite) {
+            return new FileEmployeeEventStore(directory.resolve("employees.log"), new EmployeeEventCodec(),
+                snapshotInterval, syncOnWrite);
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "app.employees.event-store.enabled", havingValue = "true")
+        EventSourcedEmployeeRepository eventSourcedEmployeeRepository(FileEmployeeEventStore employeeEventStore,
+                                                                      DomainEventRecorder eventRecorder) {
+            return new EventSourcedEmployeeRepository(employeeEventStore, eventRecorder);
+        }
+
+        @Bean
+        InMemoryPayrollRepository payrollRepository(DomainEventRecorder eventRecorder) {
+            return new InMemoryPayrollRepository(eventRecorder);
+        }
+
+        @Bean
+        PayrollSummaryQuery payrollSummaryQuery(InMemoryPayrollRepository payrollRepository,
+                                                EmployeeRepository employeeRepository) {
+            return new InMemoryPayrollSummaryQuery(payrollRepository, employeeRepository);
+        }
+
+        @Bean
+        DepartmentRepository departmentRepository(DomainEventRecorder eventRecorder) {
+            return new InMemoryDepartmentRepository(eventRecorder);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "app.persistence.type", havingValue = "jpa")
+    static class JpaPersistenceConfiguration {
+
+        private final EntityManager entityManager;
+        private final int batchSize;
+
+        JpaPersistenceConfiguration(EntityManagerFactory entityManagerFactory,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+            this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            this.batchSize = batchSize;
+        }
+
+        @Bean
+        EventOutbox eventOutbox(OutboxEventJpaRepository jpaRepository) {
+            return new JpaEventOutbox(jpaRepository, entityManager, batchSize);
+        }
+
+        @Bean
+        EmployeeRepositoryImpl employeeRepository(EmployeeJpaRepository jpaRepository,
+                                                  DomainEventRecorder eventRecorder) {
+            return new EmployeeRepositoryImpl(jpaRepository, entityManager, batchSize, eventRecorder);
+        }
+
+        @Bean
+        @Primary
+        @ConditionalOnProperty(name = "app.employees.cache.enabled", havingValue = "true", matchIfMissing = true)
+        CachingEmployeeRepository cachingEmployeeRepository(EmployeeRepositoryImpl employeeRepository,
+                                                            MeterRegistry meterRegistry,
+                                                            @Value("${app.employees.cache.maximum-size:100000}") long maximumSize,
+                                                            @Value("${app.employees.cache.ttl:10m}") Duration ttl) {
+            return new CachingEmployeeRepository(employeeRepository, maximumSize, ttl, meterRegistry);
+        }
+
+        @Bean
+        PayrollRepository payrollRepository(PayrollJpaRepository jpaRepository, DomainEventRecorder eventRecorder) {
+            return new PayrollRepositoryImpl(jpaRepository, entityManager, batchSize, eventRecorder);
+        }
+
+        @Bean
+        PayrollSummaryQuery payrollSummaryQuery() {
+            return new JpaPayrollSummaryQuery(entityManager);
+        }
+
+        @Bean
+        DepartmentRepository departmentRepository(DepartmentJpaRepository jpaRepository,
+                                                  DomainEventRecorder eventRecorder) {
+            return new DepartmentRepositoryImpl(jpaRepository, entityManager, batchSize, eventRecorder);
+        }
+    }
+}
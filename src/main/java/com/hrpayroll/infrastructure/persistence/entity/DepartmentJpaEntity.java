@@ -0,0 +1,122 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentMember;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA entity for the Department aggregate. Members are stored in a join table with the status and
+ * salary recorded for them, and fetched in batches when several departments are loaded together.
+ */
+@Entity
+@Table(name = "departments",
+    uniqueConstraints = @UniqueConstraint(name = "uk_departments_name", columnNames = "name"))
+public class DepartmentJpaEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "manager_id")
+    private UUID managerId;
+
+    @Column(name = "budget_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal budgetAmount;
+
+    @Column(name = "budget_currency", nullable = false, length = 3)
+    private String budgetCurrency;
+
+    @Column(name = "created_date")
+    private LocalDate createdDate;
+
+    @ElementCollection
+    @CollectionTable(name = "department_employees", joinColumns = @JoinColumn(name = "department_id"))
+    @BatchSize(size = 50)
+    private Set<DepartmentMemberEmbeddable> members = new LinkedHashSet<>();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected DepartmentJpaEntity() {
+    }
+
+    public static DepartmentJpaEntity fromDomain(Department department) {
+        DepartmentJpaEntity entity = new DepartmentJpaEntity();
+        entity.id = department.getId().getValue();
+        entity.updateFrom(department);
+        return entity;
+    }
+
+    public void updateFrom(Department department) {
+        this.name = department.getName();
+        this.description = department.getDescription();
+        this.managerId = department.getManagerId() != null ? department.getManagerId().getValue() : null;
+        this.budgetAmount = department.getBudget().getAmount();
+        this.budgetCurrency = department.getBudget().getCurrency().getCurrencyCode();
+        this.createdDate = department.getCreatedDate();
+
+        Set<DepartmentMemberEmbeddable> current = new LinkedHashSet<>();
+        for (DepartmentMember member : department.getMembers()) {
+            current.add(DepartmentMemberEmbeddable.fromDomain(member));
+        }
+        // Let Hibernate diff the collection instead of rewriting the join table
+        this.members.retainAll(current);
+        this.members.addAll(current);
+    }
+
+    public Department toDomain() {
+        Department department = Department.reconstitute(
+            DepartmentId.of(id),
+            name,
+            description,
+            managerId != null ? EmployeeId.of(managerId) : null,
+            Money.of(budgetAmount, Currency.getInstance(budgetCurrency)),
+            createdDate,
+            members.stream().map(DepartmentMemberEmbeddable::toDomain).toList()
+        );
+        department.setVersion(version);
+        return department;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
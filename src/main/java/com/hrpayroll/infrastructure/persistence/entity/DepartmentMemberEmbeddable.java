@@ -0,0 +1,73 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import com.hrpayroll.domain.model.department.DepartmentMember;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One row of the department membership table. Equal rows hold the same details,
+ * so Hibernate only rewrites the members whose details changed.
+ */
+@Embeddable
+class DepartmentMemberEmbeddable {
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private EmploymentStatus status;
+
+    @Column(name = "salary_amount", precision = 19, scale = 2)
+    private BigDecimal salaryAmount;
+
+    @Column(name = "salary_currency", length = 3)
+    private String salaryCurrency;
+
+    protected DepartmentMemberEmbeddable() {
+    }
+
+    static DepartmentMemberEmbeddable fromDomain(DepartmentMember member) {
+        DepartmentMemberEmbeddable embeddable = new DepartmentMemberEmbeddable();
+        embeddable.employeeId = member.employeeId().getValue();
+        if (member.isKnown()) {
+            embeddable.status = member.status();
+            embeddable.salaryAmount = member.salary().getAmount();
+            embeddable.salaryCurrency = member.salary().getCurrency().getCurrencyCode();
+        }
+        return embeddable;
+    }
+
+    DepartmentMember toDomain() {
+        return new DepartmentMember(
+            EmployeeId.of(employeeId),
+            status,
+            salaryAmount != null ? Money.of(salaryAmount, Currency.getInstance(salaryCurrency)) : null
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DepartmentMemberEmbeddable that)) return false;
+        return employeeId.equals(that.employeeId) && status == that.status
+            && sameAmount(salaryAmount, that.salaryAmount) && Objects.equals(salaryCurrency, that.salaryCurrency);
+    }
+
+    // Loaded amounts carry the column's scale, so compare numerically
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return employeeId.hashCode();
+    }
+}
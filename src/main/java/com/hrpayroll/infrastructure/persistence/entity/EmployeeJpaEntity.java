@@ -0,0 +1,142 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * JPA entity for the Employee aggregate.
+ * Ids are assigned by the domain, so the entity implements {@link Persistable} to let
+ * new rows be inserted directly (and batched) instead of being merged.
+ */
+@Entity
+@Table(name = "employees",
+    uniqueConstraints = @UniqueConstraint(name = "uk_employees_email", columnNames = "email"),
+    indexes = {
+        @Index(name = "idx_employees_department_id", columnList = "department_id, id"),
+        @Index(name = "idx_employees_status", columnList = "status, id")
+    })
+public class EmployeeJpaEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "first_name", nullable = false, length = 100)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 100)
+    private String lastName;
+
+    @Column(name = "email", nullable = false, length = 254)
+    private String email;
+
+    @Column(name = "phone_number", length = 32)
+    private String phoneNumber;
+
+    @Column(name = "date_of_birth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Column(name = "hire_date", nullable = false)
+    private LocalDate hireDate;
+
+    @Column(name = "department_id")
+    private UUID departmentId;
+
+    @Column(name = "job_title", nullable = false, length = 100)
+    private String jobTitle;
+
+    @Column(name = "salary_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal salaryAmount;
+
+    @Column(name = "salary_currency", nullable = false, length = 3)
+    private String salaryCurrency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmploymentStatus status;
+
+    @Column(name = "last_modified_date")
+    private LocalDate lastModifiedDate;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected EmployeeJpaEntity() {
+    }
+
+    public static EmployeeJpaEntity fromDomain(Employee employee) {
+        EmployeeJpaEntity entity = new EmployeeJpaEntity();
+        entity.id = employee.getId().getValue();
+        entity.updateFrom(employee);
+        return entity;
+    }
+
+    public void updateFrom(Employee employee) {
+        this.firstName = employee.getFirstName();
+        this.lastName = employee.getLastName();
+        this.email = employee.getEmail().getValue();
+        this.phoneNumber = employee.getPhoneNumber();
+        this.dateOfBirth = employee.getDateOfBirth();
+        this.hireDate = employee.getHireDate();
+        this.departmentId = employee.getDepartmentId() != null ? employee.getDepartmentId().getValue() : null;
+        this.jobTitle = employee.getJobTitle();
+        this.salaryAmount = employee.getSalary().getAmount();
+        this.salaryCurrency = employee.getSalary().getCurrency().getCurrencyCode();
+        this.status = employee.getStatus();
+        this.lastModifiedDate = employee.getLastModifiedDate();
+    }
+
+    public Employee toDomain() {
+        Employee employee = Employee.reconstitute(
+            EmployeeId.of(id),
+            firstName,
+            lastName,
+            Email.of(email),
+            phoneNumber,
+            dateOfBirth,
+            hireDate,
+            departmentId != null ? DepartmentId.of(departmentId) : null,
+            jobTitle,
+            Money.of(salaryAmount, Currency.getInstance(salaryCurrency)),
+            status,
+            lastModifiedDate
+        );
+        employee.setVersion(version);
+        return employee;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import com.hrpayroll.infrastructure.messaging.outbox.OutboxEvent;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for an unpublished domain event in the transactional outbox.
+ * The sequence is drawn one value at a time: blocks drawn ahead by each instance would number events
+ * out of the order they were written in, and the relay publishes in sequence order. Inserts are still batched.
+ */
+@Entity
+@Table(name = "event_outbox",
+    uniqueConstraints = @UniqueConstraint(name = "uk_event_outbox_event_id", columnNames = "event_id"))
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_outbox_seq")
+    @SequenceGenerator(name = "event_outbox_seq", sequenceName = "event_outbox_seq", allocationSize = 1)
+    @Column(name = "sequence", nullable = false, updatable = false)
+    private Long sequence;
+
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false, length = 36)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "occurred_on", nullable = false, updatable = false)
+    private Instant occurredOn;
+
+    @Column(name = "content_type", nullable = false, updatable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "payload", nullable = false, updatable = false, length = 8000)
+    private byte[] payload;
+
+    protected OutboxEventJpaEntity() {
+    }
+
+    public static OutboxEventJpaEntity fromOutboxEvent(OutboxEvent event) {
+        OutboxEventJpaEntity entity = new OutboxEventJpaEntity();
+        entity.eventId = event.eventId();
+        entity.aggregateType = event.aggregateType();
+        entity.aggregateId = event.aggregateId();
+        entity.eventType = event.eventType();
+        entity.occurredOn = event.occurredOn();
+        entity.contentType = event.contentType();
+        entity.payload = event.payload();
+        return entity;
+    }
+
+    public OutboxEvent toOutboxEvent() {
+        return new OutboxEvent(sequence, eventId, aggregateType, aggregateId, eventType, occurredOn, contentType, payload);
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,133 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * JPA entity for the Payroll aggregate.
+ * All amounts of a payroll share the base salary currency, so it is stored once.
+ */
+@Entity
+@Table(name = "payrolls",
+    uniqueConstraints = @UniqueConstraint(name = "uk_payrolls_employee_period", columnNames = {"employee_id", "pay_period"}),
+    indexes = {
+        @Index(name = "idx_payrolls_pay_period", columnList = "pay_period"),
+        @Index(name = "idx_payrolls_status", columnList = "status")
+    })
+public class PayrollJpaEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private UUID employeeId;
+
+    @Convert(converter = YearMonthAttributeConverter.class)
+    @Column(name = "pay_period", nullable = false, updatable = false)
+    private YearMonth payPeriod;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "base_salary", nullable = false, precision = 19, scale = 2)
+    private BigDecimal baseSalary;
+
+    @Column(name = "bonus", nullable = false, precision = 19, scale = 2)
+    private BigDecimal bonus;
+
+    @Column(name = "deductions", nullable = false, precision = 19, scale = 2)
+    private BigDecimal deductions;
+
+    @Column(name = "net_pay", nullable = false, precision = 19, scale = 2)
+    private BigDecimal netPay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PayrollStatus status;
+
+    @Column(name = "processed_date")
+    private LocalDate processedDate;
+
+    @Column(name = "paid_date")
+    private LocalDate paidDate;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected PayrollJpaEntity() {
+    }
+
+    public static PayrollJpaEntity fromDomain(Payroll payroll) {
+        PayrollJpaEntity entity = new PayrollJpaEntity();
+        entity.id = payroll.getId().getValue();
+        entity.employeeId = payroll.getEmployeeId().getValue();
+        entity.payPeriod = payroll.getPayPeriod();
+        entity.updateFrom(payroll);
+        return entity;
+    }
+
+    public void updateFrom(Payroll payroll) {
+        this.currency = payroll.getBaseSalary().getCurrency().getCurrencyCode();
+        this.baseSalary = payroll.getBaseSalary().getAmount();
+        this.bonus = payroll.getBonus().getAmount();
+        this.deductions = payroll.getDeductions().getAmount();
+        this.netPay = payroll.getNetPay().getAmount();
+        this.status = payroll.getStatus();
+        this.processedDate = payroll.getProcessedDate();
+        this.paidDate = payroll.getPaidDate();
+    }
+
+    public Payroll toDomain() {
+        Currency payrollCurrency = Currency.getInstance(currency);
+        Payroll payroll = Payroll.reconstitute(
+            PayrollId.of(id),
+            EmployeeId.of(employeeId),
+            payPeriod,
+            Money.of(baseSalary, payrollCurrency),
+            Money.of(bonus, payrollCurrency),
+            Money.of(deductions, payrollCurrency),
+            Money.of(netPay, payrollCurrency),
+            status,
+            processedDate,
+            paidDate
+        );
+        payroll.setVersion(version);
+        return payroll;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hrpayroll.infrastructure.persistence.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.YearMonth;
+
+/**
+ * Stores a {@link YearMonth} as a sortable integer ({@code yyyyMM}), e.g. 2025-03 as 202503.
+ */
+@Converter
+public class YearMonthAttributeConverter implements AttributeConverter<YearMonth, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(YearMonth yearMonth) {
+        return yearMonth == null ? null : yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    @Override
+    public YearMonth convertToEntityAttribute(Integer value) {
+        return value == null ? null : YearMonth.of(value / 100, value % 100);
+    }
+}
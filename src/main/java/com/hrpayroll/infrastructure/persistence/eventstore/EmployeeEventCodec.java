@@ -0,0 +1,189 @@
+package com.hrpayroll.infrastructure.persistence.eventstore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeCreatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDepartmentChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeePromotedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeStatusChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeTerminatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeUpdatedEvent;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Encodes employee events and snapshots as JSON for the {@link FileEmployeeEventStore}.
+ * The mapping is written out field by field rather than left to reflection, so the stored format
+ * only changes when this class does, and decoding needs no constructors or setters on the events.
+ */
+public class EmployeeEventCodec {
+
+    static final String SNAPSHOT_TYPE = "EmployeeSnapshot";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public byte[] encode(EmployeeDomainEvent event) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("eventId", event.getEventId().toString());
+        node.put("occurredOn", event.getOccurredOn().toString());
+        node.put("employeeId", event.getEmployeeId().toString());
+        switch (event) {
+            case EmployeeCreatedEvent created -> {
+                node.put("firstName", created.getFirstName());
+                node.put("lastName", created.getLastName());
+                node.put("email", created.getEmail().getValue());
+                node.put("phoneNumber", created.getPhoneNumber());
+                node.put("dateOfBirth", created.getDateOfBirth().toString());
+                node.put("hireDate", created.getHireDate().toString());
+                putDepartment(node, "departmentId", created.getDepartmentId());
+                node.put("jobTitle", created.getJobTitle());
+                putMoney(node, "salary", created.getSalary());
+            }
+            case EmployeeUpdatedEvent updated -> {
+                node.put("firstName", updated.getFirstName());
+                node.put("lastName", updated.getLastName());
+                node.put("phoneNumber", updated.getPhoneNumber());
+            }
+            case EmployeeDepartmentChangedEvent changed -> {
+                putDepartment(node, "oldDepartmentId", changed.getOldDepartmentId());
+                putDepartment(node, "newDepartmentId", changed.getNewDepartmentId());
+            }
+            case EmployeePromotedEvent promoted -> {
+                node.put("newJobTitle", promoted.getNewJobTitle());
+                putMoney(node, "oldSalary", promoted.getOldSalary());
+                putMoney(node, "newSalary", promoted.getNewSalary());
+            }
+            case SalaryAdjustedEvent adjusted -> {
+                putMoney(node, "oldSalary", adjusted.getOldSalary());
+                putMoney(node, "newSalary", adjusted.getNewSalary());
+            }
+            case EmployeeStatusChangedEvent changed -> {
+                node.put("oldStatus", changed.getOldStatus().name());
+                node.put("newStatus", changed.getNewStatus().name());
+            }
+            case EmployeeTerminatedEvent terminated -> {
+                node.put("reason", terminated.getReason());
+                node.put("terminationDate", terminated.getTerminationDate().toString());
+            }
+            default -> throw new IllegalArgumentException("Unsupported employee event " + event.getEventType());
+        }
+        return write(node);
+    }
+
+    public EmployeeDomainEvent decode(String eventType, byte[] payload) {
+        JsonNode node = read(payload);
+        UUID eventId = UUID.fromString(node.get("eventId").asText());
+        Instant occurredOn = Instant.parse(node.get("occurredOn").asText());
+        EmployeeId employeeId = EmployeeId.fromString(node.get("employeeId").asText());
+        return switch (eventType) {
+            case "EmployeeCreated" -> new EmployeeCreatedEvent(eventId, occurredOn, employeeId,
+                text(node, "firstName"), text(node, "lastName"), Email.of(text(node, "email")),
+                text(node, "phoneNumber"), LocalDate.parse(text(node, "dateOfBirth")),
+                LocalDate.parse(text(node, "hireDate")), department(node, "departmentId"),
+                text(node, "jobTitle"), money(node, "salary"));
+            case "EmployeeUpdated" -> new EmployeeUpdatedEvent(eventId, occurredOn, employeeId,
+                text(node, "firstName"), text(node, "lastName"), text(node, "phoneNumber"));
+            case "EmployeeDepartmentChanged" -> new EmployeeDepartmentChangedEvent(eventId, occurredOn, employeeId,
+                department(node, "oldDepartmentId"), department(node, "newDepartmentId"));
+            case "EmployeePromoted" -> new EmployeePromotedEvent(eventId, occurredOn, employeeId,
+                text(node, "newJobTitle"), money(node, "oldSalary"), money(node, "newSalary"));
+            case "SalaryAdjusted" -> new SalaryAdjustedEvent(eventId, occurredOn, employeeId,
+                money(node, "oldSalary"), money(node, "newSalary"));
+            case "EmployeeStatusChanged" -> new EmployeeStatusChangedEvent(eventId, occurredOn, employeeId,
+                EmploymentStatus.valueOf(text(node, "oldStatus")), EmploymentStatus.valueOf(text(node, "newStatus")));
+            case "EmployeeTerminated" -> new EmployeeTerminatedEvent(eventId, occurredOn, employeeId,
+                text(node, "reason"), LocalDate.parse(text(node, "terminationDate")));
+            default -> throw new IllegalArgumentException("Unknown employee event type " + eventType);
+        };
+    }
+
+    public byte[] encodeSnapshot(Employee employee) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("employeeId", employee.getId().toString());
+        node.put("firstName", employee.getFirstName());
+        node.put("lastName", employee.getLastName());
+        node.put("email", employee.getEmail().getValue());
+        node.put("phoneNumber", employee.getPhoneNumber());
+        node.put("dateOfBirth", employee.getDateOfBirth().toString());
+        node.put("hireDate", employee.getHireDate().toString());
+        putDepartment(node, "departmentId", employee.getDepartmentId());
+        node.put("jobTitle", employee.getJobTitle());
+        putMoney(node, "salary", employee.getSalary());
+        node.put("status", employee.getStatus().name());
+        return write(node);
+    }
+
+    public Employee decodeSnapshot(byte[] payload) {
+        JsonNode node = read(payload);
+        return Employee.reconstitute(
+            EmployeeId.fromString(text(node, "employeeId")),
+            text(node, "firstName"),
+            text(node, "lastName"),
+            Email.of(text(node, "email")),
+            text(node, "phoneNumber"),
+            LocalDate.parse(text(node, "dateOfBirth")),
+            LocalDate.parse(text(node, "hireDate")),
+            department(node, "departmentId"),
+            text(node, "jobTitle"),
+            money(node, "salary"),
+            EmploymentStatus.valueOf(text(node, "status"))
+        );
+    }
+
+    private static void putDepartment(ObjectNode node, String field, DepartmentId departmentId) {
+        node.put(field, departmentId == null ? null : departmentId.toString());
+    }
+
+    private static void putMoney(ObjectNode node, String field, Money money) {
+        node.putObject(field)
+            .put("amount", money.getAmount().toPlainString())
+            .put("currency", money.getCurrency().getCurrencyCode());
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static DepartmentId department(JsonNode node, String field) {
+        String value = text(node, field);
+        return value == null ? null : DepartmentId.fromString(value);
+    }
+
+    private static Money money(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return Money.of(new BigDecimal(value.get("amount").asText()),
+            Currency.getInstance(value.get("currency").asText()));
+    }
+
+    private byte[] write(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode employee record", e);
+        }
+    }
+
+    private JsonNode read(byte[] payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode employee record", e);
+        }
+    }
+}
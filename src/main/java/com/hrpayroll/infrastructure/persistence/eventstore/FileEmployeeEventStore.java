@@ -0,0 +1,342 @@
+package com.hrpayroll.infrastructure.persistence.eventstore;
+
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeCreatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Append-only, file-backed store of employee event streams.
+ * Every event is appended to a single log file as a length-prefixed record tagged with the employee id
+ * and its version (its position in that employee's stream); nothing is ever rewritten in place.
+ * Once {@code snapshotInterval} events have accumulated since an employee's last snapshot, the current
+ * state is appended as a snapshot record, so a load decodes that snapshot and replays only the events
+ * after it ({@code 0} disables snapshots and every load replays the whole stream).
+ * The file positions of each stream's records are held in memory and rebuilt by one sequential scan
+ * when the store is opened; a record cut short by a crash at the end of the file is truncated away.
+ * Appends are serialized; loads read the file concurrently with them.
+ */
+public class FileEmployeeEventStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(FileEmployeeEventStore.class);
+
+    private static final byte EVENT = 1;
+    private static final byte SNAPSHOT = 2;
+    private static final byte DELETED = 3;
+    // kind, employee id, version and type length, following the record length
+    private static final int FIXED_BODY_BYTES = 1 + 2 * Long.BYTES + Integer.BYTES + Short.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final EmployeeEventCodec codec;
+    private final int snapshotInterval;
+    private final boolean syncOnWrite;
+    private final Map<EmployeeId, StreamPosition> streams = new HashMap<>();
+    private long end;
+
+    public FileEmployeeEventStore(Path file, EmployeeEventCodec codec, int snapshotInterval, boolean syncOnWrite) {
+        if (snapshotInterval < 0) {
+            throw new IllegalArgumentException("Snapshot interval cannot be negative");
+        }
+        this.file = file;
+        this.codec = codec;
+        this.snapshotInterval = snapshotInterval;
+        this.syncOnWrite = syncOnWrite;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            scan();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open employee event store " + file, e);
+        }
+    }
+
+    /**
+     * Appends the employee's new events to its stream, followed by a snapshot when one is due.
+     * An employee whose stream does not start with its {@link EmployeeCreatedEvent}, such as one
+     * reconstituted from another store, is snapshotted right away so it can be loaded.
+     * The events are only appended while the stream is still at {@code expectedVersion}, the version
+     * the employee was loaded at ({@code 0} for a new employee), so a change made from a stale copy
+     * cannot be appended on top of events it has not seen.
+     *
+     * @throws IllegalStateException if the stream has moved past {@code expectedVersion}
+     */
+    public synchronized void append(Employee employee, int expectedVersion,
+                                    List<? extends EmployeeDomainEvent> events) {
+        StreamPosition stream = streams.get(employee.getId());
+        boolean newStream = stream == null;
+        if (!newStream && events.isEmpty()) {
+            return;
+        }
+        int version = newStream ? 0 : stream.version;
+        if (version != expectedVersion) {
+            throw new IllegalStateException("Employee " + employee.getId() + " is at version " + version
+                + " but was expected at version " + expectedVersion + "; it was changed concurrently");
+        }
+        List<ByteBuffer> records = new ArrayList<>(events.size() + 1);
+        long[] offsets = new long[events.size()];
+        long position = end;
+        for (int i = 0; i < events.size(); i++) {
+            EmployeeDomainEvent event = events.get(i);
+            ByteBuffer record = record(EVENT, employee.getId(), ++version, event.getEventType(), codec.encode(event));
+            offsets[i] = position;
+            position += record.remaining();
+            records.add(record);
+        }
+        int snapshotVersion = newStream ? 0 : stream.snapshotVersion;
+        boolean snapshotDue = newStream && (events.isEmpty() || !(events.getFirst() instanceof EmployeeCreatedEvent))
+            || snapshotInterval > 0 && version - snapshotVersion >= snapshotInterval;
+        long snapshotOffset = position;
+        if (snapshotDue) {
+            records.add(record(SNAPSHOT, employee.getId(), version, EmployeeEventCodec.SNAPSHOT_TYPE,
+                codec.encodeSnapshot(employee)));
+        }
+        write(records);
+
+        if (newStream) {
+            stream = new StreamPosition();
+            streams.put(employee.getId(), stream);
+        }
+        for (long offset : offsets) {
+            stream.addEvent(offset);
+        }
+        if (snapshotDue) {
+            stream.snapshot(snapshotOffset, version);
+        }
+    }
+
+    /**
+     * Loads the current state of an employee from its latest snapshot and the events after it.
+     */
+    public Optional<Employee> load(EmployeeId id) {
+        return loadVersioned(id).map(VersionedEmployee::employee);
+    }
+
+    /**
+     * Loads the current state of an employee together with the version of its stream that state
+     * reflects, to be passed back as the expected version when appending changes to it.
+     */
+    public Optional<VersionedEmployee> loadVersioned(EmployeeId id) {
+        long snapshotOffset;
+        long[] tail;
+        int version;
+        synchronized (this) {
+            StreamPosition stream = streams.get(id);
+            if (stream == null) {
+                return Optional.empty();
+            }
+            snapshotOffset = stream.snapshotOffset;
+            tail = stream.eventsAfter(stream.snapshotVersion);
+            version = stream.version;
+        }
+        Employee snapshot = snapshotOffset < 0 ? null : codec.decodeSnapshot(read(snapshotOffset).payload());
+        return Optional.of(new VersionedEmployee(Employee.replay(snapshot, decodeEvents(tail)), version));
+    }
+
+    /**
+     * Every event recorded for the employee, oldest first, regardless of snapshots.
+     */
+    public List<EmployeeDomainEvent> readHistory(EmployeeId id) {
+        long[] offsets;
+        synchronized (this) {
+            StreamPosition stream = streams.get(id);
+            if (stream == null) {
+                return List.of();
+            }
+            offsets = stream.eventsAfter(0);
+        }
+        return decodeEvents(offsets);
+    }
+
+    /**
+     * Number of events in the employee's stream, {@code 0} if it has none.
+     */
+    public synchronized int getVersion(EmployeeId id) {
+        StreamPosition stream = streams.get(id);
+        return stream == null ? 0 : stream.version;
+    }
+
+    public synchronized List<EmployeeId> getEmployeeIds() {
+        return List.copyOf(streams.keySet());
+    }
+
+    /**
+     * Ends the employee's stream. Its records stay in the file but are skipped from then on.
+     */
+    public synchronized void delete(EmployeeId id) {
+        if (streams.remove(id) != null) {
+            write(List.of(record(DELETED, id, 0, "EmployeeDeleted", new byte[0])));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void scan() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+            Channels.newInputStream(channel.position(0)), 1 << 16));
+        try {
+            while (position < size) {
+                int length = in.readInt();
+                if (length < FIXED_BODY_BYTES || position + Integer.BYTES + length > size) {
+                    break;
+                }
+                byte kind = in.readByte();
+                EmployeeId id = EmployeeId.of(new UUID(in.readLong(), in.readLong()));
+                int version = in.readInt();
+                in.skipNBytes(length - (FIXED_BODY_BYTES - Short.BYTES));
+                switch (kind) {
+                    case EVENT -> streams.computeIfAbsent(id, key -> new StreamPosition()).addEvent(position);
+                    case SNAPSHOT -> streams.computeIfAbsent(id, key -> new StreamPosition()).snapshot(position, version);
+                    case DELETED -> streams.remove(id);
+                    default -> throw new IOException("Unknown record kind " + kind + " at offset " + position);
+                }
+                position += Integer.BYTES + length;
+            }
+        } catch (EOFException e) {
+            // torn record at the end of the file, handled below
+        }
+        if (position < size) {
+            log.warn("Truncating {} incomplete bytes at the end of {}", size - position, file);
+            channel.truncate(position);
+        }
+        end = position;
+    }
+
+    private void write(List<ByteBuffer> records) {
+        try {
+            channel.position(end);
+            long written = 0;
+            for (ByteBuffer record : records) {
+                while (record.hasRemaining()) {
+                    written += channel.write(record);
+                }
+            }
+            if (syncOnWrite) {
+                channel.force(false);
+            }
+            end += written;
+        } catch (IOException e) {
+            try {
+                channel.truncate(end);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("Could not append to employee event store " + file, e);
+        }
+    }
+
+    private List<EmployeeDomainEvent> decodeEvents(long[] offsets) {
+        List<EmployeeDomainEvent> events = new ArrayList<>(offsets.length);
+        for (long offset : offsets) {
+            StoredRecord record = read(offset);
+            events.add(codec.decode(record.type(), record.payload()));
+        }
+        return events;
+    }
+
+    private StoredRecord read(long offset) {
+        try {
+            ByteBuffer length = readFully(ByteBuffer.allocate(Integer.BYTES), offset);
+            ByteBuffer body = readFully(ByteBuffer.allocate(length.getInt()), offset + Integer.BYTES);
+            body.position(FIXED_BODY_BYTES - Short.BYTES);
+            byte[] type = new byte[body.getShort()];
+            body.get(type);
+            byte[] payload = new byte[body.remaining()];
+            body.get(payload);
+            return new StoredRecord(new String(type, StandardCharsets.UTF_8), payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read employee event store " + file + " at offset " + offset, e);
+        }
+    }
+
+    private ByteBuffer readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Record at offset " + position + " runs past the end of " + file);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static ByteBuffer record(byte kind, EmployeeId id, int version, String type, byte[] payload) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_BODY_BYTES + typeBytes.length + payload.length;
+        return ByteBuffer.allocate(Integer.BYTES + length)
+            .putInt(length)
+            .put(kind)
+            .putLong(id.getValue().getMostSignificantBits())
+            .putLong(id.getValue().getLeastSignificantBits())
+            .putInt(version)
+            .putShort((short) typeBytes.length)
+            .put(typeBytes)
+            .put(payload)
+            .flip();
+    }
+
+    /**
+     * An employee as loaded from its stream, with the number of events that stream held at the time.
+     */
+    public record VersionedEmployee(Employee employee, int version) {
+    }
+
+    private record StoredRecord(String type, byte[] payload) {
+    }
+
+    /**
+     * File offsets of one employee's event records, indexed by version - 1, and of its latest snapshot.
+     */
+    private static final class StreamPosition {
+        private long[] eventOffsets = new long[4];
+        private int version;
+        private long snapshotOffset = -1;
+        private int snapshotVersion;
+
+        void addEvent(long offset) {
+            if (version == eventOffsets.length) {
+                eventOffsets = Arrays.copyOf(eventOffsets, version * 2);
+            }
+            eventOffsets[version++] = offset;
+        }
+
+        void snapshot(long offset, int atVersion) {
+            snapshotOffset = offset;
+            snapshotVersion = atVersion;
+        }
+
+        long[] eventsAfter(int fromVersion) {
+            return Arrays.copyOfRange(eventOffsets, fromVersion, version);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.hrpayroll.infrastructure.persistence.jpa;
+
+import com.hrpayroll.infrastructure.persistence.entity.DepartmentJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for {@link DepartmentJpaEntity}.
+ */
+public interface DepartmentJpaRepository extends JpaRepository<DepartmentJpaEntity, UUID> {
+
+    Optional<DepartmentJpaEntity> findByName(String name);
+
+    boolean existsByName(String name);
+}
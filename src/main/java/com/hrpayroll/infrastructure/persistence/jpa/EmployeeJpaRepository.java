@@ -0,0 +1,29 @@
+package com.hrpayroll.infrastructure.persistence.jpa;
+
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.infrastructure.persistence.entity.EmployeeJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for {@link EmployeeJpaEntity}.
+ */
+public interface EmployeeJpaRepository extends JpaRepository<EmployeeJpaEntity, UUID> {
+
+    Optional<EmployeeJpaEntity> findByEmail(String email);
+
+    List<EmployeeJpaEntity> findByDepartmentId(UUID departmentId);
+
+    List<EmployeeJpaEntity> findByStatus(EmploymentStatus status);
+
+    boolean existsByEmail(String email);
+
+    @Query("select e.email from EmployeeJpaEntity e where e.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+}
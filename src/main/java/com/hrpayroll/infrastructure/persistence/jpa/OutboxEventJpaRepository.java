@@ -0,0 +1,23 @@
+package com.hrpayroll.infrastructure.persistence.jpa;
+
+import com.hrpayroll.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link OutboxEventJpaEntity}.
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    List<OutboxEventJpaEntity> findAllByOrderBySequenceAsc(Limit limit);
+
+    @Modifying
+    @Query("delete from OutboxEventJpaEntity e where e.sequence in :sequences")
+    int deleteBySequenceIn(@Param("sequences") Collection<Long> sequences);
+}
@@ -0,0 +1,36 @@
+package com.hrpayroll.infrastructure.persistence.jpa;
+
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.infrastructure.persistence.entity.PayrollJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for {@link PayrollJpaEntity}.
+ */
+public interface PayrollJpaRepository extends JpaRepository<PayrollJpaEntity, UUID> {
+
+    List<PayrollJpaEntity> findByEmployeeId(UUID employeeId);
+
+    Optional<PayrollJpaEntity> findByEmployeeIdAndPayPeriod(UUID employeeId, YearMonth payPeriod);
+
+    List<PayrollJpaEntity> findByStatus(PayrollStatus status);
+
+    List<PayrollJpaEntity> findByPayPeriod(YearMonth payPeriod);
+
+    @Query("select p.employeeId from PayrollJpaEntity p where p.payPeriod = :payPeriod and p.employeeId in :employeeIds")
+    List<UUID> findEmployeeIdsWithPayroll(@Param("payPeriod") YearMonth payPeriod,
+                                          @Param("employeeIds") Collection<UUID> employeeIds);
+
+    List<PayrollJpaEntity> findAllByOrderByIdAsc(Limit limit);
+
+    List<PayrollJpaEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+}
@@ -0,0 +1,150 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.shared.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-through cache in front of {@link EmployeeRepository#findById}, bounded by size and time to live.
+ * Cached employees are never handed out: every hit returns a {@link Employee#copy() copy}, so a caller
+ * changing its employee, in a transaction that may still roll back, cannot alter what others are served.
+ * Saving an aggregate evicts every employee named by its pending {@link EmployeeDomainEvent}s, and the
+ * aggregate itself, once the write has returned; if the write joined an outer transaction the entries
+ * are evicted again after it completes, so a lookup racing the commit cannot leave a stale entry behind.
+ * Eviction also happens when the write fails, so a half-applied aggregate is never served from the cache.
+ * Evictions are local: an instance keeps serving an employee changed through another instance until its
+ * entry expires, so {@code timeToLive} bounds how stale a lookup can be when several instances share a database.
+ * All other queries go straight to the delegate. Hits, misses and evictions are published to Micrometer
+ * as the {@code cache.*} meters tagged {@code cache=employees}.
+ */
+public class CachingEmployeeRepository implements EmployeeRepository {
+
+    static final String CACHE_NAME = "employees";
+
+    private final EmployeeRepository delegate;
+    private final Cache<EmployeeId, Employee> cache;
+
+    public CachingEmployeeRepository(EmployeeRepository delegate, long maximumSize, Duration timeToLive,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Employee save(Employee employee) {
+        Set<EmployeeId> affected = affectedIds(employee);
+        try {
+            return delegate.save(employee);
+        } finally {
+            evict(affected);
+        }
+    }
+
+    @Override
+    public List<Employee> saveAll(Collection<Employee> employees) {
+        Set<EmployeeId> affected = new HashSet<>();
+        for (Employee employee : employees) {
+            affected.addAll(affectedIds(employee));
+        }
+        try {
+            return delegate.saveAll(employees);
+        } finally {
+            evict(affected);
+        }
+    }
+
+    @Override
+    public Optional<Employee> findById(EmployeeId id) {
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null))).map(Employee::copy);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Employee> findByDepartmentId(DepartmentId departmentId) {
+        return delegate.findByDepartmentId(departmentId);
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+        return delegate.findPage(after, status, departmentId, limit);
+    }
+
+    @Override
+    public void delete(EmployeeId id) {
+        try {
+            delegate.delete(id);
+        } finally {
+            evict(Set.of(id));
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<Email> findExistingEmails(Collection<Email> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    private Set<EmployeeId> affectedIds(Employee employee) {
+        Set<EmployeeId> ids = new HashSet<>();
+        ids.add(employee.getId());
+        for (DomainEvent event : employee.getDomainEvents()) {
+            if (event instanceof EmployeeDomainEvent employeeEvent) {
+                ids.add(employeeEvent.getEmployeeId());
+            }
+        }
+        return ids;
+    }
+
+    private void evict(Set<EmployeeId> ids) {
+        cache.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(ids);
+                }
+            });
+        }
+    }
+}
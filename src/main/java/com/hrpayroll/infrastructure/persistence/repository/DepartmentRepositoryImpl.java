@@ -0,0 +1,78 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.entity.DepartmentJpaEntity;
+import com.hrpayroll.infrastructure.persistence.jpa.DepartmentJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA implementation of {@link DepartmentRepository}.
+ */
+@Transactional(readOnly = true)
+public class DepartmentRepositoryImpl implements DepartmentRepository {
+
+    private final DepartmentJpaRepository jpaRepository;
+    private final JpaBatchWriter<Department, DepartmentJpaEntity> writer;
+    private final DomainEventRecorder eventRecorder;
+
+    public DepartmentRepositoryImpl(DepartmentJpaRepository jpaRepository, EntityManager entityManager, int batchSize,
+                                    DomainEventRecorder eventRecorder) {
+        this.jpaRepository = jpaRepository;
+        this.eventRecorder = eventRecorder;
+        this.writer = new JpaBatchWriter<>(entityManager, jpaRepository, batchSize,
+            department -> department.getId().getValue(),
+            DepartmentJpaEntity::fromDomain,
+            DepartmentJpaEntity::updateFrom,
+            DepartmentJpaEntity::getVersion);
+    }
+
+    @Override
+    @Transactional
+    public Department save(Department department) {
+        writer.write(department);
+        eventRecorder.record(department);
+        return department;
+    }
+
+    @Override
+    @Transactional
+    public List<Department> saveAll(Collection<Department> departments) {
+        writer.writeAll(departments);
+        eventRecorder.recordAll(departments);
+        return List.copyOf(departments);
+    }
+
+    @Override
+    public Optional<Department> findById(DepartmentId id) {
+        return jpaRepository.findById(id.getValue()).map(DepartmentJpaEntity::toDomain);
+    }
+
+    @Override
+    public Optional<Department> findByName(String name) {
+        return jpaRepository.findByName(name).map(DepartmentJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return jpaRepository.findAll().stream().map(DepartmentJpaEntity::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public void delete(DepartmentId id) {
+        jpaRepository.deleteById(id.getValue());
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return jpaRepository.existsByName(name);
+    }
+}
@@ -0,0 +1,171 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeDepartmentChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeStatusChangedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeTerminatedEvent;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.shared.DomainEvent;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * In-memory secondary indexes over employees (email, department, status).
+ * Maintained incrementally from the domain events pending on an aggregate when it is saved:
+ * an employee seen for the first time (its {@code EmployeeCreatedEvent}, or a reconstituted
+ * aggregate without events) is indexed from its state, later changes are applied
+ * from {@link EmployeeDepartmentChangedEvent}, {@link EmployeeStatusChangedEvent} and
+ * {@link EmployeeTerminatedEvent}. Re-applying the same events converges to the same result.
+ * Emails are unique like the database's {@code uk_employees_email} constraint: indexing a new employee
+ * whose email already belongs to another one fails and leaves the index unchanged.
+ * Id sets are ordered by id so they can also serve keyset-paginated listings.
+ * <p>
+ * Callers must serialize {@link #apply} and {@link #remove} per employee id; lookups may run
+ * concurrently with updates and observe each index independently.
+ */
+public class EmployeeIndex {
+
+    private final ConcurrentMap<EmployeeId, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<EmployeeId> allIds = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<Email, EmployeeId> byEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DepartmentId, NavigableSet<EmployeeId>> byDepartment = new ConcurrentHashMap<>();
+    private final Map<EmploymentStatus, NavigableSet<EmployeeId>> byStatus = new EnumMap<>(EmploymentStatus.class);
+
+    public EmployeeIndex() {
+        for (EmploymentStatus status : EmploymentStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    public void apply(Employee employee) {
+        EmployeeId id = employee.getId();
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry(employee.getEmail(), employee.getDepartmentId(), employee.getStatus());
+            EmployeeId holder = byEmail.putIfAbsent(entry.email(), id);
+            if (holder != null && !holder.equals(id)) {
+                throw new IllegalStateException("Employee with email already exists: " + entry.email());
+            }
+            addToDepartment(entry.departmentId(), id);
+            byStatus.get(entry.status()).add(id);
+            entries.put(id, entry);
+            allIds.add(id);
+            return;
+        }
+
+        for (DomainEvent event : employee.getDomainEvents()) {
+            entry = switch (event) {
+                case EmployeeDepartmentChangedEvent changed -> moveDepartment(id, entry, changed.getNewDepartmentId());
+                case EmployeeStatusChangedEvent changed -> moveStatus(id, entry, changed.getNewStatus());
+                case EmployeeTerminatedEvent terminated -> moveStatus(id, entry, EmploymentStatus.TERMINATED);
+                default -> entry;
+            };
+        }
+        entries.put(id, entry);
+    }
+
+    public void remove(EmployeeId id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        allIds.remove(id);
+        byEmail.remove(entry.email(), id);
+        removeFromDepartment(entry.departmentId(), id);
+        byStatus.get(entry.status()).remove(id);
+    }
+
+    public Optional<EmployeeId> findByEmail(Email email) {
+        return Optional.ofNullable(byEmail.get(email));
+    }
+
+    public boolean containsEmail(Email email) {
+        return byEmail.containsKey(email);
+    }
+
+    public Set<EmployeeId> findByDepartmentId(DepartmentId departmentId) {
+        Set<EmployeeId> ids = byDepartment.get(departmentId);
+        return ids != null ? Collections.unmodifiableSet(ids) : Set.of();
+    }
+
+    public Set<EmployeeId> findByStatus(EmploymentStatus status) {
+        return Collections.unmodifiableSet(byStatus.get(status));
+    }
+
+    /**
+     * Ids strictly after {@code after} in id order, restricted to the given status and department
+     * when not {@code null}. Lazily evaluated, so taking a page only walks that page.
+     */
+    public Stream<EmployeeId> idsAfter(EmployeeId after, EmploymentStatus status, DepartmentId departmentId) {
+        NavigableSet<EmployeeId> candidates;
+        if (departmentId != null) {
+            candidates = byDepartment.getOrDefault(departmentId, Collections.emptyNavigableSet());
+        } else if (status != null) {
+            candidates = byStatus.get(status);
+        } else {
+            candidates = allIds;
+        }
+        Stream<EmployeeId> ids = (after != null ? candidates.tailSet(after, false) : candidates).stream();
+        if (departmentId != null && status != null) {
+            ids = ids.filter(id -> {
+                Entry entry = entries.get(id);
+                return entry != null && entry.status() == status;
+            });
+        }
+        return ids;
+    }
+
+    private Entry moveDepartment(EmployeeId id, Entry entry, DepartmentId newDepartmentId) {
+        if (entry.departmentId() != null && entry.departmentId().equals(newDepartmentId)) {
+            return entry;
+        }
+        removeFromDepartment(entry.departmentId(), id);
+        addToDepartment(newDepartmentId, id);
+        return new Entry(entry.email(), newDepartmentId, entry.status());
+    }
+
+    private Entry moveStatus(EmployeeId id, Entry entry, EmploymentStatus newStatus) {
+        if (entry.status() == newStatus) {
+            return entry;
+        }
+        byStatus.get(newStatus).add(id);
+        byStatus.get(entry.status()).remove(id);
+        return new Entry(entry.email(), entry.departmentId(), newStatus);
+    }
+
+    private void addToDepartment(DepartmentId departmentId, EmployeeId id) {
+        if (departmentId == null) {
+            return;
+        }
+        byDepartment.compute(departmentId, (key, ids) -> {
+            NavigableSet<EmployeeId> members = ids != null ? ids : new ConcurrentSkipListSet<>();
+            members.add(id);
+            return members;
+        });
+    }
+
+    private void removeFromDepartment(DepartmentId departmentId, EmployeeId id) {
+        if (departmentId == null) {
+            return;
+        }
+        byDepartment.computeIfPresent(departmentId, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record Entry(Email email, DepartmentId departmentId, EmploymentStatus status) {
+    }
+}
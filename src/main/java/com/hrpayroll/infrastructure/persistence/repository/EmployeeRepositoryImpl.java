@@ -0,0 +1,142 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.entity.EmployeeJpaEntity;
+import com.hrpayroll.infrastructure.persistence.jpa.EmployeeJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPA implementation of {@link EmployeeRepository}.
+ */
+@Transactional(readOnly = true)
+public class EmployeeRepositoryImpl implements EmployeeRepository {
+
+    private final EmployeeJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JpaBatchWriter<Employee, EmployeeJpaEntity> writer;
+    private final DomainEventRecorder eventRecorder;
+
+    public EmployeeRepositoryImpl(EmployeeJpaRepository jpaRepository, EntityManager entityManager, int batchSize,
+                                  DomainEventRecorder eventRecorder) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.eventRecorder = eventRecorder;
+        this.writer = new JpaBatchWriter<>(entityManager, jpaRepository, batchSize,
+            employee -> employee.getId().getValue(),
+            EmployeeJpaEntity::fromDomain,
+            EmployeeJpaEntity::updateFrom,
+            EmployeeJpaEntity::getVersion);
+    }
+
+    @Override
+    @Transactional
+    public Employee save(Employee employee) {
+        writer.write(employee);
+        eventRecorder.record(employee);
+        return employee;
+    }
+
+    @Override
+    @Transactional
+    public List<Employee> saveAll(Collection<Employee> employees) {
+        writer.writeAll(employees);
+        eventRecorder.recordAll(employees);
+        return List.copyOf(employees);
+    }
+
+    @Override
+    public Optional<Employee> findById(EmployeeId id) {
+        return jpaRepository.findById(id.getValue()).map(EmployeeJpaEntity::toDomain);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(Email email) {
+        return jpaRepository.findByEmail(email.getValue()).map(EmployeeJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return toDomain(jpaRepository.findAll());
+    }
+
+    @Override
+    public List<Employee> findByDepartmentId(DepartmentId departmentId) {
+        return toDomain(jpaRepository.findByDepartmentId(departmentId.getValue()));
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        return toDomain(jpaRepository.findByStatus(status));
+    }
+
+    @Override
+    public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+        // Only the filters in use go into the query, so each shape can use its (column, id) index
+        StringBuilder jpql = new StringBuilder("select e from EmployeeJpaEntity e where 1 = 1");
+        if (after != null) {
+            jpql.append(" and e.id > :after");
+        }
+        if (status != null) {
+            jpql.append(" and e.status = :status");
+        }
+        if (departmentId != null) {
+            jpql.append(" and e.departmentId = :departmentId");
+        }
+        jpql.append(" order by e.id");
+
+        TypedQuery<EmployeeJpaEntity> query = entityManager.createQuery(jpql.toString(), EmployeeJpaEntity.class)
+            .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("after", after.getValue());
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (departmentId != null) {
+            query.setParameter("departmentId", departmentId.getValue());
+        }
+        return toDomain(query.getResultList());
+    }
+
+    @Override
+    @Transactional
+    public void delete(EmployeeId id) {
+        jpaRepository.deleteById(id.getValue());
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return jpaRepository.existsByEmail(email.getValue());
+    }
+
+    @Override
+    public Set<Email> findExistingEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = emails.stream().map(Email::getValue).toList();
+        Set<Email> existing = new HashSet<>();
+        for (String value : jpaRepository.findEmailsIn(values)) {
+            existing.add(Email.of(value));
+        }
+        return existing;
+    }
+
+    private List<Employee> toDomain(List<EmployeeJpaEntity> entities) {
+        return entities.stream().map(EmployeeJpaEntity::toDomain).toList();
+    }
+}
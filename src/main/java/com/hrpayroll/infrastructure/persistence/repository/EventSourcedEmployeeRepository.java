@@ -0,0 +1,160 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.eventstore.FileEmployeeEventStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Event-sourced implementation of {@link EmployeeRepository}: saving appends the employee's pending
+ * domain events to its stream in a {@link FileEmployeeEventStore}, and loading rebuilds the employee
+ * from its latest snapshot and the events after it, so a save costs one append however large the
+ * employee's history grows and that history (every salary change included) is kept in full.
+ * Email, department and status lookups go through an {@link EmployeeIndex} built from the stored
+ * employees when the repository is created; list queries load each matching employee from the store.
+ * Events are cleared from the aggregate once appended, also when the recorder is disabled,
+ * so that saving the same instance again never appends them twice.
+ * Every employee handed out remembers the stream version it was loaded at, and saving it appends only
+ * while the stream is still at that version, so saving a stale copy fails instead of losing the changes
+ * made since it was loaded.
+ */
+public class EventSourcedEmployeeRepository implements EmployeeRepository {
+
+    private final FileEmployeeEventStore eventStore;
+    private final ConcurrentMap<EmployeeId, Boolean> streams = new ConcurrentHashMap<>();
+    private final EmployeeIndex index = new EmployeeIndex();
+    private final DomainEventRecorder eventRecorder;
+    // instances handed out or saved, by identity, mapped to the stream version they reflect
+    private final Map<Employee, Integer> versions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public EventSourcedEmployeeRepository(FileEmployeeEventStore eventStore, DomainEventRecorder eventRecorder) {
+        this.eventStore = eventStore;
+        this.eventRecorder = eventRecorder;
+        for (EmployeeId id : eventStore.getEmployeeIds()) {
+            eventStore.load(id).ifPresent(employee -> {
+                streams.put(id, Boolean.TRUE);
+                index.apply(employee);
+            });
+        }
+    }
+
+    @Override
+    public Employee save(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        List<EmployeeDomainEvent> events = new ArrayList<>(employee.getDomainEvents().size());
+        for (DomainEvent event : employee.getDomainEvents()) {
+            if (event instanceof EmployeeDomainEvent employeeEvent) {
+                events.add(employeeEvent);
+            }
+        }
+        streams.compute(employee.getId(), (id, present) -> {
+            int expectedVersion = versions.getOrDefault(employee, 0);
+            if (present == null) {
+                // Claim the email in the index first, so a duplicate is rejected before anything is appended
+                index.apply(employee);
+                try {
+                    eventStore.append(employee, expectedVersion, events);
+                } catch (RuntimeException e) {
+                    index.remove(id);
+                    throw e;
+                }
+            } else {
+                eventStore.append(employee, expectedVersion, events);
+                index.apply(employee);
+            }
+            versions.put(employee, expectedVersion + events.size());
+            return Boolean.TRUE;
+        });
+        eventRecorder.record(employee);
+        employee.clearDomainEvents();
+        return employee;
+    }
+
+    @Override
+    public Optional<Employee> findById(EmployeeId id) {
+        return load(id);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(Email email) {
+        return index.findByEmail(email).flatMap(this::load);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return load(streams.keySet());
+    }
+
+    @Override
+    public List<Employee> findByDepartmentId(DepartmentId departmentId) {
+        return load(index.findByDepartmentId(departmentId));
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        return load(index.findByStatus(status));
+    }
+
+    @Override
+    public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+        return index.idsAfter(after, status, departmentId)
+            .map(this::load)
+            .flatMap(Optional::stream)
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public void delete(EmployeeId id) {
+        streams.computeIfPresent(id, (key, present) -> {
+            eventStore.delete(key);
+            index.remove(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return index.containsEmail(email);
+    }
+
+    /**
+     * Every event recorded for the employee, oldest first, e.g. to audit its salary history.
+     */
+    public List<EmployeeDomainEvent> findHistory(EmployeeId id) {
+        return eventStore.readHistory(id);
+    }
+
+    private List<Employee> load(Collection<EmployeeId> ids) {
+        List<Employee> result = new ArrayList<>(ids.size());
+        for (EmployeeId id : ids) {
+            load(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private Optional<Employee> load(EmployeeId id) {
+        return eventStore.loadVersioned(id).map(loaded -> {
+            versions.put(loaded.employee(), loaded.version());
+            return loaded.employee();
+        });
+    }
+}
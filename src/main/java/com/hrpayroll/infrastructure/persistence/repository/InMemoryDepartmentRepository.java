@@ -0,0 +1,84 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe in-memory implementation of {@link DepartmentRepository}.
+ * Like a database, it keeps and returns {@link Department#copy() copies}, and rejects saving a department
+ * over a stored one that was saved since it was loaded, as the JPA adapter does.
+ */
+public class InMemoryDepartmentRepository implements DepartmentRepository {
+
+    private final ConcurrentMap<DepartmentId, Department> departments = new ConcurrentHashMap<>();
+    private final DomainEventRecorder eventRecorder;
+
+    /**
+     * Creates a repository that leaves domain events on the saved aggregates.
+     */
+    public InMemoryDepartmentRepository() {
+        this(DomainEventRecorder.disabled());
+    }
+
+    public InMemoryDepartmentRepository(DomainEventRecorder eventRecorder) {
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    public Department save(Department department) {
+        if (department == null) {
+            throw new IllegalArgumentException("Department cannot be null");
+        }
+        Department stored = department.copy();
+        departments.compute(department.getId(), (id, previous) -> {
+            if (previous != null) {
+                if (previous.getVersion() != department.getVersion()) {
+                    throw new OptimisticLockingFailureException("Department " + id
+                        + " was changed concurrently: it is at version " + previous.getVersion()
+                        + " but was loaded at version " + department.getVersion());
+                }
+                stored.setVersion(previous.getVersion() + 1);
+            }
+            return stored;
+        });
+        department.setVersion(stored.getVersion());
+        eventRecorder.record(department);
+        return department;
+    }
+
+    @Override
+    public Optional<Department> findById(DepartmentId id) {
+        return Optional.ofNullable(departments.get(id)).map(Department::copy);
+    }
+
+    @Override
+    public Optional<Department> findByName(String name) {
+        return departments.values().stream()
+            .filter(department -> department.getName().equals(name))
+            .findFirst()
+            .map(Department::copy);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return departments.values().stream().map(Department::copy).toList();
+    }
+
+    @Override
+    public void delete(DepartmentId id) {
+        departments.remove(id);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return findByName(name).isPresent();
+    }
+}
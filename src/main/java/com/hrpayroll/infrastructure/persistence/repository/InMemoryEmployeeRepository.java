@@ -0,0 +1,118 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe in-memory implementation of {@link EmployeeRepository}.
+ * Backed by a {@link ConcurrentHashMap} so reads never block and writes only
+ * contend on the bin of the employee being saved. Like a database, it keeps and returns
+ * {@link Employee#copy() copies}: changing a returned employee has no effect until it is saved,
+ * and a change that is never saved, e.g. because its transaction rolled back, is never seen by others.
+ * Email, department and status lookups go through an {@link EmployeeIndex} that is
+ * updated atomically with the store for each saved employee, from the pending domain events
+ * before they are handed to the {@link DomainEventRecorder}.
+ */
+public class InMemoryEmployeeRepository implements EmployeeRepository {
+
+    private final ConcurrentMap<EmployeeId, Employee> employees = new ConcurrentHashMap<>();
+    private final EmployeeIndex index = new EmployeeIndex();
+    private final DomainEventRecorder eventRecorder;
+
+    /**
+     * Creates a repository that leaves domain events on the saved aggregates.
+     */
+    public InMemoryEmployeeRepository() {
+        this(DomainEventRecorder.disabled());
+    }
+
+    public InMemoryEmployeeRepository(DomainEventRecorder eventRecorder) {
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    public Employee save(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        Employee stored = employee.copy();
+        employees.compute(employee.getId(), (id, previous) -> {
+            index.apply(employee);
+            return stored;
+        });
+        eventRecorder.record(employee);
+        return employee;
+    }
+
+    @Override
+    public Optional<Employee> findById(EmployeeId id) {
+        return Optional.ofNullable(employees.get(id)).map(Employee::copy);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(Email email) {
+        return index.findByEmail(email).map(employees::get).map(Employee::copy);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return employees.values().stream().map(Employee::copy).toList();
+    }
+
+    @Override
+    public List<Employee> findByDepartmentId(DepartmentId departmentId) {
+        return resolve(index.findByDepartmentId(departmentId));
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        return resolve(index.findByStatus(status));
+    }
+
+    @Override
+    public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+        return index.idsAfter(after, status, departmentId)
+            .map(employees::get)
+            .filter(Objects::nonNull)
+            .limit(limit)
+            .map(Employee::copy)
+            .toList();
+    }
+
+    @Override
+    public void delete(EmployeeId id) {
+        employees.computeIfPresent(id, (key, employee) -> {
+            index.remove(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return index.containsEmail(email);
+    }
+
+    private List<Employee> resolve(Collection<EmployeeId> ids) {
+        List<Employee> result = new ArrayList<>(ids.size());
+        for (EmployeeId id : ids) {
+            Employee employee = employees.get(id);
+            if (employee != null) {
+                result.add(employee.copy());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory implementation of {@link PayrollRepository}.
+ * Keeps a unique (employee, pay period) index so idempotency checks are O(1),
+ * and the ids in order so pages of {@link #findPage} only walk the page.
+ */
+public class InMemoryPayrollRepository implements PayrollRepository {
+
+    private final ConcurrentMap<PayrollId, Payroll> payrolls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<EmployeePeriod, PayrollId> byEmployeeAndPeriod = new ConcurrentHashMap<>();
+    private final NavigableSet<PayrollId> ids = new ConcurrentSkipListSet<>();
+    private final DomainEventRecorder eventRecorder;
+
+    /**
+     * Creates a repository that leaves domain events on the saved aggregates.
+     */
+    public InMemoryPayrollRepository() {
+        this(DomainEventRecorder.disabled());
+    }
+
+    public InMemoryPayrollRepository(DomainEventRecorder eventRecorder) {
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    public Payroll save(Payroll payroll) {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        payrolls.compute(payroll.getId(), (id, previous) -> {
+            byEmployeeAndPeriod.put(new EmployeePeriod(payroll.getEmployeeId(), payroll.getPayPeriod()), id);
+            ids.add(id);
+            return payroll;
+        });
+        eventRecorder.record(payroll);
+        return payroll;
+    }
+
+    @Override
+    public Optional<Payroll> findById(PayrollId id) {
+        return Optional.ofNullable(payrolls.get(id));
+    }
+
+    @Override
+    public List<Payroll> findByEmployeeId(EmployeeId employeeId) {
+        return payrolls.values().stream()
+            .filter(payroll -> payroll.getEmployeeId().equals(employeeId))
+            .toList();
+    }
+
+    @Override
+    public Optional<Payroll> findByEmployeeIdAndPayPeriod(EmployeeId employeeId, YearMonth payPeriod) {
+        PayrollId id = byEmployeeAndPeriod.get(new EmployeePeriod(employeeId, payPeriod));
+        return id != null ? Optional.ofNullable(payrolls.get(id)) : Optional.empty();
+    }
+
+    @Override
+    public List<Payroll> findByStatus(PayrollStatus status) {
+        return payrolls.values().stream()
+            .filter(payroll -> payroll.getStatus() == status)
+            .toList();
+    }
+
+    @Override
+    public List<Payroll> findByPayPeriod(YearMonth payPeriod) {
+        return payrolls.values().stream()
+            .filter(payroll -> payroll.getPayPeriod().equals(payPeriod))
+            .toList();
+    }
+
+    @Override
+    public List<Payroll> findAll() {
+        return List.copyOf(payrolls.values());
+    }
+
+    @Override
+    public List<Payroll> findPage(PayrollId after, int limit) {
+        return (after != null ? ids.tailSet(after, false) : ids).stream()
+            .map(payrolls::get)
+            .filter(Objects::nonNull)
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public void delete(PayrollId id) {
+        payrolls.computeIfPresent(id, (key, payroll) -> {
+            byEmployeeAndPeriod.remove(new EmployeePeriod(payroll.getEmployeeId(), payroll.getPayPeriod()), key);
+            ids.remove(key);
+            return null;
+        });
+    }
+
+    /**
+     * Parallel stream over the live payrolls, for {@link InMemoryPayrollSummaryQuery}.
+     */
+    Stream<Payroll> parallelStream() {
+        return payrolls.values().parallelStream();
+    }
+
+    private record EmployeePeriod(EmployeeId employeeId, YearMonth payPeriod) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.MoneyAccumulator;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.domain.model.payroll.PayrollSummaryQuery;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of {@link PayrollSummaryQuery}.
+ * Scans the payrolls in parallel; each worker sums into its own map of {@link MoneyAccumulator}s
+ * in {@code long} minor units and the maps are merged at the end, so no intermediate {@code Money}
+ * or list of aggregates is created. Departments come from a map of every employee's department,
+ * built once per call, rather than from loading each payroll's employee.
+ */
+public class InMemoryPayrollSummaryQuery implements PayrollSummaryQuery {
+
+    private final InMemoryPayrollRepository payrollRepository;
+    private final EmployeeRepository employeeRepository;
+
+    public InMemoryPayrollSummaryQuery(InMemoryPayrollRepository payrollRepository,
+                                       EmployeeRepository employeeRepository) {
+        this.payrollRepository = payrollRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public List<PayrollTotals> summarize(YearMonth payPeriod) {
+        if (payPeriod == null) {
+            throw new IllegalArgumentException("Pay period cannot be null");
+        }
+        Map<EmployeeId, DepartmentId> departments = departmentsByEmployee();
+        Map<GroupKey, Accumulator> groups = payrollRepository.parallelStream()
+            .filter(payroll -> payroll.getPayPeriod().equals(payPeriod))
+            .collect(HashMap::new, (partial, payroll) -> accumulate(partial, payroll, departments),
+                InMemoryPayrollSummaryQuery::combine);
+        return groups.entrySet().stream()
+            .map(group -> group.getValue().toTotals(group.getKey()))
+            .toList();
+    }
+
+    private static void accumulate(Map<GroupKey, Accumulator> groups, Payroll payroll,
+                                   Map<EmployeeId, DepartmentId> departments) {
+        GroupKey key = new GroupKey(departments.get(payroll.getEmployeeId()), payroll.getStatus(),
+            payroll.getBaseSalary().getCurrency());
+        groups.computeIfAbsent(key, Accumulator::new).add(payroll);
+    }
+
+    private static void combine(Map<GroupKey, Accumulator> left, Map<GroupKey, Accumulator> right) {
+        right.forEach((key, accumulator) -> left.merge(key, accumulator, Accumulator::merge));
+    }
+
+    // Only read while the payrolls are scanned, so the workers can share a plain HashMap
+    private Map<EmployeeId, DepartmentId> departmentsByEmployee() {
+        Map<EmployeeId, DepartmentId> departments = new HashMap<>();
+        for (Employee employee : employeeRepository.findAll()) {
+            if (employee.getDepartmentId() != null) {
+                departments.put(employee.getId(), employee.getDepartmentId());
+            }
+        }
+        return departments;
+    }
+
+    private record GroupKey(DepartmentId departmentId, PayrollStatus status, Currency currency) {
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private final MoneyAccumulator baseSalary;
+        private final MoneyAccumulator bonus;
+        private final MoneyAccumulator deductions;
+        private final MoneyAccumulator netPay;
+
+        Accumulator(GroupKey key) {
+            this.baseSalary = MoneyAccumulator.of(key.currency());
+            this.bonus = MoneyAccumulator.of(key.currency());
+            this.deductions = MoneyAccumulator.of(key.currency());
+            this.netPay = MoneyAccumulator.of(key.currency());
+        }
+
+        void add(Payroll payroll) {
+            count++;
+            baseSalary.add(payroll.getBaseSalary());
+            bonus.add(payroll.getBonus());
+            deductions.add(payroll.getDeductions());
+            netPay.add(payroll.getNetPay());
+        }
+
+        Accumulator merge(Accumulator other) {
+            count += other.count;
+            baseSalary.merge(other.baseSalary);
+            bonus.merge(other.bonus);
+            deductions.merge(other.deductions);
+            netPay.merge(other.netPay);
+            return this;
+        }
+
+        PayrollTotals toTotals(GroupKey key) {
+            return new PayrollTotals(key.departmentId(), key.status(), count,
+                baseSalary.total(), bonus.total(), deductions.total(), netPay.total());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.shared.AggregateRoot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes aggregates through their JPA entities in fixed-size chunks.
+ * Each chunk loads the already persisted rows with a single query, persists the new ones
+ * (inserted as one JDBC batch since ids are assigned up front), updates the rest via
+ * dirty checking, then flushes and detaches the entities it wrote to keep memory flat;
+ * other entities managed by the caller's transaction stay attached.
+ * An aggregate is only written over the row version it was loaded at, and carries the new version
+ * afterwards; a row changed since, e.g. by another instance, fails the write with an
+ * {@link OptimisticLockingFailureException}. Must be called inside a transaction.
+ */
+final class JpaBatchWriter<D extends AggregateRoot<?>, E extends Persistable<UUID>> {
+
+    private final EntityManager entityManager;
+    private final JpaRepository<E, UUID> jpaRepository;
+    private final int batchSize;
+    private final Function<D, UUID> idOf;
+    private final Function<D, E> toEntity;
+    private final BiConsumer<E, D> updateEntity;
+    private final ToLongFunction<E> versionOf;
+
+    JpaBatchWriter(EntityManager entityManager, JpaRepository<E, UUID> jpaRepository, int batchSize,
+                   Function<D, UUID> idOf, Function<D, E> toEntity, BiConsumer<E, D> updateEntity,
+                   ToLongFunction<E> versionOf) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.entityManager = entityManager;
+        this.jpaRepository = jpaRepository;
+        this.batchSize = batchSize;
+        this.idOf = idOf;
+        this.toEntity = toEntity;
+        this.updateEntity = updateEntity;
+        this.versionOf = versionOf;
+    }
+
+    void write(D aggregate) {
+        E entity = jpaRepository.findById(idOf.apply(aggregate)).orElse(null);
+        entity = writeEntity(entity, aggregate);
+        flush();
+        aggregate.setVersion(versionOf.applyAsLong(entity));
+    }
+
+    void writeAll(Collection<D> aggregates) {
+        List<D> chunk = new ArrayList<>(Math.min(batchSize, aggregates.size()));
+        for (D aggregate : aggregates) {
+            chunk.add(aggregate);
+            if (chunk.size() == batchSize) {
+                writeChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk);
+        }
+    }
+
+    private void writeChunk(List<D> chunk) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (D aggregate : chunk) {
+            ids.add(idOf.apply(aggregate));
+        }
+        Map<UUID, E> existing = new HashMap<>();
+        for (E entity : jpaRepository.findAllById(ids)) {
+            existing.put(entity.getId(), entity);
+        }
+
+        List<E> written = new ArrayList<>(chunk.size());
+        for (D aggregate : chunk) {
+            written.add(writeEntity(existing.get(idOf.apply(aggregate)), aggregate));
+        }
+        flush();
+        for (int i = 0; i < chunk.size(); i++) {
+            E entity = written.get(i);
+            chunk.get(i).setVersion(versionOf.applyAsLong(entity));
+            entityManager.detach(entity);
+        }
+    }
+
+    private E writeEntity(E entity, D aggregate) {
+        if (entity == null) {
+            entity = toEntity.apply(aggregate);
+            entityManager.persist(entity);
+            return entity;
+        }
+        long storedVersion = versionOf.applyAsLong(entity);
+        if (storedVersion != aggregate.getVersion()) {
+            throw new OptimisticLockingFailureException(aggregate.getClass().getSimpleName() + " " + entity.getId()
+                + " was changed concurrently: it is at version " + storedVersion
+                + " but was loaded at version " + aggregate.getVersion());
+        }
+        updateEntity.accept(entity, aggregate);
+        return entity;
+    }
+
+    // Hibernate checks the version again in the update statement, catching a change made after the load above
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException e) {
+            throw new OptimisticLockingFailureException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.infrastructure.messaging.outbox.EventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.OutboxEvent;
+import com.hrpayroll.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.hrpayroll.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA implementation of {@link EventOutbox}, backed by the {@code event_outbox} table.
+ * Appends must join the transaction that writes the aggregate; large appends are flushed
+ * in JDBC-batch-sized chunks so the persistence context stays small.
+ * The relay lease is a row of {@code event_outbox_relay_lease}, taken over with a conditional update, so
+ * instances sharing the database agree on one relay; expiry uses the clocks of the instances, so the lease
+ * must be much longer than their clock skew.
+ */
+@Transactional(readOnly = true)
+public class JpaEventOutbox implements EventOutbox {
+
+    private static final String RELAY_LEASE = "kafka";
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public JpaEventOutbox(OutboxEventJpaRepository jpaRepository, EntityManager entityManager, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<OutboxEvent> events) {
+        int pending = 0;
+        for (OutboxEvent event : events) {
+            entityManager.persist(OutboxEventJpaEntity.fromOutboxEvent(event));
+            if (++pending == batchSize && events.size() > batchSize) {
+                // Flushing first keeps aggregate changes made earlier in the transaction
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> fetchUnpublished(int limit) {
+        return jpaRepository.findAllByOrderBySequenceAsc(Limit.of(limit)).stream()
+            .map(OutboxEventJpaEntity::toOutboxEvent)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(Collection<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Long> sequences = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            sequences.add(event.sequence());
+        }
+        jpaRepository.deleteBySequenceIn(sequences);
+    }
+
+    @Override
+    @Transactional
+    public boolean acquireRelayLease(String relayId, Duration lease) {
+        Instant now = Instant.now();
+        int updated = entityManager.createNativeQuery("""
+                update event_outbox_relay_lease set owner = :owner, expires_at = :expiresAt
+                where name = :name and (owner = :owner or owner is null or expires_at < :now)""")
+            .setParameter("owner", relayId)
+            .setParameter("expiresAt", now.plus(lease))
+            .setParameter("name", RELAY_LEASE)
+            .setParameter("now", now)
+            .executeUpdate();
+        return updated == 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.domain.model.payroll.PayrollSummaryQuery;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA implementation of {@link PayrollSummaryQuery}.
+ * A single grouped query over {@code payrolls}, joined to {@code employees} for the department,
+ * so the database returns one row per group and no payroll entity is loaded.
+ */
+@Transactional(readOnly = true)
+public class JpaPayrollSummaryQuery implements PayrollSummaryQuery {
+
+    private static final String SUMMARY_QUERY = """
+        select e.departmentId, p.status, p.currency, count(p),
+               sum(p.baseSalary), sum(p.bonus), sum(p.deductions), sum(p.netPay)
+        from PayrollJpaEntity p left join EmployeeJpaEntity e on e.id = p.employeeId
+        where p.payPeriod = :payPeriod
+        group by e.departmentId, p.status, p.currency
+        """;
+
+    private final EntityManager entityManager;
+
+    public JpaPayrollSummaryQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<PayrollTotals> summarize(YearMonth payPeriod) {
+        if (payPeriod == null) {
+            throw new IllegalArgumentException("Pay period cannot be null");
+        }
+        return entityManager.createQuery(SUMMARY_QUERY, Object[].class)
+            .setParameter("payPeriod", payPeriod)
+            .getResultList()
+            .stream()
+            .map(JpaPayrollSummaryQuery::toTotals)
+            .toList();
+    }
+
+    private static PayrollTotals toTotals(Object[] row) {
+        UUID departmentId = (UUID) row[0];
+        Currency currency = Currency.getInstance((String) row[2]);
+        return new PayrollTotals(
+            departmentId != null ? DepartmentId.of(departmentId) : null,
+            (PayrollStatus) row[1],
+            ((Number) row[3]).longValue(),
+            Money.of((BigDecimal) row[4], currency),
+            Money.of((BigDecimal) row[5], currency),
+            Money.of((BigDecimal) row[6], currency),
+            Money.of((BigDecimal) row[7], currency)
+        );
+    }
+}
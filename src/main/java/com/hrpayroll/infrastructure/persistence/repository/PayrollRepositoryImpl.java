@@ -0,0 +1,119 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.entity.PayrollJpaEntity;
+import com.hrpayroll.infrastructure.persistence.jpa.PayrollJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA implementation of {@link PayrollRepository}.
+ */
+@Transactional(readOnly = true)
+public class PayrollRepositoryImpl implements PayrollRepository {
+
+    private final PayrollJpaRepository jpaRepository;
+    private final JpaBatchWriter<Payroll, PayrollJpaEntity> writer;
+    private final DomainEventRecorder eventRecorder;
+
+    public PayrollRepositoryImpl(PayrollJpaRepository jpaRepository, EntityManager entityManager, int batchSize,
+                                 DomainEventRecorder eventRecorder) {
+        this.jpaRepository = jpaRepository;
+        this.eventRecorder = eventRecorder;
+        this.writer = new JpaBatchWriter<>(entityManager, jpaRepository, batchSize,
+            payroll -> payroll.getId().getValue(),
+            PayrollJpaEntity::fromDomain,
+            PayrollJpaEntity::updateFrom,
+            PayrollJpaEntity::getVersion);
+    }
+
+    @Override
+    @Transactional
+    public Payroll save(Payroll payroll) {
+        writer.write(payroll);
+        eventRecorder.record(payroll);
+        return payroll;
+    }
+
+    @Override
+    @Transactional
+    public List<Payroll> saveAll(Collection<Payroll> payrolls) {
+        writer.writeAll(payrolls);
+        eventRecorder.recordAll(payrolls);
+        return List.copyOf(payrolls);
+    }
+
+    @Override
+    public Optional<Payroll> findById(PayrollId id) {
+        return jpaRepository.findById(id.getValue()).map(PayrollJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<Payroll> findByEmployeeId(EmployeeId employeeId) {
+        return toDomain(jpaRepository.findByEmployeeId(employeeId.getValue()));
+    }
+
+    @Override
+    public Optional<Payroll> findByEmployeeIdAndPayPeriod(EmployeeId employeeId, YearMonth payPeriod) {
+        return jpaRepository.findByEmployeeIdAndPayPeriod(employeeId.getValue(), payPeriod).map(PayrollJpaEntity::toDomain);
+    }
+
+    @Override
+    public Set<EmployeeId> findEmployeesWithPayroll(YearMonth payPeriod, Collection<EmployeeId> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> values = employeeIds.stream().map(EmployeeId::getValue).toList();
+        Set<EmployeeId> existing = new HashSet<>();
+        for (UUID value : jpaRepository.findEmployeeIdsWithPayroll(payPeriod, values)) {
+            existing.add(EmployeeId.of(value));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Payroll> findByStatus(PayrollStatus status) {
+        return toDomain(jpaRepository.findByStatus(status));
+    }
+
+    @Override
+    public List<Payroll> findByPayPeriod(YearMonth payPeriod) {
+        return toDomain(jpaRepository.findByPayPeriod(payPeriod));
+    }
+
+    @Override
+    public List<Payroll> findAll() {
+        return toDomain(jpaRepository.findAll());
+    }
+
+    @Override
+    public List<Payroll> findPage(PayrollId after, int limit) {
+        return toDomain(after == null
+            ? jpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+            : jpaRepository.findByIdGreaterThanOrderByIdAsc(after.getValue(), Limit.of(limit)));
+    }
+
+    @Override
+    @Transactional
+    public void delete(PayrollId id) {
+        jpaRepository.deleteById(id.getValue());
+    }
+
+    private List<Payroll> toDomain(List<PayrollJpaEntity> entities) {
+        return entities.stream().map(PayrollJpaEntity::toDomain).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.hrpayroll.interfaces.rest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request and stage timings of the employee write endpoints, with percentile histograms.
+ * {@code employees.api.requests} times a whole request, tagged by operation and outcome, so its count per
+ * outcome tells invalid input (400 from {@link IllegalArgumentException}) apart from a rejected state
+ * change (400 from {@link IllegalStateException}), an unknown employee (404) and unexpected errors (500).
+ * {@code employees.api.stage} times the stages inside a request: building and validating value objects
+ * and aggregates, the {@code EmployeeService} call (load, domain method and save) and mapping the response.
+ * Every meter is registered up front, so recording one is a {@link System#nanoTime()} and a histogram
+ * update with no tag lookup or allocation.
+ */
+@Component
+public class EmployeeApiMetrics {
+
+    private static final Duration MINIMUM_EXPECTED = Duration.ofNanos(100);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(10);
+
+    public enum ApiOperation { CREATE, PROMOTE }
+
+    public enum Stage { VALIDATE, SERVICE, MAP }
+
+    public enum Outcome { SUCCESS, INVALID, REJECTED, NOT_FOUND, ERROR }
+
+    private final Timer[][] requests;
+    private final Timer[][] stages;
+
+    public EmployeeApiMetrics(MeterRegistry meterRegistry) {
+        ApiOperation[] operations = ApiOperation.values();
+        requests = new Timer[operations.length][Outcome.values().length];
+        stages = new Timer[operations.length][Stage.values().length];
+        for (ApiOperation operation : operations) {
+            for (Outcome outcome : Outcome.values()) {
+                requests[operation.ordinal()][outcome.ordinal()] = Timer.builder("employees.api.requests")
+                    .description("Employee API requests, by operation and outcome")
+                    .tag("operation", tagValue(operation))
+                    .tag("outcome", tagValue(outcome))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MINIMUM_EXPECTED)
+                    .maximumExpectedValue(MAXIMUM_EXPECTED)
+                    .register(meterRegistry);
+            }
+            for (Stage stage : Stage.values()) {
+                stages[operation.ordinal()][stage.ordinal()] = Timer.builder("employees.api.stage")
+                    .description("Time spent in one stage of an employee API request")
+                    .tag("operation", tagValue(operation))
+                    .tag("stage", tagValue(stage))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MINIMUM_EXPECTED)
+                    .maximumExpectedValue(MAXIMUM_EXPECTED)
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Records a stage that started at {@code startNanos} and returns the current time, to start the next stage.
+     */
+    public long stage(ApiOperation operation, Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stages[operation.ordinal()][stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * Records a request that started at {@code startNanos} and ended with the given outcome.
+     */
+    public void request(ApiOperation operation, Outcome outcome, long startNanos) {
+        requests[operation.ordinal()][outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
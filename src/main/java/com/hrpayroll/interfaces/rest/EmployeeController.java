@@ -1,14 +1,29 @@
 package com.hrpayroll.interfaces.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.department.DepartmentId;
 import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.ApiOperation;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.Outcome;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.Stage;
 import com.hrpayroll.interfaces.rest.dto.CreateEmployeeRequest;
+import com.hrpayroll.interfaces.rest.dto.EmployeePageResponse;
 import com.hrpayroll.interfaces.rest.dto.EmployeeResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -22,12 +37,25 @@ import java.util.*;
 @Tag(name = "Employee Management", description = "APIs for managing employees")
 public class EmployeeController {
 
-    // In-memory storage for demo purposes
-    private final Map<String, Employee> employeeStore = new HashMap<>();
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_PAGE_SIZE = 500;
+    private static final ObjectWriter NDJSON_WRITER = new ObjectMapper().writerFor(EmployeeResponse.class);
+
+    private final EmployeeService employeeService;
+    private final EmployeeRepresentationCache representationCache;
+    private final EmployeeApiMetrics metrics;
+
+    public EmployeeController(EmployeeService employeeService, EmployeeRepresentationCache representationCache,
+                              EmployeeApiMetrics metrics) {
+        this.employeeService = employeeService;
+        this.representationCache = representationCache;
+        this.metrics = metrics;
+    }
 
     @PostMapping
     @Operation(summary = "Create a new employee", description = "Creates a new employee in the system")
     public ResponseEntity<?> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
+        long started = System.nanoTime();
         try {
             // Create value objects using factory methods
             Email email = Email.of(request.getEmail());
@@ -44,47 +72,133 @@ public class EmployeeController {
                 email,
                 null, // phoneNumber
                 dateOfBirth,
-                LocalDate.now(), // hireDate
+                DomainClock.today(), // hireDate
                 null, // departmentId
                 request.getJobTitle(),
                 salary
             );
+            long stageStarted = metrics.stage(ApiOperation.CREATE, Stage.VALIDATE, started);
 
-            // Store in memory using employee ID
-            employeeStore.put(employee.getId().getValue().toString(), employee);
+            employeeService.createEmployee(employee);
+            stageStarted = metrics.stage(ApiOperation.CREATE, Stage.SERVICE, stageStarted);
 
             // Convert to response
-            EmployeeResponse response = toResponse(employee);
+            EmployeeResponse response = EmployeeResponse.from(employee);
+            metrics.stage(ApiOperation.CREATE, Stage.MAP, stageStarted);
 
+            metrics.request(ApiOperation.CREATE, Outcome.SUCCESS, started);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
+            metrics.request(ApiOperation.CREATE, Outcome.INVALID, started);
             Map<String, String> error = Map.of("error", e.getMessage());
             return ResponseEntity.badRequest().body(error);
+        } catch (IllegalStateException e) {
+            metrics.request(ApiOperation.CREATE, Outcome.REJECTED, started);
+            Map<String, String> error = Map.of("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (Exception e) {
+            metrics.request(ApiOperation.CREATE, Outcome.ERROR, started);
             Map<String, String> error = Map.of("error", "Unexpected error: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get employee by ID", description = "Retrieves an employee by their ID")
-    public ResponseEntity<EmployeeResponse> getEmployee(@PathVariable String id) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
-            return ResponseEntity.notFound().build();
-        }
-        return ResponseEntity.ok(toResponse(employee));
+    @Operation(summary = "Get employee by ID",
+        description = "Retrieves an employee by their ID. Supports If-None-Match with the returned ETag.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = EmployeeResponse.class)))
+    public ResponseEntity<byte[]> getEmployee(@PathVariable String id) {
+        // Pre-serialized body; a matching If-None-Match turns this into a 304 without a body
+        return parseId(id)
+            .flatMap(employeeService::findById)
+            .map(representationCache::get)
+            .map(representation -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(representation.getETag())
+                .body(representation.getJson()))
+            .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping
     @Operation(summary = "Get all employees", description = "Retrieves all employees in the system")
     public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        List<EmployeeResponse> employees = employeeStore.values().stream()
-            .map(this::toResponse)
+        List<EmployeeResponse> employees = employeeService.findAll().stream()
+            .map(EmployeeResponse::from)
             .toList();
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of employees",
+        description = "Keyset-paginated listing ordered by id. Pass the returned nextCursor as 'after' "
+            + "to fetch the next page; optional status and departmentId filters.")
+    public ResponseEntity<?> getEmployeePage(
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String departmentId,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+
+        List<Employee> page;
+        try {
+            page = employeeService.findPage(
+                after != null ? EmployeeId.fromString(after) : null,
+                parseStatus(status),
+                parseDepartmentId(departmentId),
+                limit
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        List<EmployeeResponse> items = page.stream()
+            .map(EmployeeResponse::from)
+            .toList();
+        String nextCursor = page.size() == limit ? items.getLast().getId() : null;
+        return ResponseEntity.ok(new EmployeePageResponse(items, nextCursor));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all employees",
+        description = "Streams employees as newline-delimited JSON, one object per line, "
+            + "with optional status and departmentId filters.")
+    public ResponseEntity<StreamingResponseBody> streamEmployees(
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String departmentId
+    ) {
+        EmploymentStatus statusFilter;
+        DepartmentId departmentFilter;
+        try {
+            statusFilter = parseStatus(status);
+            departmentFilter = parseDepartmentId(departmentId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Walks the listing page by page so only one page is ever held in memory
+        StreamingResponseBody body = out -> {
+            EmployeeId cursor = null;
+            List<Employee> page;
+            do {
+                page = employeeService.findPage(cursor, statusFilter, departmentFilter, STREAM_PAGE_SIZE);
+                for (Employee employee : page) {
+                    out.write(NDJSON_WRITER.writeValueAsBytes(EmployeeResponse.from(employee)));
+                    out.write('\n');
+                }
+                out.flush();
+                if (!page.isEmpty()) {
+                    cursor = page.getLast().getId();
+                }
+            } while (page.size() == STREAM_PAGE_SIZE);
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @PutMapping("/{id}/promote")
     @Operation(summary = "Promote employee", description = "Promotes an employee to a new job title with new salary")
     public ResponseEntity<EmployeeResponse> promoteEmployee(
@@ -93,8 +207,10 @@ public class EmployeeController {
         @RequestParam BigDecimal newSalary,
         @RequestParam(required = false) String currency
     ) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
+        long started = System.nanoTime();
+        Optional<EmployeeId> employeeId = parseId(id);
+        if (employeeId.isEmpty()) {
+            metrics.request(ApiOperation.PROMOTE, Outcome.NOT_FOUND, started);
             return ResponseEntity.notFound().build();
         }
 
@@ -103,10 +219,26 @@ public class EmployeeController {
                 newSalary,
                 Currency.getInstance(currency != null ? currency : "USD")
             );
-            employee.promote(newJobTitle, newSalaryMoney);
-            return ResponseEntity.ok(toResponse(employee));
-        } catch (IllegalArgumentException | IllegalStateException e) {
+            long stageStarted = metrics.stage(ApiOperation.PROMOTE, Stage.VALIDATE, started);
+            Optional<Employee> promoted = employeeService.promote(employeeId.get(), newJobTitle, newSalaryMoney);
+            stageStarted = metrics.stage(ApiOperation.PROMOTE, Stage.SERVICE, stageStarted);
+            if (promoted.isEmpty()) {
+                metrics.request(ApiOperation.PROMOTE, Outcome.NOT_FOUND, started);
+                return ResponseEntity.notFound().build();
+            }
+            EmployeeResponse response = EmployeeResponse.from(promoted.get());
+            metrics.stage(ApiOperation.PROMOTE, Stage.MAP, stageStarted);
+            metrics.request(ApiOperation.PROMOTE, Outcome.SUCCESS, started);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            metrics.request(ApiOperation.PROMOTE, Outcome.INVALID, started);
             return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            metrics.request(ApiOperation.PROMOTE, Outcome.REJECTED, started);
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            metrics.request(ApiOperation.PROMOTE, Outcome.REJECTED, started);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -117,8 +249,8 @@ public class EmployeeController {
         @RequestParam BigDecimal newSalary,
         @RequestParam(required = false) String currency
     ) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
+        Optional<EmployeeId> employeeId = parseId(id);
+        if (employeeId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
@@ -127,42 +259,51 @@ public class EmployeeController {
                 newSalary,
                 Currency.getInstance(currency != null ? currency : "USD")
             );
-            employee.adjustSalary(newSalaryMoney);
-            return ResponseEntity.ok(toResponse(employee));
+            return employeeService.adjustSalary(employeeId.get(), newSalaryMoney)
+                .map(employee -> ResponseEntity.ok(EmployeeResponse.from(employee)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
     @PutMapping("/{id}/reactivate")
     @Operation(summary = "Reactivate employee", description = "Reactivates a suspended employee")
     public ResponseEntity<EmployeeResponse> reactivateEmployee(@PathVariable String id) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
+        Optional<EmployeeId> employeeId = parseId(id);
+        if (employeeId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         try {
-            employee.reactivate();
-            return ResponseEntity.ok(toResponse(employee));
+            return employeeService.reactivate(employeeId.get())
+                .map(employee -> ResponseEntity.ok(EmployeeResponse.from(employee)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
     @PutMapping("/{id}/suspend")
     @Operation(summary = "Suspend employee", description = "Suspends an employee")
     public ResponseEntity<EmployeeResponse> suspendEmployee(@PathVariable String id) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
+        Optional<EmployeeId> employeeId = parseId(id);
+        if (employeeId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         try {
-            employee.suspend();
-            return ResponseEntity.ok(toResponse(employee));
+            return employeeService.suspend(employeeId.get())
+                .map(employee -> ResponseEntity.ok(EmployeeResponse.from(employee)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -172,29 +313,35 @@ public class EmployeeController {
         @PathVariable String id,
         @RequestParam(required = false, defaultValue = "Standard termination") String reason
     ) {
-        Employee employee = employeeStore.get(id);
-        if (employee == null) {
+        Optional<EmployeeId> employeeId = parseId(id);
+        if (employeeId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         try {
-            employee.terminate(reason);
-            return ResponseEntity.noContent().build();
+            return employeeService.terminate(employeeId.get(), reason)
+                .<ResponseEntity<Void>>map(employee -> ResponseEntity.noContent().build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
-    private EmployeeResponse toResponse(Employee employee) {
-        return new EmployeeResponse(
-            employee.getId().getValue().toString(),
-            employee.getFirstName(),
-            employee.getLastName(),
-            employee.getEmail().getValue(),
-            employee.getJobTitle(),
-            employee.getSalary().getAmount(),
-            employee.getSalary().getCurrency().getCurrencyCode(),
-            employee.getStatus().toString()
-        );
+    private EmploymentStatus parseStatus(String status) {
+        return status != null ? EmploymentStatus.valueOf(status.toUpperCase(Locale.ROOT)) : null;
+    }
+
+    private DepartmentId parseDepartmentId(String departmentId) {
+        return departmentId != null ? DepartmentId.fromString(departmentId) : null;
+    }
+
+    private Optional<EmployeeId> parseId(String id) {
+        try {
+            return Optional.of(EmployeeId.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 }
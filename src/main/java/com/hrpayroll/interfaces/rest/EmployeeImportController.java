@@ -0,0 +1,65 @@
+package com.hrpayroll.interfaces.rest;
+
+import com.hrpayroll.application.dto.EmployeeImportReport;
+import com.hrpayroll.application.dto.EmployeeImportRow;
+import com.hrpayroll.application.imports.CsvEmployeeRowReader;
+import com.hrpayroll.application.imports.JsonEmployeeRowReader;
+import com.hrpayroll.application.service.EmployeeImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * REST API Controller for bulk employee imports.
+ */
+@RestController
+@RequestMapping("/api/employees/import")
+@Tag(name = "Employee Management", description = "APIs for managing employees")
+public class EmployeeImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final EmployeeImportService employeeImportService;
+
+    public EmployeeImportController(EmployeeImportService employeeImportService) {
+        this.employeeImportService = employeeImportService;
+    }
+
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Bulk import employees",
+        description = "Streams a CSV file (with a header row), a JSON array or NDJSON of employees and creates them "
+            + "in batches. Rows that fail validation or duplicate an existing email are listed in the report.")
+    public ResponseEntity<?> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                             InputStream body) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            Iterator<EmployeeImportRow> rows;
+            if (TEXT_CSV.includes(mediaType)) {
+                Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+                rows = new CsvEmployeeRowReader(new InputStreamReader(body, charset));
+            } else {
+                rows = new JsonEmployeeRowReader(body);
+            }
+            EmployeeImportReport report = employeeImportService.importEmployees(rows);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            // Rows in batches submitted before the input became unreadable stay imported
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
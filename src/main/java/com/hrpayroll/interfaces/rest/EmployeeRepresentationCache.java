@@ -0,0 +1,106 @@
+package com.hrpayroll.interfaces.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.interfaces.rest.dto.EmployeeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Serialized {@link EmployeeResponse} JSON per employee, with an ETag derived from the bytes.
+ * An entry is keyed by employee id and holds the field values it was rendered from, so it is reused for any
+ * instance with the same content, whichever repository or cache loaded it, and any change to a rendered field
+ * makes the next read re-render. Entries hold no reference to the aggregate; they are bounded by count and
+ * evicted least-recently-used.
+ */
+@Component
+public class EmployeeRepresentationCache {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writerFor(EmployeeResponse.class);
+
+    private final Cache<EmployeeId, Representation> cache;
+
+    public EmployeeRepresentationCache(
+        @Value("${app.employees.representation-cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    public Representation get(Employee employee) {
+        Content content = Content.of(employee);
+        Representation cached = cache.getIfPresent(employee.getId());
+        if (cached != null && cached.content.equals(content)) {
+            return cached;
+        }
+        Representation rendered = render(employee, content);
+        cache.put(employee.getId(), rendered);
+        return rendered;
+    }
+
+    private Representation render(Employee employee, Content content) {
+        byte[] json;
+        try {
+            json = WRITER.writeValueAsBytes(EmployeeResponse.from(employee));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee " + employee.getId(), e);
+        }
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return new Representation(content, json, eTag);
+    }
+
+    /**
+     * The employee fields that {@link EmployeeResponse} renders, besides the id the entry is keyed by.
+     * The salary is compared with its scale, as the scale shows in the JSON.
+     */
+    private record Content(String firstName, String lastName, String email, String jobTitle,
+                           BigDecimal salary, String currency, String status) {
+
+        static Content of(Employee employee) {
+            return new Content(
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail().getValue(),
+                employee.getJobTitle(),
+                employee.getSalary().getAmount(),
+                employee.getSalary().getCurrency().getCurrencyCode(),
+                employee.getStatus().toString()
+            );
+        }
+    }
+
+    /**
+     * Ready-to-write JSON body of an employee and its strong ETag.
+     */
+    public static final class Representation {
+
+        private final Content content;
+        private final byte[] json;
+        private final String eTag;
+
+        private Representation(Content content, byte[] json, String eTag) {
+            this.content = content;
+            this.json = json;
+            this.eTag = eTag;
+        }
+
+        /**
+         * The serialized body; shared, so callers must not modify it.
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.hrpayroll.interfaces.rest;
+
+import com.hrpayroll.application.dto.PayrollRunReport;
+import com.hrpayroll.application.projection.PayrollProjection;
+import com.hrpayroll.application.projection.PayrollProjectionUpdater;
+import com.hrpayroll.application.service.PayrollReportService;
+import com.hrpayroll.application.service.PayrollRunService;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * REST API Controller for Payroll operations.
+ */
+@RestController
+@RequestMapping("/api/payrolls")
+@Tag(name = "Payroll Management", description = "APIs for running and querying payroll")
+public class PayrollController {
+
+    private final PayrollRunService payrollRunService;
+    private final PayrollReportService payrollReportService;
+    private final PayrollProjectionUpdater projectionUpdater;
+
+    public PayrollController(PayrollRunService payrollRunService, PayrollReportService payrollReportService,
+                             PayrollProjectionUpdater projectionUpdater) {
+        this.payrollRunService = payrollRunService;
+        this.payrollReportService = payrollReportService;
+        this.projectionUpdater = projectionUpdater;
+    }
+
+    @PostMapping("/runs/{period}")
+    @Operation(summary = "Run payroll for a pay period",
+        description = "Creates and processes payroll for all active employees for the given period (yyyy-MM). "
+            + "Employees that already have a payroll for the period are skipped.")
+    public ResponseEntity<?> runPayroll(@PathVariable String period) {
+        YearMonth payPeriod = parsePayPeriod(period);
+        if (payPeriod == null) {
+            return invalidPayPeriod(period);
+        }
+
+        try {
+            PayrollRunReport report = payrollRunService.run(payPeriod);
+            return ResponseEntity.ok(report);
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/summary/{period}")
+    @Operation(summary = "Summarize payroll for a pay period",
+        description = "Returns base salary, bonus, gross pay, deductions and net pay totals for the given period "
+            + "(yyyy-MM), grouped by department, payroll status and currency, plus totals per currency.")
+    public ResponseEntity<?> getSummary(@PathVariable String period) {
+        YearMonth payPeriod = parsePayPeriod(period);
+        if (payPeriod == null) {
+            return invalidPayPeriod(period);
+        }
+        return ResponseEntity.ok(payrollReportService.summarize(payPeriod));
+    }
+
+    @GetMapping("/dashboard/{period}")
+    @Operation(summary = "Get payroll dashboard figures for a pay period",
+        description = "Returns the running totals per currency for the given period (yyyy-MM) and the outstanding "
+            + "unpaid net pay across all periods, from event-maintained read models.")
+    public ResponseEntity<?> getDashboard(@PathVariable String period) {
+        YearMonth payPeriod = parsePayPeriod(period);
+        if (payPeriod == null) {
+            return invalidPayPeriod(period);
+        }
+        PayrollProjection projection = projectionUpdater.getProjection();
+        return ResponseEntity.ok(Map.of(
+            "periodTotals", projection.getPeriodTotals(payPeriod),
+            "outstanding", projection.getOutstanding()
+        ));
+    }
+
+    @GetMapping("/year-to-date/{employeeId}/{year}")
+    @Operation(summary = "Get an employee's paid year to date",
+        description = "Returns gross pay, deductions and net pay of the employee's paid payrolls for the year's pay periods.")
+    public ResponseEntity<?> getYearToDate(@PathVariable String employeeId, @PathVariable int year) {
+        EmployeeId id;
+        try {
+            id = EmployeeId.fromString(employeeId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid employee id: " + employeeId));
+        }
+        return ResponseEntity.ok(projectionUpdater.getProjection().getYearToDate(id, year));
+    }
+
+    @PostMapping("/projections/rebuild")
+    @Operation(summary = "Rebuild the payroll read models",
+        description = "Recomputes the dashboard and year-to-date figures from all stored payrolls. "
+            + "Run it while no payroll is being written.")
+    public ResponseEntity<Void> rebuildProjections() {
+        projectionUpdater.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    private static YearMonth parsePayPeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static ResponseEntity<?> invalidPayPeriod(String period) {
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid pay period: " + period));
+    }
+}
@@ -0,0 +1,37 @@
+package com.hrpayroll.interfaces.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of employees. {@code nextCursor} is the id to pass as {@code after}
+ * for the next page, or {@code null} when this is the last page.
+ */
+public class EmployeePageResponse {
+
+    private List<EmployeeResponse> items;
+    private String nextCursor;
+
+    public EmployeePageResponse() {
+    }
+
+    public EmployeePageResponse(List<EmployeeResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EmployeeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
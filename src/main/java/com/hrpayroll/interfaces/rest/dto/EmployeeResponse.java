@@ -1,5 +1,7 @@
 package com.hrpayroll.interfaces.rest.dto;
 
+import com.hrpayroll.domain.model.employee.Employee;
+
 import java.math.BigDecimal;
 
 /**
@@ -31,6 +33,19 @@ public class EmployeeResponse {
         this.status = status;
     }
 
+    public static EmployeeResponse from(Employee employee) {
+        return new EmployeeResponse(
+            employee.getId().getValue().toString(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmail().getValue(),
+            employee.getJobTitle(),
+            employee.getSalary().getAmount(),
+            employee.getSalary().getCurrency().getCurrencyCode(),
+            employee.getStatus().toString()
+        );
+    }
+
     public String getId() {
         return id;
     }
@@ -0,0 +1,77 @@
+-- Tables of the JPA persistence adapters (app.persistence.type=jpa), matching the entities
+-- in com.hrpayroll.infrastructure.persistence.entity; Hibernate validates them at startup.
+
+create table employees (
+    id                 uuid           not null,
+    first_name         varchar(100)   not null,
+    last_name          varchar(100)   not null,
+    email              varchar(254)   not null,
+    phone_number       varchar(32),
+    date_of_birth      date           not null,
+    hire_date          date           not null,
+    department_id      uuid,
+    job_title          varchar(100)   not null,
+    salary_amount      numeric(19, 2) not null,
+    salary_currency    varchar(3)     not null,
+    status             varchar(20)    not null,
+    last_modified_date date,
+    constraint pk_employees primary key (id),
+    constraint uk_employees_email unique (email)
+);
+
+create index idx_employees_department_id on employees (department_id, id);
+create index idx_employees_status on employees (status, id);
+
+create table payrolls (
+    id             uuid           not null,
+    employee_id    uuid           not null,
+    pay_period     integer        not null, -- yyyyMM
+    currency       varchar(3)     not null,
+    base_salary    numeric(19, 2) not null,
+    bonus          numeric(19, 2) not null,
+    deductions     numeric(19, 2) not null,
+    net_pay        numeric(19, 2) not null,
+    status         varchar(20)    not null,
+    processed_date date,
+    paid_date      date,
+    constraint pk_payrolls primary key (id),
+    constraint uk_payrolls_employee_period unique (employee_id, pay_period)
+);
+
+create index idx_payrolls_pay_period on payrolls (pay_period);
+create index idx_payrolls_status on payrolls (status);
+
+create table departments (
+    id              uuid           not null,
+    name            varchar(100)   not null,
+    description     varchar(500),
+    manager_id      uuid,
+    budget_amount   numeric(19, 2) not null,
+    budget_currency varchar(3)     not null,
+    created_date    date,
+    constraint pk_departments primary key (id),
+    constraint uk_departments_name unique (name)
+);
+
+create table department_employees (
+    department_id uuid not null,
+    employee_id   uuid not null,
+    constraint pk_department_employees primary key (department_id, employee_id),
+    constraint fk_department_employees_department foreign key (department_id) references departments (id)
+);
+
+-- Transactional outbox; payloads are binary-encoded or JSON events, as content_type says
+create sequence event_outbox_seq start with 1 increment by 50;
+
+create table event_outbox (
+    sequence       bigint                      not null,
+    event_id       uuid                        not null,
+    aggregate_type varchar(50)                 not null,
+    aggregate_id   varchar(36)                 not null,
+    event_type     varchar(100)                not null,
+    occurred_on    timestamp(6) with time zone not null,
+    content_type   varchar(100)                not null,
+    payload        bytea                       not null,
+    constraint pk_event_outbox primary key (sequence),
+    constraint uk_event_outbox_event_id unique (event_id)
+);
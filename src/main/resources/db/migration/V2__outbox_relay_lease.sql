@@ -0,0 +1,12 @@
+-- Outbox events are numbered in the order they are written, one sequence value at a time
+alter sequence event_outbox_seq increment by 1;
+
+-- The one relay allowed to publish from the outbox; taken over once its lease expires
+create table event_outbox_relay_lease (
+    name       varchar(50)                 not null,
+    owner      varchar(100),
+    expires_at timestamp(6) with time zone not null,
+    constraint pk_event_outbox_relay_lease primary key (name)
+);
+
+insert into event_outbox_relay_lease (name, owner, expires_at) values ('kafka', null, timestamp '1970-01-01 00:00:00+00');
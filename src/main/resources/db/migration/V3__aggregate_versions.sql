@@ -0,0 +1,5 @@
+-- Optimistic locking: each save checks and bumps the version the aggregate was loaded at,
+-- so replicas updating the same row cannot silently overwrite each other
+alter table employees add column version bigint default 0 not null;
+alter table payrolls add column version bigint default 0 not null;
+alter table departments add column version bigint default 0 not null;
@@ -0,0 +1,5 @@
+-- Status and salary each department member was last recorded with, so a reloaded department reports
+-- its headcount per status and salary cost; null for members known only by id
+alter table department_employees add column status varchar(20);
+alter table department_employees add column salary_amount numeric(19, 2);
+alter table department_employees add column salary_currency varchar(3);
@@ -0,0 +1,143 @@
+package com.hrpayroll.application.imports;
+
+import com.hrpayroll.application.dto.EmployeeImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Import Row Reader Tests")
+class EmployeeRowReaderTest {
+
+    @Nested
+    @DisplayName("CSV Reader Tests")
+    class CsvReaderTests {
+
+        @Test
+        @DisplayName("Should map columns by header name in any order")
+        void shouldMapColumnsByHeader() {
+            // Given
+            String csv = """
+                    email,FirstName,lastName,jobTitle,salary,dateOfBirth,notes
+                    jane@company.com,Jane,"Doe, Jr.",Analyst,60000,1990-01-15,"say ""hi"" now"
+                    """;
+
+            // When
+            List<EmployeeImportRow> rows = readAll(new CsvEmployeeRowReader(new StringReader(csv)));
+
+            // Then
+            assertThat(rows).hasSize(1);
+            EmployeeImportRow row = rows.getFirst();
+            assertThat(row.getRowNumber()).isEqualTo(2);
+            assertThat(row.getFirstName()).isEqualTo("Jane");
+            assertThat(row.getLastName()).isEqualTo("Doe, Jr.");
+            assertThat(row.getEmail()).isEqualTo("jane@company.com");
+            assertThat(row.getSalary()).isEqualTo("60000");
+            assertThat(row.getCurrency()).isNull();
+            assertThat(row.isMalformed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should turn broken lines into malformed rows and keep reading")
+        void shouldReportMalformedLines() {
+            // Given
+            String csv = """
+                    firstName,lastName,email,jobTitle,salary,dateOfBirth
+                    Jane,Doe,jane@company.com,Analyst
+                    Joe,"Doe,joe@company.com,Analyst,50000,1990-01-15
+
+                    John,Roe,john@company.com,Analyst,50000,1990-01-15
+                    """;
+
+            // When
+            List<EmployeeImportRow> rows = readAll(new CsvEmployeeRowReader(new StringReader(csv)));
+
+            // Then
+            assertThat(rows).extracting(EmployeeImportRow::getRowNumber).containsExactly(2L, 3L, 5L);
+            assertThat(rows.get(0).getError()).isEqualTo("Expected 6 fields but found 4");
+            assertThat(rows.get(1).getError()).isEqualTo("Unterminated quoted field");
+            assertThat(rows.get(2).isMalformed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject a header without required columns")
+        void shouldRejectIncompleteHeader() {
+            assertThatThrownBy(() -> new CsvEmployeeRowReader(new StringReader("firstName,lastName\n")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("email");
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Reader Tests")
+    class JsonReaderTests {
+
+        @Test
+        @DisplayName("Should read a top-level array of objects")
+        void shouldReadArray() {
+            // Given
+            String json = """
+                    [{"firstName":"Jane","lastName":"Doe","email":"jane@company.com","jobTitle":"Analyst",
+                      "salary":60000.5,"dateOfBirth":"1990-01-15"},
+                     42]
+                    """;
+
+            // When
+            List<EmployeeImportRow> rows = readAll(new JsonEmployeeRowReader(stream(json)));
+
+            // Then
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).getSalary()).isEqualTo("60000.5");
+            assertThat(rows.get(0).getDateOfBirth()).isEqualTo("1990-01-15");
+            assertThat(rows.get(1).getRowNumber()).isEqualTo(2);
+            assertThat(rows.get(1).getError()).isEqualTo("Expected a JSON object");
+        }
+
+        @Test
+        @DisplayName("Should read newline-delimited objects")
+        void shouldReadNdjson() {
+            // Given
+            String ndjson = """
+                    {"firstName":"Jane","email":"jane@company.com"}
+                    {"firstName":"John","email":"john@company.com","departmentId":null}
+                    """;
+
+            // When
+            List<EmployeeImportRow> rows = readAll(new JsonEmployeeRowReader(stream(ndjson)));
+
+            // Then
+            assertThat(rows).extracting(EmployeeImportRow::getFirstName).containsExactly("Jane", "John");
+            assertThat(rows.get(1).getDepartmentId()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should fail on syntax errors")
+        void shouldFailOnSyntaxErrors() {
+            // Given
+            Iterator<EmployeeImportRow> reader = new JsonEmployeeRowReader(stream("[{\"firstName\":\"Jane\"}, {\"firstName\""));
+
+            // When/Then
+            assertThat(reader.next().getFirstName()).isEqualTo("Jane");
+            assertThatThrownBy(reader::next).isInstanceOf(UncheckedIOException.class);
+        }
+
+        private ByteArrayInputStream stream(String json) {
+            return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private List<EmployeeImportRow> readAll(Iterator<EmployeeImportRow> reader) {
+        List<EmployeeImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
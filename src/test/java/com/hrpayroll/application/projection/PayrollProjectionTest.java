@@ -0,0 +1,184 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.*;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.messaging.outbox.InMemoryEventOutbox;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Payroll Projection Tests")
+class PayrollProjectionTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private PayrollProjection projection;
+    private InMemoryPayrollRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        projection = new PayrollProjection();
+        DomainEventRecorder recorder = new DomainEventRecorder(new InMemoryEventOutbox(), event -> {
+            if (event instanceof PayrollDomainEvent payrollEvent) {
+                projection.apply(payrollEvent);
+            }
+        });
+        repository = new InMemoryPayrollRepository(recorder);
+    }
+
+    @Nested
+    @DisplayName("Incremental Update Tests")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Should follow a payroll through its lifecycle")
+        void shouldFollowPayrollLifecycle() {
+            // Given
+            EmployeeId employeeId = EmployeeId.generate();
+            Payroll payroll = Payroll.create(employeeId, PERIOD, usd(5_000));
+            payroll.addBonus(usd(500));
+            payroll.addDeduction(usd(250), "Tax");
+            repository.save(payroll);
+
+            // When
+            Map<Currency, Money> outstandingBeforePayment = projection.getOutstanding();
+            payroll.process();
+            payroll.markAsPaid();
+            repository.save(payroll);
+
+            // Then
+            assertThat(outstandingBeforePayment).containsExactly(entry(USD, usd(5_250)));
+            assertThat(projection.getOutstanding()).isEmpty();
+            assertThat(projection.getPeriodTotals(PERIOD)).containsExactly(new PayPeriodTotals(
+                    PERIOD, USD, 1, usd(5_000), usd(500), usd(250), usd(5_250), usd(5_250)));
+            assertThat(projection.getYearToDate(employeeId, 2025)).containsExactly(new EmployeeYearToDate(
+                    employeeId, 2025, USD, 1, usd(5_500), usd(250), usd(5_250)));
+        }
+
+        @Test
+        @DisplayName("Should drop cancelled payrolls from the totals")
+        void shouldDropCancelledPayrolls() {
+            // Given
+            Payroll kept = Payroll.create(EmployeeId.generate(), PERIOD, usd(4_000));
+            Payroll cancelled = Payroll.create(EmployeeId.generate(), PERIOD, usd(3_000));
+            repository.saveAll(List.of(kept, cancelled));
+
+            // When
+            cancelled.cancel("Duplicate");
+            repository.save(cancelled);
+
+            // Then
+            assertThat(projection.getPeriodTotals(PERIOD)).singleElement()
+                    .satisfies(totals -> {
+                        assertThat(totals.payrollCount()).isEqualTo(1);
+                        assertThat(totals.netPay()).isEqualTo(usd(4_000));
+                    });
+            assertThat(projection.getOutstanding()).containsExactly(entry(USD, usd(4_000)));
+        }
+
+        @Test
+        @DisplayName("Should skip events of payrolls it has not seen created")
+        void shouldSkipUntrackedPayrolls() {
+            // When
+            boolean applied = projection.apply(new BonusAddedEvent(PayrollId.generate(), usd(100)));
+
+            // Then
+            assertThat(applied).isFalse();
+            assertThat(projection.getAllPeriodTotals()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should equal a full recomputation after a random workload")
+        void shouldEqualFullRecomputation() {
+            // Given
+            Random random = new Random(7);
+            List<EmployeeId> employees = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                employees.add(EmployeeId.generate());
+            }
+            List<Payroll> payrolls = new ArrayList<>();
+            for (int step = 0; step < 5_000; step++) {
+                if (payrolls.isEmpty() || random.nextInt(4) == 0) {
+                    Currency currency = random.nextInt(5) == 0 ? EUR : USD;
+                    Payroll payroll = Payroll.create(employees.get(random.nextInt(employees.size())),
+                            PERIOD.plusMonths(random.nextInt(14)), Money.ofMinor(300_000 + random.nextInt(500_000), currency));
+                    payrolls.add(repository.save(payroll));
+                    continue;
+                }
+                Payroll payroll = payrolls.get(random.nextInt(payrolls.size()));
+                Currency currency = payroll.getBaseSalary().getCurrency();
+                try {
+                    switch (random.nextInt(5)) {
+                        case 0 -> payroll.addBonus(Money.ofMinor(random.nextInt(50_000), currency));
+                        case 1 -> payroll.addDeduction(Money.ofMinor(random.nextInt(5_000), currency), "Tax");
+                        case 2 -> payroll.process();
+                        case 3 -> payroll.markAsPaid();
+                        default -> payroll.cancel("Correction");
+                    }
+                } catch (IllegalStateException | IllegalArgumentException e) {
+                    // Transition not allowed from the payroll's current state
+                }
+                repository.save(payroll);
+            }
+
+            // When
+            PayrollProjection rebuilt = new PayrollProjection();
+            rebuilt.rebuild(repository.findAll());
+
+            // Then
+            assertThat(projection.getTrackedPayrollCount()).isEqualTo(payrolls.size());
+            assertThat(projection.getAllPeriodTotals()).isEqualTo(rebuilt.getAllPeriodTotals());
+            assertThat(projection.getOutstanding()).isEqualTo(rebuilt.getOutstanding()).isEqualTo(recomputeOutstanding());
+            for (EmployeeId employeeId : employees) {
+                for (int year = 2025; year <= 2026; year++) {
+                    assertThat(projection.getYearToDate(employeeId, year)).isEqualTo(rebuilt.getYearToDate(employeeId, year));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should replace the read models on rebuild")
+        void shouldReplaceReadModelsOnRebuild() {
+            // Given
+            repository.save(Payroll.create(EmployeeId.generate(), PERIOD, usd(4_000)));
+
+            // When
+            projection.rebuild(List.of());
+
+            // Then
+            assertThat(projection.getTrackedPayrollCount()).isZero();
+            assertThat(projection.getPeriodTotals(PERIOD)).isEmpty();
+        }
+    }
+
+    private Map<Currency, Money> recomputeOutstanding() {
+        Map<Currency, Money> outstanding = new HashMap<>();
+        for (Payroll payroll : repository.findAll()) {
+            if (payroll.getStatus() == PayrollStatus.PENDING || payroll.getStatus() == PayrollStatus.PROCESSED) {
+                outstanding.merge(payroll.getNetPay().getCurrency(), payroll.getNetPay(), Money::add);
+            }
+        }
+        return outstanding;
+    }
+
+    private static Money usd(long amount) {
+        return Money.of(BigDecimal.valueOf(amount), USD);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrpayroll.application.projection;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollDomainEvent;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Payroll Projection Updater Tests")
+class PayrollProjectionUpdaterTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private InMemoryPayrollRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private PayrollProjectionUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPayrollRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        updater = start(PayrollProjectionSource.LOCAL, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        updater.destroy();
+    }
+
+    private PayrollProjectionUpdater start(PayrollProjectionSource source, int rebuildPageSize) {
+        PayrollProjectionUpdater started = new PayrollProjectionUpdater(repository, meterRegistry, false, source,
+                rebuildPageSize);
+        started.afterPropertiesSet();
+        return started;
+    }
+
+    @Test
+    @DisplayName("Should apply events in the background and record the lag")
+    void shouldApplyEventsInBackground() throws Exception {
+        // Given
+        Payroll payroll = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(4_000), USD));
+        payroll.process();
+
+        // When
+        payroll.getDomainEvents().forEach(event -> updater.on((PayrollDomainEvent) event));
+        updater.awaitApplied(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updater.getProjection().getPeriodTotals(PERIOD)).singleElement()
+                .extracting(PayPeriodTotals::netPay)
+                .isEqualTo(Money.of(BigDecimal.valueOf(4_000), USD));
+        assertThat(meterRegistry.get("payroll.projection.lag").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payroll.projection.events").tag("result", "applied").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payroll.projection.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pick up payrolls saved before it started on rebuild")
+    void shouldRebuildFromRepository() throws Exception {
+        // Given
+        Payroll payroll = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(4_000), USD));
+        payroll.clearDomainEvents();
+        repository.save(payroll);
+        payroll.process();
+        PayrollDomainEvent processed = (PayrollDomainEvent) payroll.getDomainEvents().get(0);
+
+        // When
+        updater.on(processed);
+        updater.awaitApplied(Duration.ofSeconds(5));
+        int trackedBeforeRebuild = updater.getProjection().getTrackedPayrollCount();
+        updater.rebuild();
+
+        // Then
+        assertThat(trackedBeforeRebuild).isZero();
+        assertThat(meterRegistry.get("payroll.projection.events").tag("result", "skipped").counter().count()).isEqualTo(1);
+        assertThat(updater.getProjection().getOutstanding()).containsEntry(USD, Money.of(BigDecimal.valueOf(4_000), USD));
+    }
+
+    @Test
+    @DisplayName("Should rebuild from every page of stored payrolls")
+    void shouldRebuildAcrossPages() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            Payroll payroll = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(1_000), USD));
+            repository.save(payroll);
+        }
+
+        // When
+        updater.rebuild();
+
+        // Then
+        assertThat(updater.getProjection().getTrackedPayrollCount()).isEqualTo(5);
+        assertThat(updater.getProjection().getPeriodTotals(PERIOD)).singleElement()
+                .extracting(PayPeriodTotals::netPay)
+                .isEqualTo(Money.of(BigDecimal.valueOf(5_000), USD));
+    }
+
+    @Test
+    @DisplayName("Should apply only enqueued events when fed from Kafka")
+    void shouldIgnoreLocalEventsWhenFedFromKafka() throws Exception {
+        // Given
+        updater.destroy();
+        updater = start(PayrollProjectionSource.KAFKA, 2);
+        Payroll local = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(4_000), USD));
+        Payroll remote = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(3_000), USD));
+
+        // When
+        local.getDomainEvents().forEach(event -> updater.on((PayrollDomainEvent) event));
+        remote.getDomainEvents().forEach(event -> updater.enqueue((PayrollDomainEvent) event));
+        updater.awaitApplied(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updater.getProjection().getTrackedPayrollCount()).isEqualTo(1);
+        assertThat(updater.getProjection().getOutstanding()).containsEntry(USD, Money.of(BigDecimal.valueOf(3_000), USD));
+    }
+}
@@ -0,0 +1,122 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryDepartmentRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Department Membership Updater Tests")
+class DepartmentMembershipUpdaterTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final List<Object> published = new ArrayList<>();
+    private EmployeeRepository employeeRepository;
+    private DepartmentRepository departmentRepository;
+    private EmployeeService employeeService;
+    private DepartmentMembershipUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = new InMemoryEmployeeRepository(new DomainEventRecorder(null, published::add));
+        departmentRepository = new InMemoryDepartmentRepository();
+        employeeService = new EmployeeService(employeeRepository);
+        updater = new DepartmentMembershipUpdater(employeeRepository, departmentRepository);
+    }
+
+    @Nested
+    @DisplayName("Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("Should add created employees with their salary to their department")
+        void shouldAddCreatedEmployees() {
+            // Given
+            Department engineering = createDepartment("Engineering");
+            Employee alice = employeeService.createEmployee(createEmployee("alice", engineering.getId(), 70_000));
+            employeeService.createEmployee(createEmployee("bob", engineering.getId(), 50_000));
+
+            // When
+            deliverPublished();
+
+            // Then
+            Department loaded = departmentRepository.findById(engineering.getId()).orElseThrow();
+            assertThat(loaded.getEmployeeIds()).hasSize(2).contains(alice.getId());
+            assertThat(loaded.getSalaryCost()).isEqualTo(Money.of(BigDecimal.valueOf(120_000), USD));
+        }
+
+        @Test
+        @DisplayName("Should follow salary, status and department changes")
+        void shouldFollowEmployeeChanges() {
+            // Given
+            Department engineering = createDepartment("Engineering");
+            Department sales = createDepartment("Sales");
+            Employee alice = employeeService.createEmployee(createEmployee("alice", engineering.getId(), 70_000));
+            Employee bob = employeeService.createEmployee(createEmployee("bob", engineering.getId(), 50_000));
+            deliverPublished();
+
+            // When
+            employeeService.adjustSalary(alice.getId(), Money.of(BigDecimal.valueOf(80_000), USD));
+            employeeService.terminate(bob.getId(), "Restructuring");
+            employeeService.changeDepartment(alice.getId(), sales.getId());
+            deliverPublished();
+
+            // Then
+            Department loadedEngineering = departmentRepository.findById(engineering.getId()).orElseThrow();
+            Department loadedSales = departmentRepository.findById(sales.getId()).orElseThrow();
+            assertThat(loadedEngineering.getEmployeeIds()).containsExactly(bob.getId());
+            assertThat(loadedEngineering.getHeadcount(EmploymentStatus.TERMINATED)).isEqualTo(1);
+            assertThat(loadedEngineering.getSalaryCost()).isEqualTo(Money.zero(USD));
+            assertThat(loadedSales.getEmployeeIds()).containsExactly(alice.getId());
+            assertThat(loadedSales.getSalaryCost()).isEqualTo(Money.of(BigDecimal.valueOf(80_000), USD));
+        }
+
+        @Test
+        @DisplayName("Should skip departments that do not exist")
+        void shouldSkipUnknownDepartments() {
+            // Given
+            employeeService.createEmployee(createEmployee("alice", DepartmentId.generate(), 70_000));
+
+            // When/Then
+            assertThatCode(DepartmentMembershipUpdaterTest.this::deliverPublished).doesNotThrowAnyException();
+            assertThat(departmentRepository.findAll()).isEmpty();
+        }
+    }
+
+    private void deliverPublished() {
+        List<EmployeeDomainEvent> events = published.stream()
+                .filter(EmployeeDomainEvent.class::isInstance)
+                .map(EmployeeDomainEvent.class::cast)
+                .toList();
+        published.clear();
+        updater.handle(events);
+    }
+
+    private Department createDepartment(String name) {
+        return departmentRepository.save(Department.create(name, "Department " + name,
+                Money.of(BigDecimal.valueOf(500_000), USD)));
+    }
+
+    private Employee createEmployee(String name, DepartmentId departmentId, long salary) {
+        return Employee.create(
+                name, "Doe", Email.of(name + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), departmentId,
+                "Software Engineer", Money.of(BigDecimal.valueOf(salary), USD)
+        );
+    }
+}
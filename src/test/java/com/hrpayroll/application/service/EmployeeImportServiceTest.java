@@ -0,0 +1,175 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.application.dto.EmployeeImportReport;
+import com.hrpayroll.application.dto.EmployeeImportReport.RowError;
+import com.hrpayroll.application.dto.EmployeeImportRow;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Import Service Tests")
+class EmployeeImportServiceTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = new InMemoryEmployeeRepository();
+        importService = new EmployeeImportService(employeeRepository, 3, 2, 100);
+    }
+
+    @AfterEach
+    void resetClock() {
+        DomainClock.reset();
+    }
+
+    @Test
+    @DisplayName("Should import every valid row across batches")
+    void shouldImportEveryValidRow() {
+        // Given
+        DepartmentId departmentId = DepartmentId.generate();
+        List<EmployeeImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            rows.add(row(i, "employee" + i + "@company.com", "55000.50", departmentId.getValue().toString()));
+        }
+
+        // When
+        EmployeeImportReport report = importService.importEmployees(rows.iterator());
+
+        // Then
+        assertThat(report.getRowsRead()).isEqualTo(10);
+        assertThat(report.getImported()).isEqualTo(10);
+        assertThat(report.getRejected()).isZero();
+        assertThat(report.getErrors()).isEmpty();
+
+        Employee employee = employeeRepository.findByEmail(Email.of("employee7@company.com")).orElseThrow();
+        assertThat(employee.getDepartmentId()).isEqualTo(departmentId);
+        assertThat(employee.getSalary().getAmount()).isEqualByComparingTo("55000.50");
+        assertThat(employee.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 15));
+        assertThat(employeeRepository.findByDepartmentId(departmentId)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Should report invalid, malformed and duplicate rows by row number")
+    void shouldReportRejectedRows() {
+        // Given
+        employeeRepository.save(Employee.create(
+                "Existing", "Employee", Email.of("existing@company.com"), null,
+                LocalDate.of(1980, 1, 1), LocalDate.of(2010, 1, 1), null,
+                "Manager", Money.of(BigDecimal.valueOf(90_000), Currency.getInstance("USD"))
+        ));
+        List<EmployeeImportRow> rows = List.of(
+                row(1, "first@company.com", "50000", null),
+                row(2, "not-an-email", "50000", null),
+                row(3, "FIRST@company.com", "50000", null),
+                row(4, "second@company.com", "-1", null),
+                EmployeeImportRow.malformed(5, "Unterminated quoted field"),
+                row(6, "existing@company.com", "50000", null),
+                row(7, "third@company.com", "abc", null)
+        );
+
+        // When
+        EmployeeImportReport report = importService.importEmployees(rows.iterator());
+
+        // Then
+        assertThat(report.getRowsRead()).isEqualTo(7);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(6);
+        assertThat(report.isErrorsTruncated()).isFalse();
+        assertThat(report.getErrors()).extracting(RowError::getRowNumber).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(report.getErrors().get(1).getMessage()).startsWith("Duplicate email in import");
+        assertThat(report.getErrors().get(4).getMessage()).startsWith("Employee with email already exists");
+        assertThat(employeeRepository.existsByEmail(Email.of("first@company.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count each row of a batch that failed to save part way")
+    void shouldCountRowsOfPartlySavedBatch() {
+        // Given an email taken after the batch checked for existing employees, so saveAll fails on its second row
+        Employee existing = employeeRepository.save(Employee.create(
+                "Existing", "Employee", Email.of("taken@company.com"), null,
+                LocalDate.of(1980, 1, 1), LocalDate.of(2010, 1, 1), null,
+                "Manager", Money.of(BigDecimal.valueOf(90_000), Currency.getInstance("USD"))
+        ));
+        EmployeeRepository racingRepository = new InMemoryEmployeeRepository() {
+            @Override
+            public Set<Email> findExistingEmails(Collection<Email> emails) {
+                return Set.of();
+            }
+        };
+        racingRepository.save(existing);
+        EmployeeImportService racingService = new EmployeeImportService(racingRepository, 3, 1, 100);
+        List<EmployeeImportRow> rows = List.of(
+                row(1, "first@company.com", "50000", null),
+                row(2, "taken@company.com", "50000", null),
+                row(3, "third@company.com", "50000", null)
+        );
+
+        // When
+        EmployeeImportReport report = racingService.importEmployees(rows.iterator());
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(RowError::getRowNumber).containsExactly(2L);
+        assertThat(racingRepository.existsByEmail(Email.of("first@company.com"))).isTrue();
+        assertThat(racingRepository.existsByEmail(Email.of("third@company.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should default the hire date to today on the domain clock")
+    void shouldDefaultHireDateFromDomainClock() {
+        // Given
+        DomainClock.set(Clock.fixed(Instant.parse("2025-03-31T23:30:00Z"), ZoneOffset.UTC));
+
+        // When
+        importService.importEmployees(List.of(row(1, "first@company.com", "50000", null)).iterator());
+
+        // Then
+        Employee employee = employeeRepository.findByEmail(Email.of("first@company.com")).orElseThrow();
+        assertThat(employee.getHireDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    @DisplayName("Should cap the listed errors but keep the exact rejected count")
+    void shouldCapListedErrors() {
+        // Given
+        EmployeeImportService cappedService = new EmployeeImportService(employeeRepository, 3, 2, 2);
+        List<EmployeeImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            rows.add(EmployeeImportRow.malformed(i, "Expected 7 fields but found 2"));
+        }
+
+        // When
+        EmployeeImportReport report = cappedService.importEmployees(rows.iterator());
+
+        // Then
+        assertThat(report.getRejected()).isEqualTo(5);
+        assertThat(report.getErrors()).hasSize(2);
+        assertThat(report.isErrorsTruncated()).isTrue();
+    }
+
+    private EmployeeImportRow row(long rowNumber, String email, String salary, String departmentId) {
+        return new EmployeeImportRow(rowNumber, "First" + rowNumber, "Last" + rowNumber, email,
+                "Software Engineer", salary, null, "1990-01-15", null, departmentId);
+    }
+}
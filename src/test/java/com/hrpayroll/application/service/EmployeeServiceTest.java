@@ -0,0 +1,174 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventRecorder;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Service Tests")
+class EmployeeServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final List<Object> published = Collections.synchronizedList(new ArrayList<>());
+    private EmployeeRepository employeeRepository;
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = new InMemoryEmployeeRepository(new DomainEventRecorder(null, published::add));
+        employeeService = new EmployeeService(employeeRepository);
+    }
+
+    @Nested
+    @DisplayName("Mutation Tests")
+    class MutationTests {
+
+        @Test
+        @DisplayName("Should return empty when employee does not exist")
+        void shouldReturnEmptyWhenEmployeeDoesNotExist() {
+            assertThat(employeeService.suspend(EmployeeId.generate())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should promote stored employee")
+        void shouldPromoteStoredEmployee() {
+            // Given
+            Employee employee = employeeService.createEmployee(createEmployee(0));
+
+            // When
+            employeeService.promote(employee.getId(), "Lead", Money.of(BigDecimal.valueOf(90_000), USD));
+
+            // Then
+            Employee stored = employeeRepository.findById(employee.getId()).orElseThrow();
+            assertThat(stored.getJobTitle()).isEqualTo("Lead");
+            assertThat(published).last().isInstanceOf(EmployeePromotedEvent.class);
+        }
+
+        @Test
+        @DisplayName("Should reject an employee whose email is already taken")
+        void shouldRejectDuplicateEmail() {
+            // Given
+            employeeService.createEmployee(createEmployee(0));
+            published.clear();
+
+            // When/Then
+            assertThatThrownBy(() -> employeeService.createEmployee(createEmployee(0)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already exists");
+            assertThat(employeeRepository.findAll()).hasSize(1);
+            assertThat(published).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should propagate domain exceptions")
+        void shouldPropagateDomainExceptions() {
+            // Given
+            Employee employee = employeeService.createEmployee(createEmployee(0));
+            employeeService.terminate(employee.getId(), "Restructuring");
+
+            // When/Then
+            assertThatThrownBy(() -> employeeService.reactivate(employee.getId()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should not lose updates when the same employee is mutated concurrently")
+        void shouldNotLoseConcurrentUpdatesOnSameEmployee() throws Exception {
+            // Given
+            Employee employee = employeeService.createEmployee(createEmployee(0));
+            int threads = 8;
+            int updatesPerThread = 500;
+
+            // When
+            runConcurrently(threads, thread -> {
+                for (int i = 0; i < updatesPerThread; i++) {
+                    employeeService.adjustSalary(employee.getId(),
+                            Money.of(BigDecimal.valueOf(50_000 + thread * 1_000 + i), USD));
+                }
+            });
+
+            // Then: every adjustment started from the salary the previous one left
+            List<SalaryAdjustedEvent> adjustments = published.stream()
+                    .filter(SalaryAdjustedEvent.class::isInstance).map(SalaryAdjustedEvent.class::cast).toList();
+            assertThat(adjustments).hasSize(threads * updatesPerThread);
+            for (int i = 1; i < adjustments.size(); i++) {
+                assertThat(adjustments.get(i).getOldSalary()).isEqualTo(adjustments.get(i - 1).getNewSalary());
+            }
+            assertThat(employeeRepository.findById(employee.getId())).get()
+                    .extracting(Employee::getSalary).isEqualTo(adjustments.getLast().getNewSalary());
+        }
+
+        @Test
+        @DisplayName("Should list employees while others are being created")
+        void shouldListEmployeesWhileOthersAreBeingCreated() throws Exception {
+            int threads = 4;
+            int employeesPerThread = 1_000;
+
+            runConcurrently(threads, thread -> {
+                for (int i = 0; i < employeesPerThread; i++) {
+                    employeeService.createEmployee(createEmployee(thread * employeesPerThread + i));
+                    assertThat(employeeService.findAll()).isNotEmpty();
+                }
+            });
+
+            assertThat(employeeService.findAll()).hasSize(threads * employeesPerThread);
+        }
+    }
+
+    private void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Employee createEmployee(int index) {
+        return Employee.create(
+                "First" + index, "Last" + index, Email.of("employee" + index + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
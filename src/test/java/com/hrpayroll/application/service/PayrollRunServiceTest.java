@@ -0,0 +1,169 @@
+package com.hrpayroll.application.service;
+
+import com.hrpayroll.application.dto.PayrollRunReport;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Payroll Run Service Tests")
+class PayrollRunServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private EmployeeRepository employeeRepository;
+    private PayrollRepository payrollRepository;
+    private PayrollRunService payrollRunService;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = new InMemoryEmployeeRepository();
+        payrollRepository = new InMemoryPayrollRepository();
+        payrollRunService = new PayrollRunService(employeeRepository, payrollRepository, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Should create processed payroll for every active employee")
+    void shouldCreateProcessedPayrollForEveryActiveEmployee() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            employeeRepository.save(createEmployee(i));
+        }
+
+        // When
+        PayrollRunReport report = payrollRunService.run(PERIOD);
+
+        // Then
+        assertThat(report.getEmployeesConsidered()).isEqualTo(10);
+        assertThat(report.getCreated()).isEqualTo(10);
+        assertThat(report.getSkipped()).isZero();
+        assertThat(report.getFailed()).isZero();
+
+        List<Payroll> payrolls = payrollRepository.findByPayPeriod(PERIOD);
+        assertThat(payrolls).hasSize(10)
+                .allSatisfy(payroll -> {
+                    assertThat(payroll.getStatus()).isEqualTo(PayrollStatus.PROCESSED);
+                    assertThat(payroll.getNetPay().getAmount()).isEqualByComparingTo("50000");
+                });
+    }
+
+    @Test
+    @DisplayName("Should skip employees that already have a payroll for the period")
+    void shouldBeIdempotentAcrossReruns() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            employeeRepository.save(createEmployee(i));
+        }
+        payrollRunService.run(PERIOD);
+
+        // When
+        PayrollRunReport rerun = payrollRunService.run(PERIOD);
+
+        // Then
+        assertThat(rerun.getCreated()).isZero();
+        assertThat(rerun.getSkipped()).isEqualTo(7);
+        assertThat(payrollRepository.findByPayPeriod(PERIOD)).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("Should only pay active employees")
+    void shouldOnlyPayActiveEmployees() {
+        // Given
+        Employee active = employeeRepository.save(createEmployee(0));
+        Employee suspended = createEmployee(1);
+        suspended.suspend();
+        employeeRepository.save(suspended);
+        Employee terminated = createEmployee(2);
+        terminated.terminate("Restructuring");
+        employeeRepository.save(terminated);
+
+        // When
+        PayrollRunReport report = payrollRunService.run(PERIOD);
+
+        // Then
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(payrollRepository.findByEmployeeIdAndPayPeriod(active.getId(), PERIOD)).isPresent();
+        assertThat(payrollRepository.findByEmployeeIdAndPayPeriod(suspended.getId(), PERIOD)).isEmpty();
+        assertThat(payrollRepository.findByEmployeeIdAndPayPeriod(terminated.getId(), PERIOD)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read employees a page at a time and check existing payrolls per page")
+    void shouldPageEmployeesAndExistingPayrolls() {
+        // Given
+        List<Integer> pageSizes = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> checkSizes = Collections.synchronizedList(new ArrayList<>());
+        EmployeeRepository pagedEmployees = new InMemoryEmployeeRepository() {
+            @Override
+            public List<Employee> findPage(EmployeeId after, EmploymentStatus status, DepartmentId departmentId, int limit) {
+                List<Employee> page = super.findPage(after, status, departmentId, limit);
+                pageSizes.add(page.size());
+                return page;
+            }
+
+            @Override
+            public List<Employee> findByStatus(EmploymentStatus status) {
+                throw new AssertionError("Payroll run must not load all employees");
+            }
+        };
+        PayrollRepository checkedPayrolls = new InMemoryPayrollRepository() {
+            @Override
+            public Set<EmployeeId> findEmployeesWithPayroll(YearMonth payPeriod, Collection<EmployeeId> employeeIds) {
+                checkSizes.add(employeeIds.size());
+                return super.findEmployeesWithPayroll(payPeriod, employeeIds);
+            }
+
+            @Override
+            public List<Payroll> findByPayPeriod(YearMonth payPeriod) {
+                throw new AssertionError("Payroll run must not load the period's payrolls");
+            }
+        };
+        for (int i = 0; i < 7; i++) {
+            pagedEmployees.save(createEmployee(i));
+        }
+
+        // When
+        PayrollRunReport report = new PayrollRunService(pagedEmployees, checkedPayrolls, 3, 2).run(PERIOD);
+
+        // Then
+        assertThat(report.getCreated()).isEqualTo(7);
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+        assertThat(checkSizes).containsExactlyInAnyOrder(3, 3, 1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new PayrollRunService(employeeRepository, payrollRepository, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PayrollRunService(employeeRepository, payrollRepository, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Employee createEmployee(int index) {
+        return Employee.create(
+                "First" + index, "Last" + index, Email.of("employee" + index + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Department membership at scale: filling a department with distinct employees, adding
+ * to or removing from an already large department, and querying its budget utilization while
+ * one member's salary changes. All but the fill are expected to stay flat as {@code memberCount} grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DepartmentBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Money BUDGET = Money.ofMinor(100_000_000_000L, USD);
+
+    @Param({"100", "10000", "100000"})
+    private int memberCount;
+
+    private EmployeeId[] employeeIds;
+    private Department populated;
+    private EmployeeId newcomer;
+    private Employee raisedMember;
+    private Money[] salaries;
+    private int nextSalary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employeeIds = new EmployeeId[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            employeeIds[i] = EmployeeId.generate();
+        }
+        populated = Department.create("Engineering", "Builds things", BUDGET);
+        for (int i = 0; i < memberCount; i++) {
+            populated.addEmployee(createEmployee(employeeIds[i], i));
+        }
+        newcomer = EmployeeId.generate();
+        raisedMember = createEmployee(employeeIds[memberCount / 2], memberCount / 2);
+        salaries = new Money[]{
+            Money.ofMinor(5_000_000, USD), Money.ofMinor(6_000_000, USD), Money.ofMinor(7_000_000, USD)
+        };
+    }
+
+    @Benchmark
+    public Department fillDepartment() {
+        Department department = Department.create("Engineering", "Builds things", BUDGET);
+        for (EmployeeId employeeId : employeeIds) {
+            department.addEmployee(employeeId);
+        }
+        return department;
+    }
+
+    @Benchmark
+    public int addDuplicateToLargeDepartment() {
+        populated.addEmployee(employeeIds[memberCount - 1]);
+        return populated.getEmployeeCount();
+    }
+
+    @Benchmark
+    public int addAndRemoveOnLargeDepartment() {
+        populated.addEmployee(newcomer);
+        populated.removeEmployee(newcomer);
+        return populated.getEmployeeCount();
+    }
+
+    @Benchmark
+    public Object updateSalaryAndQueryBudget() {
+        raisedMember.adjustSalary(salaries[nextSalary++ % salaries.length]);
+        raisedMember.clearDomainEvents();
+        populated.updateEmployee(raisedMember);
+        return populated.getBudgetUtilization();
+    }
+
+    private static Employee createEmployee(EmployeeId id, int i) {
+        return Employee.reconstitute(
+            id, "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+            LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+            "Engineer", Money.ofMinor(5_000_000 + i % 1_000, USD), EmploymentStatus.ACTIVE
+        );
+    }
+}
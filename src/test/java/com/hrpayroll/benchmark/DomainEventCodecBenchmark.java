@@ -0,0 +1,95 @@
+package com.hrpayroll.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.EmployeeCreatedEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollPaidEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a domain event as JSON (the outbox's {@code json} payload format,
+ * serialized with the recorder's mapper and parsed into a tree, since events have no JSON creators)
+ * against {@link BinaryDomainEventCodec} (the {@code binary} format).
+ * The encoded sizes of both are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventCodecBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"EmployeeCreated", "SalaryAdjusted", "PayrollPaid"})
+    private String eventType;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+
+    private DomainEvent event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        EmployeeId employeeId = EmployeeId.generate();
+        event = switch (eventType) {
+            case "EmployeeCreated" -> new EmployeeCreatedEvent(employeeId, "Jane", "Doe",
+                Email.of("jane.doe@company.com"), "+1234567890", LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1),
+                DepartmentId.generate(), "Software Engineer", usd("50000"));
+            case "SalaryAdjusted" -> new SalaryAdjustedEvent(employeeId, usd("50000"), usd("52500.50"));
+            case "PayrollPaid" -> new PayrollPaidEvent(PayrollId.generate(), employeeId, usd("4375.04"),
+                LocalDate.of(2025, 6, 30));
+            default -> throw new IllegalArgumentException("Unknown event type " + eventType);
+        };
+        json = objectMapper.writeValueAsBytes(event);
+        binary = codec.encode(event);
+        System.out.printf("%n%s: %d bytes as JSON, %d bytes binary%n", eventType, json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public JsonNode decodeJson() throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public DomainEvent decodeBinary() {
+        return codec.decode(binary);
+    }
+
+    private static Money usd(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of raising a domain event: constructing one with a time-ordered id and the domain clock, against the
+ * previous {@code UUID.randomUUID()} and {@code Instant.now()}, and a whole salary adjustment on an employee.
+ * Random UUIDs come from a shared {@code SecureRandom}; run with {@code -t 8} to see it contend.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventCreationBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final EmployeeId employeeId = EmployeeId.generate();
+    private final Money oldSalary = Money.of(BigDecimal.valueOf(50_000), USD);
+    private final Money newSalary = Money.of(BigDecimal.valueOf(52_500), USD);
+
+    private Employee employee;
+    private long raise;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employee = Employee.create(
+            "Jane", "Doe", Email.of("jane.doe@company.com"), null,
+            LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+            "Software Engineer", oldSalary
+        );
+        employee.clearDomainEvents();
+    }
+
+    @Benchmark
+    public SalaryAdjustedEvent timeOrderedEvent() {
+        return new SalaryAdjustedEvent(employeeId, oldSalary, newSalary);
+    }
+
+    @Benchmark
+    public SalaryAdjustedEvent randomIdEvent() {
+        return new SalaryAdjustedEvent(UUID.randomUUID(), Instant.now(), employeeId, oldSalary, newSalary);
+    }
+
+    @Benchmark
+    public Employee adjustSalary() {
+        employee.adjustSalary(Money.ofMinor(5_000_000 + (++raise & 0xFFFF), USD));
+        employee.clearDomainEvents();
+        return employee;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import com.hrpayroll.infrastructure.messaging.journal.DomainEventJournal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of the {@link DomainEventJournal}: appending one event without waiting for it to be
+ * flushed, appending and waiting until the flusher has made it durable (several benchmark threads
+ * share each fsync), and replaying a journal of {@code journalSize} events from the start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventJournalBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"100000"})
+    private int journalSize;
+
+    private Path directory;
+    private DomainEventJournal journal;
+    private DomainEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-journal");
+        journal = new DomainEventJournal(directory, new BinaryDomainEventCodec(), 64 * 1024 * 1024,
+            Duration.ofMillis(10));
+        event = new SalaryAdjustedEvent(EmployeeId.generate(),
+            Money.of(BigDecimal.valueOf(50_000), USD), Money.of(BigDecimal.valueOf(55_000), USD));
+        for (int i = 0; i < journalSize; i++) {
+            journal.append(event);
+        }
+        journal.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return journal.append(event);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long appendDurable() throws InterruptedException {
+        long sequence = journal.append(event);
+        journal.awaitDurable(sequence);
+        return sequence;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100000)
+    public long replay(Blackhole blackhole) {
+        return journal.replay(journal.getNextSequence() - journalSize, blackhole::consume);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of {@link Email#of} with its single-pass validation against the previous regex match followed by
+ * {@code toLowerCase()}, for addresses already in lower case (lookups) and in mixed case (typed or imported).
+ * Run with {@code -prof gc} to compare allocation per address.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailBenchmark {
+
+    private static final Pattern EMAIL_PATTERN =
+        Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    @Param({"lower", "mixed"})
+    private String addressCase;
+
+    private String[] addresses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        addresses = new String[1024];
+        for (int i = 0; i < addresses.length; i++) {
+            String address = "first.last" + i + "@company-" + (i % 16) + ".com";
+            addresses[i] = addressCase.equals("lower") ? address : "First.Last" + i + "@Company-" + (i % 16) + ".COM";
+        }
+    }
+
+    @Benchmark
+    public Email of() {
+        return Email.of(nextAddress());
+    }
+
+    @Benchmark
+    public String regex() {
+        String address = nextAddress();
+        if (!EMAIL_PATTERN.matcher(address).matches()) {
+            throw new IllegalArgumentException("Invalid email format: " + address);
+        }
+        return address.toLowerCase();
+    }
+
+    private String nextAddress() {
+        String address = addresses[next];
+        next = (next + 1) & (addresses.length - 1);
+        return address;
+    }
+}
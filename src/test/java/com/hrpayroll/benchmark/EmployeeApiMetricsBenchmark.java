@@ -0,0 +1,68 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.ApiOperation;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.Outcome;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics.Stage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead {@link EmployeeApiMetrics} adds to one request: three stage timings and the request timing,
+ * as recorded by {@code POST /api/employees}, against the bare {@link System#nanoTime()} calls they make.
+ * The difference between {@code instrumented} and {@code baseline} is the cost per request; run with
+ * {@code -t 8} as well to see it under contention on the shared histograms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeApiMetricsBenchmark {
+
+    @Param({"prometheus", "simple"})
+    private String registry;
+
+    private MeterRegistry meterRegistry;
+    private EmployeeApiMetrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        meterRegistry = switch (registry) {
+            case "prometheus" -> new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            case "simple" -> new SimpleMeterRegistry();
+            default -> throw new IllegalArgumentException("Unknown registry " + registry);
+        };
+        metrics = new EmployeeApiMetrics(meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        meterRegistry.close();
+    }
+
+    @Benchmark
+    public long baseline() {
+        long started = System.nanoTime();
+        long validated = System.nanoTime();
+        long served = System.nanoTime();
+        long mapped = System.nanoTime();
+        return System.nanoTime() - started + validated + served + mapped;
+    }
+
+    @Benchmark
+    public long instrumented() {
+        long started = System.nanoTime();
+        long stageStarted = metrics.stage(ApiOperation.CREATE, Stage.VALIDATE, started);
+        stageStarted = metrics.stage(ApiOperation.CREATE, Stage.SERVICE, stageStarted);
+        stageStarted = metrics.stage(ApiOperation.CREATE, Stage.MAP, stageStarted);
+        metrics.request(ApiOperation.CREATE, Outcome.SUCCESS, started);
+        return stageStarted;
+    }
+}
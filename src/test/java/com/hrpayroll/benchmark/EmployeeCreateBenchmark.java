@@ -0,0 +1,65 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating an employee from request data: {@link Email} validation,
+ * aggregate construction and the {@code EmployeeCreatedEvent} it registers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCreateBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final LocalDate DATE_OF_BIRTH = LocalDate.of(1990, 1, 15);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2020, 6, 1);
+
+    private final DepartmentId departmentId = DepartmentId.generate();
+    private final Money salary = Money.of(BigDecimal.valueOf(75_000), USD);
+    private final Email email = Email.of("john.doe@company.com");
+    private String[] rawEmails;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rawEmails = new String[1024];
+        for (int i = 0; i < rawEmails.length; i++) {
+            rawEmails[i] = "employee" + i + "@company.com";
+        }
+    }
+
+    @Benchmark
+    public Email emailValidation() {
+        return Email.of(nextRawEmail());
+    }
+
+    @Benchmark
+    public Employee createWithValidatedEmail() {
+        return Employee.create("John", "Doe", email, "+1234567890",
+            DATE_OF_BIRTH, HIRE_DATE, departmentId, "Software Engineer", salary);
+    }
+
+    @Benchmark
+    public Employee createFromRequestData() {
+        return Employee.create("John", "Doe", Email.of(nextRawEmail()), "+1234567890",
+            DATE_OF_BIRTH, HIRE_DATE, departmentId, "Software Engineer", Money.of(BigDecimal.valueOf(75_000), USD));
+    }
+
+    private String nextRawEmail() {
+        next = (next + 1) & (rawEmails.length - 1);
+        return rawEmails[next];
+    }
+}
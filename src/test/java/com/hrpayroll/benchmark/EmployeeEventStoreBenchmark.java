@@ -0,0 +1,103 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.infrastructure.persistence.eventstore.EmployeeEventCodec;
+import com.hrpayroll.infrastructure.persistence.eventstore.FileEmployeeEventStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of loading an employee from the {@link FileEmployeeEventStore} as its stream grows,
+ * with snapshots disabled ({@code snapshotInterval=0}, every load replays the whole stream)
+ * and enabled (a load replays at most {@code snapshotInterval - 1} events after the latest snapshot).
+ * Also measures the cost of appending one event, which does not depend on the stream length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeEventStoreBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"10", "100", "1000"})
+    private int eventsPerEmployee;
+
+    @Param({"0", "100"})
+    private int snapshotInterval;
+
+    @Param({"200"})
+    private int employeeCount;
+
+    private Path directory;
+    private FileEmployeeEventStore store;
+    private Employee[] employees;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-events");
+        store = new FileEmployeeEventStore(directory.resolve("employees.log"), new EmployeeEventCodec(),
+            snapshotInterval, false);
+        employees = new Employee[employeeCount];
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+            );
+            append(employee);
+            for (int event = 1; event < eventsPerEmployee; event++) {
+                employee.adjustSalary(Money.of(BigDecimal.valueOf(50_000 + event), USD));
+                append(employee);
+            }
+            employees[i] = employee;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Employee load() {
+        EmployeeId id = employees[ThreadLocalRandom.current().nextInt(employeeCount)].getId();
+        return store.load(id).orElseThrow();
+    }
+
+    @Benchmark
+    public Employee appendSalaryAdjustment() {
+        Employee employee = employees[ThreadLocalRandom.current().nextInt(employeeCount)];
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(40_000, 90_000)), USD));
+        append(employee);
+        return employee;
+    }
+
+    private void append(Employee employee) {
+        store.append(employee, store.getVersion(employee.getId()), employee.getDomainEvents().stream()
+            .map(EmployeeDomainEvent.class::cast)
+            .toList());
+        employee.clearDomainEvents();
+    }
+}
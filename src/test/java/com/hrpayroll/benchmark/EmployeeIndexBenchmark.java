@@ -0,0 +1,101 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexed lookups on {@link InMemoryEmployeeRepository} at one million employees,
+ * against a full scan baseline for the same email lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeIndexBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    @Param({"1000"})
+    private int departmentCount;
+
+    private InMemoryEmployeeRepository repository;
+    private Email[] emails;
+    private DepartmentId[] departments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new InMemoryEmployeeRepository();
+        departments = new DepartmentId[departmentCount];
+        for (int i = 0; i < departmentCount; i++) {
+            departments[i] = DepartmentId.generate();
+        }
+        emails = new Email[employeeCount];
+        for (int i = 0; i < employeeCount; i++) {
+            emails[i] = Email.of("employee" + i + "@company.com");
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, emails[i], null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), departments[i % departmentCount],
+                "Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+            );
+            repository.save(employee);
+            employee.clearDomainEvents();
+            if (i % 100 == 0) {
+                employee.suspend();
+                repository.save(employee);
+                employee.clearDomainEvents();
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return repository.existsByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public Object findByEmail() {
+        return repository.findByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public List<Employee> findByDepartmentId() {
+        return repository.findByDepartmentId(departments[ThreadLocalRandom.current().nextInt(departmentCount)]);
+    }
+
+    @Benchmark
+    public List<Employee> findSuspended() {
+        return repository.findByStatus(EmploymentStatus.SUSPENDED);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public Object findByEmailFullScanBaseline() {
+        Email email = randomEmail();
+        return repository.findAll().stream()
+            .filter(employee -> employee.getEmail().equals(email))
+            .findFirst();
+    }
+
+    private Email randomEmail() {
+        return emails[ThreadLocalRandom.current().nextInt(employeeCount)];
+    }
+}
@@ -0,0 +1,126 @@
+package com.hrpayroll.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.interfaces.rest.EmployeeApiMetrics;
+import com.hrpayroll.interfaces.rest.EmployeeController;
+import com.hrpayroll.interfaces.rest.EmployeeRepresentationCache;
+import com.hrpayroll.interfaces.rest.dto.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-list listing versus NDJSON streaming through {@link EmployeeController} at growing dataset sizes.
+ * The {@code maxBufferedBytes} counter is the largest amount of response body held before it could be
+ * handed to the client: the whole JSON array for the list, one flushed page for the stream.
+ * It grows with the dataset for the list and stays flat for the stream.
+ * Add {@code -prof gc} to see the allocation side as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeListingBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"10000", "100000", "500000"})
+    private int employeeCount;
+
+    private EmployeeController controller;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository();
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000 + i % 1_000), USD)
+            );
+            repository.save(employee);
+            employee.clearDomainEvents();
+        }
+        controller = new EmployeeController(new EmployeeService(repository), new EmployeeRepresentationCache(1_000),
+            new EmployeeApiMetrics(new SimpleMeterRegistry()));
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public long fullList(BufferCounters counters) throws IOException {
+        List<EmployeeResponse> employees = controller.getAllEmployees().getBody();
+        byte[] body = objectMapper.writeValueAsBytes(employees);
+        counters.record(body.length);
+        return body.length;
+    }
+
+    @Benchmark
+    public long ndjsonStream(BufferCounters counters) throws IOException {
+        PageBufferStream out = new PageBufferStream(counters);
+        controller.streamEmployees(null, null).getBody().writeTo(out);
+        return out.total;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BufferCounters {
+
+        public long maxBufferedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            maxBufferedBytes = 0;
+        }
+
+        void record(long bufferedBytes) {
+            maxBufferedBytes = Math.max(maxBufferedBytes, bufferedBytes);
+        }
+    }
+
+    /**
+     * Discards written bytes but tracks how many accumulated between flushes,
+     * as a servlet response buffer would.
+     */
+    private static final class PageBufferStream extends OutputStream {
+
+        private final BufferCounters counters;
+        private long pending;
+        private long total;
+
+        PageBufferStream(BufferCounters counters) {
+            this.counters = counters;
+        }
+
+        @Override
+        public void write(int b) {
+            pending++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            pending += len;
+        }
+
+        @Override
+        public void flush() {
+            counters.record(pending);
+            total += pending;
+            pending = 0;
+        }
+    }
+}
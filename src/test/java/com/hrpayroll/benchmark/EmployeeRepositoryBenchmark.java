@@ -0,0 +1,90 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of the in-memory employee store behind {@link EmployeeService}.
+ * Run with increasing thread counts to check that reads and writes scale with cores, e.g.
+ * {@code -t 1}, {@code -t 4}, {@code -t 16}; the read/write group mixes 4 readers per writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"10000"})
+    private int employeeCount;
+
+    private EmployeeService employeeService;
+    private EmployeeId[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Drain events on save, under the service's per-aggregate lock, so they do not pile up
+        employeeService = new EmployeeService(new InMemoryEmployeeRepository() {
+            @Override
+            public Employee save(Employee employee) {
+                super.save(employee);
+                employee.clearDomainEvents();
+                return employee;
+            }
+        });
+        ids = new EmployeeId[employeeCount];
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+            );
+            employeeService.createEmployee(employee);
+            ids[i] = employee.getId();
+        }
+    }
+
+    @Benchmark
+    public void findById(Blackhole blackhole) {
+        blackhole.consume(employeeService.findById(randomId()));
+    }
+
+    @Benchmark
+    public void adjustSalary(Blackhole blackhole) {
+        Money salary = Money.of(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(40_000, 90_000)), USD);
+        blackhole.consume(employeeService.adjustSalary(randomId(), salary));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(4)
+    public void readWriteReader(Blackhole blackhole) {
+        findById(blackhole);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void readWriteWriter(Blackhole blackhole) {
+        adjustSalary(blackhole);
+    }
+
+    private EmployeeId randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
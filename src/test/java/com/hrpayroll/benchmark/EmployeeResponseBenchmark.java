@@ -0,0 +1,75 @@
+package com.hrpayroll.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.interfaces.rest.EmployeeRepresentationCache;
+import com.hrpayroll.interfaces.rest.dto.EmployeeResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response path of the employee API: mapping aggregates to {@link EmployeeResponse} and
+ * serializing them to JSON, for a single employee and for a list page.
+ * {@code cachedSingle} is the same single-employee read served from {@link EmployeeRepresentationCache};
+ * compare it with {@code mapAndSerializeSingle} using {@code -prof gc} for the allocation side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeResponseBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"100"})
+    private int listSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeRepresentationCache representationCache = new EmployeeRepresentationCache(1_000);
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            employees.add(Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000 + i), USD)
+            ));
+        }
+    }
+
+    @Benchmark
+    public EmployeeResponse mapSingle() {
+        return EmployeeResponse.from(employees.get(0));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeSingle() throws Exception {
+        return objectMapper.writeValueAsBytes(EmployeeResponse.from(employees.get(0)));
+    }
+
+    @Benchmark
+    public byte[] cachedSingle() {
+        return representationCache.get(employees.get(0)).getJson();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeList() throws Exception {
+        List<EmployeeResponse> responses = employees.stream()
+            .map(EmployeeResponse::from)
+            .toList();
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
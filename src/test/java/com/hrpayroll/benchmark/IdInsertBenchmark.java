@@ -0,0 +1,94 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.shared.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting rows keyed by random (version 4) UUIDs against time-ordered {@link TimeOrderedUuid} ones into a
+ * PostgreSQL table whose primary key index already holds {@code existingRows} keys (Testcontainers, needs Docker).
+ * Random keys land on random leaf pages, so once the index outgrows shared buffers most inserts read a page
+ * and split it; time-ordered keys all go to the rightmost leaf. At teardown the index size and average leaf
+ * density (from {@code pgstattuple}) are printed: random keys leave leaves around 70% full, ordered ones near 90%.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"random", "timeOrdered"})
+    private String idKind;
+
+    @Param({"5000000"})
+    private int existingRows;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=128MB", "-c", "synchronous_commit=off");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+            postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            statement.execute("CREATE TABLE employee_ids (id uuid PRIMARY KEY, version bigint NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO employee_ids (id, version) VALUES (?, 0)");
+        for (int inserted = 0; inserted < existingRows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("VACUUM ANALYZE employee_ids");
+            connection.setAutoCommit(false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet index = statement.executeQuery("SELECT pg_relation_size('employee_ids_pkey'), avg_leaf_density "
+                 + "FROM pgstatindex('employee_ids_pkey')")) {
+            index.next();
+            System.out.printf("%n%s keys: index %d MB, average leaf density %.1f%%%n",
+                idKind, index.getLong(1) / (1024 * 1024), index.getDouble(2));
+        }
+        insert.close();
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return idKind.equals("random") ? UUID.randomUUID() : TimeOrderedUuid.next();
+    }
+}
@@ -0,0 +1,102 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.jms.EmbeddedArtemisBroker;
+import com.hrpayroll.infrastructure.messaging.jms.JmsDomainEventPublisher;
+import com.hrpayroll.infrastructure.messaging.jms.JmsSendMode;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadSerializer;
+import jakarta.jms.BytesMessage;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second sent to an embedded Artemis broker by the {@link JmsDomainEventPublisher}, one batch of
+ * {@link #BATCH_SIZE} events per call in either {@link JmsSendMode}, against a plain {@link JmsTemplate}
+ * sending each event on its own (one blocking round trip per event, as a per-event listener would).
+ * Queues are not drained, so all variants pay the same broker-side cost of growing queues. Every invocation
+ * sends new events, since the broker's duplicate detection drops events whose ids it has already seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class JmsPublisherBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"TRANSACTED", "ASYNC"})
+    private JmsSendMode sendMode;
+
+    private EmbeddedArtemisBroker broker;
+    private ActiveMQConnectionFactory artemis;
+    private CachingConnectionFactory connectionFactory;
+    private JmsDomainEventPublisher publisher;
+    private JmsTemplate perMessageTemplate;
+    private EventPayloadSerializer serializer;
+    private List<DomainEvent> events;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        broker = new EmbeddedArtemisBroker(false);
+        broker.afterPropertiesSet();
+        artemis = new ActiveMQConnectionFactory(broker.getBrokerUrl());
+        artemis.setConfirmationWindowSize(1024 * 1024);
+        connectionFactory = new CachingConnectionFactory(artemis);
+        connectionFactory.setCacheProducers(true);
+
+        JmsTemplate batchTemplate = new JmsTemplate(connectionFactory);
+        batchTemplate.setSessionTransacted(sendMode == JmsSendMode.TRANSACTED);
+        serializer = new EventPayloadSerializer(EventPayloadFormat.BINARY);
+        publisher = new JmsDomainEventPublisher(batchTemplate, "benchmark", serializer, sendMode, 30_000);
+        perMessageTemplate = new JmsTemplate(connectionFactory);
+    }
+
+    @Setup(Level.Invocation)
+    public void createEvents() {
+        events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events.add(new SalaryAdjustedEvent(EmployeeId.generate(), Money.of(BigDecimal.valueOf(50_000), USD),
+                Money.of(BigDecimal.valueOf(50_000 + i), USD)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connectionFactory.destroy();
+        artemis.close();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batched() {
+        publisher.handle(events);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void perMessage() {
+        for (DomainEvent event : events) {
+            perMessageTemplate.send("benchmark.per-message", session -> {
+                BytesMessage message = session.createBytesMessage();
+                message.writeBytes(serializer.serialize(event));
+                return message;
+            });
+        }
+    }
+}
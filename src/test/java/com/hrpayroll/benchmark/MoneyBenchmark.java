@@ -0,0 +1,93 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.MoneyAccumulator;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing payroll amounts with the compact {@link Money} fast path and {@link MoneyAccumulator},
+ * against the previous BigDecimal path that rescaled and allocated on every step.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({"1000"})
+    private int amountCount;
+
+    private Money[] amounts;
+    private BigDecimal[] decimals;
+    private EmployeeId employeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        amounts = new Money[amountCount];
+        decimals = new BigDecimal[amountCount];
+        for (int i = 0; i < amountCount; i++) {
+            BigDecimal amount = BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(1, 1_000_000), 2);
+            amounts[i] = Money.of(amount, USD);
+            decimals[i] = amount;
+        }
+        employeeId = EmployeeId.generate();
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimalBaseline() {
+        // Mirrors the previous Money.add: new BigDecimal plus setScale and a currency check per step
+        BigDecimal total = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        for (BigDecimal amount : decimals) {
+            if (!USD.equals(USD)) {
+                throw new IllegalStateException();
+            }
+            total = total.add(amount).setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumMoneyAdd() {
+        Money total = Money.zero(USD);
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumAccumulator() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+        for (Money amount : amounts) {
+            accumulator.add(amount);
+        }
+        return accumulator.total();
+    }
+
+    @Benchmark
+    public Money payrollWithAdjustments() {
+        Payroll payroll = Payroll.create(employeeId, YearMonth.of(2025, 3), Money.ofMinor(5_000_000, USD));
+        for (int i = 1; i < 21; i++) {
+            if ((i & 1) == 0) {
+                payroll.addBonus(amounts[i]);
+            } else {
+                payroll.addDeduction(Money.ofMinor(amounts[i].toMinorUnits() / 100, USD), "Benefits");
+            }
+        }
+        return payroll.getNetPay();
+    }
+}
@@ -0,0 +1,51 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A payroll's full lifecycle: creation, bonus and deduction adjustments, processing and payment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    @Param({"0", "5", "20"})
+    private int adjustments;
+
+    private final EmployeeId employeeId = EmployeeId.generate();
+    private final Money baseSalary = Money.ofMinor(650_000, USD);
+    private final Money bonus = Money.ofMinor(12_550, USD);
+    private final Money deduction = Money.ofMinor(4_025, USD);
+
+    @Benchmark
+    public Payroll createAndProcess() {
+        Payroll payroll = Payroll.create(employeeId, PERIOD, baseSalary);
+        for (int i = 0; i < adjustments; i++) {
+            payroll.addBonus(bonus);
+            payroll.addDeduction(deduction, "Benefits");
+        }
+        payroll.process();
+        return payroll;
+    }
+
+    @Benchmark
+    public Payroll createProcessAndPay() {
+        Payroll payroll = createAndProcess();
+        payroll.markAsPaid();
+        return payroll;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.application.dto.PayrollRunReport;
+import com.hrpayroll.application.service.PayrollRunService;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end month-end run over 500k active employees with in-memory repositories,
+ * so the figure measures the engine itself rather than the database.
+ * Each invocation starts from an empty payroll store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PayrollRunBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    @Param({"500000"})
+    private int employeeCount;
+
+    @Param({"1000"})
+    private int chunkSize;
+
+    @Param({"1", "8"})
+    private int parallelism;
+
+    private InMemoryEmployeeRepository employeeRepository;
+    private PayrollRunService payrollRunService;
+
+    @Setup(Level.Trial)
+    public void setUpEmployees() {
+        employeeRepository = new InMemoryEmployeeRepository();
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000 + i % 1_000), USD)
+            );
+            employeeRepository.save(employee);
+            employee.clearDomainEvents();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpPayrolls() {
+        payrollRunService = new PayrollRunService(employeeRepository, new InMemoryPayrollRepository(),
+            chunkSize, parallelism);
+    }
+
+    @Benchmark
+    public PayrollRunReport run() {
+        return payrollRunService.run(PERIOD);
+    }
+}
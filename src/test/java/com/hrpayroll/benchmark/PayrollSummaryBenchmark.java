@@ -0,0 +1,110 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollSummaryQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payroll summary for one pay period out of 5M stored payroll rows (250k employees over 20 periods),
+ * grouped by department, status and currency. {@code loadAggregates} is what reporting had to do before:
+ * load the period's aggregates and fold them with {@link Money#add}. {@code summaryQuery} is the
+ * parallel, minor-unit aggregation of {@link InMemoryPayrollSummaryQuery}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PayrollSummaryBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final YearMonth FIRST_PERIOD = YearMonth.of(2024, 1);
+
+    @Param({"250000"})
+    private int employeeCount;
+
+    @Param({"20"})
+    private int periods;
+
+    private InMemoryEmployeeRepository employeeRepository;
+    private InMemoryPayrollRepository payrollRepository;
+    private InMemoryPayrollSummaryQuery summaryQuery;
+    private YearMonth reportedPeriod;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        DepartmentId[] departments = new DepartmentId[50];
+        for (int i = 0; i < departments.length; i++) {
+            departments[i] = DepartmentId.generate();
+        }
+        PayrollStatus[] statuses = PayrollStatus.values();
+
+        employeeRepository = new InMemoryEmployeeRepository();
+        payrollRepository = new InMemoryPayrollRepository();
+        for (int i = 0; i < employeeCount; i++) {
+            Currency currency = i % 10 == 0 ? EUR : USD;
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), departments[i % departments.length],
+                "Engineer", Money.ofMinor(500_000 + random.nextInt(500_000), currency)
+            );
+            employee.clearDomainEvents();
+            employeeRepository.save(employee);
+            for (int p = 0; p < periods; p++) {
+                long bonus = random.nextInt(4) == 0 ? random.nextInt(100_000) : 0;
+                long deductions = random.nextInt(150_000);
+                long base = employee.getSalary().toMinorUnits();
+                payrollRepository.save(Payroll.reconstitute(PayrollId.generate(), employee.getId(),
+                    FIRST_PERIOD.plusMonths(p), employee.getSalary(), Money.ofMinor(bonus, currency),
+                    Money.ofMinor(deductions, currency), Money.ofMinor(base + bonus - deductions, currency),
+                    statuses[random.nextInt(statuses.length)], null, null));
+            }
+        }
+        summaryQuery = new InMemoryPayrollSummaryQuery(payrollRepository, employeeRepository);
+        reportedPeriod = FIRST_PERIOD.plusMonths(periods / 2);
+    }
+
+    @Benchmark
+    public List<PayrollTotals> summaryQuery() {
+        return summaryQuery.summarize(reportedPeriod);
+    }
+
+    @Benchmark
+    public Map<List<Object>, Money[]> loadAggregates() {
+        Map<List<Object>, Money[]> groups = new HashMap<>();
+        for (Payroll payroll : payrollRepository.findByPayPeriod(reportedPeriod)) {
+            EmployeeId employeeId = payroll.getEmployeeId();
+            DepartmentId departmentId = employeeRepository.findById(employeeId).orElseThrow().getDepartmentId();
+            Currency currency = payroll.getBaseSalary().getCurrency();
+            Money[] sums = groups.computeIfAbsent(List.of(departmentId, payroll.getStatus(), currency), key -> new Money[]{
+                Money.zero(currency), Money.zero(currency), Money.zero(currency), Money.zero(currency)});
+            sums[0] = sums[0].add(payroll.getBaseSalary());
+            sums[1] = sums[1].add(payroll.getBonus());
+            sums[2] = sums[2].add(payroll.getDeductions());
+            sums[3] = sums[3].add(payroll.getNetPay());
+        }
+        return groups;
+    }
+}
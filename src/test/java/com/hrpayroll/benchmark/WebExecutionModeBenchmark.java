@@ -0,0 +1,210 @@
+package com.hrpayroll.benchmark;
+
+import com.hrpayroll.EmployeeManagementApplication;
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeRepository;
+import com.hrpayroll.domain.model.employee.Money;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Currency;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of {@code GET /api/employees/{id}} against the running application in both request
+ * execution modes: Tomcat's platform-thread pool ({@code virtualThreads=false}) and one virtual thread
+ * per request ({@code virtualThreads=true}). Every lookup is slowed by {@code downstreamLatencyMs} to
+ * stand in for a database round trip, and {@code concurrency} clients issue requests back to back.
+ * Throughput, p99 latency and failed requests of each shot are reported as auxiliary counters (JMH's
+ * summary adds them up over the shots; the per-iteration lines hold the values). With spare CPU, once
+ * concurrency exceeds the platform pool, its p99 grows with the queue while the virtual mode stays near
+ * the downstream latency; when clients and server share too few cores, both modes are CPU-bound instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class WebExecutionModeBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final String USER = "bench";
+    private static final String PASSWORD = "bench";
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"1000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private int requestsPerClient;
+
+    @Param({"20"})
+    private long downstreamLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private String[] employeeIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // Arguments rather than default properties, so the dev profile's settings cannot override them.
+        // A plain-text encoder, since Spring Security would otherwise upgrade the password to bcrypt on the
+        // first login and then spend far longer checking it on every request than serving the lookup.
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+            .initializers(applicationContext -> {
+                applicationContext.getBeanFactory()
+                    .registerSingleton("benchmarkPasswordEncoder", NoOpPasswordEncoder.getInstance());
+                applicationContext.getBeanFactory()
+                    .addBeanPostProcessor(new DownstreamLatency(downstreamLatencyMs));
+            })
+            .run(
+                "--spring.profiles.active=benchmark",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--app.persistence.type=memory",
+                "--app.events.kafka.enabled=false",
+                "--spring.security.user.name=" + USER,
+                "--spring.security.user.password=" + PASSWORD,
+                "--logging.level.root=WARN");
+
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+        employeeIds = new String[1_000];
+        for (int i = 0; i < employeeIds.length; i++) {
+            Employee employee = Employee.create(
+                "First" + i, "Last" + i, Email.of("employee" + i + "@company.com"), null,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), null,
+                "Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+            );
+            employeeService.createEmployee(employee);
+            employeeIds[i] = employee.getId().getValue().toString();
+        }
+
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/employees/";
+        authorization = "Basic " + Base64.getEncoder()
+            .encodeToString((USER + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public long getEmployee(LoadCounters counters) {
+        int total = concurrency * requestsPerClient;
+        long[] latencies = new long[total];
+        AtomicLong failures = new AtomicLong();
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < concurrency; client++) {
+                int offset = client * requestsPerClient;
+                clients.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        latencies[offset + i] = timeRequest(failures);
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        counters.p99Millis = latencies[(int) Math.ceil(total * 0.99) - 1] / 1_000_000.0;
+        counters.throughputPerSecond = total * 1_000_000_000.0 / elapsed;
+        counters.failedRequests = failures.get();
+        return elapsed;
+    }
+
+    private long timeRequest(AtomicLong failures) {
+        String id = employeeIds[ThreadLocalRandom.current().nextInt(employeeIds.length)];
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id))
+            .header("Authorization", authorization)
+            .GET()
+            .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                failures.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failures.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.incrementAndGet();
+        }
+        return System.nanoTime() - started;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoadCounters {
+
+        public double p99Millis;
+        public double throughputPerSecond;
+        public long failedRequests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            p99Millis = 0;
+            throughputPerSecond = 0;
+            failedRequests = 0;
+        }
+    }
+
+    /**
+     * Delays {@link EmployeeRepository#findById} by a fixed time, the way a blocking JDBC call would.
+     * Registered programmatically so component scanning never picks it up in other tests.
+     */
+    private record DownstreamLatency(long millis) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof EmployeeRepository repository)) {
+                return bean;
+            }
+            return Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        Thread.sleep(millis);
+                    }
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
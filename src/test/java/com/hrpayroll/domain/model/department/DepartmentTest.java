@@ -0,0 +1,171 @@
+package com.hrpayroll.domain.model.department;
+
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.EmploymentStatus;
+import com.hrpayroll.domain.model.employee.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Department Domain Model Tests")
+class DepartmentTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Money BUDGET = Money.of(BigDecimal.valueOf(200_000), USD);
+
+    @Nested
+    @DisplayName("Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("Should keep members unique and in insertion order")
+        void shouldKeepMembersUniqueAndOrdered() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", BUDGET);
+            EmployeeId first = EmployeeId.generate();
+            EmployeeId second = EmployeeId.generate();
+
+            // When
+            department.addEmployee(first);
+            department.addEmployee(second);
+            department.addEmployee(first);
+
+            // Then
+            assertThat(department.getEmployeeIds()).containsExactly(first, second);
+            assertThat(department.hasEmployee(second)).isTrue();
+            assertThat(department.getEmployeeCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should ignore removal of a non-member")
+        void shouldIgnoreRemovalOfNonMember() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", BUDGET);
+            EmployeeId member = EmployeeId.generate();
+            department.addEmployee(member);
+
+            // When
+            department.removeEmployee(EmployeeId.generate());
+
+            // Then
+            assertThat(department.getEmployeeIds()).containsExactly(member);
+        }
+    }
+
+    @Nested
+    @DisplayName("Headcount and Budget Tests")
+    class AggregateTests {
+
+        @Test
+        @DisplayName("Should maintain headcount by status and salary cost as members change")
+        void shouldMaintainAggregates() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", BUDGET);
+            Employee alice = createEmployee("alice", Money.of(BigDecimal.valueOf(80_000), USD));
+            Employee bob = createEmployee("bob", Money.of(BigDecimal.valueOf(60_000), USD));
+            department.addEmployee(alice);
+            department.addEmployee(bob);
+
+            // When
+            bob.suspend();
+            alice.adjustSalary(Money.of(BigDecimal.valueOf(90_000), USD));
+            department.updateEmployee(bob);
+            department.updateEmployee(alice);
+
+            // Then
+            assertThat(department.getHeadcount(EmploymentStatus.ACTIVE)).isEqualTo(1);
+            assertThat(department.getHeadcount(EmploymentStatus.SUSPENDED)).isEqualTo(1);
+            assertThat(department.getSalaryCost()).isEqualTo(Money.of(BigDecimal.valueOf(150_000), USD));
+            assertThat(department.getBudgetUtilization()).hasValue(new BigDecimal("0.7500"));
+            assertThat(department.isOverBudget()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should drop terminated and removed members from the salary cost")
+        void shouldDropTerminatedAndRemovedMembers() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", BUDGET);
+            Employee alice = createEmployee("alice", Money.of(BigDecimal.valueOf(80_000), USD));
+            Employee bob = createEmployee("bob", Money.of(BigDecimal.valueOf(60_000), USD));
+            department.addEmployee(alice);
+            department.addEmployee(bob);
+
+            // When
+            alice.terminate("Restructuring");
+            department.updateEmployee(alice);
+            department.removeEmployee(bob.getId());
+
+            // Then
+            assertThat(department.getHeadcountByStatus())
+                    .containsEntry(EmploymentStatus.TERMINATED, 1)
+                    .containsEntry(EmploymentStatus.ACTIVE, 0);
+            assertThat(department.getSalaryCost()).isEqualTo(Money.zero(USD));
+            assertThat(department.getSalaryCosts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should report salary cost per currency and compare only the budget currency")
+        void shouldReportCostPerCurrency() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things",
+                    Money.of(BigDecimal.valueOf(100_000), USD));
+            department.addEmployee(createEmployee("alice", Money.of(BigDecimal.valueOf(120_000), USD)));
+            department.addEmployee(createEmployee("jean", Money.of(BigDecimal.valueOf(70_000), EUR)));
+            department.addEmployee(EmployeeId.generate());
+
+            // When
+            Map<Currency, Money> costs = department.getSalaryCosts();
+
+            // Then
+            assertThat(costs).containsOnly(
+                    entry(USD, Money.of(BigDecimal.valueOf(120_000), USD)),
+                    entry(EUR, Money.of(BigDecimal.valueOf(70_000), EUR)));
+            assertThat(department.getEmployeeCount()).isEqualTo(3);
+            assertThat(department.getHeadcount(EmploymentStatus.ACTIVE)).isEqualTo(2);
+            assertThat(department.isOverBudget()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not update employees who are not members")
+        void shouldNotUpdateNonMembers() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", BUDGET);
+
+            // When
+            boolean updated = department.updateEmployee(createEmployee("alice", Money.of(BigDecimal.valueOf(80_000), USD)));
+
+            // Then
+            assertThat(updated).isFalse();
+            assertThat(department.getEmployeeCount()).isZero();
+            assertThat(department.getSalaryCost()).isEqualTo(Money.zero(USD));
+        }
+
+        @Test
+        @DisplayName("Should report no utilization for a zero budget")
+        void shouldReportNoUtilizationForZeroBudget() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things", Money.zero(USD));
+
+            // When / Then
+            assertThat(department.getBudgetUtilization()).isEmpty();
+        }
+    }
+
+    private Employee createEmployee(String name, Money salary) {
+        return Employee.create(
+                name, "Doe", Email.of(name + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", salary
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.hrpayroll.domain.model.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Email Value Object Tests")
+class EmailTest {
+
+    /**
+     * The pattern Email validated with before it was checked by hand; the reference for equivalence.
+     */
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should accept valid addresses and store them in lower case")
+        void shouldAcceptValidAddresses() {
+            assertThat(Email.of("John.Doe+hr@Company.COM").getValue()).isEqualTo("john.doe+hr@company.com");
+            assertThat(Email.of("a_b-c@mail-1.example.org").getValue()).isEqualTo("a_b-c@mail-1.example.org");
+            assertThat(Email.of("x@y.io").getValue()).isEqualTo("x@y.io");
+            assertThat(Email.of("..@-..ab").getValue()).isEqualTo("..@-..ab");
+        }
+
+        @Test
+        @DisplayName("Should reject null and blank addresses")
+        void shouldRejectBlankAddresses() {
+            assertThatThrownBy(() -> Email.of(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Email cannot be null or empty");
+            assertThatThrownBy(() -> Email.of(" \t"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Email cannot be null or empty");
+        }
+
+        @Test
+        @DisplayName("Should reject malformed addresses")
+        void shouldRejectMalformedAddresses() {
+            for (String invalid : new String[]{"@company.com", "john@", "john@.com", "john@company", "john@company.c",
+                    "john@company.c0m", "john@@company.com", "jo@hn@company.com", "john@comp_any.com", "jo hn@company.com",
+                    "jöhn@company.com", "john@company.com\n", "john.company.com"}) {
+                assertThatThrownBy(() -> Email.of(invalid))
+                        .as(invalid)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("Invalid email format: " + invalid);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reuse an address that is already in lower case")
+        void shouldReuseLowerCaseAddress() {
+            String address = "jane.doe@company.com";
+
+            assertThat(Email.of(address).getValue()).isSameAs(address);
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalence Tests")
+    class EquivalenceTests {
+
+        private static final String CHARACTERS = "abzAZ09+_.-@ é\n";
+
+        @Test
+        @DisplayName("Should accept exactly the addresses the email pattern matches")
+        void shouldMatchEmailPattern() {
+            Random random = new Random(20_240_601);
+            int matched = 0;
+            for (int sample = 0; sample < 500_000; sample++) {
+                String candidate = sample % 2 == 0 ? randomString(random) : randomAddressLike(random);
+                boolean expected = EMAIL_PATTERN.matcher(candidate).matches();
+
+                String normalized = Email.normalize(candidate);
+
+                assertThat(normalized != null).as("[%s]", candidate).isEqualTo(expected);
+                if (expected) {
+                    assertThat(normalized).isEqualTo(candidate.toLowerCase(Locale.ROOT));
+                    matched++;
+                }
+            }
+            assertThat(matched).as("valid samples").isGreaterThan(10_000);
+        }
+
+        private String randomString(Random random) {
+            return characters(random, 14);
+        }
+
+        private String randomAddressLike(Random random) {
+            return characters(random, 4)
+                    + (random.nextInt(8) == 0 ? "" : "@")
+                    + characters(random, 4)
+                    + (random.nextInt(8) == 0 ? "" : ".")
+                    + (random.nextBoolean() ? "com" : characters(random, 3));
+        }
+
+        private String characters(Random random, int maxLength) {
+            int length = random.nextInt(maxLength + 1);
+            StringBuilder value = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                value.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            }
+            return value.toString();
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.hrpayroll.domain.model.employee;
 
 import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.shared.DomainClock;
+import com.hrpayroll.domain.shared.DomainEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Currency;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -367,6 +374,116 @@ class EmployeeTest {
         }
     }
 
+    @Nested
+    @DisplayName("Employee Replay Tests")
+    class EmployeeReplayTests {
+
+        @Test
+        @DisplayName("Should rebuild the same state from the events an employee recorded")
+        void shouldRebuildStateFromEvents() {
+            // Given
+            Employee employee = createValidEmployee();
+            employee.promote("Senior Engineer", Money.of(90000.00, "USD"));
+            employee.updatePersonalInfo("Johnny", "Doe", null);
+            employee.suspend();
+            List<EmployeeDomainEvent> history = employee.getDomainEvents().stream()
+                    .map(EmployeeDomainEvent.class::cast)
+                    .toList();
+
+            // When
+            Employee replayed = Employee.replay(null, history);
+
+            // Then
+            assertThat(replayed.getId()).isEqualTo(employee.getId());
+            assertThat(replayed.getFullName()).isEqualTo("Johnny Doe");
+            assertThat(replayed.getPhoneNumber()).isNull();
+            assertThat(replayed.getJobTitle()).isEqualTo("Senior Engineer");
+            assertThat(replayed.getSalary()).isEqualTo(Money.of(90000.00, "USD"));
+            assertThat(replayed.getStatus()).isEqualTo(EmploymentStatus.SUSPENDED);
+            assertThat(replayed.getDomainEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a history that does not start with the employee's creation")
+        void shouldRejectHistoryWithoutCreation() {
+            // Given
+            Employee employee = createValidEmployee();
+            employee.clearDomainEvents();
+            employee.suspend();
+            List<EmployeeDomainEvent> history = List.of((EmployeeDomainEvent) employee.getDomainEvents().get(0));
+
+            // When/Then
+            assertThatThrownBy(() -> Employee.replay(null, history))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must start with EmployeeCreated");
+        }
+    }
+
+    @Nested
+    @DisplayName("Domain Clock Tests")
+    class DomainClockTests {
+
+        @AfterEach
+        void resetClock() {
+            DomainClock.reset();
+        }
+
+        @Test
+        @DisplayName("Should stamp events and dates from the domain clock")
+        void shouldUseDomainClock() {
+            // Given
+            Instant fixed = Instant.parse("2025-03-31T23:30:00Z");
+            DomainClock.set(Clock.fixed(fixed, ZoneOffset.UTC));
+
+            // When
+            Employee employee = createValidEmployee();
+            employee.terminate("Relocation");
+
+            // Then
+            assertThat(employee.getDomainEvents()).extracting(DomainEvent::getOccurredOn).containsOnly(fixed);
+            assertThat(employee.getLastModifiedDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+            assertThat(employee.getDomainEvents().get(1)).isInstanceOfSatisfying(EmployeeTerminatedEvent.class,
+                    terminated -> assertThat(terminated.getTerminationDate()).isEqualTo(LocalDate.of(2025, 3, 31)));
+        }
+
+        @Test
+        @DisplayName("Should give events increasing ids in the order they were raised")
+        void shouldGiveEventsIncreasingIds() {
+            // Given
+            Employee employee = createValidEmployee();
+
+            // When
+            for (int raise = 1; raise <= 100; raise++) {
+                employee.adjustSalary(Money.of(75_000.00 + raise, "USD"));
+            }
+
+            // Then
+            assertThat(employee.getDomainEvents()).extracting(DomainEvent::getEventId).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconstitution Tests")
+    class ReconstitutionTests {
+
+        @Test
+        @DisplayName("Should keep the stored last modified date without raising events")
+        void shouldKeepStoredLastModifiedDate() {
+            // Given
+            LocalDate lastModified = LocalDate.of(2024, 11, 5);
+
+            // When
+            Employee employee = Employee.reconstitute(EmployeeId.generate(), FIRST_NAME, LAST_NAME, EMAIL, PHONE,
+                    DATE_OF_BIRTH, HIRE_DATE, DEPARTMENT_ID, JOB_TITLE, SALARY, EmploymentStatus.SUSPENDED,
+                    lastModified);
+
+            // Then
+            assertThat(employee.getLastModifiedDate()).isEqualTo(lastModified);
+            assertThat(employee.getStatus()).isEqualTo(EmploymentStatus.SUSPENDED);
+            assertThat(employee.getDomainEvents()).isEmpty();
+        }
+    }
+
     private Employee createValidEmployee() {
         return Employee.create(
                 FIRST_NAME, LAST_NAME, EMAIL, PHONE,
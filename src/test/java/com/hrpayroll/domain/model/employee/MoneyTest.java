@@ -0,0 +1,133 @@
+package com.hrpayroll.domain.model.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Money Value Object Tests")
+class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Nested
+    @DisplayName("Representation Tests")
+    class RepresentationTests {
+
+        @Test
+        @DisplayName("Should treat minor units and decimal amounts as equal")
+        void shouldTreatMinorUnitsAndDecimalAmountsAsEqual() {
+            // Given
+            Money fromDecimal = Money.of(new BigDecimal("10.505"), USD);
+            Money fromMinorUnits = Money.ofMinor(1051, USD);
+
+            // Then
+            assertThat(fromDecimal).isEqualTo(fromMinorUnits);
+            assertThat(fromDecimal.hashCode()).isEqualTo(fromMinorUnits.hashCode());
+            assertThat(fromMinorUnits.getAmount()).isEqualTo(new BigDecimal("10.51"));
+            assertThat(fromDecimal.toMinorUnits()).isEqualTo(1051);
+        }
+
+        @Test
+        @DisplayName("Should fall back to BigDecimal beyond the long range")
+        void shouldFallBackToBigDecimalBeyondLongRange() {
+            // When
+            Money max = Money.ofMinor(Long.MAX_VALUE, USD);
+            Money beyond = max.add(Money.ofMinor(1, USD));
+
+            // Then
+            assertThat(beyond.getAmount()).isEqualTo(new BigDecimal("92233720368547758.08"));
+            assertThat(beyond).isEqualTo(Money.of(new BigDecimal("92233720368547758.08"), USD));
+            assertThat(beyond.isGreaterThan(max)).isTrue();
+            assertThat(beyond.subtract(Money.ofMinor(1, USD))).isEqualTo(max);
+            assertThatThrownBy(beyond::toMinorUnits).isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("Should keep arithmetic semantics")
+        void shouldKeepArithmeticSemantics() {
+            // Given
+            Money salary = Money.of(5000.10, "USD");
+
+            // Then
+            assertThat(salary.add(Money.of(0.15, "USD")).getAmount()).isEqualTo(new BigDecimal("5000.25"));
+            assertThat(salary.subtract(Money.of(0.10, "USD")).getAmount()).isEqualTo(new BigDecimal("5000.00"));
+            assertThat(salary.multiply(new BigDecimal("1.005")).getAmount()).isEqualTo(new BigDecimal("5025.10"));
+            assertThatThrownBy(() -> Money.of(1, "USD").subtract(Money.of(2, "USD")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> salary.add(Money.of(1, "EUR")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Accumulator Tests")
+    class AccumulatorTests {
+
+        @Test
+        @DisplayName("Should sum amounts like repeated Money addition")
+        void shouldSumAmountsLikeRepeatedAddition() {
+            // Given
+            MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+            Money expected = Money.zero(USD);
+
+            // When
+            for (int i = 0; i < 1_000; i++) {
+                Money amount = Money.of(BigDecimal.valueOf(i, 2), USD);
+                accumulator.add(amount);
+                expected = expected.add(amount);
+            }
+
+            // Then
+            assertThat(accumulator.total()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should allow a negative running total but reject a negative result")
+        void shouldRejectNegativeTotal() {
+            // Given
+            MoneyAccumulator accumulator = MoneyAccumulator.of(USD)
+                    .subtract(Money.of(10, "USD"));
+
+            // Then
+            assertThatThrownBy(accumulator::total).isInstanceOf(IllegalArgumentException.class);
+            assertThat(accumulator.add(Money.of(25, "USD")).total()).isEqualTo(Money.of(15, "USD"));
+        }
+
+        @Test
+        @DisplayName("Should detect overflow and keep an exact total")
+        void shouldDetectOverflow() {
+            // When
+            MoneyAccumulator accumulator = MoneyAccumulator.of(USD)
+                    .addMinorUnits(Long.MAX_VALUE)
+                    .addMinorUnits(5);
+
+            // Then
+            assertThat(accumulator.total().getAmount()).isEqualTo(new BigDecimal("92233720368547758.12"));
+            assertThatThrownBy(accumulator::totalMinorUnits).isInstanceOf(ArithmeticException.class);
+
+            accumulator.addMinorUnits(-10);
+            assertThat(accumulator.totalMinorUnits()).isEqualTo(Long.MAX_VALUE - 5);
+        }
+
+        @Test
+        @DisplayName("Should merge accumulators and reject other currencies")
+        void shouldMergeAccumulators() {
+            // Given
+            MoneyAccumulator first = MoneyAccumulator.of(USD).addMinorUnits(150);
+            MoneyAccumulator second = MoneyAccumulator.of(USD).addMinorUnits(250);
+
+            // Then
+            assertThat(first.merge(second).totalMinorUnits()).isEqualTo(400);
+            assertThatThrownBy(() -> first.merge(MoneyAccumulator.of(EUR)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> first.add(Money.of(1, "EUR")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hrpayroll.domain.shared;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Time Ordered UUID Tests")
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs stamped with the current time")
+    void shouldGenerateVersion7Uuids() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = TimeOrderedUuid.next();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(TimeOrderedUuid.timestampOf(uuid)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs within a thread")
+    void shouldGenerateIncreasingUuids() {
+        // Given
+        UUID previous = TimeOrderedUuid.next();
+
+        for (int i = 0; i < 200_000; i++) {
+            // When
+            UUID next = TimeOrderedUuid.next();
+
+            // Then
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        assertThat(TimeOrderedUuid.timestampOf(previous)).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Should generate unique UUIDs across threads")
+    void shouldGenerateUniqueUuidsAcrossThreads() throws Exception {
+        // Given
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // When
+        for (int thread = 0; thread < 8; thread++) {
+            workers.add(executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    generated.add(TimeOrderedUuid.next());
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(generated).hasSize(800_000);
+    }
+
+    @Test
+    @DisplayName("Should reject reading the timestamp of a random UUID")
+    void shouldRejectRandomUuidTimestamp() {
+        assertThatThrownBy(() -> TimeOrderedUuid.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,390 @@
+package com.hrpayroll.infrastructure.messaging.bus;
+
+import com.hrpayroll.domain.model.employee.EmployeeDomainEvent;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.model.payroll.BonusAddedEvent;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.shared.DomainEventSubscriber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Domain Event Bus Tests")
+class DomainEventBusTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @TempDir
+    Path spillDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingSubscriber subscriber;
+    private DomainEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriber = new RecordingSubscriber();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.release();
+        if (bus != null) {
+            bus.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Delivery Tests")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("Should deliver each aggregate's events in order across lanes")
+        void shouldDeliverInOrderPerAggregate() throws Exception {
+            // Given
+            bus = open(4, 1_000, 16, Duration.ZERO, BackpressurePolicy.BLOCK);
+            List<EmployeeId> ids = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                ids.add(EmployeeId.generate());
+            }
+
+            // When
+            try (ExecutorService publishers = Executors.newFixedThreadPool(5)) {
+                for (int thread = 0; thread < 5; thread++) {
+                    List<EmployeeId> owned = ids.subList(thread * 10, thread * 10 + 10);
+                    publishers.submit(() -> owned.forEach(id -> publishAdjustments(id, 0, 200)));
+                }
+            }
+            awaitUntil(() -> subscriber.received.size() == 10_000);
+
+            // Then
+            Map<EmployeeId, List<Integer>> raisesByEmployee = new HashMap<>();
+            for (EmployeeDomainEvent event : subscriber.received) {
+                raisesByEmployee.computeIfAbsent(event.getEmployeeId(), id -> new ArrayList<>()).add(raiseOf(event));
+            }
+            assertThat(raisesByEmployee).hasSize(50);
+            raisesByEmployee.values().forEach(raises -> assertThat(raises).isSorted().hasSize(200));
+            assertThat(subscriber.batchSizes).allMatch(size -> size <= 16);
+            assertThat(meterRegistry.get("events.bus.events").tag("result", "handled").counter().count())
+                    .isEqualTo(10_000);
+            assertThat(meterRegistry.get("events.bus.handler.duration").timer().count())
+                    .isEqualTo(subscriber.batchSizes.size());
+        }
+
+        @Test
+        @DisplayName("Should wait for a batch to fill up to the batch delay")
+        void shouldWaitForBatchToFill() throws Exception {
+            // Given
+            bus = open(1, 100, 50, Duration.ofMillis(500), BackpressurePolicy.BLOCK);
+            EmployeeId id = EmployeeId.generate();
+
+            // When
+            for (int raise = 0; raise < 10; raise++) {
+                publishAdjustments(id, raise, raise + 1);
+                Thread.sleep(5);
+            }
+            awaitUntil(() -> subscriber.received.size() == 10);
+
+            // Then
+            assertThat(subscriber.batchSizes).containsExactly(10);
+        }
+
+        @Test
+        @DisplayName("Should only deliver events of the subscribed type")
+        void shouldOnlyDeliverSubscribedType() throws Exception {
+            // Given
+            bus = open(1, 100, 10, Duration.ZERO, BackpressurePolicy.BLOCK);
+
+            // When
+            bus.publish(new BonusAddedEvent(PayrollId.generate(), Money.of(BigDecimal.TEN, USD)));
+            publishAdjustments(EmployeeId.generate(), 0, 1);
+            awaitUntil(() -> subscriber.received.size() == 1);
+
+            // Then
+            assertThat(subscriber.received).singleElement().isInstanceOf(SalaryAdjustedEvent.class);
+        }
+
+        @Test
+        @DisplayName("Should keep delivering after a handler fails")
+        void shouldKeepDeliveringAfterFailure() throws Exception {
+            // Given
+            bus = open(1, 100, 1, Duration.ZERO, BackpressurePolicy.BLOCK);
+            subscriber.failNextBatch = true;
+            EmployeeId id = EmployeeId.generate();
+
+            // When
+            publishAdjustments(id, 0, 3);
+            awaitUntil(() -> subscriber.received.size() == 2);
+
+            // Then
+            assertThat(subscriber.received).extracting(DomainEventBusTest::raiseOf).containsExactly(1, 2);
+            assertThat(meterRegistry.get("events.bus.events").tag("result", "failed").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should deliver queued events before closing")
+        void shouldDrainQueueOnClose() {
+            // Given
+            bus = open(1, 100, 1, Duration.ZERO, BackpressurePolicy.BLOCK);
+            subscriber.hold();
+            publishAdjustments(EmployeeId.generate(), 0, 50);
+            Thread.ofPlatform().start(() -> {
+                sleep(200);
+                subscriber.release();
+            });
+
+            // When
+            bus.close();
+            bus = null;
+
+            // Then
+            assertThat(subscriber.received).hasSize(50);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure Tests")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should block the publisher while the lane is full")
+        void shouldBlockPublisher() throws Exception {
+            // Given
+            bus = open(1, 2, 1, Duration.ZERO, BackpressurePolicy.BLOCK);
+            subscriber.hold();
+            EmployeeId id = EmployeeId.generate();
+
+            // When
+            Thread publisher = Thread.ofPlatform().start(() -> publishAdjustments(id, 0, 10));
+            Thread.sleep(300);
+
+            // Then
+            assertThat(publisher.isAlive()).isTrue();
+            subscriber.release();
+            publisher.join(5_000);
+            assertThat(publisher.isAlive()).isFalse();
+            awaitUntil(() -> subscriber.received.size() == 10);
+        }
+
+        @Test
+        @DisplayName("Should stop blocking publishers and drop their events once the bus is closing")
+        void shouldReleaseBlockedPublisherOnClose() throws Exception {
+            // Given
+            bus = open(1, 2, 1, Duration.ZERO, BackpressurePolicy.BLOCK);
+            subscriber.hold();
+            EmployeeId id = EmployeeId.generate();
+            Thread publisher = Thread.ofPlatform().start(() -> publishAdjustments(id, 0, 10));
+            awaitUntil(() -> meterRegistry.get("events.bus.queue.depth").gauge().value() == 2);
+
+            // When
+            Thread closer = Thread.ofPlatform().start(bus::close);
+            publisher.join(5_000);
+
+            // Then
+            assertThat(publisher.isAlive()).isFalse();
+            assertThat(meterRegistry.get("events.bus.events").tag("result", "dropped").counter().count()).isEqualTo(7);
+            subscriber.release();
+            closer.join(5_000);
+            assertThat(subscriber.received).extracting(DomainEventBusTest::raiseOf).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        @DisplayName("Should drop and count events that do not fit in the lane")
+        void shouldDropOverflow() throws Exception {
+            // Given
+            bus = open(1, 2, 1, Duration.ZERO, BackpressurePolicy.DROP);
+            subscriber.hold();
+            EmployeeId id = EmployeeId.generate();
+            publishAdjustments(id, 0, 1);
+            awaitUntil(() -> meterRegistry.get("events.bus.queue.depth").gauge().value() == 0);
+
+            // When
+            publishAdjustments(id, 1, 10);
+
+            // Then
+            assertThat(meterRegistry.get("events.bus.events").tag("result", "dropped").counter().count()).isEqualTo(7);
+            assertThat(meterRegistry.get("events.bus.queue.depth").gauge().value()).isEqualTo(2);
+            subscriber.release();
+            awaitUntil(() -> subscriber.received.size() == 3);
+            assertThat(subscriber.received).extracting(DomainEventBusTest::raiseOf).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        @DisplayName("Should spill overflow to disk and deliver it in order")
+        void shouldSpillOverflowInOrder() throws Exception {
+            // Given
+            bus = open(1, 2, 8, Duration.ZERO, BackpressurePolicy.SPILL);
+            subscriber.hold();
+            EmployeeId id = EmployeeId.generate();
+            Path spillFile = spillDirectory.resolve("RecordingSubscriber-0.spill");
+
+            // When
+            publishAdjustments(id, 0, 100);
+
+            // Then
+            assertThat(Files.size(spillFile)).isPositive();
+            assertThat(meterRegistry.get("events.bus.queue.depth").gauge().value()).isGreaterThan(90);
+            subscriber.release();
+            awaitUntil(() -> subscriber.received.size() == 100);
+            assertThat(subscriber.received).extracting(DomainEventBusTest::raiseOf).isSorted().doesNotHaveDuplicates();
+            assertThat(Files.size(spillFile)).isZero();
+
+            publishAdjustments(id, 100, 110);
+            awaitUntil(() -> subscriber.received.size() == 110);
+            assertThat(raiseOf(subscriber.received.getLast())).isEqualTo(109);
+        }
+    }
+
+    @Nested
+    @DisplayName("Spill Failure Tests")
+    class SpillFailureTests {
+
+        @Test
+        @DisplayName("Should drop and count an event that cannot be spilled instead of failing the publisher")
+        void shouldDropEventThatCannotBeSpilled() throws Exception {
+            // Given
+            bus = open(1, 2, 1, Duration.ZERO, BackpressurePolicy.SPILL);
+            subscriber.hold();
+            EmployeeId id = EmployeeId.generate();
+            publishAdjustments(id, 0, 1);
+            awaitUntil(() -> meterRegistry.get("events.bus.queue.depth").gauge().value() == 0);
+            publishAdjustments(id, 1, 3);
+
+            // When
+            assertThatCode(() -> bus.publish(new UnencodableEvent(id))).doesNotThrowAnyException();
+
+            // Then
+            assertThat(meterRegistry.get("events.bus.events").tag("result", "dropped").counter().count()).isEqualTo(1);
+            publishAdjustments(id, 3, 5);
+            subscriber.release();
+            awaitUntil(() -> subscriber.received.size() == 5);
+            assertThat(subscriber.received).extracting(DomainEventBusTest::raiseOf).containsExactly(0, 1, 2, 3, 4);
+        }
+    }
+
+    private DomainEventBus open(int lanes, int queueCapacity, int batchSize, Duration maxBatchDelay,
+                                BackpressurePolicy backpressure) {
+        return new DomainEventBus(List.of(subscriber),
+                new EventBusSettings(lanes, queueCapacity, batchSize, maxBatchDelay, backpressure, spillDirectory),
+                meterRegistry);
+    }
+
+    private void publishAdjustments(EmployeeId id, int from, int to) {
+        for (int raise = from; raise < to; raise++) {
+            bus.publish(new SalaryAdjustedEvent(id, Money.of(BigDecimal.valueOf(50_000), USD),
+                    Money.of(BigDecimal.valueOf(50_000 + raise), USD)));
+        }
+    }
+
+    private static int raiseOf(EmployeeDomainEvent event) {
+        return ((SalaryAdjustedEvent) event).getNewSalary().getAmount().intValue() - 50_000;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The binary codec has no encoding for it, so spilling it fails
+    private record UnencodableEvent(EmployeeId employeeId, UUID eventId, Instant occurredOn)
+            implements EmployeeDomainEvent {
+
+        UnencodableEvent(EmployeeId employeeId) {
+            this(employeeId, UUID.randomUUID(), Instant.now());
+        }
+
+        @Override
+        public EmployeeId getEmployeeId() {
+            return employeeId;
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId;
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn;
+        }
+
+        @Override
+        public String getEventType() {
+            return "Unencodable";
+        }
+    }
+
+    private static class RecordingSubscriber implements DomainEventSubscriber<EmployeeDomainEvent> {
+
+        final List<EmployeeDomainEvent> received = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean failNextBatch;
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public Class<EmployeeDomainEvent> getEventType() {
+            return EmployeeDomainEvent.class;
+        }
+
+        @Override
+        public void handle(List<EmployeeDomainEvent> events) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (failNextBatch) {
+                failNextBatch = false;
+                throw new IllegalStateException("Handler failure");
+            }
+            batchSizes.add(events.size());
+            received.addAll(events);
+        }
+    }
+}
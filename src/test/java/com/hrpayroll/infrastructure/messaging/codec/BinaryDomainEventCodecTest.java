@@ -0,0 +1,183 @@
+package com.hrpayroll.infrastructure.messaging.codec;
+
+import com.hrpayroll.domain.model.department.*;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.model.payroll.*;
+import com.hrpayroll.domain.shared.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Binary Domain Event Codec Tests")
+class BinaryDomainEventCodecTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    // Encodings written by format version 1; they must stay decodable by every later version
+    private static final UUID EVENT_ID = UUID.fromString("0190f0c4-8a6e-7cc1-9c1e-5b2a3f4d6e70");
+    private static final Instant OCCURRED_ON = Instant.parse("2025-06-30T09:15:30.123456789Z");
+    private static final EmployeeId EMPLOYEE_ID = EmployeeId.of(UUID.fromString("11111111-2222-3333-4444-555555555555"));
+    private static final DepartmentId DEPARTMENT_ID = DepartmentId.of(UUID.fromString("66666666-7777-8888-9999-aaaaaaaaaaaa"));
+    private static final PayrollId PAYROLL_ID = PayrollId.of(UUID.fromString("bbbbbbbb-cccc-dddd-eeee-ffffffffffff"));
+    private static final String EMPLOYEE_CREATED_V1 = "01010190f0c48a6e7cc19c1e5b2a3f4d6e7000000000686255b2075bcd151111"
+            + "1111222233334444555555555555000000054a616e6500000004446f65000000"
+            + "156a616e652e646f6540636f6d70616e792e636f6d0000000000001c97000047"
+            + "ee0166666666777788889999aaaaaaaaaaaa00000009456e67696e6565720155"
+            + "534400000000004c4b40";
+    private static final String SALARY_ADJUSTED_V1 = "01040190f0c48a6e7cc19c1e5b2a3f4d6e7000000000686255b2075bcd151111"
+            + "11112222333344445555555555550155534400000000004c4b40025553440000"
+            + "000b0a364c98227eaa6adcbac0";
+    private static final String PAYROLL_PAID_V1 = "01240190f0c48a6e7cc19c1e5b2a3f4d6e7000000000686255b2075bcd15bbbb"
+            + "bbbbccccddddeeeeffffffffffff111111112222333344445555555555550155"
+            + "5344000000000008031300004fe6";
+
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+
+    static List<DomainEvent> events() {
+        EmployeeId employeeId = EmployeeId.generate();
+        DepartmentId departmentId = DepartmentId.generate();
+        PayrollId payrollId = PayrollId.generate();
+        return List.of(
+                new EmployeeCreatedEvent(employeeId, "Jane", "Doe", Email.of("jane.doe@company.com"), null,
+                        LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null, "Software Engineer", usd(50_000)),
+                new EmployeeUpdatedEvent(employeeId, "Zoë", "Doe", "+1234567890"),
+                new EmployeePromotedEvent(employeeId, "Senior Engineer", usd(50_000), usd(60_000)),
+                new SalaryAdjustedEvent(employeeId, usd(60_000),
+                        Money.of(new BigDecimal("123456789012345678901234.56"), USD)),
+                new EmployeeDepartmentChangedEvent(employeeId, null, departmentId),
+                new EmployeeStatusChangedEvent(employeeId, EmploymentStatus.ACTIVE, EmploymentStatus.ON_LEAVE),
+                new EmployeeTerminatedEvent(employeeId, "Relocation", LocalDate.of(2025, 3, 31)),
+                new DepartmentCreatedEvent(departmentId, "Engineering"),
+                new DepartmentBudgetUpdatedEvent(departmentId, usd(100_000), usd(150_000)),
+                new DepartmentManagerAssignedEvent(departmentId, employeeId),
+                new PayrollCreatedEvent(payrollId, employeeId, YearMonth.of(2025, 12), usd(5_000)),
+                new BonusAddedEvent(payrollId, usd(500)),
+                new DeductionAddedEvent(payrollId, usd(250), "Pension"),
+                new PayrollProcessedEvent(payrollId, employeeId, usd(5_250)),
+                new PayrollPaidEvent(payrollId, employeeId, usd(5_250), LocalDate.of(2026, 1, 1)),
+                new PayrollCancelledEvent(payrollId, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should decode every event type to an equal event")
+    void shouldRoundTripEveryEventType() {
+        for (DomainEvent event : events()) {
+            // When
+            DomainEvent decoded = codec.decode(codec.encode(event));
+
+            // Then
+            assertThat(decoded).as(event.getEventType()).isExactlyInstanceOf(event.getClass());
+            assertThat(decoded).as(event.getEventType())
+                    .usingRecursiveComparison().usingOverriddenEquals().isEqualTo(event);
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode consecutive events from one buffer")
+    void shouldDecodeConsecutiveEvents() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        for (DomainEvent event : events()) {
+            codec.encode(event, buffer);
+        }
+        buffer.flip();
+
+        // When
+        int decoded = 0;
+        while (buffer.hasRemaining()) {
+            codec.decode(buffer);
+            decoded++;
+        }
+
+        // Then
+        assertThat(decoded).isEqualTo(events().size());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown type tag")
+    void shouldRejectUnknownTag() {
+        // Given
+        byte[] bytes = codec.encode(events().get(0));
+        bytes[1] = 127;
+
+        // When/Then
+        assertThatThrownBy(() -> codec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown domain event tag 127");
+    }
+
+    @Nested
+    @DisplayName("Compatibility Tests")
+    class CompatibilityTests {
+
+        @Test
+        @DisplayName("Should decode events written by format version 1")
+        void shouldDecodeVersionOneEvents() {
+            // When
+            DomainEvent created = codec.decode(HexFormat.of().parseHex(EMPLOYEE_CREATED_V1));
+            DomainEvent adjusted = codec.decode(HexFormat.of().parseHex(SALARY_ADJUSTED_V1));
+            DomainEvent paid = codec.decode(HexFormat.of().parseHex(PAYROLL_PAID_V1));
+
+            // Then
+            assertThat(created).usingRecursiveComparison().usingOverriddenEquals().isEqualTo(employeeCreated());
+            assertThat(adjusted).usingRecursiveComparison().usingOverriddenEquals().isEqualTo(salaryAdjusted());
+            assertThat(paid).usingRecursiveComparison().usingOverriddenEquals().isEqualTo(payrollPaid());
+        }
+
+        @Test
+        @DisplayName("Should keep encoding events as format version 1 until the version is raised")
+        void shouldEncodeVersionOneLayout() {
+            // When/Then
+            assertThat(BinaryDomainEventCodec.FORMAT_VERSION).isEqualTo((byte) 1);
+            assertThat(HexFormat.of().formatHex(codec.encode(employeeCreated()))).isEqualTo(EMPLOYEE_CREATED_V1);
+            assertThat(HexFormat.of().formatHex(codec.encode(salaryAdjusted()))).isEqualTo(SALARY_ADJUSTED_V1);
+            assertThat(HexFormat.of().formatHex(codec.encode(payrollPaid()))).isEqualTo(PAYROLL_PAID_V1);
+        }
+
+        @Test
+        @DisplayName("Should reject events written by a newer format version")
+        void shouldRejectNewerVersion() {
+            // Given
+            byte[] bytes = HexFormat.of().parseHex(PAYROLL_PAID_V1);
+            bytes[0] = BinaryDomainEventCodec.FORMAT_VERSION + 1;
+
+            // When/Then
+            assertThatThrownBy(() -> codec.decode(bytes))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported domain event format version " + bytes[0]);
+        }
+
+        private EmployeeCreatedEvent employeeCreated() {
+            return new EmployeeCreatedEvent(EVENT_ID, OCCURRED_ON, EMPLOYEE_ID, "Jane", "Doe",
+                    Email.of("jane.doe@company.com"), null, LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1),
+                    DEPARTMENT_ID, "Engineer", usd(50_000));
+        }
+
+        private SalaryAdjustedEvent salaryAdjusted() {
+            return new SalaryAdjustedEvent(EVENT_ID, OCCURRED_ON, EMPLOYEE_ID, usd(50_000),
+                    Money.of(new BigDecimal("123456789012345678901234.56"), USD));
+        }
+
+        private PayrollPaidEvent payrollPaid() {
+            return new PayrollPaidEvent(EVENT_ID, OCCURRED_ON, PAYROLL_ID, EMPLOYEE_ID,
+                    Money.of(new BigDecimal("5250.75"), USD), LocalDate.of(2026, 1, 1));
+        }
+    }
+
+    private static Money usd(long amount) {
+        return Money.of(BigDecimal.valueOf(amount), USD);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.persistence.type=memory",
+        "app.events.payload-format=binary",
+        "app.events.jms.enabled=true",
+        "app.events.jms.queue-prefix=jms-it",
+        "spring.artemis.mode=embedded"
+})
+@DisplayName("JMS Domain Event Publisher Integration Tests")
+class JmsDomainEventPublisherIT {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ConnectionFactory domainEventConnectionFactory;
+
+    private JmsTemplate consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new JmsTemplate(domainEventConnectionFactory);
+        consumer.setReceiveTimeout(Duration.ofSeconds(5).toMillis());
+    }
+
+    @Test
+    @DisplayName("Should send events to the aggregate's queue in per-aggregate order")
+    void shouldSendEventsInOrderPerAggregate() throws JMSException {
+        // Given
+        List<EmployeeId> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Employee employee = employeeService.createEmployee(createEmployee(i));
+            ids.add(employee.getId());
+        }
+
+        // When
+        for (int round = 1; round <= 5; round++) {
+            for (EmployeeId id : ids) {
+                employeeService.adjustSalary(id, Money.of(BigDecimal.valueOf(50_000 + round), USD));
+            }
+        }
+
+        // Then
+        BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+        Map<String, List<DomainEvent>> eventsByAggregate = new HashMap<>();
+        int expected = ids.size() * 6;
+        int received = 0;
+        Message message;
+        while (received < expected && (message = consumer.receive("jms-it.employee")) != null) {
+            assertThat(message.getStringProperty(JmsDomainEventPublisher.CONTENT_TYPE_PROPERTY))
+                    .isEqualTo(EventPayloadFormat.BINARY.getContentType());
+            DomainEvent event = codec.decode(message.getBody(byte[].class));
+            assertThat(message.getStringProperty(JmsDomainEventPublisher.EVENT_TYPE_PROPERTY))
+                    .isEqualTo(event.getEventType());
+            assertThat(message.getStringProperty(JmsDomainEventPublisher.EVENT_ID_PROPERTY))
+                    .isEqualTo(event.getEventId().toString());
+            assertThat(message.getStringProperty(JmsDomainEventPublisher.DUPLICATE_ID_PROPERTY))
+                    .isEqualTo(event.getEventId().toString());
+            eventsByAggregate.computeIfAbsent(message.getStringProperty(JmsDomainEventPublisher.AGGREGATE_ID_PROPERTY),
+                    key -> new ArrayList<>()).add(event);
+            received++;
+        }
+
+        assertThat(received).isEqualTo(expected);
+        assertThat(eventsByAggregate).containsOnlyKeys(ids.stream().map(EmployeeId::toString).toList());
+        eventsByAggregate.values().forEach(events -> {
+            assertThat(events.get(0)).isInstanceOf(EmployeeCreatedEvent.class);
+            for (int round = 1; round <= 5; round++) {
+                Money expectedSalary = Money.of(BigDecimal.valueOf(50_000 + round), USD);
+                assertThat(events.get(round)).isInstanceOfSatisfying(SalaryAdjustedEvent.class, adjusted ->
+                        assertThat(adjusted.getNewSalary()).isEqualTo(expectedSalary));
+            }
+        });
+    }
+
+    private Employee createEmployee(int index) {
+        return Employee.create(
+                "First" + index, "Last" + index, Email.of("jms" + index + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}
@@ -0,0 +1,141 @@
+package com.hrpayroll.infrastructure.messaging.jms;
+
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.employee.SalaryAdjustedEvent;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.outbox.DomainEventMetrics;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JMS Domain Event Publisher Tests")
+class JmsDomainEventPublisherTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final JmsSendRetry RETRY = new JmsSendRetry(3, Duration.ofMillis(1), Duration.ofMillis(2));
+
+    private JmsTemplate jmsTemplate;
+    private List<DomainEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        jmsTemplate = mock(JmsTemplate.class);
+        events = List.of(new SalaryAdjustedEvent(EmployeeId.generate(), Money.of(BigDecimal.valueOf(50_000), USD),
+                Money.of(BigDecimal.valueOf(55_000), USD)));
+    }
+
+    @Test
+    @DisplayName("Should resend a rejected batch until the broker accepts it")
+    void shouldResendRejectedBatch() {
+        // Given
+        when(jmsTemplate.execute(any(SessionCallback.class), eq(true)))
+                .thenThrow(new UncategorizedJmsException("broker unavailable"))
+                .thenThrow(new UncategorizedJmsException("broker unavailable"))
+                .thenReturn(null);
+
+        // When
+        publisher(RETRY).handle(events);
+
+        // Then
+        verify(jmsTemplate, times(3)).execute(any(SessionCallback.class), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should report the batch as failed once the attempts are used up")
+    void shouldFailAfterLastAttempt() {
+        // Given
+        when(jmsTemplate.execute(any(SessionCallback.class), eq(true)))
+                .thenThrow(new UncategorizedJmsException("broker unavailable"));
+        JmsDomainEventPublisher publisher = publisher(RETRY);
+
+        // When / Then
+        assertThatThrownBy(() -> publisher.handle(events)).isInstanceOf(UncategorizedJmsException.class);
+        verify(jmsTemplate, times(3)).execute(any(SessionCallback.class), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should double the backoff up to the maximum")
+    void shouldCapExponentialBackoff() {
+        JmsSendRetry retry = new JmsSendRetry(10, Duration.ofMillis(200), Duration.ofSeconds(1));
+
+        assertThat(retry.backoffAfter(1)).isEqualTo(Duration.ofMillis(200));
+        assertThat(retry.backoffAfter(3)).isEqualTo(Duration.ofMillis(800));
+        assertThat(retry.backoffAfter(4)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(retry.backoffAfter(9)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should tag published events with the aggregate name the recorder uses")
+    void shouldTagPublishedEventsLikeRecorder() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JmsDomainEventPublisher publisher = new JmsDomainEventPublisher(jmsTemplate, "test",
+                new EventPayloadSerializer(EventPayloadFormat.BINARY), JmsSendMode.TRANSACTED, 1_000, RETRY,
+                new DomainEventMetrics(meterRegistry));
+
+        // When
+        publisher.handle(events);
+
+        // Then
+        assertThat(meterRegistry.get("events.published.lag").tag("channel", "jms").tag("aggregate", "Employee")
+                .timer().count()).isEqualTo(1);
+        assertThat(publisher.queueFor("Employee")).isEqualTo("test.employee");
+    }
+
+    @Test
+    @DisplayName("Should mark every message with its event id for broker duplicate detection")
+    void shouldSetDuplicateDetectionId() throws JMSException {
+        for (JmsSendMode sendMode : JmsSendMode.values()) {
+            // Given
+            Session session = mock(Session.class);
+            BytesMessage message = mock(BytesMessage.class);
+            MessageProducer producer = mock(MessageProducer.class);
+            when(session.createBytesMessage()).thenReturn(message);
+            when(session.createProducer(any())).thenReturn(producer);
+            doAnswer(invocation -> {
+                invocation.getArgument(1, CompletionListener.class).onCompletion(invocation.getArgument(0));
+                return null;
+            }).when(producer).send(any(Message.class), any(CompletionListener.class));
+            JmsTemplate template = mock(JmsTemplate.class);
+            when(template.execute(any(SessionCallback.class), eq(true)))
+                    .thenAnswer(invocation -> invocation.getArgument(0, SessionCallback.class).doInJms(session));
+            JmsDomainEventPublisher publisher = new JmsDomainEventPublisher(template, "test",
+                    new EventPayloadSerializer(EventPayloadFormat.BINARY), sendMode, 1_000, RETRY, null);
+
+            // When
+            publisher.handle(events);
+
+            // Then
+            verify(message).setStringProperty(JmsDomainEventPublisher.DUPLICATE_ID_PROPERTY,
+                    events.get(0).getEventId().toString());
+        }
+    }
+
+    private JmsDomainEventPublisher publisher(JmsSendRetry retry) {
+        return new JmsDomainEventPublisher(jmsTemplate, "test", new EventPayloadSerializer(EventPayloadFormat.BINARY),
+                JmsSendMode.TRANSACTED, 1_000, retry, null);
+    }
+}
@@ -0,0 +1,320 @@
+package com.hrpayroll.infrastructure.messaging.journal;
+
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Domain Event Journal Tests")
+class DomainEventJournalTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private DomainEventJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Append and Replay Tests")
+    class AppendAndReplayTests {
+
+        @Test
+        @DisplayName("Should replay events in append order across segments")
+        void shouldReplayInOrderAcrossSegments() {
+            // Given
+            journal = open();
+            List<DomainEvent> appended = appendSalaryAdjustments(100);
+
+            // When
+            List<DomainEvent> replayed = new ArrayList<>();
+            long next = journal.replay(0, replayed::add);
+
+            // Then
+            assertThat(journal.getSegmentCount()).isGreaterThan(1);
+            assertThat(next).isEqualTo(100);
+            assertThat(replayed).extracting(DomainEvent::getEventId)
+                    .containsExactlyElementsOf(appended.stream().map(DomainEvent::getEventId).toList());
+        }
+
+        @Test
+        @DisplayName("Should keep only the active segment mapped after rolling")
+        void shouldUnmapFullSegments() {
+            // Given
+            journal = open();
+
+            // When
+            appendSalaryAdjustments(100);
+
+            // Then
+            assertThat(journal.getSegmentCount()).isGreaterThan(1);
+            assertThat(journal.getMappedSegmentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should replay from a given sequence")
+        void shouldReplayFromSequence() {
+            // Given
+            journal = open();
+            List<DomainEvent> appended = appendSalaryAdjustments(50);
+
+            // When
+            List<DomainEvent> replayed = new ArrayList<>();
+            journal.replay(42, replayed::add);
+
+            // Then
+            assertThat(replayed).extracting(DomainEvent::getEventId)
+                    .containsExactlyElementsOf(appended.subList(42, 50).stream().map(DomainEvent::getEventId).toList());
+        }
+
+        @Test
+        @DisplayName("Should make concurrent appends durable with shared flushes")
+        void shouldMakeConcurrentAppendsDurable() throws Exception {
+            // Given
+            journal = open();
+            List<Future<Long>> sequences = new ArrayList<>();
+
+            // When
+            try (ExecutorService writers = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < 200; i++) {
+                    sequences.add(writers.submit(() -> {
+                        long sequence = journal.append(salaryAdjusted(1));
+                        journal.awaitDurable(sequence);
+                        return sequence;
+                    }));
+                }
+            }
+
+            // Then
+            List<Long> assigned = new ArrayList<>();
+            for (Future<Long> sequence : sequences) {
+                assigned.add(sequence.get());
+            }
+            assertThat(assigned).doesNotHaveDuplicates().allMatch(sequence -> sequence >= 0 && sequence < 200);
+            assertThat(journal.getNextSequence()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should reject an event larger than a segment")
+        void shouldRejectOversizedEvent() {
+            // Given
+            journal = new DomainEventJournal(directory, new BinaryDomainEventCodec(), 64, Duration.ofMillis(5));
+
+            // When/Then
+            assertThatThrownBy(() -> journal.append(salaryAdjusted(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("does not fit");
+        }
+    }
+
+    @Nested
+    @DisplayName("Crash Recovery Tests")
+    class CrashRecoveryTests {
+
+        @Test
+        @DisplayName("Should continue the sequence after reopening")
+        void shouldContinueSequenceAfterReopening() throws IOException {
+            // Given
+            journal = open();
+            List<DomainEvent> appended = appendSalaryAdjustments(30);
+            journal.close();
+
+            // When
+            journal = open();
+            DomainEvent next = salaryAdjusted(99);
+            long sequence = journal.append(next);
+
+            // Then
+            assertThat(sequence).isEqualTo(30);
+            List<DomainEvent> replayed = new ArrayList<>();
+            journal.replay(0, replayed::add);
+            assertThat(replayed).hasSize(31);
+            assertThat(replayed.get(0).getEventId()).isEqualTo(appended.get(0).getEventId());
+            assertThat(replayed.get(30).getEventId()).isEqualTo(next.getEventId());
+        }
+
+        @Test
+        @DisplayName("Should discard a torn last record and append in its place")
+        void shouldDiscardTornLastRecord() throws IOException {
+            // Given
+            journal = open();
+            List<DomainEvent> appended = appendSalaryAdjustments(30);
+            journal.close();
+            Path lastSegment = segments().getLast();
+            corrupt(lastSegment, lastRecordOffset(lastSegment) + 12);
+
+            // When
+            journal = open();
+            DomainEvent replacement = salaryAdjusted(99);
+            long sequence = journal.append(replacement);
+
+            // Then
+            assertThat(sequence).isEqualTo(29);
+            List<DomainEvent> replayed = new ArrayList<>();
+            journal.replay(0, replayed::add);
+            assertThat(replayed).extracting(DomainEvent::getEventId)
+                    .startsWith(appended.get(0).getEventId())
+                    .endsWith(appended.get(28).getEventId(), replacement.getEventId())
+                    .hasSize(30);
+        }
+
+        @Test
+        @DisplayName("Should ignore a record whose length was never written")
+        void shouldIgnoreUnfinishedRecord() throws IOException {
+            // Given
+            journal = open();
+            appendSalaryAdjustments(3);
+            journal.close();
+            Path lastSegment = segments().getLast();
+            int end = endOfRecords(lastSegment);
+            try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8}), end);
+            }
+
+            // When
+            journal = open();
+
+            // Then
+            assertThat(journal.getNextSequence()).isEqualTo(3);
+            assertThat(journal.replay(0, event -> { })).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should append to an empty last segment left by a crash while rolling")
+        void shouldRecoverEmptyLastSegment() throws IOException {
+            // Given
+            journal = open();
+            List<DomainEvent> appended = appendSalaryAdjustments(100);
+            journal.close();
+            int segmentCount = segments().size();
+            Files.createFile(directory.resolve(String.format("%020d.journal", 100)));
+
+            // When
+            journal = open();
+            DomainEvent next = salaryAdjusted(99);
+            long sequence = journal.append(next);
+
+            // Then
+            assertThat(sequence).isEqualTo(100);
+            assertThat(journal.getSegmentCount()).isEqualTo(segmentCount + 1);
+            assertThat(Files.size(segments().getLast())).isEqualTo(SEGMENT_SIZE);
+            List<DomainEvent> replayed = new ArrayList<>();
+            journal.replay(0, replayed::add);
+            assertThat(replayed).extracting(DomainEvent::getEventId)
+                    .startsWith(appended.get(0).getEventId())
+                    .endsWith(appended.get(99).getEventId(), next.getEventId())
+                    .hasSize(101);
+        }
+
+        @Test
+        @DisplayName("Should refuse to open when a full segment is corrupt")
+        void shouldRefuseCorruptSealedSegment() throws IOException {
+            // Given
+            journal = open();
+            appendSalaryAdjustments(100);
+            journal.close();
+            journal = null;
+            corrupt(segments().getFirst(), 20);
+
+            // When/Then
+            assertThatThrownBy(DomainEventJournalTest.this::open)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Corrupt record for event 0");
+        }
+
+        @Test
+        @DisplayName("Should refuse to open when a segment is missing")
+        void shouldRefuseMissingSegment() throws IOException {
+            // Given
+            journal = open();
+            appendSalaryAdjustments(100);
+            journal.close();
+            journal = null;
+            Files.delete(segments().get(1));
+
+            // When/Then
+            assertThatThrownBy(DomainEventJournalTest.this::open)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("but the previous segments end at");
+        }
+    }
+
+    private DomainEventJournal open() {
+        return new DomainEventJournal(directory, new BinaryDomainEventCodec(), SEGMENT_SIZE, Duration.ofMillis(5));
+    }
+
+    private List<DomainEvent> appendSalaryAdjustments(int count) {
+        List<DomainEvent> appended = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DomainEvent event = salaryAdjusted(i);
+            journal.append(event);
+            appended.add(event);
+        }
+        return appended;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static int lastRecordOffset(Path segment) throws IOException {
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int last = -1;
+        for (int offset = 0; offset + 8 <= records.capacity() && records.getInt(offset) > 0;
+             offset += 8 + records.getInt(offset)) {
+            last = offset;
+        }
+        return last;
+    }
+
+    private static int endOfRecords(Path segment) throws IOException {
+        int last = lastRecordOffset(segment);
+        return last + 8 + ByteBuffer.wrap(Files.readAllBytes(segment)).getInt(last);
+    }
+
+    private static void corrupt(Path segment, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer original = ByteBuffer.allocate(1);
+            channel.read(original, offset);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) ~original.get(0)}), offset);
+        }
+    }
+
+    private static SalaryAdjustedEvent salaryAdjusted(int raise) {
+        return new SalaryAdjustedEvent(EmployeeId.generate(),
+                Money.of(BigDecimal.valueOf(50_000), USD),
+                Money.of(BigDecimal.valueOf(50_000 + raise), USD));
+    }
+}
@@ -0,0 +1,118 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.shared.DomainEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.persistence.type=memory",
+        "app.events.kafka.enabled=true",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@EmbeddedKafka(partitions = 3, topics = "hr-management.employee")
+@DisplayName("Kafka Outbox Relay Integration Tests")
+class KafkaOutboxRelayIT {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    private Consumer<String, DomainEvent> consumer;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> props = new HashMap<>(KafkaTestUtils.consumerProps("outbox-relay-it", "false", broker));
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumer = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new DomainEventDeserializer())
+                .createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, "hr-management.employee");
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+    }
+
+    @Test
+    @DisplayName("Should publish events keyed by aggregate id in per-aggregate order")
+    void shouldPublishEventsInOrderPerAggregate() {
+        // Given
+        List<EmployeeId> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Employee employee = employeeService.createEmployee(createEmployee(i));
+            ids.add(employee.getId());
+        }
+
+        // When
+        for (int round = 1; round <= 5; round++) {
+            for (EmployeeId id : ids) {
+                employeeService.adjustSalary(id, Money.of(BigDecimal.valueOf(50_000 + round), USD));
+            }
+        }
+
+        // Then
+        Map<String, List<DomainEvent>> eventsByKey = new HashMap<>();
+        int expected = ids.size() * 6;
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        int received = 0;
+        while (received < expected && System.nanoTime() < deadline) {
+            ConsumerRecords<String, DomainEvent> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(5));
+            for (ConsumerRecord<String, DomainEvent> record : records) {
+                assertThat(new String(record.headers().lastHeader(KafkaOutboxRelay.EVENT_TYPE_HEADER).value(),
+                        StandardCharsets.UTF_8)).isIn("EmployeeCreated", "SalaryAdjusted");
+                eventsByKey.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(record.value());
+                received++;
+            }
+        }
+
+        assertThat(received).isEqualTo(expected);
+        assertThat(eventsByKey).containsOnlyKeys(ids.stream().map(EmployeeId::toString).toList());
+        eventsByKey.values().forEach(events -> {
+            assertThat(events.get(0)).isInstanceOf(EmployeeCreatedEvent.class);
+            for (int round = 1; round <= 5; round++) {
+                Money expectedSalary = Money.of(BigDecimal.valueOf(50_000 + round), USD);
+                assertThat(events.get(round)).isInstanceOfSatisfying(SalaryAdjustedEvent.class, adjusted ->
+                        assertThat(adjusted.getNewSalary()).isEqualTo(expectedSalary));
+            }
+        });
+    }
+
+    private Employee createEmployee(int index) {
+        return Employee.create(
+                "First" + index, "Last" + index, Email.of("relay" + index + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}
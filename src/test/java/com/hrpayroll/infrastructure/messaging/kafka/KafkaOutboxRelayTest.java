@@ -0,0 +1,168 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.infrastructure.messaging.outbox.InMemoryEventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.OutboxEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Kafka Outbox Relay Tests")
+class KafkaOutboxRelayTest {
+
+    private InMemoryEventOutbox outbox;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private List<ProducerRecord<String, byte[]>> sent;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outbox = new InMemoryEventOutbox();
+        kafkaTemplate = mock(KafkaTemplate.class);
+        sent = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should publish to the aggregate topic keyed by aggregate id")
+    void shouldPublishToAggregateTopic() {
+        // Given
+        acknowledgeEverySend();
+        outbox.append(List.of(event("Employee", "e-1", "EmployeeCreated")));
+        KafkaOutboxRelay relay = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+
+        // When
+        relay.relay();
+
+        // Then
+        assertThat(sent).singleElement().satisfies(record -> {
+            assertThat(record.topic()).isEqualTo("hr-management.employee");
+            assertThat(record.key()).isEqualTo("e-1");
+            assertThat(record.headers().lastHeader(KafkaOutboxRelay.EVENT_TYPE_HEADER)).isNotNull();
+            assertThat(record.headers().lastHeader(KafkaOutboxRelay.CONTENT_TYPE_HEADER).value())
+                    .isEqualTo("application/json".getBytes(StandardCharsets.UTF_8));
+            assertThat(record.value()).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+        });
+        assertThat(outbox.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drain full batches until the outbox is empty")
+    void shouldDrainFullBatches() {
+        // Given
+        acknowledgeEverySend();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            events.add(event("Payroll", "p-" + i, "PayrollCreated"));
+        }
+        outbox.append(events);
+        KafkaOutboxRelay relay = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+
+        // When
+        relay.relay();
+
+        // Then
+        assertThat(sent).extracting(ProducerRecord::key)
+                .containsExactlyElementsOf(events.stream().map(OutboxEvent::aggregateId).toList());
+        assertThat(outbox.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep events from the first failed send onwards")
+    void shouldKeepEventsFromFirstFailure() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> failed = CompletableFuture.failedFuture(
+                new IllegalStateException("broker unavailable"));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(failed)
+                .thenReturn(CompletableFuture.completedFuture(null));
+        outbox.append(List.of(
+                event("Employee", "e-1", "EmployeeCreated"),
+                event("Employee", "e-1", "SalaryAdjusted"),
+                event("Employee", "e-1", "EmployeePromoted")));
+        KafkaOutboxRelay relay = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+
+        // When
+        int published = relay.publishBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(outbox.fetchUnpublished(10)).extracting(OutboxEvent::eventType)
+                .containsExactly("SalaryAdjusted", "EmployeePromoted");
+    }
+
+    @Test
+    @DisplayName("Should publish only from the relay holding the outbox lease")
+    void shouldPublishOnlyFromLeaseHolder() {
+        // Given
+        acknowledgeEverySend();
+        outbox.append(List.of(event("Employee", "e-1", "EmployeeCreated")));
+        KafkaOutboxRelay leader = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+        KafkaOutboxRelay standby = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+        leader.publishBatch();
+        outbox.append(List.of(event("Employee", "e-1", "SalaryAdjusted")));
+
+        // When
+        int published = standby.publishBatch();
+
+        // Then
+        assertThat(published).isZero();
+        assertThat(standby.isLeading()).isFalse();
+        assertThat(leader.isLeading()).isTrue();
+        assertThat(outbox.fetchUnpublished(10)).extracting(OutboxEvent::eventType).containsExactly("SalaryAdjusted");
+    }
+
+    @Test
+    @DisplayName("Should take over the lease once the leader's has expired")
+    void shouldTakeOverExpiredLease() throws InterruptedException {
+        // Given
+        acknowledgeEverySend();
+        outbox.append(List.of(event("Employee", "e-1", "EmployeeCreated")));
+        outbox.acquireRelayLease("stopped-relay", Duration.ofMillis(1));
+        KafkaOutboxRelay relay = new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 1_000);
+        Thread.sleep(Duration.ofMillis(20));
+
+        // When
+        int published = relay.publishBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(relay.isLeading()).isTrue();
+        assertThat(outbox.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a lease no longer than the send timeout")
+    void shouldRejectShortLease() {
+        assertThatThrownBy(() -> new KafkaOutboxRelay(outbox, kafkaTemplate, "hr-management", 10, 30_000,
+                Duration.ofSeconds(30), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acknowledgeEverySend() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private static OutboxEvent event(String aggregateType, String aggregateId, String eventType) {
+        return new OutboxEvent(0L, UUID.randomUUID(), aggregateType, aggregateId, eventType, Instant.now(),
+                "application/json", "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
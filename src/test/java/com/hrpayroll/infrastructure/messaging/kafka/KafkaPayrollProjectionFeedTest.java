@@ -0,0 +1,93 @@
+package com.hrpayroll.infrastructure.messaging.kafka;
+
+import com.hrpayroll.application.projection.PayrollProjectionSource;
+import com.hrpayroll.application.projection.PayrollProjectionUpdater;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import com.hrpayroll.infrastructure.messaging.outbox.EventPayloadFormat;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryPayrollRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Kafka Payroll Projection Feed Tests")
+class KafkaPayrollProjectionFeedTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+    private PayrollProjectionUpdater updater;
+    private KafkaPayrollProjectionFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        updater = new PayrollProjectionUpdater(new InMemoryPayrollRepository(), new SimpleMeterRegistry(), false,
+                PayrollProjectionSource.KAFKA, 100);
+        updater.afterPropertiesSet();
+        feed = new KafkaPayrollProjectionFeed(updater, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        updater.destroy();
+    }
+
+    @Test
+    @DisplayName("Should apply a redelivered event once")
+    void shouldApplyRedeliveredEventOnce() throws Exception {
+        // Given
+        Payroll payroll = Payroll.create(EmployeeId.generate(), PERIOD, Money.of(BigDecimal.valueOf(4_000), USD));
+        payroll.addBonus(Money.of(BigDecimal.valueOf(500), USD));
+        ConsumerRecord<String, byte[]> created = record(payroll.getDomainEvents().get(0), 0);
+        ConsumerRecord<String, byte[]> bonus = record(payroll.getDomainEvents().get(1), 1);
+
+        // When
+        feed.onMessage(created);
+        feed.onMessage(bonus);
+        feed.onMessage(bonus);
+        updater.awaitApplied(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updater.getProjection().getOutstanding()).containsEntry(USD, Money.of(BigDecimal.valueOf(4_500), USD));
+    }
+
+    @Test
+    @DisplayName("Should skip payloads that are not in the binary format")
+    void shouldSkipJsonPayloads() throws Exception {
+        // Given
+        ConsumerRecord<String, byte[]> json = new ConsumerRecord<>("hr-management.payroll", 0, 0, "p-1",
+                "{}".getBytes(StandardCharsets.UTF_8));
+        json.headers().add(KafkaOutboxRelay.CONTENT_TYPE_HEADER,
+                EventPayloadFormat.JSON.getContentType().getBytes(StandardCharsets.UTF_8));
+
+        // When
+        feed.onMessage(json);
+        updater.awaitApplied(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updater.getProjection().getTrackedPayrollCount()).isZero();
+    }
+
+    private ConsumerRecord<String, byte[]> record(DomainEvent event, long offset) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("hr-management.payroll", 0, offset, "p-1",
+                codec.encode(event));
+        record.headers().add(KafkaOutboxRelay.CONTENT_TYPE_HEADER,
+                EventPayloadFormat.BINARY.getContentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,198 @@
+package com.hrpayroll.infrastructure.messaging.outbox;
+
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.shared.DomainEvent;
+import com.hrpayroll.infrastructure.messaging.codec.BinaryDomainEventCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Domain Event Recorder Tests")
+class DomainEventRecorderTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private InMemoryEventOutbox outbox;
+    private DomainEventRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new InMemoryEventOutbox();
+        recorder = new DomainEventRecorder(outbox);
+    }
+
+    @Test
+    @DisplayName("Should move pending events into the outbox in order")
+    void shouldMovePendingEventsIntoOutboxInOrder() {
+        // Given
+        Employee employee = createEmployee();
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(80_000), USD));
+        employee.suspend();
+
+        // When
+        recorder.record(employee);
+
+        // Then
+        assertThat(employee.getDomainEvents()).isEmpty();
+        List<OutboxEvent> events = outbox.fetchUnpublished(10);
+        assertThat(events).extracting(OutboxEvent::eventType)
+                .containsExactly("EmployeeCreated", "SalaryAdjusted", "EmployeeStatusChanged");
+        assertThat(events).extracting(OutboxEvent::sequence).isSorted().doesNotHaveDuplicates();
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.aggregateType()).isEqualTo("Employee");
+            assertThat(event.aggregateId()).isEqualTo(employee.getId().toString());
+        });
+    }
+
+    @Test
+    @DisplayName("Should serialize event data as JSON")
+    void shouldSerializeEventDataAsJson() {
+        // Given
+        Employee employee = createEmployee();
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(80_000), USD));
+        employee.clearDomainEvents();
+        employee.adjustSalary(Money.of(new BigDecimal("81000.50"), USD));
+
+        // When
+        recorder.record(employee);
+
+        // Then
+        OutboxEvent recorded = outbox.fetchUnpublished(1).get(0);
+        assertThat(recorded.contentType()).isEqualTo("application/json");
+        assertThat(new String(recorded.payload(), StandardCharsets.UTF_8))
+                .contains("\"eventType\":\"SalaryAdjusted\"")
+                .contains("\"employeeId\":{\"value\":\"" + employee.getId() + "\"}")
+                .contains("\"amount\":81000.50")
+                .contains("\"currency\":\"USD\"");
+    }
+
+    @Test
+    @DisplayName("Should serialize events in the binary format when configured")
+    void shouldSerializeEventsInBinaryFormat() {
+        // Given
+        DomainEventRecorder binaryRecorder = new DomainEventRecorder(outbox, null, EventPayloadFormat.BINARY);
+        Employee employee = createEmployee();
+        employee.clearDomainEvents();
+        employee.adjustSalary(Money.of(new BigDecimal("81000.50"), USD));
+        DomainEvent event = employee.getDomainEvents().get(0);
+
+        // When
+        binaryRecorder.record(employee);
+
+        // Then
+        OutboxEvent recorded = outbox.fetchUnpublished(1).get(0);
+        assertThat(recorded.contentType()).isEqualTo(EventPayloadFormat.BINARY.getContentType());
+        assertThat(new BinaryDomainEventCodec().decode(recorded.payload()))
+                .isInstanceOfSatisfying(SalaryAdjustedEvent.class, adjusted -> {
+                    assertThat(adjusted.getEventId()).isEqualTo(event.getEventId());
+                    assertThat(adjusted.getNewSalary()).isEqualTo(Money.of(new BigDecimal("81000.50"), USD));
+                });
+    }
+
+    @Test
+    @DisplayName("Should record events of several aggregates in one append")
+    void shouldRecordAllAggregates() {
+        // Given
+        Payroll first = Payroll.create(EmployeeId.generate(), YearMonth.of(2025, 3), Money.of(BigDecimal.TEN, USD));
+        Payroll second = Payroll.create(EmployeeId.generate(), YearMonth.of(2025, 3), Money.of(BigDecimal.TEN, USD));
+        second.process();
+
+        // When
+        recorder.recordAll(List.of(first, second));
+
+        // Then
+        assertThat(first.getDomainEvents()).isEmpty();
+        assertThat(second.getDomainEvents()).isEmpty();
+        assertThat(outbox.fetchUnpublished(10)).extracting(OutboxEvent::eventType)
+                .containsExactly("PayrollCreated", "PayrollCreated", "PayrollProcessed");
+    }
+
+    @Test
+    @DisplayName("Should count recorded events by type and time how long they were pending")
+    void shouldMeasureRecordedEvents() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DomainEventRecorder measuredRecorder = new DomainEventRecorder(outbox, null, EventPayloadFormat.BINARY,
+                new DomainEventMetrics(meterRegistry));
+        Employee employee = createEmployee();
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(80_000), USD));
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(85_000), USD));
+
+        // When
+        measuredRecorder.record(employee);
+
+        // Then
+        assertThat(meterRegistry.get("events.produced").tag("aggregate", "Employee").tag("type", "SalaryAdjusted")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("events.produced").tag("type", "EmployeeCreated").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("events.pending").tag("type", "SalaryAdjusted").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should remove only published events from the outbox")
+    void shouldRemoveOnlyPublishedEvents() {
+        // Given
+        Employee employee = createEmployee();
+        employee.suspend();
+        recorder.record(employee);
+        List<OutboxEvent> events = outbox.fetchUnpublished(10);
+
+        // When
+        outbox.markPublished(events.subList(0, 1));
+
+        // Then
+        assertThat(outbox.fetchUnpublished(10)).containsExactly(events.get(1));
+    }
+
+    @Test
+    @DisplayName("Should leave events on the aggregate when disabled")
+    void shouldLeaveEventsWhenDisabled() {
+        // Given
+        Employee employee = createEmployee();
+
+        // When
+        DomainEventRecorder.disabled().record(employee);
+
+        // Then
+        assertThat(employee.getDomainEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should publish and clear events without storing them when there is no outbox")
+    void shouldPublishWithoutOutbox() {
+        // Given
+        List<Object> published = new ArrayList<>();
+        DomainEventRecorder withoutOutbox = new DomainEventRecorder(null, published::add);
+        Employee employee = createEmployee();
+
+        // When
+        withoutOutbox.record(employee);
+
+        // Then
+        assertThat(published).singleElement().isInstanceOf(EmployeeCreatedEvent.class);
+        assertThat(employee.getDomainEvents()).isEmpty();
+        assertThat(outbox.size()).isZero();
+    }
+
+    private Employee createEmployee() {
+        return Employee.create(
+                "John", "Doe", Email.of("john.doe@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(75_000), USD)
+        );
+    }
+}
@@ -0,0 +1,362 @@
+package com.hrpayroll.infrastructure.persistence;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.department.DepartmentRepository;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollRepository;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.domain.model.payroll.PayrollSummaryQuery;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+import com.hrpayroll.infrastructure.messaging.outbox.EventOutbox;
+import com.hrpayroll.infrastructure.messaging.outbox.OutboxEvent;
+import com.hrpayroll.infrastructure.persistence.repository.CachingEmployeeRepository;
+import com.hrpayroll.infrastructure.persistence.repository.EmployeeRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.persistence.type=jpa", "app.events.kafka.enabled=false",
+    "app.events.outbox.enabled=true"})
+@DisplayName("JPA Persistence Adapter Integration Tests")
+class JpaPersistenceIT {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeRepositoryImpl jpaEmployeeRepository;
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private PayrollSummaryQuery payrollSummaryQuery;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Nested
+    @DisplayName("Employee Adapter Tests")
+    class EmployeeAdapterTests {
+
+        @Test
+        @DisplayName("Should use the cached JPA adapter when configured")
+        void shouldUseJpaAdapter() {
+            assertThat(employeeRepository).isInstanceOf(CachingEmployeeRepository.class);
+            assertThat(jpaEmployeeRepository).isInstanceOf(EmployeeRepositoryImpl.class);
+        }
+
+        @Test
+        @DisplayName("Should not serve a cached employee after it is changed")
+        void shouldEvictCachedEmployeeOnSave() {
+            // Given
+            Employee employee = employeeRepository.save(createEmployee("cached", null));
+            Employee cached = employeeRepository.findById(employee.getId()).orElseThrow();
+
+            // When
+            Employee copy = jpaEmployeeRepository.findById(employee.getId()).orElseThrow();
+            copy.adjustSalary(Money.of(BigDecimal.valueOf(99_000), USD));
+            employeeRepository.save(copy);
+
+            // Then
+            assertThat(employeeRepository.findById(employee.getId())).get()
+                    .isNotSameAs(cached)
+                    .extracting(Employee::getSalary)
+                    .isEqualTo(Money.of(BigDecimal.valueOf(99_000), USD));
+        }
+
+        @Test
+        @DisplayName("Should round-trip employee value objects")
+        void shouldRoundTripEmployee() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            Employee employee = createEmployee("roundtrip", departmentId);
+
+            // When
+            employeeRepository.save(employee);
+            Employee loaded = employeeRepository.findById(employee.getId()).orElseThrow();
+
+            // Then
+            assertThat(loaded.getEmail()).isEqualTo(employee.getEmail());
+            assertThat(loaded.getSalary()).isEqualTo(employee.getSalary());
+            assertThat(loaded.getDepartmentId()).isEqualTo(departmentId);
+            assertThat(loaded.getDomainEvents()).isEmpty();
+            assertThat(employeeRepository.existsByEmail(employee.getEmail())).isTrue();
+            assertThat(employeeRepository.findByDepartmentId(departmentId)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should update existing employee on save")
+        void shouldUpdateExistingEmployee() {
+            // Given
+            Employee employee = employeeRepository.save(createEmployee("update", null));
+
+            // When
+            employee.promote("Principal Engineer", Money.of(BigDecimal.valueOf(120_000), USD));
+            employeeRepository.save(employee);
+
+            // Then
+            Employee loaded = employeeRepository.findById(employee.getId()).orElseThrow();
+            assertThat(loaded.getJobTitle()).isEqualTo("Principal Engineer");
+            assertThat(loaded.getSalary()).isEqualTo(Money.of(BigDecimal.valueOf(120_000), USD));
+        }
+
+        @Test
+        @DisplayName("Should reject saving an employee that was changed since it was loaded")
+        void shouldRejectStaleEmployee() {
+            // Given
+            Employee employee = employeeRepository.save(createEmployee("stale", null));
+            Employee first = jpaEmployeeRepository.findById(employee.getId()).orElseThrow();
+            Employee second = jpaEmployeeRepository.findById(employee.getId()).orElseThrow();
+            first.suspend();
+            employeeRepository.save(first);
+
+            // When
+            second.adjustSalary(Money.of(BigDecimal.valueOf(99_000), USD));
+
+            // Then
+            assertThatThrownBy(() -> employeeRepository.save(second))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            assertThat(employeeRepository.findById(employee.getId())).get()
+                    .extracting(Employee::getStatus, Employee::getVersion)
+                    .containsExactly(EmploymentStatus.SUSPENDED, 1L);
+        }
+
+        @Test
+        @DisplayName("Should insert and update employees in batches")
+        void shouldSaveAllInBatches() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                employees.add(createEmployee("batch" + i, departmentId));
+            }
+
+            // When
+            employeeRepository.saveAll(employees);
+            employees.forEach(Employee::suspend);
+            employeeRepository.saveAll(employees);
+
+            // Then
+            List<Employee> loaded = employeeRepository.findByDepartmentId(departmentId);
+            assertThat(loaded).hasSize(1_000);
+            assertThat(loaded).allMatch(employee -> employee.getStatus() == EmploymentStatus.SUSPENDED);
+        }
+
+        @Test
+        @DisplayName("Should page through a department with keyset cursors")
+        void shouldPageThroughDepartment() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                employees.add(createEmployee("page" + i, departmentId));
+            }
+            employeeRepository.saveAll(employees);
+
+            // When
+            List<EmployeeId> walked = new ArrayList<>();
+            EmployeeId cursor = null;
+            List<Employee> page;
+            do {
+                page = employeeRepository.findPage(cursor, EmploymentStatus.ACTIVE, departmentId, 10);
+                page.forEach(employee -> walked.add(employee.getId()));
+                cursor = page.isEmpty() ? cursor : page.getLast().getId();
+            } while (page.size() == 10);
+
+            // Then
+            assertThat(walked).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(employees.stream().map(Employee::getId).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Payroll Adapter Tests")
+    class PayrollAdapterTests {
+
+        @Test
+        @DisplayName("Should find payroll by employee and pay period")
+        void shouldFindPayrollByEmployeeAndPeriod() {
+            // Given
+            EmployeeId employeeId = EmployeeId.generate();
+            YearMonth period = YearMonth.of(2025, 3);
+            Payroll payroll = Payroll.create(employeeId, period, Money.of(BigDecimal.valueOf(5_000), USD));
+            payroll.addBonus(Money.of(BigDecimal.valueOf(500), USD));
+            payroll.addDeduction(Money.of(BigDecimal.valueOf(250), USD), "Tax");
+            payroll.process();
+
+            // When
+            payrollRepository.save(payroll);
+
+            // Then
+            Payroll loaded = payrollRepository.findByEmployeeIdAndPayPeriod(employeeId, period).orElseThrow();
+            assertThat(loaded.getNetPay()).isEqualTo(Money.of(BigDecimal.valueOf(5_250), USD));
+            assertThat(loaded.getStatus()).isEqualTo(PayrollStatus.PROCESSED);
+            assertThat(payrollRepository.findByEmployeeIdAndPayPeriod(employeeId, period.plusMonths(1))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should summarize payrolls per department and status in the database")
+        void shouldSummarizePayrolls() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            YearMonth period = YearMonth.of(2025, 5);
+            List<Payroll> payrolls = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Employee employee = employeeRepository.save(createEmployee("summary" + i, departmentId));
+                Payroll payroll = Payroll.create(employee.getId(), period, Money.of(BigDecimal.valueOf(4_000), USD));
+                payroll.addBonus(Money.of(BigDecimal.valueOf(100 * i), USD));
+                payroll.addDeduction(Money.of(BigDecimal.valueOf(50), USD), "Tax");
+                if (i > 0) {
+                    payroll.process();
+                }
+                payrolls.add(payroll);
+            }
+            payrollRepository.saveAll(payrolls);
+
+            // When
+            List<PayrollTotals> totals = payrollSummaryQuery.summarize(period).stream()
+                    .filter(group -> departmentId.equals(group.getDepartmentId()))
+                    .toList();
+
+            // Then
+            assertThat(totals).containsExactlyInAnyOrder(
+                    new PayrollTotals(departmentId, PayrollStatus.PENDING, 1,
+                            Money.of(BigDecimal.valueOf(4_000), USD), Money.zero(USD),
+                            Money.of(BigDecimal.valueOf(50), USD), Money.of(BigDecimal.valueOf(3_950), USD)),
+                    new PayrollTotals(departmentId, PayrollStatus.PROCESSED, 2,
+                            Money.of(BigDecimal.valueOf(8_000), USD), Money.of(BigDecimal.valueOf(300), USD),
+                            Money.of(BigDecimal.valueOf(100), USD), Money.of(BigDecimal.valueOf(8_200), USD)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Department Adapter Tests")
+    class DepartmentAdapterTests {
+
+        @Test
+        @DisplayName("Should persist department members")
+        void shouldPersistDepartmentMembers() {
+            // Given
+            Department department = Department.create("Engineering-" + System.nanoTime(), "Builds things",
+                    Money.of(BigDecimal.valueOf(1_000_000), USD));
+            EmployeeId first = EmployeeId.generate();
+            EmployeeId second = EmployeeId.generate();
+            department.addEmployee(first);
+            department.addEmployee(second);
+            departmentRepository.save(department);
+
+            // When
+            department.removeEmployee(first);
+            departmentRepository.save(department);
+
+            // Then
+            Department loaded = departmentRepository.findByName(department.getName()).orElseThrow();
+            assertThat(loaded.getEmployeeIds()).containsExactly(second);
+        }
+
+        @Test
+        @DisplayName("Should report the salary cost of a reloaded department")
+        void shouldReloadDepartmentSalaryCost() {
+            // Given
+            Department department = Department.create("Finance-" + System.nanoTime(), "Counts things",
+                    Money.of(BigDecimal.valueOf(100_000), USD));
+            Employee alice = createEmployee("alice", department.getId());
+            Employee bob = createEmployee("bob", department.getId());
+            bob.terminate("Restructuring");
+            department.addEmployee(alice);
+            department.addEmployee(bob);
+            department.addEmployee(EmployeeId.generate());
+            departmentRepository.save(department);
+
+            // When
+            alice.adjustSalary(Money.of(BigDecimal.valueOf(80_000), USD));
+            department.addEmployee(alice);
+            departmentRepository.save(department);
+
+            // Then
+            Department loaded = departmentRepository.findById(department.getId()).orElseThrow();
+            assertThat(loaded.getEmployeeCount()).isEqualTo(3);
+            assertThat(loaded.getHeadcount(EmploymentStatus.TERMINATED)).isEqualTo(1);
+            assertThat(loaded.getSalaryCost()).isEqualTo(Money.of(BigDecimal.valueOf(80_000), USD));
+        }
+    }
+
+    @Nested
+    @DisplayName("Outbox Tests")
+    class OutboxTests {
+
+        @Test
+        @DisplayName("Should move pending events into the outbox on save")
+        void shouldMovePendingEventsIntoOutbox() {
+            // Given
+            Employee employee = createEmployee("outbox", null);
+            employee.suspend();
+
+            // When
+            employeeRepository.save(employee);
+
+            // Then
+            assertThat(employee.getDomainEvents()).isEmpty();
+            assertThat(outboxEventsFor(employee.getId().toString()))
+                    .extracting(OutboxEvent::eventType)
+                    .containsExactly("EmployeeCreated", "EmployeeStatusChanged");
+        }
+
+        @Test
+        @DisplayName("Should write outbox events for batched saves")
+        void shouldWriteOutboxEventsForBatchedSaves() {
+            // Given
+            YearMonth period = YearMonth.of(2025, 4);
+            List<Payroll> payrolls = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                Payroll payroll = Payroll.create(EmployeeId.generate(), period, Money.of(BigDecimal.valueOf(4_000), USD));
+                payroll.process();
+                payrolls.add(payroll);
+            }
+
+            // When
+            payrollRepository.saveAll(payrolls);
+
+            // Then
+            Payroll last = payrolls.get(payrolls.size() - 1);
+            assertThat(payrolls).allMatch(payroll -> payroll.getDomainEvents().isEmpty());
+            assertThat(outboxEventsFor(last.getId().toString()))
+                    .extracting(OutboxEvent::eventType)
+                    .containsExactly("PayrollCreated", "PayrollProcessed");
+        }
+
+        private List<OutboxEvent> outboxEventsFor(String aggregateId) {
+            return eventOutbox.fetchUnpublished(100_000).stream()
+                    .filter(event -> event.aggregateId().equals(aggregateId))
+                    .toList();
+        }
+    }
+
+    private Employee createEmployee(String key, DepartmentId departmentId) {
+        return Employee.create(
+                "First", "Last", Email.of(key + "." + System.nanoTime() + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), departmentId,
+                "Software Engineer", Money.of(BigDecimal.valueOf(75_000), USD)
+        );
+    }
+}
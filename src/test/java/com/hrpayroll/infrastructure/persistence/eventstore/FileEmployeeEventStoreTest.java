@@ -0,0 +1,256 @@
+package com.hrpayroll.infrastructure.persistence.eventstore;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("File Employee Event Store Tests")
+class FileEmployeeEventStoreTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @TempDir
+    Path directory;
+
+    private FileEmployeeEventStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay Tests")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Should rebuild the current state from the full stream without snapshots")
+        void shouldRebuildFromFullStream() {
+            // Given
+            store = open(0);
+            Employee employee = createEmployee();
+            append(employee);
+            DepartmentId finance = DepartmentId.generate();
+            employee.promote("Senior Engineer", salary(60_000));
+            employee.changeDepartment(finance);
+            employee.updatePersonalInfo("Janet", "Smith", "555-0100");
+            employee.suspend();
+            append(employee);
+
+            // When
+            Employee loaded = store.load(employee.getId()).orElseThrow();
+
+            // Then
+            assertSameState(loaded, employee);
+            assertThat(loaded.getDomainEvents()).isEmpty();
+            assertThat(store.getVersion(employee.getId())).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should load the same state from a snapshot and the events after it")
+        void shouldLoadFromSnapshotAndTail() {
+            // Given
+            store = open(3);
+            Employee employee = createEmployee();
+            append(employee);
+            for (int raise = 1; raise <= 7; raise++) {
+                employee.adjustSalary(salary(50_000 + raise * 1_000));
+                append(employee);
+            }
+            employee.terminate("Relocation");
+            append(employee);
+
+            // When
+            Employee loaded = store.load(employee.getId()).orElseThrow();
+
+            // Then
+            assertSameState(loaded, employee);
+            assertThat(loaded.getSalary()).isEqualTo(salary(57_000));
+            assertThat(loaded.getStatus()).isEqualTo(EmploymentStatus.TERMINATED);
+        }
+
+        @Test
+        @DisplayName("Should keep the full salary history regardless of snapshots")
+        void shouldKeepFullHistory() {
+            // Given
+            store = open(2);
+            Employee employee = createEmployee();
+            append(employee);
+            employee.adjustSalary(salary(55_000));
+            employee.promote("Lead Engineer", salary(70_000));
+            employee.adjustSalary(salary(72_000));
+            append(employee);
+
+            // When
+            List<EmployeeDomainEvent> history = store.readHistory(employee.getId());
+
+            // Then
+            assertThat(history).extracting(EmployeeDomainEvent::getEventType).containsExactly(
+                    "EmployeeCreated", "SalaryAdjusted", "EmployeePromoted", "SalaryAdjusted");
+            assertThat(history.get(2)).isInstanceOfSatisfying(EmployeePromotedEvent.class, promoted -> {
+                assertThat(promoted.getOldSalary()).isEqualTo(salary(55_000));
+                assertThat(promoted.getNewSalary()).isEqualTo(salary(70_000));
+            });
+        }
+
+        @Test
+        @DisplayName("Should snapshot an employee that was not created through the store")
+        void shouldSnapshotReconstitutedEmployee() {
+            // Given
+            store = open(0);
+            Employee employee = Employee.reconstitute(EmployeeId.generate(), "Jane", "Doe",
+                    Email.of("jane.doe@company.com"), null, LocalDate.of(1990, 1, 15),
+                    LocalDate.of(2020, 6, 1), null, "Software Engineer", salary(50_000),
+                    EmploymentStatus.SUSPENDED);
+
+            // When
+            append(employee);
+
+            // Then
+            assertSameState(store.load(employee.getId()).orElseThrow(), employee);
+            assertThat(store.readHistory(employee.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Durability Tests")
+    class DurabilityTests {
+
+        @Test
+        @DisplayName("Should recover streams, snapshots and deletions when reopened")
+        void shouldRecoverWhenReopened() throws IOException {
+            // Given
+            store = open(2);
+            Employee kept = createEmployee();
+            Employee deleted = createEmployee();
+            append(kept);
+            append(deleted);
+            kept.adjustSalary(salary(51_000));
+            kept.adjustSalary(salary(52_000));
+            kept.adjustSalary(salary(53_000));
+            append(kept);
+            store.delete(deleted.getId());
+            store.close();
+
+            // When
+            store = open(2);
+
+            // Then
+            assertThat(store.getEmployeeIds()).containsExactly(kept.getId());
+            assertSameState(store.load(kept.getId()).orElseThrow(), kept);
+            assertThat(store.getVersion(kept.getId())).isEqualTo(4);
+            assertThat(store.load(deleted.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should drop a record torn by a crash and keep appending after it")
+        void shouldDropTornRecord() throws IOException {
+            // Given
+            store = open(0);
+            Employee employee = createEmployee();
+            append(employee);
+            store.close();
+            Path file = directory.resolve("employees.log");
+            long intact = Files.size(file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0, 0, 1, 0, 1, 2, 3}));
+            }
+
+            // When
+            store = open(0);
+            employee.adjustSalary(salary(58_000));
+            append(employee);
+
+            // Then
+            assertThat(Files.size(file)).isGreaterThan(intact);
+            assertSameState(store.load(employee.getId()).orElseThrow(), employee);
+            assertThat(store.getVersion(employee.getId())).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Version Tests")
+    class VersionTests {
+
+        @Test
+        @DisplayName("Should reject events appended from a stale copy of the employee")
+        void shouldRejectStaleExpectedVersion() {
+            // Given
+            store = open(0);
+            Employee employee = createEmployee();
+            append(employee);
+            FileEmployeeEventStore.VersionedEmployee first = store.loadVersioned(employee.getId()).orElseThrow();
+            FileEmployeeEventStore.VersionedEmployee second = store.loadVersioned(employee.getId()).orElseThrow();
+            first.employee().adjustSalary(salary(58_000));
+            store.append(first.employee(), first.version(), events(first.employee()));
+
+            // When
+            second.employee().adjustSalary(salary(61_000));
+
+            // Then
+            assertThatThrownBy(() -> store.append(second.employee(), second.version(), events(second.employee())))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("changed concurrently");
+            assertThat(store.getVersion(employee.getId())).isEqualTo(2);
+            assertThat(store.load(employee.getId()).orElseThrow().getSalary()).isEqualTo(salary(58_000));
+        }
+    }
+
+    private FileEmployeeEventStore open(int snapshotInterval) {
+        return new FileEmployeeEventStore(directory.resolve("employees.log"), new EmployeeEventCodec(),
+                snapshotInterval, false);
+    }
+
+    private void append(Employee employee) {
+        store.append(employee, store.getVersion(employee.getId()), events(employee));
+        employee.clearDomainEvents();
+    }
+
+    private List<EmployeeDomainEvent> events(Employee employee) {
+        return employee.getDomainEvents().stream()
+                .map(EmployeeDomainEvent.class::cast)
+                .toList();
+    }
+
+    private void assertSameState(Employee actual, Employee expected) {
+        assertThat(state(actual)).isEqualTo(state(expected));
+    }
+
+    private List<Object> state(Employee employee) {
+        return Arrays.asList(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getPhoneNumber(), employee.getDateOfBirth(), employee.getHireDate(),
+                employee.getDepartmentId(), employee.getJobTitle(), employee.getSalary(), employee.getStatus());
+    }
+
+    private Employee createEmployee() {
+        return Employee.create(
+                "Jane", "Doe", Email.of("jane" + System.nanoTime() + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), DepartmentId.generate(),
+                "Software Engineer", salary(50_000)
+        );
+    }
+
+    private static Money salary(long amount) {
+        return Money.of(BigDecimal.valueOf(amount), USD);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.employee.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Caching Employee Repository Tests")
+class CachingEmployeeRepositoryTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final AtomicInteger delegateLookups = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryEmployeeRepository delegate = new InMemoryEmployeeRepository() {
+            @Override
+            public Optional<Employee> findById(EmployeeId id) {
+                delegateLookups.incrementAndGet();
+                return super.findById(id);
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingEmployeeRepository(delegate, 100, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        Employee employee = repository.save(createEmployee());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(repository.findById(employee.getId())).get()
+                    .extracting(Employee::getId).isEqualTo(employee.getId());
+        }
+
+        // Then
+        assertThat(delegateLookups).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "employees").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "employees").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict an employee when its changes are saved")
+    void shouldEvictOnSave() {
+        // Given
+        Employee employee = repository.save(createEmployee());
+        repository.findById(employee.getId());
+
+        // When
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(70_000), USD));
+        repository.save(employee);
+        repository.findById(employee.getId());
+
+        // Then
+        assertThat(delegateLookups).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should evict on delete")
+    void shouldEvictOnDelete() {
+        // Given
+        Employee employee = repository.save(createEmployee());
+        repository.findById(employee.getId());
+
+        // When
+        repository.delete(employee.getId());
+
+        // Then
+        assertThat(repository.findById(employee.getId())).isEmpty();
+        assertThat(delegateLookups).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not let unsaved changes to a returned employee reach the cache")
+    void shouldNotShareCachedEmployee() {
+        // Given
+        Employee employee = repository.save(createEmployee());
+        Employee loaded = repository.findById(employee.getId()).orElseThrow();
+
+        // When
+        loaded.adjustSalary(Money.of(BigDecimal.valueOf(90_000), USD));
+
+        // Then
+        Employee reloaded = repository.findById(employee.getId()).orElseThrow();
+        assertThat(reloaded).isNotSameAs(loaded);
+        assertThat(reloaded.getSalary()).isEqualTo(employee.getSalary());
+        assertThat(reloaded.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not cache missing employees")
+    void shouldNotCacheMissingEmployees() {
+        // Given
+        EmployeeId id = EmployeeId.generate();
+
+        // When
+        repository.findById(id);
+        repository.findById(id);
+
+        // Then
+        assertThat(delegateLookups).hasValue(2);
+    }
+
+    private Employee createEmployee() {
+        return Employee.create(
+                "Jane", "Doe", Email.of("jane.doe@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}
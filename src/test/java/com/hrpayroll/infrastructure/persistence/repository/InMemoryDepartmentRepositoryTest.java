@@ -0,0 +1,108 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.Department;
+import com.hrpayroll.domain.model.employee.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("In-Memory Department Repository Tests")
+class InMemoryDepartmentRepositoryTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private InMemoryDepartmentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryDepartmentRepository();
+    }
+
+    @Nested
+    @DisplayName("Storage Tests")
+    class StorageTests {
+
+        @Test
+        @DisplayName("Should report the salary cost and headcount of a reloaded department")
+        void shouldReloadSalaryCost() {
+            // Given
+            Department department = Department.create("Engineering", "Builds things",
+                    Money.of(BigDecimal.valueOf(100_000), USD));
+            Employee alice = createEmployee("alice", 70_000);
+            Employee bob = createEmployee("bob", 50_000);
+            bob.suspend();
+            department.addEmployee(alice);
+            department.addEmployee(bob);
+            department.addEmployee(EmployeeId.generate());
+            repository.save(department);
+
+            // When
+            Department loaded = repository.findById(department.getId()).orElseThrow();
+
+            // Then
+            assertThat(loaded.getSalaryCost()).isEqualTo(Money.of(BigDecimal.valueOf(120_000), USD));
+            assertThat(loaded.isOverBudget()).isTrue();
+            assertThat(loaded.getEmployeeCount()).isEqualTo(3);
+            assertThat(loaded.getHeadcount(EmploymentStatus.ACTIVE)).isEqualTo(1);
+            assertThat(loaded.getHeadcount(EmploymentStatus.SUSPENDED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not expose unsaved changes to a stored or returned department")
+        void shouldStoreAndReturnCopies() {
+            // Given
+            Department department = repository.save(Department.create("Engineering", "Builds things",
+                    Money.of(BigDecimal.valueOf(100_000), USD)));
+            Department loaded = repository.findById(department.getId()).orElseThrow();
+
+            // When
+            department.addEmployee(createEmployee("alice", 70_000));
+            loaded.addEmployee(createEmployee("bob", 50_000));
+
+            // Then
+            assertThat(repository.findById(department.getId())).get()
+                    .extracting(Department::getEmployeeCount)
+                    .isEqualTo(0);
+            assertThat(repository.findByName("Engineering")).get()
+                    .isNotSameAs(repository.findByName("Engineering").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should reject saving a department that was saved since it was loaded")
+        void shouldRejectStaleDepartment() {
+            // Given
+            Department department = repository.save(Department.create("Engineering", "Builds things",
+                    Money.of(BigDecimal.valueOf(100_000), USD)));
+            Department first = repository.findById(department.getId()).orElseThrow();
+            Department second = repository.findById(department.getId()).orElseThrow();
+            first.addEmployee(createEmployee("alice", 70_000));
+            repository.save(first);
+
+            // When
+            second.addEmployee(createEmployee("bob", 50_000));
+
+            // Then
+            assertThatThrownBy(() -> repository.save(second))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            assertThat(repository.findById(department.getId())).get()
+                    .extracting(Department::getSalaryCost)
+                    .isEqualTo(Money.of(BigDecimal.valueOf(70_000), USD));
+        }
+    }
+
+    private Employee createEmployee(String name, long salary) {
+        return Employee.create(
+                name, "Doe", Email.of(name + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(salary), USD)
+        );
+    }
+}
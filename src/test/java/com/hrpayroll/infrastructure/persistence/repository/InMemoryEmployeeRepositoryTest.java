@@ -0,0 +1,315 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("In-Memory Employee Repository Tests")
+class InMemoryEmployeeRepositoryTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private InMemoryEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryEmployeeRepository();
+    }
+
+    @Nested
+    @DisplayName("Secondary Index Tests")
+    class SecondaryIndexTests {
+
+        @Test
+        @DisplayName("Should find created employee by email")
+        void shouldFindCreatedEmployeeByEmail() {
+            // Given
+            Employee employee = repository.save(createEmployee(1, null));
+
+            // When/Then
+            assertThat(repository.existsByEmail(Email.of("employee1@company.com"))).isTrue();
+            assertThat(repository.findByEmail(Email.of("employee1@company.com"))).get()
+                    .extracting(Employee::getId).isEqualTo(employee.getId());
+            assertThat(repository.existsByEmail(Email.of("other@company.com"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject a second employee with the same email")
+        void shouldRejectDuplicateEmail() {
+            // Given
+            Employee first = repository.save(createEmployee(1, null));
+
+            // When/Then
+            assertThatThrownBy(() -> repository.save(createEmployee(1, null)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("employee1@company.com");
+            assertThat(repository.findAll()).extracting(Employee::getId).containsExactly(first.getId());
+            assertThat(repository.findByEmail(Email.of("employee1@company.com"))).get()
+                    .extracting(Employee::getId).isEqualTo(first.getId());
+        }
+
+        @Test
+        @DisplayName("Should move employee between department indexes on department change")
+        void shouldMoveEmployeeBetweenDepartments() {
+            // Given
+            DepartmentId engineering = DepartmentId.generate();
+            DepartmentId finance = DepartmentId.generate();
+            Employee employee = repository.save(createEmployee(1, engineering));
+
+            // When
+            employee.changeDepartment(finance);
+            repository.save(employee);
+
+            // Then
+            assertThat(repository.findByDepartmentId(engineering)).isEmpty();
+            assertThat(repository.findByDepartmentId(finance)).extracting(Employee::getId).containsExactly(employee.getId());
+        }
+
+        @Test
+        @DisplayName("Should track status changes and termination")
+        void shouldTrackStatusChanges() {
+            // Given
+            Employee employee = repository.save(createEmployee(1, null));
+
+            // When
+            employee.suspend();
+            repository.save(employee);
+
+            // Then
+            assertThat(repository.findByStatus(EmploymentStatus.ACTIVE)).isEmpty();
+            assertThat(repository.findByStatus(EmploymentStatus.SUSPENDED)).extracting(Employee::getId)
+                    .containsExactly(employee.getId());
+
+            // When
+            employee.terminate("Misconduct");
+            repository.save(employee);
+
+            // Then
+            assertThat(repository.findByStatus(EmploymentStatus.SUSPENDED)).isEmpty();
+            assertThat(repository.findByStatus(EmploymentStatus.TERMINATED)).extracting(Employee::getId)
+                    .containsExactly(employee.getId());
+        }
+
+        @Test
+        @DisplayName("Should index reconstituted employee without events")
+        void shouldIndexReconstitutedEmployee() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            Employee employee = Employee.reconstitute(
+                    EmployeeId.generate(), "Jane", "Roe", Email.of("jane.roe@company.com"), null,
+                    LocalDate.of(1985, 3, 1), LocalDate.of(2015, 1, 1), departmentId,
+                    "Analyst", Money.of(60_000, "USD"), EmploymentStatus.ON_LEAVE
+            );
+
+            // When
+            repository.save(employee);
+
+            // Then
+            assertThat(repository.findByStatus(EmploymentStatus.ON_LEAVE)).extracting(Employee::getId)
+                    .containsExactly(employee.getId());
+            assertThat(repository.findByDepartmentId(departmentId)).extracting(Employee::getId)
+                    .containsExactly(employee.getId());
+        }
+
+        @Test
+        @DisplayName("Should not expose changes to a returned employee until it is saved")
+        void shouldReturnCopies() {
+            // Given
+            Employee employee = repository.save(createEmployee(1, null));
+            Employee loaded = repository.findById(employee.getId()).orElseThrow();
+
+            // When
+            loaded.suspend();
+
+            // Then
+            assertThat(repository.findById(employee.getId())).get()
+                    .extracting(Employee::getStatus).isEqualTo(EmploymentStatus.ACTIVE);
+            assertThat(repository.findAll()).singleElement().isNotSameAs(loaded).isNotSameAs(employee);
+            assertThat(repository.findByStatus(EmploymentStatus.SUSPENDED)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should remove deleted employee from all indexes")
+        void shouldRemoveDeletedEmployeeFromIndexes() {
+            // Given
+            DepartmentId departmentId = DepartmentId.generate();
+            Employee employee = repository.save(createEmployee(1, departmentId));
+
+            // When
+            repository.delete(employee.getId());
+
+            // Then
+            assertThat(repository.existsByEmail(employee.getEmail())).isFalse();
+            assertThat(repository.findByDepartmentId(departmentId)).isEmpty();
+            assertThat(repository.findByStatus(EmploymentStatus.ACTIVE)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset Pagination Tests")
+    class KeysetPaginationTests {
+
+        @Test
+        @DisplayName("Should walk all employees in id order without gaps or duplicates")
+        void shouldWalkAllEmployeesInIdOrder() {
+            // Given
+            List<EmployeeId> expected = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                expected.add(repository.save(createEmployee(i, null)).getId());
+            }
+            expected.sort(null);
+
+            // When
+            List<EmployeeId> walked = new ArrayList<>();
+            EmployeeId cursor = null;
+            List<Employee> page;
+            do {
+                page = repository.findPage(cursor, null, null, 10);
+                page.forEach(employee -> walked.add(employee.getId()));
+                cursor = page.isEmpty() ? cursor : page.getLast().getId();
+            } while (page.size() == 10);
+
+            // Then
+            assertThat(walked).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("Should filter pages by status and department together")
+        void shouldFilterByStatusAndDepartment() {
+            // Given
+            DepartmentId engineering = DepartmentId.generate();
+            DepartmentId finance = DepartmentId.generate();
+            Employee activeEngineer = repository.save(createEmployee(1, engineering));
+            Employee suspendedEngineer = repository.save(createEmployee(2, engineering));
+            repository.save(createEmployee(3, finance));
+            suspendedEngineer.suspend();
+            repository.save(suspendedEngineer);
+
+            // When/Then
+            assertThat(repository.findPage(null, EmploymentStatus.ACTIVE, engineering, 10))
+                    .extracting(Employee::getId).containsExactly(activeEngineer.getId());
+            assertThat(repository.findPage(null, EmploymentStatus.SUSPENDED, null, 10))
+                    .extracting(Employee::getId).containsExactly(suspendedEngineer.getId());
+            assertThat(repository.findPage(null, null, engineering, 10))
+                    .extracting(Employee::getId).containsExactlyInAnyOrder(activeEngineer.getId(), suspendedEngineer.getId());
+        }
+
+        @Test
+        @DisplayName("Should exclude the cursor and deleted employees")
+        void shouldExcludeCursorAndDeletedEmployees() {
+            // Given
+            List<Employee> saved = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                saved.add(repository.save(createEmployee(i, null)));
+            }
+            saved.sort((a, b) -> a.getId().compareTo(b.getId()));
+
+            // When
+            repository.delete(saved.get(2).getId());
+
+            // Then
+            assertThat(repository.findPage(saved.get(0).getId(), null, null, 10)).extracting(Employee::getId)
+                    .containsExactly(saved.get(1).getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Consistency Tests")
+    class ConcurrentConsistencyTests {
+
+        @Test
+        @DisplayName("Should keep indexes equal to a full scan after concurrent mutations")
+        void shouldKeepIndexesConsistentUnderConcurrentMutation() throws Exception {
+            // Given
+            EmployeeService employeeService = new EmployeeService(repository);
+            List<DepartmentId> departments = List.of(DepartmentId.generate(), DepartmentId.generate(), DepartmentId.generate());
+            List<EmployeeId> ids = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                ids.add(repository.save(createEmployee(i, departments.get(i % departments.size()))).getId());
+            }
+
+            // When
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    Random random = new Random(t);
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 2_000; i++) {
+                            EmployeeId id = ids.get(random.nextInt(ids.size()));
+                            mutateRandomly(employeeService, id, departments, random);
+                            repository.findByStatus(EmploymentStatus.ACTIVE);
+                            repository.findByDepartmentId(departments.get(random.nextInt(departments.size())));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            List<Employee> all = repository.findAll();
+            for (EmploymentStatus status : EmploymentStatus.values()) {
+                assertThat(repository.findByStatus(status)).extracting(Employee::getId)
+                        .containsExactlyInAnyOrderElementsOf(all.stream().filter(e -> e.getStatus() == status)
+                                .map(Employee::getId).toList());
+            }
+            for (DepartmentId departmentId : departments) {
+                assertThat(repository.findByDepartmentId(departmentId)).extracting(Employee::getId)
+                        .containsExactlyInAnyOrderElementsOf(all.stream().filter(e -> departmentId.equals(e.getDepartmentId()))
+                                .map(Employee::getId).toList());
+            }
+            for (Employee employee : all) {
+                assertThat(repository.findByEmail(employee.getEmail())).get()
+                        .extracting(Employee::getId).isEqualTo(employee.getId());
+            }
+        }
+
+        private void mutateRandomly(EmployeeService employeeService, EmployeeId id,
+                                    List<DepartmentId> departments, Random random) {
+            try {
+                int operation = random.nextInt(100);
+                if (operation < 35) {
+                    employeeService.suspend(id);
+                } else if (operation < 70) {
+                    employeeService.reactivate(id);
+                } else if (operation < 99) {
+                    employeeService.changeDepartment(id, departments.get(random.nextInt(departments.size())));
+                } else {
+                    employeeService.terminate(id, "Restructuring");
+                }
+            } catch (IllegalStateException ignored) {
+                // Invalid transitions for the current status are expected
+            }
+        }
+    }
+
+    private Employee createEmployee(int index, DepartmentId departmentId) {
+        return Employee.create(
+                "First" + index, "Last" + index, Email.of("employee" + index + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), departmentId,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.hrpayroll.infrastructure.persistence.repository;
+
+import com.hrpayroll.domain.model.department.DepartmentId;
+import com.hrpayroll.domain.model.employee.*;
+import com.hrpayroll.domain.model.payroll.Payroll;
+import com.hrpayroll.domain.model.payroll.PayrollId;
+import com.hrpayroll.domain.model.payroll.PayrollStatus;
+import com.hrpayroll.domain.model.payroll.PayrollTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("In-Memory Payroll Summary Query Tests")
+class InMemoryPayrollSummaryQueryTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private InMemoryEmployeeRepository employeeRepository;
+    private InMemoryPayrollRepository payrollRepository;
+    private InMemoryPayrollSummaryQuery query;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = new InMemoryEmployeeRepository();
+        payrollRepository = new InMemoryPayrollRepository();
+        query = new InMemoryPayrollSummaryQuery(payrollRepository, employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should group payrolls by department, status and currency")
+    void shouldGroupPayrolls() {
+        // Given
+        DepartmentId engineering = DepartmentId.generate();
+        Employee alice = saveEmployee("alice", engineering, USD);
+        Employee bob = saveEmployee("bob", engineering, USD);
+        Employee jean = saveEmployee("jean", null, EUR);
+
+        Payroll alicePayroll = Payroll.create(alice.getId(), PERIOD, Money.of(BigDecimal.valueOf(5_000), USD));
+        alicePayroll.addBonus(Money.of(BigDecimal.valueOf(500), USD));
+        alicePayroll.process();
+        Payroll bobPayroll = Payroll.create(bob.getId(), PERIOD, Money.of(BigDecimal.valueOf(4_000), USD));
+        bobPayroll.addDeduction(Money.of(BigDecimal.valueOf(300), USD), "Pension");
+        bobPayroll.process();
+        payrollRepository.save(alicePayroll);
+        payrollRepository.save(bobPayroll);
+        payrollRepository.save(Payroll.create(jean.getId(), PERIOD, Money.of(BigDecimal.valueOf(3_000), EUR)));
+        payrollRepository.save(Payroll.create(alice.getId(), PERIOD.plusMonths(1), Money.of(BigDecimal.valueOf(5_000), USD)));
+
+        // When
+        List<PayrollTotals> totals = query.summarize(PERIOD);
+
+        // Then
+        assertThat(totals).containsExactlyInAnyOrder(
+                new PayrollTotals(engineering, PayrollStatus.PROCESSED, 2,
+                        Money.of(BigDecimal.valueOf(9_000), USD), Money.of(BigDecimal.valueOf(500), USD),
+                        Money.of(BigDecimal.valueOf(300), USD), Money.of(BigDecimal.valueOf(9_200), USD)),
+                new PayrollTotals(null, PayrollStatus.PENDING, 1,
+                        Money.of(BigDecimal.valueOf(3_000), EUR), Money.zero(EUR),
+                        Money.zero(EUR), Money.of(BigDecimal.valueOf(3_000), EUR)));
+        assertThat(totals).filteredOn(group -> engineering.equals(group.getDepartmentId()))
+                .singleElement()
+                .extracting(PayrollTotals::getGrossPay)
+                .isEqualTo(Money.of(BigDecimal.valueOf(9_500), USD));
+    }
+
+    @Test
+    @DisplayName("Should match summing the loaded aggregates")
+    void shouldMatchSummingLoadedAggregates() {
+        // Given
+        Random random = new Random(42);
+        List<DepartmentId> departments = List.of(DepartmentId.generate(), DepartmentId.generate(), DepartmentId.generate());
+        PayrollStatus[] statuses = PayrollStatus.values();
+        for (int i = 0; i < 2_000; i++) {
+            Employee employee = saveEmployee("employee" + i, departments.get(random.nextInt(departments.size())), USD);
+            payrollRepository.save(Payroll.reconstitute(
+                    PayrollId.generate(), employee.getId(), PERIOD,
+                    Money.ofMinor(300_000 + random.nextInt(500_000), USD),
+                    Money.ofMinor(random.nextInt(50_000), USD),
+                    Money.ofMinor(random.nextInt(50_000), USD),
+                    Money.ofMinor(random.nextInt(800_000), USD),
+                    statuses[random.nextInt(statuses.length)], null, null));
+        }
+
+        // When
+        List<PayrollTotals> totals = query.summarize(PERIOD);
+
+        // Then
+        Map<List<Object>, Money[]> expected = new HashMap<>();
+        for (Payroll payroll : payrollRepository.findByPayPeriod(PERIOD)) {
+            DepartmentId departmentId = employeeRepository.findById(payroll.getEmployeeId()).orElseThrow().getDepartmentId();
+            Money[] sums = expected.computeIfAbsent(List.of(departmentId, payroll.getStatus()),
+                    key -> new Money[]{Money.zero(USD), Money.zero(USD), Money.zero(USD), Money.zero(USD)});
+            sums[0] = sums[0].add(payroll.getBaseSalary());
+            sums[1] = sums[1].add(payroll.getBonus());
+            sums[2] = sums[2].add(payroll.getDeductions());
+            sums[3] = sums[3].add(payroll.getNetPay());
+        }
+        assertThat(totals).hasSize(expected.size());
+        assertThat(totals.stream().mapToLong(PayrollTotals::getPayrollCount).sum()).isEqualTo(2_000);
+        for (PayrollTotals group : totals) {
+            Money[] sums = expected.get(List.of(group.getDepartmentId(), group.getStatus()));
+            assertThat(new Money[]{group.getBaseSalary(), group.getBonus(), group.getDeductions(), group.getNetPay()})
+                    .containsExactly(sums);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return no groups for an empty period")
+    void shouldReturnNoGroupsForEmptyPeriod() {
+        // When / Then
+        assertThat(query.summarize(PERIOD)).isEmpty();
+    }
+
+    private Employee saveEmployee(String name, DepartmentId departmentId, Currency currency) {
+        Employee employee = Employee.create(
+                name, "Doe", Email.of(name + "@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), departmentId,
+                "Software Engineer", Money.of(BigDecimal.valueOf(60_000), currency)
+        );
+        return employeeRepository.save(employee);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hrpayroll.interfaces.rest;
+
+import com.hrpayroll.application.service.EmployeeService;
+import com.hrpayroll.domain.model.employee.EmployeeId;
+import com.hrpayroll.infrastructure.persistence.repository.InMemoryEmployeeRepository;
+import com.hrpayroll.interfaces.rest.dto.CreateEmployeeRequest;
+import com.hrpayroll.interfaces.rest.dto.EmployeeResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee API Metrics Tests")
+class EmployeeApiMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeController controller = new EmployeeController(
+            new EmployeeService(new InMemoryEmployeeRepository()), new EmployeeRepresentationCache(100),
+            new EmployeeApiMetrics(meterRegistry));
+
+    @Test
+    @DisplayName("Should time a successful create and each of its stages")
+    void shouldTimeSuccessfulCreate() {
+        // When
+        ResponseEntity<?> response = controller.createEmployee(request("jane.doe@company.com"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(requests("create", "success").count()).isEqualTo(1);
+        assertThat(stage("create", "validate").count()).isEqualTo(1);
+        assertThat(stage("create", "service").count()).isEqualTo(1);
+        assertThat(stage("create", "map").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count an invalid create without timing the later stages")
+    void shouldCountInvalidCreate() {
+        // When
+        ResponseEntity<?> response = controller.createEmployee(request("not-an-email"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(requests("create", "invalid").count()).isEqualTo(1);
+        assertThat(requests("create", "success").count()).isZero();
+        assertThat(stage("create", "service").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should tell an invalid promotion apart from an unknown employee")
+    void shouldSeparatePromotionOutcomes() {
+        // Given
+        EmployeeResponse created = (EmployeeResponse) controller.createEmployee(request("john.doe@company.com")).getBody();
+
+        // When
+        controller.promoteEmployee(created.getId(), "Lead Engineer", BigDecimal.valueOf(40_000), null);
+        controller.promoteEmployee(EmployeeId.generate().toString(), "Lead Engineer", BigDecimal.valueOf(70_000), null);
+        controller.promoteEmployee("not-a-uuid", "Lead Engineer", BigDecimal.valueOf(70_000), null);
+        controller.promoteEmployee(created.getId(), "Lead Engineer", BigDecimal.valueOf(70_000), null);
+
+        // Then
+        assertThat(requests("promote", "invalid").count()).isEqualTo(1);
+        assertThat(requests("promote", "not_found").count()).isEqualTo(2);
+        assertThat(requests("promote", "success").count()).isEqualTo(1);
+        assertThat(stage("promote", "map").count()).isEqualTo(1);
+    }
+
+    private Timer requests(String operation, String outcome) {
+        return meterRegistry.get("employees.api.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private Timer stage(String operation, String stage) {
+        return meterRegistry.get("employees.api.stage")
+                .tag("operation", operation)
+                .tag("stage", stage)
+                .timer();
+    }
+
+    private static CreateEmployeeRequest request(String email) {
+        return new CreateEmployeeRequest("Jane", "Doe", email, "Software Engineer",
+                BigDecimal.valueOf(50_000), "USD", "1990-01-15");
+    }
+}
@@ -0,0 +1,85 @@
+package com.hrpayroll.interfaces.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrpayroll.domain.model.employee.Email;
+import com.hrpayroll.domain.model.employee.Employee;
+import com.hrpayroll.domain.model.employee.Money;
+import com.hrpayroll.interfaces.rest.EmployeeRepresentationCache.Representation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Representation Cache Tests")
+class EmployeeRepresentationCacheTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final EmployeeRepresentationCache cache = new EmployeeRepresentationCache(100);
+
+    @Test
+    @DisplayName("Should reuse the serialized body while the employee is unchanged")
+    void shouldReuseUnchangedRepresentation() throws Exception {
+        // Given
+        Employee employee = createEmployee();
+
+        // When
+        Representation first = cache.get(employee);
+        Representation second = cache.get(employee);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getETag()).startsWith("\"").endsWith("\"");
+        JsonNode json = new ObjectMapper().readTree(first.getJson());
+        assertThat(json.get("id").asText()).isEqualTo(employee.getId().getValue().toString());
+        assertThat(json.get("salary").decimalValue()).isEqualByComparingTo("50000");
+    }
+
+    @Test
+    @DisplayName("Should re-render with a new ETag after the employee changes")
+    void shouldRerenderAfterChange() throws Exception {
+        // Given
+        Employee employee = createEmployee();
+        Representation before = cache.get(employee);
+
+        // When
+        employee.adjustSalary(Money.of(BigDecimal.valueOf(65_000), USD));
+        Representation after = cache.get(employee);
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        assertThat(new ObjectMapper().readTree(after.getJson()).get("salary").decimalValue()).isEqualByComparingTo("65000");
+    }
+
+    @Test
+    @DisplayName("Should reuse the serialized body for a reloaded instance with equal content")
+    void shouldReuseRepresentationAcrossInstances() {
+        // Given
+        Employee employee = createEmployee();
+        Employee reloaded = Employee.reconstitute(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), null, employee.getDateOfBirth(), employee.getHireDate(), null,
+                employee.getJobTitle(), employee.getSalary(), employee.getStatus());
+
+        // When
+        Representation original = cache.get(employee);
+        Representation fromReload = cache.get(reloaded);
+
+        // Then
+        assertThat(fromReload).isSameAs(original);
+        assertThat(fromReload.getETag()).isEqualTo(original.getETag());
+    }
+
+    private Employee createEmployee() {
+        return Employee.create(
+                "Jane", "Doe", Email.of("jane.doe@company.com"), null,
+                LocalDate.of(1990, 1, 15), LocalDate.of(2020, 6, 1), null,
+                "Software Engineer", Money.of(BigDecimal.valueOf(50_000), USD)
+        );
+    }
+}